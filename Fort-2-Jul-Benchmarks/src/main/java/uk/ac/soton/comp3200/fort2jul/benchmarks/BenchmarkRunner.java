@@ -0,0 +1,31 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so allocation rate is reported next to throughput and latency
+ * percentiles. Accepts the usual JMH command line options, e.g. a benchmark name regex or -p scale=1.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Entry point of benchmarks
+     * @param args JMH options
+     * @throws CommandLineOptionException
+     * @throws RunnerException
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
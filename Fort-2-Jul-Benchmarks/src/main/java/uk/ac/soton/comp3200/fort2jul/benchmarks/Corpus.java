@@ -0,0 +1,56 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Loads the Fortran programs under tests/input as one source. Larger inputs are made by repeating the whole corpus, so
+ * a scale of 10 is ten copies of every program one after another.
+ */
+final class Corpus {
+
+    /**
+     * System property naming the corpus directory, relative paths are resolved against the working directory
+     */
+    static final String DIRECTORY_PROPERTY = "fort2jul.corpus";
+
+    /**
+     * Corpus directory when run from Fort-2-Jul-Benchmarks
+     */
+    private static final String DEFAULT_DIRECTORY = "../tests/input";
+
+    private Corpus() {
+    }
+
+    /**
+     * Concatenates every program of the corpus, repeated a number of times
+     * @param scale Number of copies of the corpus
+     * @return Source of all programs
+     * @throws IOException
+     */
+    static String load(int scale) throws IOException {
+        Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY));
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.toString().endsWith(".for")).sorted().toList();
+        }
+
+        if (files.isEmpty()) {
+            throw new IOException("No Fortran programs in " + directory.toAbsolutePath() + ", set -D"
+                    + DIRECTORY_PROPERTY);
+        }
+
+        StringBuilder corpus = new StringBuilder();
+        for (Path file : files) {
+            corpus.append(new String(Files.readAllBytes(file), Charset.defaultCharset())).append('\n');
+        }
+
+        return corpus.toString().repeat(scale);
+    }
+}
@@ -0,0 +1,53 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaCodeGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole pipeline, from the corpus source to a written Julia file
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xss1g", "-Dlog4j.configuration=log4j-benchmarks.properties"})
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    /**
+     * Number of copies of the corpus
+     */
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    /**
+     * Whether the parser caches rule results
+     */
+    @Param({"false", "true"})
+    public boolean memoize;
+
+    private String source;
+
+    private Path outputDir;
+
+    @Setup
+    public void setup() throws IOException {
+        source = Corpus.load(scale);
+        outputDir = Files.createTempDirectory("fort2jul-benchmark");
+    }
+
+    @Benchmark
+    public String transpile() throws IOException {
+        Ast<String> ast = new Parser(new Scanner(source).scanTokenBuffer(), memoize).parseTokens();
+
+        return new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), "corpus").generateJuliaCode();
+    }
+}
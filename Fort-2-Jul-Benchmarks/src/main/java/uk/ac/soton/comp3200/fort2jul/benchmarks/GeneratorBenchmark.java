@@ -0,0 +1,110 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.NodeKind;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaCodeGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating and writing Julia code from the syntax tree of the corpus, and substituting the intrinsic names
+ * in the generated code on its own
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xss1g", "-Dlog4j.configuration=log4j-benchmarks.properties"})
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+
+    /**
+     * Number of copies of the corpus
+     */
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    /**
+     * How intrinsic names are substituted, with a SubstitutionTrie in one scan of the code as the generator does, or
+     * with one String.replace over the whole code for each name as it did before
+     */
+    @State(Scope.Benchmark)
+    public static class Substitution {
+
+        @Param({"trie", "replace"})
+        public String method;
+    }
+
+    private Ast<String> ast;
+
+    private Path outputDir;
+
+    /**
+     * Code generated for the corpus before intrinsic names are substituted, repeated scale times. The parser stops at
+     * the first unit after an END PROGRAM statement with a name, so the corpus is repeated after generating rather
+     * than before
+     */
+    private String body;
+
+    private JuliaCodeGenerator substituter;
+
+    @Setup
+    public void setup() throws IOException {
+        ast = new Parser(new Scanner(Corpus.load(scale)).scanTokenBuffer(), true).parseTokens();
+        outputDir = Files.createTempDirectory("fort2jul-benchmark");
+
+        substituter = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), "corpus");
+        StringBuilder code = new StringBuilder();
+        for (Ast.Node<String> child : ast.getChildren(ast.getRootNode())) {
+            if (child.getKind() == NodeKind.ExecutableProgram) {
+                for (Ast.Node<String> unit : ast.getChildren(child)) {
+                    if (unit.getKind() == NodeKind.ProgramUnit) {
+                        substituter.writeProgramUnit(unit, code);
+                    }
+                }
+            }
+        }
+        body = code.toString().repeat(scale);
+    }
+
+    @Benchmark
+    public String generateJuliaCode() throws IOException {
+        JuliaCodeGenerator generator = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), "corpus");
+        generator.setChunks(1);
+
+        return generator.generateJuliaCode();
+    }
+
+    @Benchmark
+    public String generateJuliaCodeParallel() throws IOException {
+        JuliaCodeGenerator generator = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), "corpus");
+        generator.setChunks(ForkJoinPool.getCommonPoolParallelism() * 2);
+
+        return generator.generateJuliaCode();
+    }
+
+    @Benchmark
+    public String substituteIntrinsics(Substitution substitution) throws IOException {
+        StringBuilder out = new StringBuilder(body.length());
+
+        if (substitution.method.equals("replace")) {
+            String code = body;
+            for (Map.Entry<String, String> func : substituter.getStdFunctions().entrySet()) {
+                code = code.replace(func.getKey() + "(", func.getValue() + "(");
+            }
+            out.append(code);
+        } else {
+            substituter.writeSubstituted(body, out);
+        }
+
+        return out.toString();
+    }
+}
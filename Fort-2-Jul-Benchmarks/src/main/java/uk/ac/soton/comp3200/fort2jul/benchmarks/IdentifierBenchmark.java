@@ -0,0 +1,60 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans one synthetic program made mostly of keywords, I/O specifiers, logical operators and plain identifiers in
+ * mixed case, so that scan time is dominated by recognising words rather than by numbers, strings or comments
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog4j.configuration=log4j-benchmarks.properties"})
+@State(Scope.Benchmark)
+public class IdentifierBenchmark {
+
+    /**
+     * Statements repeated in the body of the program
+     */
+    private static final String[] STATEMENTS = {
+            "      INTEGER COUNT, TOTAL, INDEX\n",
+            "      DOUBLE PRECISION ALPHA, beta, Gamma\n",
+            "      IF (ALPHA .GT. BETA .AND. .TRUE.) THEN\n",
+            "      OPEN (UNIT=LUNIT, FILE=NAME, STATUS=STAT, ACCESS=ACC, FORM=FMTD, IOSTAT=IOS, ERR=ERRLBL)\n",
+            "      READ (unit=LUNIT, fmt=FMTLBL, end=EOFLBL) COUNT, TOTAL, ALPHA\n",
+            "      ELSE IF (Gamma .LE. Beta .OR. done) THEN\n",
+            "      CALL UPDATE (COUNT, TOTAL, INDEX, ALPHA, BETA, GAMMA)\n",
+            "      ENDIF\n",
+            "      INQUIRE (FILE=NAME, EXIST=THERE, OPENED=ISOPEN, NUMBER=LUNIT, NAMED=HASNAM)\n",
+            "      continue\n"
+    };
+
+    /**
+     * Number of statements in the body of the program
+     */
+    @Param({"100000"})
+    public int statements;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("      PROGRAM WORDS\n");
+        for (int i = 0; i < statements; i++) {
+            builder.append(STATEMENTS[i % STATEMENTS.length]);
+        }
+        builder.append("      END\n");
+
+        source = builder.toString();
+    }
+
+    @Benchmark
+    public TokenBuffer scanTokens() {
+        return new Scanner(source).scanTokenBuffer();
+    }
+}
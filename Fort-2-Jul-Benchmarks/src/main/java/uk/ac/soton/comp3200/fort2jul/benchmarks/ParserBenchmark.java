@@ -0,0 +1,46 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the tokens of the corpus into a syntax tree, with and without memoization
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xss1g", "-Dlog4j.configuration=log4j-benchmarks.properties"})
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    /**
+     * Number of copies of the corpus
+     */
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    /**
+     * Whether the parser caches rule results
+     */
+    @Param({"false", "true"})
+    public boolean memoize;
+
+    private TokenBuffer tokens;
+
+    @Setup
+    public void setup() throws IOException {
+        tokens = new Scanner(Corpus.load(scale)).scanTokenBuffer();
+    }
+
+    @Benchmark
+    public Ast<String> parseTokens() {
+        return new Parser(tokens, memoize).parseTokens();
+    }
+}
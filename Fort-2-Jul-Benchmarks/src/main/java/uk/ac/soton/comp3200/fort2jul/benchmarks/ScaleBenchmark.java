@@ -0,0 +1,94 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenStream;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses one synthetic program with a very long body on a default sized thread stack. List rules such as Body are
+ * parsed with loops, so the stack depth does not grow with the number of statements and a parse that overflows the
+ * stack fails the run. The program is parsed from its scanned tokens and from a stream that scans it as it goes, each
+ * reporting the most tokens held at once as residentTokens. JMH sums the counter over the measured iterations, one
+ * parse each, so it reads three times the tokens held by a parse.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog4j.configuration=log4j-benchmarks.properties"})
+@State(Scope.Benchmark)
+public class ScaleBenchmark {
+
+    /**
+     * Statements repeated in the body of the program
+     */
+    private static final String[] STATEMENTS = {
+            "      I = I + 1\n",
+            "      X = X * 2.0 + I\n",
+            "      IF (I .GT. 10) I = 0\n",
+            "      IF (I .GT. 5) THEN\n        I = I - 1\n      ELSE\n        X = X - 1.0\n      END IF\n",
+            "      PRINT *, I, X\n"
+    };
+
+    /**
+     * Number of statements in the body of the program
+     */
+    @Param({"100000"})
+    public int statements;
+
+    private String source;
+
+    private TokenBuffer tokens;
+
+    /**
+     * Most tokens held at once by the parse of an iteration, summed over iterations
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Resident {
+        public long residentTokens;
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder program = new StringBuilder("      PROGRAM SCALE\n      INTEGER I\n      REAL X\n");
+        for (int i = 0; i < statements; i++) {
+            program.append(STATEMENTS[i % STATEMENTS.length]);
+        }
+        program.append("      END\n");
+
+        source = program.toString();
+        tokens = new Scanner(source).scanTokenBuffer();
+    }
+
+    @Benchmark
+    public Ast<String> parseTokens(Resident resident) {
+        TokenStream stream = tokens.stream();
+        Ast<String> ast = parsed(new Parser(stream, false).parseTokens());
+
+        resident.residentTokens = stream.peakResident();
+        return ast;
+    }
+
+    @Benchmark
+    public Ast<String> streamTokens(Resident resident) {
+        TokenStream stream = TokenStream.scan(source);
+        Ast<String> ast = parsed(new Parser(stream, false).parseTokens());
+
+        resident.residentTokens = stream.peakResident();
+        return ast;
+    }
+
+    private Ast<String> parsed(Ast<String> ast) {
+        if (ast == null) {
+            throw new IllegalStateException("Synthetic program of " + statements + " statements did not parse");
+        }
+
+        return ast;
+    }
+}
@@ -0,0 +1,80 @@
+package uk.ac.soton.comp3200.fort2jul.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.soton.comp3200.fort2jul.lexer.ParallelScanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;
+import uk.ac.soton.comp3200.fort2jul.util.Trace;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scanning the corpus into tokens, in one go and in chunks of lines in parallel, with tracing of the lexer off
+ * and on. Throughput is reported in scans and in megabytes of source per second
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xss1g", "-Dlog4j.configuration=log4j-benchmarks.properties"})
+@State(Scope.Benchmark)
+public class ScannerBenchmark {
+
+    /**
+     * Megabytes of source scanned, reported in throughput mode as megabytes per second next to scans per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Megabytes {
+
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    /**
+     * Number of copies of the corpus
+     */
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    /**
+     * Subsystems traced, as given to --trace, or off. Trace messages are built but not written, as the benchmark
+     * logger only writes warnings
+     */
+    @Param({"off", "lexer"})
+    public String trace;
+
+    private String source;
+
+    @Setup
+    public void setup() throws IOException {
+        source = Corpus.load(scale);
+
+        for (Trace subsystem : Trace.values()) {
+            subsystem.disable();
+        }
+        if (!trace.equals("off")) {
+            Trace.configure(trace);
+        }
+    }
+
+    @Benchmark
+    public TokenBuffer scanTokens(Megabytes megabytes) {
+        megabytes.megabytes += source.length() / 1e6;
+
+        return new Scanner(source).scanTokenBuffer();
+    }
+
+    @Benchmark
+    public TokenBuffer scanTokensParallel(Megabytes megabytes) {
+        megabytes.megabytes += source.length() / 1e6;
+
+        return ParallelScanner.scan(source, ForkJoinPool.getCommonPoolParallelism() * 2);
+    }
+}
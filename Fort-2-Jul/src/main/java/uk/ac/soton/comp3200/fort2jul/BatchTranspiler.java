@@ -0,0 +1,253 @@
+package uk.ac.soton.comp3200.fort2jul;
+
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Transpiles many source files in one run on a bounded pool of worker threads, one file per task. Inputs may be files,
+ * directories, which are searched recursively for Fortran sources, or glob patterns. As in single file mode, each Julia
+ * file is written next to its source. A summary of every file's outcome and timing is printed once all have finished.
+ */
+public class BatchTranspiler {
+
+    private static final Logger logger = Logger.getLogger(BatchTranspiler.class);
+
+    /**
+     * Extensions of Fortran sources picked up when searching directories
+     */
+    private static final List<String> EXTENSIONS = List.of(".f", ".for", ".FOR");
+
+    /**
+     * Stack size of worker threads, the parser recurses once per nested rule so deep programs need more than the default
+     */
+    private static final long WORKER_STACK_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Outcome of transpiling a single file
+     * @param path Path of source
+     * @param success Whether the Julia file was written
+     * @param nanos Time taken to scan, parse and generate the file
+     * @param message Reason for failure, empty on success
+     */
+    public record Result(Path path, boolean success, long nanos, String message) {
+    }
+
+    /**
+     * Creates a batch transpiler
+     * @param threads Number of worker threads
+     */
+    public BatchTranspiler(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Checks whether the arguments call for batch mode, that is more than one path, a directory or a glob pattern
+     * @param inputs Paths supplied in command line
+     * @return Boolean
+     */
+    public static boolean isBatch(List<String> inputs) {
+        if (inputs.size() != 1) {
+            return true;
+        }
+
+        String input = inputs.get(0);
+        return isGlob(input) || Files.isDirectory(Paths.get(input));
+    }
+
+    /**
+     * Expands files, directories and glob patterns into a list of sources, each listed once in the order given
+     * @param inputs Paths supplied in command line
+     * @return Sources to transpile
+     * @throws IOException
+     */
+    public List<Path> collectSources(List<String> inputs) throws IOException {
+        Set<Path> sources = new LinkedHashSet<>();
+
+        for (String input : inputs) {
+            if (isGlob(input)) {
+                sources.addAll(expandGlob(input));
+            } else if (Files.isDirectory(Paths.get(input))) {
+                try (Stream<Path> stream = Files.walk(Paths.get(input))) {
+                    stream.filter(Files::isRegularFile)
+                            .filter(BatchTranspiler::isFortranSource)
+                            .sorted()
+                            .forEach(sources::add);
+                }
+            } else {
+                sources.add(Paths.get(input));
+            }
+        }
+
+        logger.info("Found " + sources.size() + " source files [BatchTranspiler]");
+
+        return new ArrayList<>(sources);
+    }
+
+    /**
+     * Transpiles each source on the worker pool, waiting for all of them to finish. Sources whose Julia file would be
+     * the same, such as a.f and a.for in one directory, are not written over each other at once: the first in order is
+     * transpiled and the rest are recorded as failed. Should the calling thread be interrupted while waiting, every
+     * source without an outcome yet is recorded as failed and the interrupt is kept
+     * @param sources Sources to transpile
+     * @return Outcome of each source, in the same order as the sources
+     */
+    public List<Result> transpile(List<Path> sources) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, workerFactory());
+        List<Future<Result>> futures = new ArrayList<>();
+        Map<Path, Path> sourcesByOutput = new HashMap<>();
+
+        for (Path source : sources) {
+            Path first = sourcesByOutput.putIfAbsent(Fort2Jul.juliaFile(source.toString()), source);
+
+            if (first == null) {
+                futures.add(executor.submit(() -> transpileFile(source)));
+            } else {
+                logger.error("Not transpiling " + source + ", it would write the Julia file of " + first
+                        + " [BatchTranspiler]");
+                futures.add(CompletableFuture.completedFuture(
+                        new Result(source, false, 0, "Same Julia file as " + first)));
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        try {
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted with " + (sources.size() - results.size()) + " files unfinished [BatchTranspiler]");
+
+            for (int i = results.size(); i < sources.size(); i++) {
+                results.add(new Result(sources.get(i), false, 0, "Interrupted before finishing"));
+            }
+        } catch (ExecutionException e) {
+            // transpileFile records its own failures, so this only happens on errors such as running out of memory
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    /**
+     * Prints the outcome and timing of each file, followed by totals
+     * @param results Outcome of each source
+     */
+    public void printSummary(List<Result> results) {
+        long succeeded = results.stream().filter(Result::success).count();
+        long totalNanos = results.stream().mapToLong(Result::nanos).sum();
+
+        for (Result result : results) {
+            System.out.printf("%-6s %10.1f ms  %s%s%n", result.success() ? "OK" : "FAILED", result.nanos() / 1e6,
+                    result.path(), result.success() ? "" : " (" + result.message() + ")");
+        }
+
+        System.out.printf("Transpiled %d of %d files on %d threads, %.1f s of work%n", succeeded, results.size(),
+                threads, totalNanos / 1e9);
+    }
+
+    /**
+     * Runs the whole pipeline on one source, recording rather than throwing any failure
+     * @param source Path of source
+     * @return Outcome of source
+     */
+    private Result transpileFile(Path source) {
+        long start = System.nanoTime();
+
+        try {
+            Fort2Jul.runFile(source.toString());
+
+            return new Result(source, true, System.nanoTime() - start, "");
+        } catch (Exception | StackOverflowError e) {
+            logger.error("Failed to transpile " + source + " [BatchTranspiler]", e);
+
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            return new Result(source, false, System.nanoTime() - start, message);
+        }
+    }
+
+    /**
+     * Creates worker threads with enough stack for deeply nested programs
+     * @return Thread factory
+     */
+    private ThreadFactory workerFactory() {
+        AtomicInteger count = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(null, runnable, "fort2jul-worker-" + count.incrementAndGet(), WORKER_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Lists regular files matching a glob pattern, searching from the directory before the first wildcard
+     * @param pattern Glob pattern
+     * @return Matching files, sorted
+     * @throws IOException
+     */
+    private static List<Path> expandGlob(String pattern) throws IOException {
+        int wildcard = 0;
+        while ("*?[{".indexOf(pattern.charAt(wildcard)) < 0) {
+            wildcard++;
+        }
+
+        int separator = pattern.lastIndexOf('/', wildcard);
+        Path base = Paths.get(separator < 0 ? "." : pattern.substring(0, separator + 1));
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+
+        try (Stream<Path> stream = Files.walk(base)) {
+            return stream.filter(Files::isRegularFile)
+                    .map(path -> separator < 0 ? base.relativize(path) : path)
+                    .filter(matcher::matches)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Checks whether a path contains glob wildcards
+     * @param input Path supplied in command line
+     * @return Boolean
+     */
+    private static boolean isGlob(String input) {
+        return input.chars().anyMatch(c -> "*?[{".indexOf(c) >= 0);
+    }
+
+    /**
+     * Checks whether a file has a Fortran extension
+     * @param path Path of file
+     * @return Boolean
+     */
+    private static boolean isFortranSource(Path path) {
+        String name = path.getFileName().toString();
+        return EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+}
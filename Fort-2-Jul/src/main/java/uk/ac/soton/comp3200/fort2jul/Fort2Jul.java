@@ -2,58 +2,185 @@ package uk.ac.soton.comp3200.fort2jul;
 
 import org.apache.log4j.Logger;
 import uk.ac.soton.comp3200.fort2jul.controller.FileController;
-import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
-import uk.ac.soton.comp3200.fort2jul.lexer.Token;
+import uk.ac.soton.comp3200.fort2jul.lexer.MappedSource;
+import uk.ac.soton.comp3200.fort2jul.lexer.ParallelScanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenStream;
 import uk.ac.soton.comp3200.fort2jul.parser.Ast;
 import uk.ac.soton.comp3200.fort2jul.parser.Parser;
 import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaCodeGenerator;
 import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaMacroGenerator;
+import uk.ac.soton.comp3200.fort2jul.util.Trace;
 
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 /**
- * This class is used for when no arguments are supplied, allowing the transpiler to run in command line.
+ * This class is used for when arguments are supplied, allowing the transpiler to run in command line on a single file
+ * or, in batch mode, on whole source trees.
  */
 public class Fort2Jul {
 
     private static final Logger logger = Logger.getLogger(Fort2Jul.class);
 
     /**
-     * Name of program to transpile
+     * Whether the parser caches rule results, set with --memoize
      */
-    public static String programName;
+    private static boolean memoize = false;
 
     /**
-     * Path of source
+     * Whether sources are scanned as they are parsed rather than beforehand, set with --stream
      */
-    private static String sourcePath;
+    private static boolean stream = false;
 
     /**
-     * Expects argument for locating source file
-     * @param args Path of source file
+     * Whether the main program and subprograms are generated with variables local to their functions, set with --scoped
+     */
+    private static boolean scoped = false;
+
+    /**
+     * Number of worker threads in batch mode, set with --threads
+     */
+    private static int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Cache of generated code, set with --cache DIR, null if there is none
+     */
+    private static TranspileCache cache = null;
+
+    /**
+     * Largest size of the cache in megabytes, set with --cache-size MB
+     */
+    private static long cacheSizeMegabytes = 256;
+
+    /**
+     * Charset sources are read in, set with --charset NAME
+     */
+    private static Charset charset = Charset.defaultCharset();
+
+    /**
+     * Expects a single source file, or several files, directories or glob patterns which are transpiled in batch mode.
+     * Options --memoize, --stream, --scoped, --threads N, --trace lexer,parser, --cache DIR, --cache-size MB and
+     * --charset NAME may precede the paths.
+     * @param args Paths of sources
      * @throws IOException
      */
     public static void main(String[] args) throws IOException {
-        if (args.length > 1) {
-            System.exit(64);
-        } else if (args.length == 1) {
+        List<String> paths = new ArrayList<>();
+        String cacheDir = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--memoize" -> memoize = true;
+                case "--stream" -> stream = true;
+                case "--scoped" -> scoped = true;
+                case "--trace" -> {
+                    if (i + 1 == args.length) {
+                        System.exit(64);
+                    }
+
+                    try {
+                        Trace.configure(args[++i]);
+                    } catch (IllegalArgumentException e) {
+                        System.exit(64);
+                    }
+                }
+                case "--threads" -> {
+                    if (i + 1 == args.length) {
+                        System.exit(64);
+                    }
+
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException e) {
+                        System.exit(64);
+                    }
+
+                    if (threads < 1) {
+                        System.exit(64);
+                    }
+                }
+                case "--cache" -> {
+                    if (i + 1 == args.length) {
+                        System.exit(64);
+                    }
+
+                    cacheDir = args[++i];
+                }
+                case "--cache-size" -> {
+                    if (i + 1 == args.length) {
+                        System.exit(64);
+                    }
+
+                    try {
+                        cacheSizeMegabytes = Long.parseLong(args[++i]);
+                    } catch (NumberFormatException e) {
+                        System.exit(64);
+                    }
+
+                    if (cacheSizeMegabytes < 1) {
+                        System.exit(64);
+                    }
+                }
+                case "--charset" -> {
+                    if (i + 1 == args.length) {
+                        System.exit(64);
+                    }
+
+                    try {
+                        charset = Charset.forName(args[++i]);
+                    } catch (IllegalArgumentException e) {
+                        System.exit(64);
+                    }
+                }
+                default -> paths.add(args[i]);
+            }
+        }
+
+        if (cacheDir != null) {
+            cache = new TranspileCache(Paths.get(cacheDir), cacheSizeMegabytes * 1024 * 1024);
+        }
+
+        if (paths.isEmpty()) {
+            if (args.length > 0) {
+                System.exit(64);
+            }
+        } else if (BatchTranspiler.isBatch(paths)) {
+            logger.info("Running Fort-2-Jul in batch mode...");
+
+            BatchTranspiler batchTranspiler = new BatchTranspiler(threads);
+            List<BatchTranspiler.Result> results = batchTranspiler.transpile(batchTranspiler.collectSources(paths));
+            batchTranspiler.printSummary(results);
+
+            if (cache != null) {
+                System.out.println(cache.stats());
+            }
+
+            if (results.stream().anyMatch(result -> !result.success())) {
+                System.exit(65);
+            }
+        } else {
             logger.info("Running Fort-2-Jul...");
 
-            runFile(args[0]);
+            runFile(paths.get(0));
 
             logger.info("Successful transpilation");
+
+            if (cache != null) {
+                System.out.println(cache.stats());
+            }
         }
     }
 
     /**
-     * Reads contents of file and runs the transpiler
+     * Reads contents of file and runs the transpiler, or writes the code cached for the same contents if there is a cache
      * @param path Path of source file
      * @throws IOException
      */
@@ -62,6 +189,7 @@ public class Fort2Jul {
 
         logger.info("Got path to file [Fort2Jul]");
 
+        String sourcePath;
         Path parentPath = filePath.getParent();
         if (parentPath == null) {
             sourcePath = new File(".").getAbsolutePath();
@@ -71,46 +199,76 @@ public class Fort2Jul {
 
         logger.info("Reading file... [Fort2Jul]");
 
-        byte[] bytes = Files.readAllBytes(filePath);
+        // Mapped rather than read, the scanner reads an ASCII or Latin-1 source straight from the mapping
+        ByteBuffer bytes = MappedSource.map(filePath);
 
         logger.info("File read successful [Fort2Jul]");
 
-        run(new String(bytes, Charset.defaultCharset()), path);
+        if (cache == null) {
+            run(MappedSource.decode(bytes, charset), path, sourcePath);
+            return;
+        }
+
+        String key = cache.key(bytes, TranspileCache.options(charset, scoped));
+        String cached = cache.get(key);
+
+        if (cached != null) {
+            logger.info("Writing cached conversion [Fort2Jul]");
+
+            writeCached(cached, path, sourcePath);
+            return;
+        }
+
+        String juliaCode = run(MappedSource.decode(bytes, charset), path, sourcePath);
+        cache.put(key, juliaCode.substring(header(path, sourcePath).length()));
     }
 
     /**
      * Runs lexer, parser and code generator
      * @param source Contents of source
+     * @param fileName Path of source file
+     * @param sourcePath Directory of source file, where the Julia files are written
+     * @return Julia code
+     * @throws IOException
      */
-    private static void run(String source, String fileName) {
+    private static String run(CharSequence source, String fileName, String sourcePath) throws IOException {
         logger.info("Running transpiler... [Fort2Jul]");
 
         logger.info("Running scanner... [Fort2Jul]");
 
-        List<Token> tokens = runLexer(source);
+        TokenStream tokens = runLexer(source);
 
         logger.info("Scan successful [Fort2Jul]");
         logger.info("Parsing token stream... [Fort2Jul]");
 
         Ast<String> ast = runParser(tokens);
 
+        if (ast == null) {
+            throw new IllegalArgumentException("Could not parse " + fileName);
+        }
+
         logger.info("Parse successful [Fort2Jul]");
         logger.info("Beginning conversion [Fort2Jul]");
 
-        runTranspiler(ast, fileName);
+        String juliaCode = runTranspiler(ast, fileName, sourcePath);
 
         logger.info("Conversion successful [Fort2Jul]");
+
+        return juliaCode;
     }
 
     /**
-     * Responsible for lexer
+     * Responsible for lexer, which scans the whole source unless --stream is set
      * @param source Contents of source
      * @return Token stream
      */
-    private static List<Token> runLexer(String source) {
-        Scanner scanner = new Scanner(source);
+    private static TokenStream runLexer(CharSequence source) {
+        if (stream) {
+            // Tokens are scanned as the parser reads them and let go of after each program unit
+            return TokenStream.scan(source);
+        }
 
-        return scanner.scanTokens();
+        return ParallelScanner.scan(source).stream();
     }
 
     /**
@@ -118,8 +276,8 @@ public class Fort2Jul {
      * @param tokens Token stream
      * @return AST
      */
-    private static Ast<String> runParser(List<Token> tokens) {
-        Parser parser = new Parser(tokens);
+    private static Ast<String> runParser(TokenStream tokens) {
+        Parser parser = new Parser(tokens, memoize);
 
         Ast<String> ast = parser.parseTokens();
 
@@ -129,26 +287,81 @@ public class Fort2Jul {
     /**
      * Responsible for code generator, writes to file after conversion
      * @param ast
+     * @param filePath Path of source file
+     * @param sourcePath Directory of source file
+     * @return Julia code
+     * @throws IOException
      */
-    private static void runTranspiler(Ast<String> ast, String filePath) {
+    private static String runTranspiler(Ast<String> ast, String filePath, String sourcePath) throws IOException {
         logger.info("Running transpiler [Fort-2-Jul]");
 
-        List<String> filePaths = Arrays.stream(filePath.split("/")).toList();
-        String fileName = filePaths.get(filePaths.size() - 1);
-        fileName = (fileName.split("\\."))[0];
+        String fileName = juliaFileName(filePath);
 
-        try {
-            StringBuilder juliaCode = new StringBuilder();
+        StringBuilder juliaCode = new StringBuilder();
 
-            JuliaMacroGenerator juliaMacroGenerator = new JuliaMacroGenerator(sourcePath);
-            juliaMacroGenerator.generateMacroCode();
+        JuliaMacroGenerator juliaMacroGenerator = new JuliaMacroGenerator(sourcePath);
+        juliaMacroGenerator.generateMacroCode();
 
-            JuliaCodeGenerator juliaCodeGenerator = new JuliaCodeGenerator(ast, sourcePath, juliaCode, fileName);
-            juliaCodeGenerator.generateJuliaCode();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        JuliaCodeGenerator juliaCodeGenerator = new JuliaCodeGenerator(ast, sourcePath, juliaCode, fileName);
+        juliaCodeGenerator.setScoped(scoped);
+        String julia = juliaCodeGenerator.generateJuliaCode();
 
         logger.info("Finished running transpiler [Fort-2-Jul]");
+
+        return julia;
+    }
+
+    /**
+     * Writes the Julia files for a source from cached code, as runTranspiler would have
+     * @param cached Code after the header
+     * @param filePath Path of source file
+     * @param sourcePath Directory of source file
+     * @throws IOException
+     */
+    private static void writeCached(String cached, String filePath, String sourcePath) throws IOException {
+        JuliaMacroGenerator juliaMacroGenerator = new JuliaMacroGenerator(sourcePath);
+        juliaMacroGenerator.generateMacroCode();
+
+        try (FileWriter fileWriter = new FileWriter(sourcePath + "/" + juliaFileName(filePath) + ".jl")) {
+            fileWriter.write(header(filePath, sourcePath));
+            fileWriter.write(cached);
+        }
+    }
+
+    /**
+     * Header of the Julia file for a source, which names where the source is and so is left out of the cache
+     * @param filePath Path of source file
+     * @param sourcePath Directory of source file
+     * @return Header
+     * @throws IOException
+     */
+    private static String header(String filePath, String sourcePath) throws IOException {
+        StringBuilder header = new StringBuilder();
+        new JuliaCodeGenerator(sourcePath, header, juliaFileName(filePath)).writeHeader(header);
+
+        return header.toString();
+    }
+
+    /**
+     * Path of the Julia file written for a source, next to it
+     * @param path Path of source file
+     * @return Path of Julia file
+     */
+    static Path juliaFile(String path) {
+        Path parentPath = Paths.get(path).toAbsolutePath().getParent();
+
+        return parentPath.resolve(juliaFileName(path) + ".jl").normalize();
+    }
+
+    /**
+     * Name of the Julia file for a source, without extension
+     * @param filePath Path of source file
+     * @return File name
+     */
+    private static String juliaFileName(String filePath) {
+        List<String> filePaths = Arrays.stream(filePath.split("/")).toList();
+        String fileName = filePaths.get(filePaths.size() - 1);
+
+        return (fileName.split("\\."))[0];
     }
 }
@@ -0,0 +1,345 @@
+package uk.ac.soton.comp3200.fort2jul;
+
+import org.apache.log4j.Logger;
+import uk.ac.soton.comp3200.fort2jul.lexer.IncrementalScanner;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.NodeKind;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaCodeGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.NEWLINE;
+
+/**
+ * Transpiles a source that is edited over time, as in the GUI, redoing only the work an edit calls for. Tokens are kept
+ * by an incremental scanner, which re-scans only the damaged lines. The program is parsed one unit at a time and kept
+ * as pieces, runs of whole lines holding one or more program units. After an edit, only the lines between the pieces
+ * left clear of the damage are parsed again, usually a piece or two. Julia code is kept per piece along with the state
+ * of the code generator before and after it, so a piece is only generated again when it was parsed again or the pieces
+ * before it left a different state.
+ *
+ * The result is the same as transpiling the whole source, which is what happens on the first call.
+ */
+public class IncrementalTranspiler {
+
+    private static final Logger logger = Logger.getLogger(IncrementalTranspiler.class);
+
+    /**
+     * Tokens of the source as of the last call
+     */
+    private final IncrementalScanner scanner = new IncrementalScanner();
+
+    /**
+     * Code generator, moved between the states kept with each piece
+     */
+    private final JuliaCodeGenerator generator;
+
+    /**
+     * Code the generator writes straight into the file rather than the body, ahead of all units
+     */
+    private final StringBuilder leaked = new StringBuilder();
+
+    /**
+     * State of the generator before the first piece
+     */
+    private final JuliaCodeGenerator.State initialState;
+
+    /**
+     * Pieces of the source in order, the program being the first reached of them
+     */
+    private final List<Piece> pieces = new ArrayList<>();
+
+    /**
+     * Number of pieces the program reaches, those after follow a unit that could not be parsed
+     */
+    private int reached = 0;
+
+    /**
+     * Line where a unit could not be parsed, -1 if the program reaches the end of the source
+     */
+    private int failureLine = -1;
+
+    /**
+     * Last line the parser looked at before failing
+     */
+    private int failureFurthest = -1;
+
+    /**
+     * Julia code as of the last call, null if the source could not be parsed
+     */
+    private String juliaCode;
+
+    /**
+     * Run of whole lines holding one or more program units, and any comments before the first unit of the source
+     */
+    private static final class Piece {
+
+        private int firstLine;
+
+        /**
+         * Line after the last line of the piece
+         */
+        private int endLine;
+
+        /**
+         * Whether the last line goes on with a unit that could not be parsed
+         */
+        private boolean partial;
+
+        private final List<Ast.Node<String>> nodes;
+
+        /**
+         * Generated code before intrinsic names are substituted, null until generated. FORMAT statements are already
+         * constants of its units, referred to by name
+         */
+        private String code;
+
+        private String leaked;
+
+        private JuliaCodeGenerator.State entry;
+
+        private JuliaCodeGenerator.State exit;
+
+        private Piece(int firstLine, int endLine, List<Ast.Node<String>> nodes) {
+            this.firstLine = firstLine;
+            this.endLine = endLine;
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * Creates an incremental transpiler for one source
+     * @param outputDir Directory of source, named in the header of the Julia code
+     * @param fileName File name of source
+     */
+    public IncrementalTranspiler(String outputDir, String fileName) {
+        this.generator = new JuliaCodeGenerator(outputDir, leaked, fileName);
+        this.initialState = generator.saveState();
+    }
+
+    /**
+     * Transpiles the source as it is now
+     * @param source Contents of source
+     * @return Julia code, null if the source could not be parsed
+     * @throws IOException
+     */
+    public String transpile(String source) throws IOException {
+        IncrementalScanner.Damage damage = scanner.update(source);
+
+        if (damage == null) {
+            return juliaCode;
+        }
+
+        logger.info("Re-scanned lines " + damage.firstLine() + " to " + damage.newEndLine() + " [IncrementalTranspiler]");
+
+        reparse(damage);
+        juliaCode = reached == 0 ? null : regenerate();
+
+        return juliaCode;
+    }
+
+    /**
+     * Parses the source again where an edit left no piece to reuse. Pieces clear of the damage are kept, the piece just
+     * before it is not as the comments and blank lines after its last unit belong to it. Walking the source from the
+     * start, kept pieces are followed as long as they line up and the lines in between are parsed again. A unit that
+     * fails to parse ends the program, as in program, and kept pieces after it are held on to for when it parses again.
+     * @param damage Lines re-scanned
+     */
+    private void reparse(IncrementalScanner.Damage damage) {
+        int lineCount = scanner.lineCount();
+        int shift = damage.newEndLine() - damage.oldEndLine();
+
+        List<Piece> kept = new ArrayList<>();
+        for (Piece piece : pieces) {
+            if (piece.endLine < damage.firstLine()) {
+                kept.add(piece);
+            } else if (piece.firstLine >= damage.oldEndLine()) {
+                piece.firstLine += shift;
+                piece.endLine += shift;
+                kept.add(piece);
+            }
+        }
+
+        // A unit that failed to parse fails the same way if nothing it looked at changed
+        boolean failureStands = failureLine >= 0 && failureFurthest < damage.firstLine();
+
+        pieces.clear();
+        reached = -1;
+
+        int line = 0;
+        int next = 0;
+        int parsed = 0;
+
+        while (reached < 0) {
+            while (next < kept.size() && kept.get(next).firstLine == line && !kept.get(next).partial) {
+                line = kept.get(next).endLine;
+                pieces.add(kept.get(next++));
+            }
+
+            if (line >= lineCount) {
+                break;
+            }
+
+            if (next < kept.size() && kept.get(next).firstLine == line) {
+                if (failureStands) {
+                    pieces.add(kept.get(next++));
+                    reached = pieces.size();
+                    break;
+                }
+
+                next++;
+            } else if (failureStands && line == failureLine) {
+                reached = pieces.size();
+                break;
+            }
+
+            while (next < kept.size() && kept.get(next).firstLine < line) {
+                next++;
+            }
+
+            int regionStart = line;
+
+            while (true) {
+                int regionEnd = next < kept.size() ? kept.get(next).firstLine : lineCount;
+
+                TokenBuffer tokens = scanner.tokens(regionStart, regionEnd);
+                Parser parser = new Parser(tokens, true);
+                int end = tokens.size() - 1;
+
+                List<Ast.Node<String>> nodes = new ArrayList<>();
+                int pieceLine = regionStart;
+                boolean hasUnit = false;
+
+                if (regionStart == 0) {
+                    Ast.Node<String> comment;
+                    while ((comment = parser.parseCommentOrNewline()) != null) {
+                        nodes.add(comment);
+                    }
+                }
+
+                Ast.Node<String> unit;
+                while (parser.position() < end && (unit = parser.parseProgramUnit()) != null) {
+                    nodes.add(unit);
+                    hasUnit = true;
+
+                    // Pieces only end where a line does
+                    int position = parser.position();
+                    if (position == end || tokens.type(position - 1) == NEWLINE) {
+                        int endLine = position == end ? regionEnd : tokens.row(position) - 1;
+
+                        pieces.add(new Piece(pieceLine, endLine, nodes));
+                        parsed++;
+                        nodes = new ArrayList<>();
+                        pieceLine = endLine;
+                        hasUnit = false;
+                    }
+                }
+
+                if (parser.position() == end && nodes.isEmpty()) {
+                    line = regionEnd;
+                    break;
+                }
+
+                if (regionEnd < lineCount && parser.furthestPosition() >= end) {
+                    // The last unit runs on into the next kept piece
+                    regionStart = pieceLine;
+                    next++;
+                    continue;
+                }
+
+                if (hasUnit) {
+                    int endLine = tokens.row(parser.position());
+
+                    Piece piece = new Piece(pieceLine, endLine, nodes);
+                    piece.partial = true;
+                    pieces.add(piece);
+                    parsed++;
+                    pieceLine = endLine;
+                }
+
+                failureLine = pieceLine;
+                failureFurthest = tokens.row(Math.min(parser.furthestPosition(), end)) - 1;
+                reached = pieces.size();
+                break;
+            }
+        }
+
+        if (reached < 0) {
+            reached = pieces.size();
+            failureLine = -1;
+        }
+
+        pieces.addAll(kept.subList(next, kept.size()));
+
+        logger.info("Parsed " + parsed + " of " + reached + " pieces [IncrementalTranspiler]");
+    }
+
+    /**
+     * Generates Julia code for the pieces the program reaches, as far as the state of the generator differs from
+     * before, then joins the code of those pieces
+     * @return Julia code
+     * @throws IOException
+     */
+    private String regenerate() throws IOException {
+        JuliaCodeGenerator.State state = initialState;
+        boolean restored = false;
+        int generated = 0;
+
+        for (int i = 0; i < reached; i++) {
+            Piece piece = pieces.get(i);
+
+            if (piece.code != null && (piece.entry == state || piece.entry.equals(state))) {
+                // Comes out as before
+                state = piece.exit;
+                restored = false;
+                continue;
+            }
+
+            if (!restored) {
+                generator.restoreState(state);
+                restored = true;
+            }
+
+            StringBuilder code = new StringBuilder();
+            leaked.setLength(0);
+
+            for (Ast.Node<String> node : piece.nodes) {
+                if (node.getKind() == NodeKind.ProgramUnit) {
+                    generator.writeProgramUnit(node, code);
+                } else {
+                    generator.writeCommentOrNewline(node, code);
+                }
+            }
+
+            piece.entry = state;
+            piece.code = code.toString();
+            piece.leaked = leaked.toString();
+            piece.exit = generator.saveState();
+            state = piece.exit;
+            generated++;
+        }
+
+        logger.info("Generated " + generated + " of " + reached + " pieces [IncrementalTranspiler]");
+
+        if (!restored) {
+            generator.restoreState(state);
+        }
+
+        StringBuilder body = new StringBuilder();
+        StringBuilder out = new StringBuilder();
+        generator.writeHeader(out);
+
+        for (int i = 0; i < reached; i++) {
+            out.append(pieces.get(i).leaked);
+            body.append(pieces.get(i).code);
+        }
+
+        generator.writeSubstituted(body, out);
+
+        return out.toString();
+    }
+}
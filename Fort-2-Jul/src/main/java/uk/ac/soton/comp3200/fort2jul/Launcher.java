@@ -9,11 +9,11 @@ public class Launcher {
 
     /**
      * Entry point into transpiler, supply argument for command line use, default into GUI if no arguments supplied.
-     * @param args Path of Fortran file
+     * @param args Paths of Fortran files and options
      */
     public static void main(String[] args) {
         try {
-            if (args.length == 1) {
+            if (args.length >= 1) {
                 Fort2Jul.main(args);
             } else if (args.length == 0) {
                 App.main(args);
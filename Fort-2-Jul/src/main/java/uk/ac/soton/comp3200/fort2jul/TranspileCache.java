@@ -0,0 +1,341 @@
+package uk.ac.soton.comp3200.fort2jul;
+
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Cache of generated Julia code kept in a directory across runs, so a source that has not changed since it was last
+ * transpiled is not scanned, parsed or generated again. Entries are keyed by a digest of the source bytes, the build of
+ * the transpiler and the options that change its output. Each holds the code after the header, as the header names
+ * where the source is, following a checksum of the code so that an entry left damaged is discarded rather than reused.
+ * The directory is kept under a size limit by evicting the least recently used entries, recency being the last modified
+ * time of each entry so that it carries over to the next run. Safe to share between threads.
+ */
+public class TranspileCache {
+
+    private static final Logger logger = Logger.getLogger(TranspileCache.class);
+
+    private static final String EXTENSION = ".jl";
+
+    /**
+     * Name of an entry, its key followed by the extension
+     */
+    private static final Pattern ENTRY = Pattern.compile("[0-9a-f]{64}\\.jl");
+
+    /**
+     * Extension of entries being written, renamed into place once complete
+     */
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path directory;
+
+    /**
+     * Largest total size of entries in bytes
+     */
+    private final long maxBytes;
+
+    /**
+     * Version, size and last modified time of the jar or classes of the transpiler, so code generated by another build
+     * is never reused
+     */
+    private final String build;
+
+    /**
+     * Size of each entry by key, least recently used first
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private int evictions = 0;
+
+    /**
+     * Opens a cache directory, creating it if need be, and picks up the entries left by earlier runs
+     * @param directory Directory of cache
+     * @param maxBytes Largest total size of entries in bytes
+     * @throws IOException
+     */
+    public TranspileCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.build = buildStamp();
+
+        Files.createDirectories(directory);
+
+        record Entry(String key, long size, FileTime lastUsed) {
+        }
+
+        List<Entry> found = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            for (Path path : stream.toList()) {
+                String name = path.getFileName().toString();
+
+                if (name.endsWith(TEMPORARY_EXTENSION)) {
+                    // Left by a run that stopped while writing
+                    Files.deleteIfExists(path);
+                } else if (ENTRY.matcher(name).matches()) {
+                    found.add(new Entry(name.substring(0, name.length() - EXTENSION.length()), Files.size(path),
+                            Files.getLastModifiedTime(path)));
+                }
+            }
+        }
+
+        found.sort((a, b) -> a.lastUsed().compareTo(b.lastUsed()));
+        for (Entry entry : found) {
+            entries.put(entry.key(), entry.size());
+            bytes += entry.size();
+        }
+
+        evict();
+
+        logger.info("Opened cache at " + directory + " with " + entries.size() + " entries [TranspileCache]");
+    }
+
+    /**
+     * Spells out the options that change the generated code, as part of the key of a source
+     * @param charset Charset the source is read in
+     * @param scoped Whether function-scoped code is generated
+     * @return Options
+     */
+    public static String options(Charset charset, boolean scoped) {
+        return "charset=" + charset.name() + (scoped ? ",scoped" : "");
+    }
+
+    /**
+     * Works out the key of a source
+     * @param source Bytes of source, left unchanged
+     * @param options Options that change the generated code, see options
+     * @return Key of source
+     */
+    public String key(ByteBuffer source, String options) {
+        MessageDigest digest = sha256();
+
+        digest.update((build + "\n" + options + "\n").getBytes(StandardCharsets.UTF_8));
+        digest.update(source.duplicate());
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Looks up the code generated for a source, marking it as just used. An entry whose code does not match its
+     * checksum is removed
+     * @param key Key of source
+     * @return Code after the header, null if the source is not in the cache
+     */
+    public String get(String key) {
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                misses++;
+                return null;
+            }
+        }
+
+        Path path = directory.resolve(key + EXTENSION);
+
+        try {
+            String code;
+            try {
+                code = verified(Files.readString(path, StandardCharsets.UTF_8));
+            } catch (CharacterCodingException e) {
+                code = null;
+            }
+
+            if (code == null) {
+                logger.warn("Removing damaged entry " + key + " from cache [TranspileCache]");
+                Files.deleteIfExists(path);
+                remove(key);
+
+                return null;
+            }
+
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+
+            synchronized (this) {
+                hits++;
+            }
+
+            return code;
+        } catch (IOException e) {
+            // Removed by hand or by another run sharing the directory
+            remove(key);
+
+            return null;
+        }
+    }
+
+    /**
+     * Stores the code generated for a source, evicting the least recently used entries if the cache grows too large
+     * @param key Key of source
+     * @param code Code after the header
+     * @throws IOException
+     */
+    public void put(String key, String code) throws IOException {
+        Path path = directory.resolve(key + EXTENSION);
+        Path temporary = Files.createTempFile(directory, key, TEMPORARY_EXTENSION);
+
+        try {
+            Files.writeString(temporary, checksum(code) + "\n" + code, StandardCharsets.UTF_8);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        long size = Files.size(path);
+
+        synchronized (this) {
+            Long previous = entries.put(key, size);
+            bytes += size - (previous == null ? 0 : previous);
+
+            evict();
+        }
+    }
+
+    /**
+     * Summarises hits and size of the cache
+     * @return Statistics of cache
+     */
+    public synchronized String stats() {
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0 : (100.0 * hits) / lookups;
+
+        return String.format("Cache: %d hits of %d lookups (%.1f%%), %d entries in %d of %d KB, %d evicted",
+                hits, lookups, hitRate, entries.size(), bytes / 1024, maxBytes / 1024, evictions);
+    }
+
+    /**
+     * Forgets an entry that could not be read, counting the lookup as a miss
+     * @param key Key of source
+     */
+    private synchronized void remove(String key) {
+        Long size = entries.remove(key);
+        bytes -= size == null ? 0 : size;
+        misses++;
+    }
+
+    /**
+     * Checksum of the code of an entry, written on the line before it
+     * @param code Code after the header
+     * @return Checksum, eight hex digits
+     */
+    private static String checksum(String code) {
+        CRC32 crc = new CRC32();
+        crc.update(code.getBytes(StandardCharsets.UTF_8));
+
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Checks the code of an entry against the checksum before it
+     * @param entry Contents of entry
+     * @return Code after the header, null if the entry is damaged
+     */
+    private static String verified(String entry) {
+        int newline = entry.indexOf('\n');
+
+        if (newline != 8) {
+            return null;
+        }
+
+        String code = entry.substring(newline + 1);
+
+        return entry.substring(0, newline).equals(checksum(code)) ? code : null;
+    }
+
+    /**
+     * Removes least recently used entries until the cache fits its limit
+     */
+    private synchronized void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+
+        while (bytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey() + EXTENSION));
+            } catch (IOException e) {
+                logger.warn("Could not evict " + entry.getKey() + " from cache [TranspileCache]", e);
+            }
+
+            bytes -= entry.getValue();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Stamps the build of the transpiler with the implementation version of its package, if any, and the size and last
+     * modified time of the jar or directory of classes it was loaded from. A directory is stamped with the number and
+     * total size of its files and the newest of their times. Files are looked at, never read, so this costs little even
+     * for a large jar
+     * @return Stamp of build
+     */
+    private static String buildStamp() {
+        Package transpiler = TranspileCache.class.getPackage();
+        StringBuilder stamp = new StringBuilder(String.valueOf(transpiler.getImplementationVersion()));
+
+        try {
+            CodeSource codeSource = TranspileCache.class.getProtectionDomain().getCodeSource();
+            Path location = Paths.get(codeSource.getLocation().toURI());
+
+            long files = 0;
+            long size = 0;
+            long lastModified = 0;
+
+            if (Files.isDirectory(location)) {
+                try (Stream<Path> stream = Files.walk(location)) {
+                    for (Path file : stream.filter(Files::isRegularFile).toList()) {
+                        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                        files++;
+                        size += attributes.size();
+                        lastModified = Math.max(lastModified, attributes.lastModifiedTime().toMillis());
+                    }
+                }
+            } else {
+                files = 1;
+                size = Files.size(location);
+                lastModified = Files.getLastModifiedTime(location).toMillis();
+            }
+
+            stamp.append(",").append(location).append(",").append(files).append(",").append(size).append(",")
+                    .append(lastModified);
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // Without a stamp no entry can be trusted to match this build, so none will be reused
+            logger.warn("Could not stamp transpiler build, cached code will not be reused [TranspileCache]", e);
+            return UUID.randomUUID().toString();
+        }
+
+        return stamp.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,27 +1,35 @@
 package uk.ac.soton.comp3200.fort2jul.controller;
 
 import org.apache.log4j.Logger;
-import uk.ac.soton.comp3200.fort2jul.Fort2Jul;
-import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
-import uk.ac.soton.comp3200.fort2jul.lexer.Token;
-import uk.ac.soton.comp3200.fort2jul.parser.Ast;
-import uk.ac.soton.comp3200.fort2jul.parser.Parser;
-import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaCodeGenerator;
+import uk.ac.soton.comp3200.fort2jul.IncrementalTranspiler;
 import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaMacroGenerator;
 
+import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
 /**
- * Responsible for utilising transpiler to convert source to target. Returns converted code to view
+ * Responsible for utilising transpiler to convert source to target. Returns converted code to view. The tokens, syntax
+ * tree and Julia code of the source are kept between calls, so after an edit only the program units it touched are
+ * transpiled again
  */
 public class SourceController {
 
     private static final Logger logger = Logger.getLogger(SourceController.class);
 
     /**
-     * Transpile contents of source
+     * Transpiler holding the previous transpilation of the source
+     */
+    private IncrementalTranspiler incrementalTranspiler;
+
+    /**
+     * Path of the source held by incrementalTranspiler
+     */
+    private String transpilerPath;
+
+    /**
+     * Transpile contents of source, writing the Julia and macros files
      * @param content source content
      * @param filePath path of source
      * @return converted source code into target code
@@ -29,43 +37,76 @@ public class SourceController {
     public String transpileContent(String content, String filePath) {
         logger.info("Transpiling contents... [SourceController]");
 
-        List<String> filePaths = Arrays.stream(filePath.split("/")).toList();
-        String fileName = filePaths.get(filePaths.size() - 1);
-        fileName = (fileName.split("\\."))[0];
-
-        logger.info("Scanning contents... [SourceController]");
-
-        Scanner scanner = new Scanner(content);
-        List<Token> tokens = scanner.scanTokens();
-
-        logger.info("Scan successful -> Generated list of tokens [SourceController]");
-        logger.info("Parsing token stream [SourceController]");
+        try {
+            String juliaCode = transpile(content, filePath);
 
-        Parser parser = new Parser(tokens);
-        Ast<String> ast = parser.parseTokens();
+            if (juliaCode == null) {
+                logger.error("Could not parse contents [SourceController]");
 
-        logger.info("Parse successful -> Generated AST [SourceController]");
-        logger.info("Converting code... [SourceController]");
-
-        try {
-            StringBuilder juliaCode = new StringBuilder();
+                return null;
+            }
 
             JuliaMacroGenerator juliaMacroGenerator = new JuliaMacroGenerator(filePath);
             juliaMacroGenerator.generateMacroCode();
 
             logger.info("Generated macros.jl in " + filePath + " [SourceController]");
 
-            JuliaCodeGenerator juliaCodeGenerator = new JuliaCodeGenerator(ast, filePath, juliaCode, fileName);
+            try (FileWriter fileWriter = new FileWriter(filePath + "/" + fileName(filePath) + ".jl")) {
+                fileWriter.write(juliaCode);
+            }
 
             logger.info("Generated jl file in " + filePath + " [SourceController]");
             logger.info("Returning converted code [SourceController]");
             logger.info("Transpilation successful [SourceController]");
 
-            return juliaCodeGenerator.generateJuliaCode();
+            return juliaCode;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    /**
+     * Transpile contents of source without writing any files, as the source is edited
+     * @param content source content
+     * @param filePath path of source
+     * @return converted source code into target code, null if the contents could not be parsed
+     */
+    public String previewContent(String content, String filePath) {
+        try {
+            return transpile(content, filePath);
         } catch (IOException e) {
             e.printStackTrace();
+        } catch (RuntimeException e) {
+            // Half typed constants and the like
+            logger.warn("Could not scan contents: " + e.getMessage() + " [SourceController]");
         }
 
         return null;
     }
+
+    /**
+     * Runs the incremental transpiler of the source, starting afresh when the path changes. Previews run off the FX
+     * thread, so a preview and the transpile button take turns with the transpiler
+     * @param content source content
+     * @param filePath path of source
+     * @return converted source code into target code
+     * @throws IOException
+     */
+    private synchronized String transpile(String content, String filePath) throws IOException {
+        if (incrementalTranspiler == null || !filePath.equals(transpilerPath)) {
+            incrementalTranspiler = new IncrementalTranspiler(filePath, fileName(filePath));
+            transpilerPath = filePath;
+        }
+
+        return incrementalTranspiler.transpile(content);
+    }
+
+    private String fileName(String filePath) {
+        List<String> filePaths = Arrays.stream(filePath.split("/")).toList();
+        String fileName = filePaths.get(filePaths.size() - 1);
+
+        return (fileName.split("\\."))[0];
+    }
 }
@@ -0,0 +1,324 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
+
+/**
+ * <p><i>IncrementalScanner</i> class keeps the tokens of a source text that is edited over time, such as the text
+ * in the GUI, and re-scans only the lines an edit touches.</p>
+ *
+ * <p>Tokens are kept in segments, each a line or the few lines a token such as a string runs over. A segment starts
+ * at the beginning of a line, where the only state the <i>Scanner</i> carries is the name in the PROGRAM statement,
+ * so a segment scans the same on its own as within the whole text.</p>
+ */
+public class IncrementalScanner {
+
+    /**
+     * <p>Logger logger is responsible for logging the actions performed by the IncrementalScanner class.</p>
+     */
+    private static final Logger logger = Logger.getLogger(IncrementalScanner.class);
+
+    /**
+     * <p>String source is the source text as of the last update.</p>
+     */
+    private String source = "";
+
+    /**
+     * <p>int[] lineStarts is the offset of each line in the source text.</p>
+     */
+    private int[] lineStarts = new int[0];
+
+    /**
+     * <p>List<Segment> segments covers the lines of the source text in order.</p>
+     */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * <p>int[] segmentLines is the first line of each segment.</p>
+     */
+    private int[] segmentLines = new int[0];
+
+    /**
+     * <p><i>Damage</i> record gives the lines re-scanned by an update. Lines from <i>oldEndLine</i> on before the
+     * update are the lines from <i>newEndLine</i> on after it, with the same tokens.</p>
+     * @param firstLine int first re-scanned line
+     * @param oldEndLine int line after the re-scanned lines, before the update
+     * @param newEndLine int line after the re-scanned lines, after the update
+     */
+    public record Damage(int firstLine, int oldEndLine, int newEndLine) {
+    }
+
+    /**
+     * <p><i>Segment</i> class holds the tokens of a run of lines, as a slice of the buffer they were scanned into.</p>
+     */
+    private static final class Segment {
+
+        private final TokenBuffer buffer;
+        private final int firstToken;
+        private final int endToken;
+
+        /**
+         * <p>int offset is where the segment starts in the source text of <i>buffer</i>.</p>
+         */
+        private final int offset;
+
+        /**
+         * <p>int row is the row the <i>Scanner</i> gave the first line of the segment.</p>
+         */
+        private final int row;
+
+        private final int lines;
+
+        /**
+         * <p>String programName is the name given in the last PROGRAM statement up to the end of the segment.</p>
+         */
+        private final String programName;
+
+        private Segment(TokenBuffer buffer, int firstToken, int endToken, int offset, int row, int lines,
+                        String programName) {
+            this.buffer = buffer;
+            this.firstToken = firstToken;
+            this.endToken = endToken;
+            this.offset = offset;
+            this.row = row;
+            this.lines = lines;
+            this.programName = programName;
+        }
+    }
+
+    /**
+     * <p><i>update</i> replaces the source text and re-scans the lines that changed since the last update.</p>
+     * @param text String new source text
+     * @return Damage, null if the text is unchanged
+     */
+    public Damage update(String text) {
+        int oldLength = source.length();
+        int newLength = text.length();
+        int limit = Math.min(oldLength, newLength);
+
+        int prefix = 0;
+        while (prefix < limit && source.charAt(prefix) == text.charAt(prefix)) prefix++;
+
+        if (prefix == oldLength && prefix == newLength) {
+            return null;
+        }
+
+        int suffix = 0;
+        while (suffix < limit - prefix
+                && source.charAt(oldLength - 1 - suffix) == text.charAt(newLength - 1 - suffix)) suffix++;
+
+        int[] newStarts = lineStarts(text);
+        int oldCount = lineStarts.length;
+        int newCount = newStarts.length;
+
+        // Lines starting after a newline in the common suffix are unchanged
+        int firstLine = lineAt(prefix);
+        int oldEndLine = firstStartFrom(lineStarts, oldLength - suffix + 1);
+
+        // Widen to whole segments
+        int firstSegment = firstLine < oldCount ? segmentAt(firstLine) : segments.size();
+        int endSegment = oldEndLine > firstLine ? segmentAt(oldEndLine - 1) + 1 : firstSegment;
+        firstLine = firstSegment < segments.size() ? segmentLines[firstSegment] : oldCount;
+        oldEndLine = endSegment < segments.size() ? segmentLines[endSegment] : oldCount;
+        int newEndLine = newCount - (oldCount - oldEndLine);
+
+        String programName = firstSegment == 0 ? "" : segments.get(firstSegment - 1).programName;
+        String nextProgramName = endSegment == firstSegment ? programName : segments.get(endSegment - 1).programName;
+
+        List<Segment> scanned = scan(text, newStarts, firstLine, newEndLine, programName);
+
+        // A token running on past the re-scanned lines, or a new program name, may change how the rest scans
+        if (newEndLine < newCount
+                && (!endsAtLine(scanned) || !lastProgramName(scanned, programName).equals(nextProgramName))) {
+            logger.info("Re-scanning to the end of the source text");
+
+            endSegment = segments.size();
+            oldEndLine = oldCount;
+            newEndLine = newCount;
+            scanned = scan(text, newStarts, firstLine, newEndLine, programName);
+        }
+
+        segments.subList(firstSegment, endSegment).clear();
+        segments.addAll(firstSegment, scanned);
+
+        source = text;
+        lineStarts = newStarts;
+
+        segmentLines = new int[segments.size()];
+        int line = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            segmentLines[i] = line;
+            line += segments.get(i).lines;
+        }
+
+        return new Damage(firstLine, oldEndLine, newEndLine);
+    }
+
+    /**
+     * <p><i>lineCount</i> returns the number of lines in the source text.</p>
+     * @return int
+     */
+    public int lineCount() {
+        return lineStarts.length;
+    }
+
+    /**
+     * <p><i>tokens</i> returns the tokens of a run of lines, followed by an EOF token, as if the lines were the whole
+     * source text. Rows are those of the whole source text. The run must start and end at the start of a segment,
+     * which is always the case after a NEWLINE token.</p>
+     * @param firstLine int
+     * @param endLine int line after the last line
+     * @return TokenBuffer
+     */
+    public TokenBuffer tokens(int firstLine, int endLine) {
+        int from = lineStart(lineStarts, source, firstLine);
+        int to = lineStart(lineStarts, source, endLine);
+
+        TokenBuffer tokens = new TokenBuffer(source.substring(from, to));
+
+        int segment = firstLine < lineStarts.length ? segmentAt(firstLine) : segments.size();
+        for (; segment < segments.size() && segmentLines[segment] < endLine; segment++) {
+            Segment slice = segments.get(segment);
+            int shift = lineStarts[segmentLines[segment]] - from - slice.offset;
+            int rowShift = segmentLines[segment] + 1 - slice.row;
+
+            for (int i = slice.firstToken; i < slice.endToken; i++) {
+                tokens.add(slice.buffer, i, slice.buffer.start(i) + shift, slice.buffer.row(i) + rowShift);
+            }
+        }
+
+        tokens.add(EOF, to - from, 0, null, endLine + 1, 1);
+
+        return tokens;
+    }
+
+    /**
+     * <p><i>scan</i> scans a run of lines and splits the tokens into segments.</p>
+     * @param text String
+     * @param starts int[] line starts of text
+     * @param firstLine int
+     * @param endLine int
+     * @param programName String in effect before the first line
+     * @return List<Segment>
+     */
+    private List<Segment> scan(String text, int[] starts, int firstLine, int endLine, String programName) {
+        int from = lineStart(starts, text, firstLine);
+        int to = lineStart(starts, text, endLine);
+
+        TokenBuffer buffer = new Scanner(text.substring(from, to), programName).scanTokenBuffer();
+        int count = buffer.size() - 1;
+
+        List<Segment> scanned = new ArrayList<>();
+        int token = 0;
+        int segmentToken = 0;
+        int segmentLine = firstLine;
+
+        for (int line = firstLine; line < endLine; line++) {
+            int lineEnd = lineStart(starts, text, line + 1) - from;
+
+            while (token < count && buffer.start(token) < lineEnd) {
+                if (buffer.type(token) == ID && token > 0 && buffer.type(token - 1) == PROGRAM) {
+                    programName = buffer.lexeme(token);
+                }
+                token++;
+            }
+
+            boolean runsOn = token > 0 && buffer.start(token - 1) + buffer.length(token - 1) > lineEnd;
+            if (!runsOn || line == endLine - 1) {
+                int row = segmentToken < count ? buffer.row(segmentToken) : 1;
+                scanned.add(new Segment(buffer, segmentToken, token, lineStart(starts, text, segmentLine) - from, row,
+                        line + 1 - segmentLine, programName));
+
+                segmentToken = token;
+                segmentLine = line + 1;
+            }
+        }
+
+        return scanned;
+    }
+
+    /**
+     * <p><i>endsAtLine</i> checks the last scanned token is the newline ending the last line, rather than a string
+     * or comment that would have carried on.</p>
+     * @param scanned List<Segment>
+     * @return boolean
+     */
+    private boolean endsAtLine(List<Segment> scanned) {
+        if (scanned.isEmpty()) {
+            return true;
+        }
+
+        Segment last = scanned.get(scanned.size() - 1);
+        if (last.endToken == last.firstToken) {
+            return false;
+        }
+
+        TokenBuffer buffer = last.buffer;
+        int token = last.endToken - 1;
+        int end = buffer.start(buffer.size() - 1);
+
+        return buffer.type(token) == NEWLINE && buffer.start(token) + 1 == end;
+    }
+
+    private String lastProgramName(List<Segment> scanned, String programName) {
+        return scanned.isEmpty() ? programName : scanned.get(scanned.size() - 1).programName;
+    }
+
+    /**
+     * <p><i>segmentAt</i> returns the segment holding a line.</p>
+     * @param line int
+     * @return int
+     */
+    private int segmentAt(int line) {
+        int found = Arrays.binarySearch(segmentLines, line);
+
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * <p><i>lineAt</i> returns the line holding an offset of the current source text. The end of a text that is
+     * empty or ends in a newline is on the line after the last.</p>
+     * @param offset int
+     * @return int
+     */
+    private int lineAt(int offset) {
+        if (offset == source.length() && (source.isEmpty() || source.charAt(offset - 1) == '\n')) {
+            return lineStarts.length;
+        }
+
+        int found = Arrays.binarySearch(lineStarts, offset);
+
+        return found >= 0 ? found : -found - 2;
+    }
+
+    private static int firstStartFrom(int[] starts, int offset) {
+        int found = Arrays.binarySearch(starts, offset);
+
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private static int lineStart(int[] starts, String text, int line) {
+        return line < starts.length ? starts[line] : text.length();
+    }
+
+    private static int[] lineStarts(String text) {
+        int[] starts = new int[16];
+        int count = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (i == 0 || text.charAt(i - 1) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i;
+            }
+        }
+
+        return Arrays.copyOf(starts, count);
+    }
+}
@@ -0,0 +1,309 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
+
+/**
+ * <p><i>KeywordTable</i> class recognises keywords, dotted operators and I/O specifiers in any case without creating a
+ * String. Each word hashes to its own slot of the table, so a word is found with one hash and one comparison.</p>
+ *
+ * <p>This was automatically generated by GenerateKeywordTable.</p>
+ */
+public final class KeywordTable {
+
+    private static final int SIZE = 2048;
+    private static final int MULTIPLIER = 719;
+    private static final int SHIFT = 27;
+
+    private static final String[] WORDS = new String[SIZE];
+    private static final TokenType[] KEYWORDS = new TokenType[SIZE];
+    private static final TokenType[] SPECIFIERS = new TokenType[SIZE];
+
+    static {
+        put(".AND.", AND, null);
+        put(".EQ.", EQUAL_EQUAL, null);
+        put(".EQV.", EQUAL_EQUAL, null);
+        put(".FALSE.", FALSE, null);
+        put(".GE.", GREATER_EQUAL, null);
+        put(".GT.", GREATER, null);
+        put(".LE.", LESS_EQUAL, null);
+        put(".LT.", LESS, null);
+        put(".NE.", BANG_EQUAL, null);
+        put(".NEQV.", BANG_EQUAL, null);
+        put(".NOT.", NOT, null);
+        put(".OR.", OR, null);
+        put(".TRUE.", TRUE, null);
+        put("ACCESS", null, ACCESS_EQUAL);
+        put("ACCESS_EQUAL", ACCESS_EQUAL, null);
+        put("ACTION_EQUAL", ACTION_EQUAL, null);
+        put("ADVANCE_EQUAL", ADVANCE_EQUAL, null);
+        put("ALLOCATABLE", ALLOCATABLE, null);
+        put("ALLOCATE", ALLOCATE, null);
+        put("AND", AND, null);
+        put("ASSIGN", ASSIGN, null);
+        put("ASSIGNMENT", ASSIGNMENT, null);
+        put("BACKSPACE", BACKSPACE, null);
+        put("BANG_EQUAL", BANG_EQUAL, null);
+        put("BCON", BCON, null);
+        put("BLANK", null, BLANK_EQUAL);
+        put("BLANK_EQUAL", BLANK_EQUAL, null);
+        put("BLOCK", BLOCK, null);
+        put("BLOCKDATA", BLOCKDATA, null);
+        put("CALL", CALL, null);
+        put("CASE", CASE, null);
+        put("CHARACTER", CHARACTER, null);
+        put("CLOSE", CLOSE, null);
+        put("COLON", COLON, null);
+        put("COLON_COLON", COLON_COLON, null);
+        put("COMMA", COMMA, null);
+        put("COMMENT", COMMENT, null);
+        put("COMMON", COMMON, null);
+        put("COMPLEX", COMPLEX, null);
+        put("CONTAINS", CONTAINS, null);
+        put("CONTINUE", CONTINUE, null);
+        put("CYCLE", CYCLE, null);
+        put("DATA", DATA, null);
+        put("DEALLOCATE", DEALLOCATE, null);
+        put("DEFAULT", DEFAULT, null);
+        put("DELIM_EQUAL", DELIM_EQUAL, null);
+        put("DIMENSION", DIMENSION, null);
+        put("DIRECT", null, DIRECT_EQUAL);
+        put("DIRECT_EQUAL", DIRECT_EQUAL, null);
+        put("DO", DO, null);
+        put("DOLLAR", DOLLAR, null);
+        put("DOT", DOT, null);
+        put("DOUBLE", DOUBLE, null);
+        put("DOUBLEPRECISION", DOUBLEPRECISION, null);
+        put("ELSE", ELSE, null);
+        put("ELSEIF", ELSEIF, null);
+        put("ELSEWHERE", ELSEWHERE, null);
+        put("END", END, END_EQUAL);
+        put("ENDBLOCK", ENDBLOCK, null);
+        put("ENDBLOCKDATA", ENDBLOCKDATA, null);
+        put("ENDDO", ENDDO, null);
+        put("ENDFILE", ENDFILE, null);
+        put("ENDFUNCTION", ENDFUNCTION, null);
+        put("ENDIF", ENDIF, null);
+        put("ENDINTERFACE", ENDINTERFACE, null);
+        put("ENDMODULE", ENDMODULE, null);
+        put("ENDPROGRAM", ENDPROGRAM, null);
+        put("ENDSELECT", ENDSELECT, null);
+        put("ENDSUBROUTINE", ENDSUBROUTINE, null);
+        put("ENDTYPE", ENDTYPE, null);
+        put("ENDWHERE", ENDWHERE, null);
+        put("END_EQUAL", END_EQUAL, null);
+        put("ENTRY", ENTRY, null);
+        put("EOF", EOF, null);
+        put("EOR_EQUAL", EOR_EQUAL, null);
+        put("EPSILON", EPSILON, null);
+        put("EQUAL", EQUAL, null);
+        put("EQUAL_EQUAL", EQUAL_EQUAL, null);
+        put("EQUAL_GREATER", EQUAL_GREATER, null);
+        put("EQUIVALENCE", EQUIVALENCE, null);
+        put("ERR", null, ERR_EQUAL);
+        put("ERR_EQUAL", ERR_EQUAL, null);
+        put("EXIST", null, EXIST_EQUAL);
+        put("EXIST_EQUAL", EXIST_EQUAL, null);
+        put("EXIT", EXIT, null);
+        put("EXTERNAL", EXTERNAL, null);
+        put("FALSE", FALSE, null);
+        put("FCON", FCON, null);
+        put("FILE", FILE, FILE_EQUAL);
+        put("FILE_EQUAL", FILE_EQUAL, null);
+        put("FMT", null, FMT_EQUAL);
+        put("FMT_EQUAL", FMT_EQUAL, null);
+        put("FORM", null, FORM_EQUAL);
+        put("FORMAT", FORMAT, null);
+        put("FORMATTED", null, FORMATTED_EQUAL);
+        put("FORMATTED_EQUAL", FORMATTED_EQUAL, null);
+        put("FORM_EQUAL", FORM_EQUAL, null);
+        put("FUNCTION", FUNCTION, null);
+        put("GO", GO, null);
+        put("GOTO", GOTO, null);
+        put("GREATER", GREATER, null);
+        put("GREATER_EQUAL", GREATER_EQUAL, null);
+        put("HCON", HCON, null);
+        put("ICON", ICON, null);
+        put("ID", ID, null);
+        put("IF", IF, null);
+        put("IMPLICIT", IMPLICIT, null);
+        put("IN", IN, null);
+        put("INCLUDE", INCLUDE, null);
+        put("INOUT", INOUT, null);
+        put("INQUIRE", INQUIRE, null);
+        put("INTEGER", INTEGER, null);
+        put("INTENT", INTENT, null);
+        put("INTERFACE", INTERFACE, null);
+        put("INTRINSIC", INTRINSIC, null);
+        put("IOLENGTH_EQUAL", IOLENGTH_EQUAL, null);
+        put("IOSTAT", null, IOSTAT_EQUAL);
+        put("IOSTAT_EQUAL", IOSTAT_EQUAL, null);
+        put("KIND_EQUAL", KIND_EQUAL, null);
+        put("LEN_EQUAL", LEN_EQUAL, null);
+        put("LESS", LESS, null);
+        put("LESS_EQUAL", LESS_EQUAL, null);
+        put("LOGICAL", LOGICAL, null);
+        put("LPAREN", LPAREN, null);
+        put("LPAREN_SLASH", LPAREN_SLASH, null);
+        put("MINUS", MINUS, null);
+        put("MODULE", MODULE, null);
+        put("NAME", null, NAME_EQUAL);
+        put("NAMED", null, NAMED_EQUAL);
+        put("NAMED_EQUAL", NAMED_EQUAL, null);
+        put("NAMELIST", NAMELIST, null);
+        put("NAME_EQUAL", NAME_EQUAL, null);
+        put("NEWLINE", NEWLINE, null);
+        put("NEXTREC", null, NEXTREC_EQUAL);
+        put("NEXTREC_EQUAL", NEXTREC_EQUAL, null);
+        put("NML_EQUAL", NML_EQUAL, null);
+        put("NONE", NONE, null);
+        put("NOT", NOT, null);
+        put("NULLIFY", NULLIFY, null);
+        put("NUMBER", null, NUMBER_EQUAL);
+        put("NUMBER_EQUAL", NUMBER_EQUAL, null);
+        put("OCON", OCON, null);
+        put("ONLY", ONLY, null);
+        put("OPEN", OPEN, null);
+        put("OPENED", null, OPENED_EQUAL);
+        put("OPENED_EQUAL", OPENED_EQUAL, null);
+        put("OPERATOR", OPERATOR, null);
+        put("OPTIONAL", OPTIONAL, null);
+        put("OR", OR, null);
+        put("OUT", OUT, null);
+        put("PAD_EQUAL", PAD_EQUAL, null);
+        put("PARAMETER", PARAMETER, null);
+        put("PAUSE", PAUSE, null);
+        put("PCON", PCON, null);
+        put("PERCENT", PERCENT, null);
+        put("PLUS", PLUS, null);
+        put("POINTER", POINTER, null);
+        put("POSITION_EQUAL", POSITION_EQUAL, null);
+        put("PRECISION", PRECISION, null);
+        put("PRINT", PRINT, null);
+        put("PRIVATE", PRIVATE, null);
+        put("PROCEDURE", PROCEDURE, null);
+        put("PROGRAM", PROGRAM, null);
+        put("PUBLIC", PUBLIC, null);
+        put("RDCON", RDCON, null);
+        put("READ", READ, null);
+        put("READWRITE_EQUAL", READWRITE_EQUAL, null);
+        put("READ_EQUAL", READ_EQUAL, null);
+        put("REAL", REAL, null);
+        put("REC", null, REC_EQUAL);
+        put("RECL", null, RECL_EQUAL);
+        put("RECL_EQUAL", RECL_EQUAL, null);
+        put("RECURSIVE", RECURSIVE, null);
+        put("REC_EQUAL", REC_EQUAL, null);
+        put("RETURN", RETURN, null);
+        put("REWIND", REWIND, null);
+        put("RPAREN", RPAREN, null);
+        put("SAVE", SAVE, null);
+        put("SCON", SCON, null);
+        put("SELECT", SELECT, null);
+        put("SELECTCASE", SELECTCASE, null);
+        put("SEQUENCE", SEQUENCE, null);
+        put("SEQUENTIAL", null, SEQUENTIAL_EQUAL);
+        put("SEQUENTIAL_EQUAL", SEQUENTIAL_EQUAL, null);
+        put("SIGN_EQUAL", SIGN_EQUAL, null);
+        put("SIZE_EQUAL", SIZE_EQUAL, null);
+        put("SLASH", SLASH, null);
+        put("SLASH_EQUAL", SLASH_EQUAL, null);
+        put("SLASH_RPAREN", SLASH_RPAREN, null);
+        put("SP", SP, null);
+        put("STAR", STAR, null);
+        put("STAR_STAR", STAR_STAR, null);
+        put("STATUS", null, STATUS_EQUAL);
+        put("STATUS_EQUAL", STATUS_EQUAL, null);
+        put("STAT_EQUAL", STAT_EQUAL, null);
+        put("STOP", STOP, null);
+        put("SUBROUTINE", SUBROUTINE, null);
+        put("TARGET", TARGET, null);
+        put("THEN", THEN, null);
+        put("TO", TO, null);
+        put("TRUE", TRUE, null);
+        put("TYPE", TYPE, null);
+        put("UNDERSCORE", UNDERSCORE, null);
+        put("UNFORMATTED", null, UNFORMATTED_EQUAL);
+        put("UNFORMATTED_EQUAL", UNFORMATTED_EQUAL, null);
+        put("UNIT", null, UNIT_EQUAL);
+        put("UNIT_EQUAL", UNIT_EQUAL, null);
+        put("USE", USE, null);
+        put("WHERE", WHERE, null);
+        put("WHILE", WHILE, null);
+        put("WRITE", WRITE, null);
+        put("WRITE_EQUAL", WRITE_EQUAL, null);
+        put("XCON", XCON, null);
+        put("ZCON", ZCON, null);
+    }
+
+    private KeywordTable() {
+    }
+
+    /**
+     * <p><i>keyword</i> returns the token type of a keyword or dotted operator.</p>
+     * @param source CharSequence
+     * @param start int offset of the word
+     * @param end int offset after the word
+     * @return TokenType, null if the text is not a keyword
+     */
+    public static TokenType keyword(CharSequence source, int start, int end) {
+        int slot = find(source, start, end);
+
+        return slot < 0 ? null : KEYWORDS[slot];
+    }
+
+    /**
+     * <p><i>specifier</i> returns the token type of an I/O specifier and the '=' following it.</p>
+     * @param source CharSequence
+     * @param start int offset of the word, without the '='
+     * @param end int offset after the word
+     * @return TokenType, null if the text is not a specifier
+     */
+    public static TokenType specifier(CharSequence source, int start, int end) {
+        int slot = find(source, start, end);
+
+        return slot < 0 ? null : SPECIFIERS[slot];
+    }
+
+    private static int find(CharSequence source, int start, int end) {
+        int slot = hash(source, start, end);
+        String word = WORDS[slot];
+
+        if (word == null || word.length() != end - start) {
+            return -1;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            if (upperCase(source.charAt(start + i)) != word.charAt(i)) {
+                return -1;
+            }
+        }
+
+        return slot;
+    }
+
+    private static void put(String word, TokenType keyword, TokenType specifier) {
+        int slot = hash(word, 0, word.length());
+
+        if (WORDS[slot] != null) {
+            throw new IllegalStateException(WORDS[slot] + " and " + word + " share a slot");
+        }
+
+        WORDS[slot] = word;
+        KEYWORDS[slot] = keyword;
+        SPECIFIERS[slot] = specifier;
+    }
+
+    private static int hash(CharSequence source, int start, int end) {
+        int hash = 0;
+
+        for (int i = start; i < end; i++) {
+            hash = hash * MULTIPLIER + upperCase(source.charAt(i));
+        }
+
+        return (hash ^ (hash >>> SHIFT)) & (SIZE - 1);
+    }
+
+    private static char upperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+}
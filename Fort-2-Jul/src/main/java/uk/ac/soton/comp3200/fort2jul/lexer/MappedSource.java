@@ -0,0 +1,153 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p><i>MappedSource</i> reads the characters of a source file straight from a memory mapped view of its bytes, one
+ * byte to a character, so the <i>Scanner</i> works without the bytes or a decoded copy of them on the heap. This holds
+ * for Latin-1, and for US-ASCII and UTF-8 when the file is plain ASCII, as Fortran sources almost always are. Any
+ * other file is decoded into a String as before. Either way the characters are those of
+ * <code>new String(bytes, charset)</code>.</p>
+ */
+public final class MappedSource implements CharSequence {
+
+    /**
+     * <p>Character replacing a byte that is not ASCII when decoding US-ASCII.</p>
+     */
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * <p>ByteBuffer bytes holds one byte for each character.</p>
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * <p>boolean ascii is whether bytes above 127 read as the replacement character rather than as Latin-1.</p>
+     */
+    private final boolean ascii;
+
+    private MappedSource(ByteBuffer bytes, boolean ascii) {
+        this.bytes = bytes;
+        this.ascii = ascii;
+    }
+
+    /**
+     * <p><i>map</i> maps a file into memory, read only. The mapping outlives the file being closed.</p>
+     * @param path Path
+     * @return ByteBuffer
+     * @throws IOException
+     */
+    public static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to scan, " + size + " bytes");
+            }
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * <p><i>read</i> maps a file into memory and returns its characters.</p>
+     * @param path Path
+     * @param charset Charset of file
+     * @return CharSequence
+     * @throws IOException
+     */
+    public static CharSequence read(Path path, Charset charset) throws IOException {
+        return decode(map(path), charset);
+    }
+
+    /**
+     * <p><i>decode</i> returns the characters of some bytes, a view of the bytes where each byte is one character and a
+     * decoded String otherwise.</p>
+     * @param bytes ByteBuffer, which must not change while the characters are read
+     * @param charset Charset of bytes
+     * @return CharSequence
+     */
+    public static CharSequence decode(ByteBuffer bytes, Charset charset) {
+        ByteBuffer view = bytes.slice();
+
+        if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            return new MappedSource(view, false);
+        }
+
+        if (charset.equals(StandardCharsets.US_ASCII)) {
+            return new MappedSource(view, true);
+        }
+
+        if (charset.equals(StandardCharsets.UTF_8) && isAscii(view)) {
+            return new MappedSource(view, false);
+        }
+
+        byte[] array = new byte[view.remaining()];
+        view.get(0, array);
+
+        return new String(array, charset);
+    }
+
+    /**
+     * <p><i>isAscii</i> checks whether every byte is below 128.</p>
+     * @param bytes ByteBuffer
+     * @return boolean
+     */
+    private static boolean isAscii(ByteBuffer bytes) {
+        int limit = bytes.limit();
+
+        for (int i = 0; i < limit; i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        byte b = bytes.get(index);
+
+        if (b < 0 && ascii) {
+            return REPLACEMENT;
+        }
+
+        return (char) (b & 0xFF);
+    }
+
+    /**
+     * <p>Copies the characters out as a String rather than returning another view, as the <i>Scanner</i> only takes
+     * subsequences to keep them as lexemes.</p>
+     * @param start int
+     * @param end int
+     * @return String
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+
+        byte[] array = new byte[end - start];
+        bytes.get(start, array);
+
+        return new String(array, ascii ? StandardCharsets.US_ASCII : StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return (String) subSequence(0, length());
+    }
+}
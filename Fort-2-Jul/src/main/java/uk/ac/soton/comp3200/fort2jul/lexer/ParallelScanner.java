@@ -0,0 +1,222 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
+
+/**
+ * <p><i>ParallelScanner</i> class scans a large source text in chunks of whole lines at once on the common fork-join
+ * pool, then joins the tokens of the chunks into one buffer with the offsets and rows of the whole source text.</p>
+ *
+ * <p>As for the segments of <i>IncrementalScanner</i>, the start of a line that follows a NEWLINE token is a point
+ * where the only state the <i>Scanner</i> carries is the name in the PROGRAM statement. Each chunk is scanned as if no
+ * program had been named. A chunk holding an eight digit integer before any PROGRAM statement of its own, which the
+ * <i>Scanner</i> drops if it matches the name, is scanned again once the name is known. Should a chunk not end with
+ * the NEWLINE token of its last line, because a string or Hollerith constant runs on past it, or fail to scan, the
+ * rest of the source text is scanned from that chunk on in one go. The tokens are always those of
+ * <i>Scanner.scanTokenBuffer</i>.</p>
+ */
+public final class ParallelScanner {
+
+    /**
+     * <p>Logger logger is responsible for logging the actions performed by the ParallelScanner class.</p>
+     */
+    private static final Logger logger = Logger.getLogger(ParallelScanner.class);
+
+    /**
+     * <p>int THRESHOLD is the length of source text from which <i>scan</i> scans in parallel. Below it the chunks
+     * would take less time to scan than to hand out and join.</p>
+     */
+    static final int THRESHOLD = 512 * 1024;
+
+    /**
+     * <p>int MIN_CHUNK is the least length of a chunk.</p>
+     */
+    private static final int MIN_CHUNK = 64 * 1024;
+
+    /**
+     * <p><i>Chunk</i> record holds the tokens of a run of lines scanned on its own.</p>
+     * @param from int offset of the chunk in the source text
+     * @param to int offset after the chunk
+     * @param tokens TokenBuffer ending in an EOF token, at source text offsets, null if the chunk failed to scan
+     * @param endsAtLine boolean whether the last token before EOF is the newline ending the chunk
+     * @param needsName boolean whether an eight digit integer comes before any PROGRAM statement in the chunk
+     * @param programName String given in the last PROGRAM statement of the chunk, null if there is none
+     */
+    private record Chunk(int from, int to, TokenBuffer tokens, boolean endsAtLine, boolean needsName,
+                         String programName) {
+    }
+
+    private ParallelScanner() {
+    }
+
+    /**
+     * <p><i>scan</i> scans a source text, in parallel if it is long enough and there is more than one processor to
+     * scan on.</p>
+     * @param source CharSequence
+     * @return TokenBuffer
+     */
+    public static TokenBuffer scan(CharSequence source) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+        if (source.length() < THRESHOLD || parallelism < 2) {
+            return new Scanner(source).scanTokenBuffer();
+        }
+
+        return scan(source, parallelism * 2);
+    }
+
+    /**
+     * <p><i>scan</i> scans a source text in parallel, split into at most a number of chunks.</p>
+     * @param source CharSequence
+     * @param chunks int
+     * @return TokenBuffer
+     */
+    public static TokenBuffer scan(CharSequence source, int chunks) {
+        return scan(source, chunks, MIN_CHUNK);
+    }
+
+    /**
+     * <p><i>scan</i> scans a source text in parallel, split into at most a number of chunks of at least a length, which
+     * tests set far smaller than <i>MIN_CHUNK</i> to split short sources into many chunks.</p>
+     * @param source CharSequence
+     * @param chunks int
+     * @param minChunk int least length of a chunk
+     * @return TokenBuffer
+     */
+    static TokenBuffer scan(CharSequence source, int chunks, int minChunk) {
+        int[] bounds = split(source, chunks, minChunk);
+
+        List<Callable<Chunk>> tasks = new ArrayList<>();
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            tasks.add(() -> {
+                try {
+                    return scanChunk(source, from, to, "");
+                } catch (RuntimeException e) {
+                    return new Chunk(from, to, null, false, false, null);
+                }
+            });
+        }
+
+        List<Future<Chunk>> scanned = ForkJoinPool.commonPool().invokeAll(tasks);
+
+        logger.info("Scanned " + tasks.size() + " chunks in parallel");
+
+        TokenBuffer tokens = new TokenBuffer(source);
+        String programName = "";
+        int rowShift = 0;
+
+        for (Future<Chunk> future : scanned) {
+            Chunk chunk = get(future);
+
+            if (chunk.tokens() != null && chunk.needsName() && !programName.isEmpty()) {
+                chunk = scanChunk(source, chunk.from(), chunk.to(), programName);
+            }
+
+            if (chunk.tokens() == null || (chunk.to() < source.length() && !chunk.endsAtLine())) {
+                logger.info("Re-scanning from offset " + chunk.from() + " to the end of the source text");
+
+                // Throws as scanning the whole source text would if the chunk failed to scan
+                chunk = scanChunk(source, chunk.from(), source.length(), programName);
+            }
+
+            TokenBuffer chunkTokens = chunk.tokens();
+            int last = chunkTokens.size() - 1;
+
+            tokens.append(chunkTokens, last, rowShift);
+
+            if (chunk.to() == source.length()) {
+                tokens.add(EOF, source.length(), 0, null, chunkTokens.row(last) + rowShift, chunkTokens.column(last));
+                break;
+            }
+
+            rowShift += chunkTokens.row(last) - 1;
+            if (chunk.programName() != null) {
+                programName = chunk.programName();
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * <p><i>split</i> divides a source text into runs of whole lines of about the same length.</p>
+     * @param source CharSequence
+     * @param chunks int greatest number of runs
+     * @param minChunk int least length of a run
+     * @return int[] offset of each run, followed by the length of the source text
+     */
+    private static int[] split(CharSequence source, int chunks, int minChunk) {
+        int length = source.length();
+        int size = Math.max(minChunk, length / Math.max(1, chunks) + 1);
+
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+
+        int at = size;
+        while (at < length) {
+            while (at < length && source.charAt(at - 1) != '\n') at++;
+
+            if (at < length) {
+                bounds.add(at);
+            }
+            at += size;
+        }
+        bounds.add(length);
+
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * <p><i>scanChunk</i> scans a run of lines on its own, in place in the source text.</p>
+     * @param source CharSequence
+     * @param from int
+     * @param to int
+     * @param programName String in effect before the first line
+     * @return Chunk
+     */
+    private static Chunk scanChunk(CharSequence source, int from, int to, String programName) {
+        TokenBuffer tokens = new Scanner(source, from, to, programName).scanTokenBuffer();
+
+        int last = tokens.size() - 1;
+        boolean endsAtLine = last > 0 && tokens.type(last - 1) == NEWLINE && tokens.start(last - 1) + 1 == to;
+
+        boolean needsName = false;
+        boolean named = false;
+        String lastName = null;
+
+        for (int i = 0; i < last; i++) {
+            TokenType type = tokens.type(i);
+
+            if (type == ID && i > 0 && tokens.type(i - 1) == PROGRAM) {
+                named = true;
+                lastName = tokens.lexeme(i);
+            } else if (type == ICON && !named && tokens.length(i) == 8) {
+                needsName = true;
+            }
+        }
+
+        return new Chunk(from, to, tokens, endsAtLine, needsName, lastName);
+    }
+
+    private static Chunk get(Future<Chunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning", e);
+        } catch (ExecutionException e) {
+            // Chunks that fail to scan are returned without tokens, so this is an Error such as running out of memory
+            throw new IllegalStateException("Could not scan chunk", e.getCause());
+        }
+    }
+}
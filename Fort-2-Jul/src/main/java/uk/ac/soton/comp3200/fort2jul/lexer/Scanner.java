@@ -1,12 +1,9 @@
 package uk.ac.soton.comp3200.fort2jul.lexer;
 
 import org.apache.log4j.Logger;
-import uk.ac.soton.comp3200.fort2jul.Fort2Jul;
+import uk.ac.soton.comp3200.fort2jul.util.Trace;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
 
@@ -26,14 +23,19 @@ public class Scanner {
     private static final Logger logger = Logger.getLogger(Scanner.class);
 
     /**
-     * <p>String source is the source text to be scanned.</p>
+     * <p>CharSequence source is the source text to be scanned, a String or a view of a mapped file.</p>
      */
-    private final String source;
+    private final CharSequence source;
 
     /**
-     * <p>ArrayList<Token> tokens is the list of tokens generated from the source text.</p>
+     * <p>TokenBuffer tokens is the token stream generated from the source text.</p>
      */
-    private final ArrayList<Token> tokens = new ArrayList<>();
+    private final TokenBuffer tokens;
+
+    /**
+     * <p>int end is the offset after the last character to be scanned.</p>
+     */
+    private final int end;
 
     /**
      * <p>int start is the starting position of the token.</p>
@@ -56,44 +58,76 @@ public class Scanner {
     private int column = 1;
 
     /**
-     * <p>Map<String, TokenType> reservedKeywords is a map of reserved keywords in the Fortran language.</p>
+     * <p>String programName is the name given in the PROGRAM statement of the source text, if any.</p>
      */
-    private static final Map<String, TokenType> terminalSymbols;
+    private String programName = "";
 
     /**
-     * <p>Static block to populate the reservedKeywords map.</p>
+     * <p>boolean scanned is whether the EOF token has been added by <i>scanNext</i>.</p>
      */
-    static {
-        terminalSymbols = new HashMap<>();
-        for (TokenType type : TokenType.values()) {
-            terminalSymbols.put(type.toString(), type);
-        }
+    private boolean scanned = false;
 
-        logger.info("Successfully populated reservedKeywords map");
+    /**
+     * <p><i>Scanner</i> constructor.</p>
+     * @param source CharSequence
+     */
+    public Scanner(CharSequence source) {
+        this(source, new TokenBuffer(source));
     }
 
-    private static final List<String> reservedKeywords;
+    /**
+     * <p><i>Scanner</i> constructor adding the tokens to a given buffer.</p>
+     * @param source CharSequence
+     * @param tokens TokenBuffer
+     */
+    Scanner(CharSequence source, TokenBuffer tokens) {
+        this.source = source;
+        this.tokens = tokens;
+        this.end = source.length();
+    }
 
-    static {
-        reservedKeywords = new ArrayList<>();
-        for (ReservedKeywords keyword : ReservedKeywords.values()) {
-            reservedKeywords.add(keyword.toString());
-        }
+    /**
+     * <p><i>Scanner</i> constructor for text that continues a source, given the name in any PROGRAM statement before
+     * it.</p>
+     * @param source CharSequence
+     * @param programName String
+     */
+    Scanner(CharSequence source, String programName) {
+        this(source);
+        this.programName = programName;
     }
 
     /**
-     * <p><i>Scanner</i> constructor.</p>
-     * @param source String
+     * <p><i>Scanner</i> constructor for a run of whole lines within a source text, given the name in any PROGRAM
+     * statement before it. The text is scanned in place, and the tokens keep their offsets in the whole source text.</p>
+     * @param source CharSequence
+     * @param from int offset of the first line
+     * @param to int offset after the last line
+     * @param programName String
      */
-    public Scanner(String source) {
+    Scanner(CharSequence source, int from, int to, String programName) {
         this.source = source;
+        this.tokens = new TokenBuffer(source, (to - from) / 4 + 16);
+        this.end = to;
+        this.start = from;
+        this.current = from;
+        this.programName = programName;
     }
 
     /**
-     * <p><i>scanTokens</i> scans the tokens based on the source text. Adds EOF token at the end of the source text.</p>
-     * @return ArrayList<Token>
+     * <p><i>scanTokens</i> scans the tokens based on the source text, returned as a list of <i>Token</i> objects.</p>
+     * @return List<Token>
      */
-    public ArrayList<Token> scanTokens() {
+    public List<Token> scanTokens() {
+        return scanTokenBuffer().asList();
+    }
+
+    /**
+     * <p><i>scanTokenBuffer</i> scans the tokens based on the source text. Adds EOF token at the end of the source
+     * text.</p>
+     * @return TokenBuffer
+     */
+    public TokenBuffer scanTokenBuffer() {
         //logger.info("Scanning tokens...");
 
         while (!isAtEnd()) {
@@ -103,20 +137,47 @@ public class Scanner {
 
         logger.info("Successfully scanned tokens");
 
-        tokens.add(new Token(EOF, "", null, row, column));
+        tokens.add(EOF, end, 0, null, row, column);
 
         logger.info("Added EOF token");
 
         return tokens;
     }
 
+    /**
+     * <p><i>scanNext</i> scans from the current position on until it adds a token, or adds the EOF token at the end of
+     * the source text.</p>
+     * @return boolean, false if the EOF token had already been added
+     */
+    boolean scanNext() {
+        if (scanned) {
+            return false;
+        }
+
+        int size = tokens.size();
+
+        while (!isAtEnd() && tokens.size() == size) {
+            start = current;
+            scanToken();
+        }
+
+        if (isAtEnd() && tokens.size() == size) {
+            tokens.add(EOF, end, 0, null, row, column);
+            scanned = true;
+        }
+
+        return true;
+    }
+
     /**
      * <p><i>scanToken</i> scans each character, matches against the RegEx and adds the token.</p>
      */
     private void scanToken() {
         char c = consume();
 
-        logger.info("Scanning character " + c + " at position " + current + " in row " + row + " and column " + column);
+        if (Trace.LEXER.isEnabled()) {
+            Trace.LEXER.log("Scanning character " + c + " at position " + current + " in row " + row + " and column " + column);
+        }
 
         switch (c) {
             case '+' -> addToken(PLUS);
@@ -271,7 +332,7 @@ public class Scanner {
                     if (peek() == 'H') {
                         hcon();
                         // Check that after dot is not an equivalence op before parsing as real
-                    } else if ((peek() == '.' || peek() == 'E' || peek() == 'e' || peek() == 'd' || peek() == 'D' || peek() == 'P' || peek() == 'p') && (current + 1 < source.length()) &&( (source.charAt(current+1)) != 'n') && ( (source.charAt(current+1)) !='e') && ( (source.charAt(current+1)) != 'l') && ( (source.charAt(current+1)) != 'g') && ( (source.charAt(current+1)) != 'N') && ( (source.charAt(current+1)) !='E') && ( (source.charAt(current+1)) != 'L') && ( (source.charAt(current+1)) !='G') && ( (source.charAt(current+1)) !='A') && ( (source.charAt(current+1)) !='a') && ( (source.charAt(current+1)) !='O') && ( (source.charAt(current+1)) !='o') && ( (source.charAt(current+1)) !='F') && ( (source.charAt(current+1)) !='f') && ( (source.charAt(current+1)) !='T') && ( (source.charAt(current+1)) !='t')) {
+                    } else if ((peek() == '.' || peek() == 'E' || peek() == 'e' || peek() == 'd' || peek() == 'D' || peek() == 'P' || peek() == 'p') && (current + 1 < end) &&( (source.charAt(current+1)) != 'n') && ( (source.charAt(current+1)) !='e') && ( (source.charAt(current+1)) != 'l') && ( (source.charAt(current+1)) != 'g') && ( (source.charAt(current+1)) != 'N') && ( (source.charAt(current+1)) !='E') && ( (source.charAt(current+1)) != 'L') && ( (source.charAt(current+1)) !='G') && ( (source.charAt(current+1)) !='A') && ( (source.charAt(current+1)) !='a') && ( (source.charAt(current+1)) !='O') && ( (source.charAt(current+1)) !='o') && ( (source.charAt(current+1)) !='F') && ( (source.charAt(current+1)) !='f') && ( (source.charAt(current+1)) !='T') && ( (source.charAt(current+1)) !='t')) {
                         rdcon();
                     } else if(peek() == 'x' || peek() == 'X') {
                         xcon();
@@ -290,7 +351,7 @@ public class Scanner {
      */
     private void hcon() {
         consume();
-        int length = Integer.parseInt(source.substring(start, current - 1)); // Get the length of the Hollerith constant
+        int length = Integer.parseInt(source.subSequence(start, current - 1).toString()); // Get the length of the Hollerith constant
         for (int i = 0; i < length; i++) {
             if (!isAtEnd()) {
                 consume();
@@ -300,7 +361,7 @@ public class Scanner {
             }
         }
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         addToken(HCON, text);
     }
@@ -314,7 +375,7 @@ public class Scanner {
         while (true) {
             while ((peek() != c && !isAtEnd())) consume();
             // Check double quotes are part of the string
-            if ((peek() == c) &&(current + 1 < source.length()) && source.charAt(current+1) == c) {
+            if ((peek() == c) &&(current + 1 < end) && source.charAt(current+1) == c) {
                 consume();
                 consume();
                 continue;
@@ -326,7 +387,7 @@ public class Scanner {
 
         }
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         // delete single quotes and replace with double quotes if not a char
         if (text.charAt(0) == '\'' && text.charAt(text.length()-1) == '\'') {
@@ -349,7 +410,7 @@ public class Scanner {
     private void xcon() {
         consume();
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         addToken(XCON, text);
     }
@@ -363,25 +424,14 @@ public class Scanner {
         if (peek() == '.') {
             consume();
         }
-        String text = source.substring(start, current);
-        String lowerCase = text.toLowerCase();
-
-        if (lowerCase.equals(".not.")) {
-            addToken(NOT);
-        } else if (lowerCase.equals(".and.")) {
-            addToken(AND);
-        } else if (lowerCase.equals(".or.")) {
-            addToken(OR);
-        } else if (lowerCase.equals(".eqv.")) {
-            addToken(EQUAL_EQUAL);
-        } else if (lowerCase.equals(".neqv.")) {
-            addToken(BANG_EQUAL);
-        } else if (lowerCase.equals(".false.")) {
-            addToken(FALSE);
-        } else if (lowerCase.equals(".true.")) {
-            addToken(TRUE);
-        }
 
+        TokenType type = KeywordTable.keyword(source, start, current);
+
+        // Words after a dot starting with e, n, l or g are matched in scanToken, so of the operators only .and., .or.,
+        // .true. and .false. are found here
+        if (type != null) {
+            addToken(type);
+        }
     }
 
     /**
@@ -390,147 +440,22 @@ public class Scanner {
     private void identifier() {
         while (isAlphaNumeric(peek())) consume();
 
-        String text = source.substring(start, current);
-        String upperCaseText = text.toUpperCase();
-        if (upperCaseText.equalsIgnoreCase("UNIT")) {
-            if (peek() == '=') {
-                consume();
-                addToken(UNIT_EQUAL);
-
- return;           }
-        } else if (upperCaseText.equalsIgnoreCase("FILE")) {
-            if (peek() == '=') {
-                consume();
-                addToken(FILE_EQUAL);
-
- return;           }
-        } else if (upperCaseText.equalsIgnoreCase("ERR")) {
-            if (peek() == '=') {
-                consume();
-                addToken(ERR_EQUAL);
-
-  return;          }
-        } else if (upperCaseText.equalsIgnoreCase("IOSTAT")) {
-            if (peek() == '=') {
-                consume();
-                addToken(IOSTAT_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("EXIST")) {
-            if (peek() == '=') {
-                consume();
-                addToken(EXIST_EQUAL);
-
-return;            }
-        } else if (upperCaseText.equalsIgnoreCase("OPENED")) {
-            if (peek() == '=') {
-                consume();
-                addToken(OPENED_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("NUMBER")) {
-            if (peek() == '=') {
-                consume();
-                addToken(NUMBER_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("NAMED")) {
-            if (peek() == '=') {
-                consume();
-                addToken(NAMED_EQUAL);
-
-return;            }
-        } else if (upperCaseText.equalsIgnoreCase("NAME")) {
-            if (peek() == '=') {
-                consume();
-                addToken(NAME_EQUAL);
-
- return;           }
-        } else if (upperCaseText.equalsIgnoreCase("ACCESS")) {
-            if (peek() == '=') {
-                consume();
-                addToken(ACCESS_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("SEQUENTIAL")) {
-            if (peek() == '=') {
-                consume();
-                addToken(SEQUENTIAL_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("DIRECT")) {
-            if (peek() == '=') {
-                consume();
-                addToken(DIRECT_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("FORM")) {
-            if (peek() == '=') {
-                consume();
-                addToken(FORM_EQUAL);
-
- return;           }
-        } else if (upperCaseText.equalsIgnoreCase("FORMATTED")) {
-            if (peek() == '=') {
-                consume();
-                addToken(FORMATTED_EQUAL);
-                        return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("UNFORMATTED")) {
-            if (peek() == '=') {
-                consume();
-                addToken(UNFORMATTED_EQUAL);
-                        return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("RECL")) {
-            if (peek() == '=') {
-                consume();
-                addToken(RECL_EQUAL);
-
- return;           }
-        } else if (upperCaseText.equalsIgnoreCase("NEXTREC")) {
-            if (peek() == '=') {
-                consume();
-                addToken(NEXTREC_EQUAL);
-                return;
-            }
-        } else if (upperCaseText.equalsIgnoreCase("BLANK")) {
-            if (peek() == '=') {
-                consume();
-                addToken(BLANK_EQUAL);
-
-return;            }
-        } else if (upperCaseText.equalsIgnoreCase("FMT")) {
-            if (peek() == '=') {
-                consume();
-                addToken(FMT_EQUAL);
-
-  return;          }
-        } else if (upperCaseText.equalsIgnoreCase("REC")) {
-            if (peek() == '=') {
-                consume();
-                addToken(REC_EQUAL);
+        if (peek() == '=') {
+            TokenType specifier = KeywordTable.specifier(source, start, current);
 
-  return;          }
-        } else if (upperCaseText.equalsIgnoreCase("END")) {
-            if (peek() == '=') {
+            if (specifier != null) {
                 consume();
-                addToken(END_EQUAL);
-
-  return;          }
-        } else if (upperCaseText.equalsIgnoreCase("STATUS")) {
-            if (peek() == '=') {
-                consume();
-                addToken(STATUS_EQUAL);
+                addToken(specifier);
                 return;
             }
         }
-            TokenType type = terminalSymbols.get(text.toUpperCase());
 
-            if (type == null) type = ID;
+        TokenType type = KeywordTable.keyword(source, start, current);
+
+        if (type == null) type = ID;
 
-            if ((type == ID) && ((tokens.get(tokens.size() - 1).type.equals(PROGRAM)))) {
-                Fort2Jul.programName = text;
+        if ((type == ID) && (tokens.lastType() == PROGRAM)) {
+            programName = source.subSequence(start, current).toString();
         }
         addToken(type);
     }
@@ -541,10 +466,10 @@ return;            }
     private void integer() {
         while (isNumeric(peek())) consume();
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         // This is to parse for the test suite only
-        if ((text.length() == 8) && (Fort2Jul.programName.contains(text.substring(5, 7)))){
+        if ((text.length() == 8) && (programName.contains(text.substring(5, 7)))){
             return;
         }
 
@@ -565,7 +490,7 @@ return;            }
             if (peek() == '_') {
                 consume(); consume(); consume();
 
-                String text = source.substring(start, current).replace("_SP", "");
+                String text = source.subSequence(start, current).toString().replace("_SP", "");
                 float value = Float.parseFloat(text);
 
                 addToken(SP, value);
@@ -577,7 +502,7 @@ return;            }
 
                 while (isNumeric(peek())) consume();
 
-                String text = source.substring(start, current).replace("P", "");
+                String text = source.subSequence(start, current).toString().replace("P", "");
                 double value = Double.parseDouble(text);
 
                 if (peek() == 'E') {
@@ -594,7 +519,7 @@ return;            }
             }
         }
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
         double value = Double.parseDouble(text);
 
         addToken(RDCON, value);
@@ -607,7 +532,7 @@ return;            }
         // Consume characters while they are 0 or 1
         while (peek() == '0' || peek() == '1') consume();
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         addToken(BCON, text);
     }
@@ -619,7 +544,7 @@ return;            }
         // Consume characters while they are between 0 and 7
         while (peek() >= '0' && peek() <= '7') consume();
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         addToken(OCON, text); // Julia accepts on string representations of octal constants
     }
@@ -640,7 +565,7 @@ return;            }
             while (isNumeric(peek())) consume();
         }
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         addToken(FCON, text);
     }
@@ -684,7 +609,7 @@ return;            }
             consume(); // Consume the 'e', 'E', 'd', or 'D'
         }
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
         String modifiedText = text.replace(String.valueOf('d'), "").replace(String.valueOf('D'), "");
 
         if (isExponent || isDecimal) {
@@ -708,7 +633,7 @@ return;            }
         // Consume characters while they are a valid hexadecimal digit
         while ((peek() >= '0' && peek() <= '9') || (peek() >= 'A' && peek() <= 'F') || (peek() >= 'a' && peek() <= 'f')) consume();
 
-        String text = source.substring(start, current); // Accepted as text in Julia
+        String text = source.subSequence(start, current).toString(); // Accepted as text in Julia
 
         addToken(ZCON, text);
     }
@@ -720,7 +645,7 @@ return;            }
     private void comment() {
         while (peek() != '\n' && !isAtEnd()) consume();
 
-        String text = source.substring(start, current);
+        String text = source.subSequence(start, current).toString();
 
         addToken(COMMENT, text);
     }
@@ -739,16 +664,12 @@ return;            }
      * @param literal Object
      */
     private void addToken(TokenType type, Object literal) {
-        Token token;
-        String text = source.substring(start, current);
-
-        if (text.equals("\n")) {
-            token = new Token(type, "\\n", literal, row, column);
-        } else {
-            token = new Token(type, text, literal, row, column);
+        if (Trace.LEXER.isEnabled()) {
+            Trace.LEXER.log("Token added with type: " + type + ", lexeme: " + source.subSequence(start, current).toString()
+                    + ", literal: " + literal + ", row number: " + row + ", column number: " + column);
         }
 
-        tokens.add(token);
+        tokens.add(type, start, current - start, literal, row, column);
     }
 
     /**
@@ -769,7 +690,7 @@ return;            }
      * @return boolean
      */
     private boolean isAtEnd() {
-        return current >= source.length();
+        return current >= end;
     }
 
     /**
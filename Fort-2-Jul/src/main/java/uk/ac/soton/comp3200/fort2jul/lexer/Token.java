@@ -1,6 +1,6 @@
 package uk.ac.soton.comp3200.fort2jul.lexer;
 
-import org.apache.log4j.Logger;
+import uk.ac.soton.comp3200.fort2jul.util.Trace;
 
 /**
  * Token creates Token objects containing their type, lexeme, literal, row number
@@ -8,11 +8,6 @@ import org.apache.log4j.Logger;
  */
 public class Token {
 
-    /**
-     * <p>Logger logger is responsible for logging the actions performed by the <i>Token</i> class.</p>
-     */
-    private static final Logger logger = Logger.getLogger(Scanner.class);
-
     /**
      * <p>TokenType type is the type of the token.</p>
      */
@@ -43,8 +38,10 @@ public class Token {
      * @param column_no int
      */
     public Token(TokenType type, String lexeme, Object literal, int row_no, int column_no) {
-        logger.info("Token object created with type: " + type + ", lexeme: " + lexeme + ", literal: "
-                + literal + ", row number: " + row_no + ", column number: " + column_no);
+        if (Trace.LEXER.isEnabled()) {
+            Trace.LEXER.log("Token object created with type: " + type + ", lexeme: " + lexeme + ", literal: "
+                    + literal + ", row number: " + row_no + ", column number: " + column_no);
+        }
 
         this.type = type;
         this.lexeme = lexeme;
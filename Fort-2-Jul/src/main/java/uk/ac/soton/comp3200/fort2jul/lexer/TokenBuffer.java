@@ -0,0 +1,382 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p><i>TokenBuffer</i> class stores a token stream in columns rather than as <i>Token</i> objects. Each token is a
+ * slot in parallel arrays of type ordinal, start offset, length, row and column, and its lexeme is sliced from the
+ * source text only when asked for. Literals are rare, so they are kept apart, sorted by token index.</p>
+ *
+ * <p>The parser reads the buffer through a <i>TokenStream</i>. Code that needs <i>Token</i> objects can use
+ * <i>asList</i>, which creates them on demand.</p>
+ *
+ * <p>A buffer filled as a <i>TokenStream</i> is read may discard the tokens before a given one. Tokens keep their
+ * index, so the buffer then holds the tokens from <i>discarded</i> up to <i>size</i>.</p>
+ */
+public final class TokenBuffer {
+
+    /**
+     * <p>TokenType[] TYPES maps ordinals back to token types.</p>
+     */
+    private static final TokenType[] TYPES = TokenType.values();
+
+    /**
+     * <p>CharSequence source is the text the tokens are sliced from.</p>
+     */
+    private final CharSequence source;
+
+    private short[] types;
+    private int[] starts;
+    private int[] lengths;
+    private int[] rows;
+    private int[] columns;
+
+    /**
+     * <p>int size is the number of tokens held in the arrays.</p>
+     */
+    private int size = 0;
+
+    /**
+     * <p>int discarded is the number of tokens discarded from the front of the buffer, the index of the first token
+     * held.</p>
+     */
+    private int discarded = 0;
+
+    /**
+     * <p>int[] literalTokens holds the indices of tokens that have a literal, in ascending order.</p>
+     */
+    private int[] literalTokens = new int[16];
+
+    /**
+     * <p>Object[] literalValues holds the literal of each token in <i>literalTokens</i>.</p>
+     */
+    private Object[] literalValues = new Object[16];
+
+    private int literals = 0;
+
+    /**
+     * <p><i>TokenBuffer</i> constructor, sized for the source text.</p>
+     * @param source CharSequence
+     */
+    public TokenBuffer(CharSequence source) {
+        // Fortran averages a little over four characters per token
+        this(source, source.length() / 4 + 16);
+    }
+
+    /**
+     * <p><i>TokenBuffer</i> constructor with room for a number of tokens before growing.</p>
+     * @param source CharSequence
+     * @param capacity int
+     */
+    TokenBuffer(CharSequence source, int capacity) {
+        this.source = source;
+
+        types = new short[capacity];
+        starts = new int[capacity];
+        lengths = new int[capacity];
+        rows = new int[capacity];
+        columns = new int[capacity];
+    }
+
+    /**
+     * <p><i>of</i> copies a list of tokens into a buffer. The lexemes are joined into a new source text.</p>
+     * @param tokens List<Token>
+     * @return TokenBuffer
+     */
+    public static TokenBuffer of(List<Token> tokens) {
+        StringBuilder text = new StringBuilder();
+        for (Token token : tokens) {
+            text.append(token.getLexeme());
+        }
+
+        TokenBuffer buffer = new TokenBuffer(text.toString());
+        int start = 0;
+        for (Token token : tokens) {
+            int length = token.getLexeme().length();
+            buffer.add(token.getType(), start, length, token.getLiteral(), token.getRow_no(), token.getColumn_no());
+            start += length;
+        }
+
+        return buffer;
+    }
+
+    /**
+     * <p><i>add</i> appends a token.</p>
+     * @param type TokenType
+     * @param start int offset of the lexeme in the source text
+     * @param length int length of the lexeme
+     * @param literal Object, null if none
+     * @param row int
+     * @param column int
+     */
+    void add(TokenType type, int start, int length, Object literal, int row, int column) {
+        if (size == types.length) {
+            int capacity = size + (size >> 1) + 16;
+            types = Arrays.copyOf(types, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+        }
+
+        if (literal != null) {
+            if (literals == literalTokens.length) {
+                literalTokens = Arrays.copyOf(literalTokens, literals * 2);
+                literalValues = Arrays.copyOf(literalValues, literals * 2);
+            }
+            literalTokens[literals] = discarded + size;
+            literalValues[literals] = literal;
+            literals++;
+        }
+
+        types[size] = (short) type.ordinal();
+        starts[size] = start;
+        lengths[size] = length;
+        rows[size] = row;
+        columns[size] = column;
+        size++;
+    }
+
+    /**
+     * <p><i>add</i> appends a copy of a token from another buffer, moved to a new offset and row.</p>
+     * @param other TokenBuffer
+     * @param index int
+     * @param start int offset of the lexeme in the source text of this buffer
+     * @param row int
+     */
+    void add(TokenBuffer other, int index, int start, int row) {
+        add(other.type(index), start, other.length(index), other.literal(index), row, other.column(index));
+    }
+
+    /**
+     * <p><i>append</i> appends the first tokens of another buffer over the same source text, which has discarded none,
+     * moved on by a number of rows.</p>
+     * @param other TokenBuffer
+     * @param count int number of tokens
+     * @param rowShift int added to the row of each token
+     */
+    void append(TokenBuffer other, int count, int rowShift) {
+        if (size + count > types.length) {
+            int capacity = size + count + 16;
+            types = Arrays.copyOf(types, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+        }
+
+        System.arraycopy(other.types, 0, types, size, count);
+        System.arraycopy(other.lengths, 0, lengths, size, count);
+        System.arraycopy(other.starts, 0, starts, size, count);
+        System.arraycopy(other.columns, 0, columns, size, count);
+        for (int i = 0; i < count; i++) {
+            rows[size + i] = other.rows[i] + rowShift;
+        }
+
+        for (int i = 0; i < other.literals && other.literalTokens[i] < count; i++) {
+            if (literals == literalTokens.length) {
+                literalTokens = Arrays.copyOf(literalTokens, literals * 2);
+                literalValues = Arrays.copyOf(literalValues, literals * 2);
+            }
+            literalTokens[literals] = other.literalTokens[i] + discarded + size;
+            literalValues[literals] = other.literalValues[i];
+            literals++;
+        }
+
+        size += count;
+    }
+
+    /**
+     * <p><i>discard</i> drops the tokens before a token, which can no longer be read.</p>
+     * @param index int of the first token to keep
+     */
+    void discard(int index) {
+        int count = Math.min(index, discarded + size) - discarded;
+
+        if (count <= 0) {
+            return;
+        }
+
+        size -= count;
+        System.arraycopy(types, count, types, 0, size);
+        System.arraycopy(starts, count, starts, 0, size);
+        System.arraycopy(lengths, count, lengths, 0, size);
+        System.arraycopy(rows, count, rows, 0, size);
+        System.arraycopy(columns, count, columns, 0, size);
+        discarded += count;
+
+        int kept = literals - firstLiteralFrom(discarded);
+        System.arraycopy(literalTokens, literals - kept, literalTokens, 0, kept);
+        System.arraycopy(literalValues, literals - kept, literalValues, 0, kept);
+        Arrays.fill(literalValues, kept, literals, null);
+        literals = kept;
+    }
+
+    /**
+     * <p><i>size</i> returns the number of tokens, including any discarded.</p>
+     * @return int
+     */
+    public int size() {
+        return discarded + size;
+    }
+
+    /**
+     * <p><i>discarded</i> returns the number of tokens discarded, the index of the first token that can be read.</p>
+     * @return int
+     */
+    public int discarded() {
+        return discarded;
+    }
+
+    /**
+     * <p><i>type</i> returns the type of a token.</p>
+     * @param index int
+     * @return TokenType
+     */
+    public TokenType type(int index) {
+        return TYPES[types[slot(index)]];
+    }
+
+    /**
+     * <p><i>lexeme</i> returns the text of a token. A newline is returned escaped, as "\n".</p>
+     * @param index int
+     * @return String
+     */
+    public String lexeme(int index) {
+        int slot = slot(index);
+        int start = starts[slot];
+        int length = lengths[slot];
+
+        if (length == 1 && source.charAt(start) == '\n') {
+            return "\\n";
+        }
+
+        return source.subSequence(start, start + length).toString();
+    }
+
+    /**
+     * <p><i>start</i> returns the offset of a token in the source text.</p>
+     * @param index int
+     * @return int
+     */
+    int start(int index) {
+        return starts[slot(index)];
+    }
+
+    /**
+     * <p><i>length</i> returns the length of a token in the source text.</p>
+     * @param index int
+     * @return int
+     */
+    int length(int index) {
+        return lengths[slot(index)];
+    }
+
+    /**
+     * <p><i>literal</i> returns the literal of a token.</p>
+     * @param index int
+     * @return Object, null if the token has none
+     */
+    public Object literal(int index) {
+        slot(index);
+        int found = Arrays.binarySearch(literalTokens, 0, literals, index);
+
+        return found < 0 ? null : literalValues[found];
+    }
+
+    /**
+     * <p><i>row</i> returns the row number of a token.</p>
+     * @param index int
+     * @return int
+     */
+    public int row(int index) {
+        return rows[slot(index)];
+    }
+
+    /**
+     * <p><i>column</i> returns the column number of a token.</p>
+     * @param index int
+     * @return int
+     */
+    public int column(int index) {
+        return columns[slot(index)];
+    }
+
+    /**
+     * <p><i>lastType</i> returns the type of the most recently added token.</p>
+     * @return TokenType, null if the buffer is empty
+     */
+    public TokenType lastType() {
+        return size == 0 ? null : TYPES[types[size - 1]];
+    }
+
+    /**
+     * <p><i>get</i> creates a <i>Token</i> object for a token.</p>
+     * @param index int
+     * @return Token
+     */
+    public Token get(int index) {
+        return new Token(type(index), lexeme(index), literal(index), row(index), column(index));
+    }
+
+    /**
+     * <p><i>stream</i> returns a new stream over the buffer positioned at the first token.</p>
+     * @return TokenStream
+     */
+    public TokenStream stream() {
+        return new TokenStream(this);
+    }
+
+    /**
+     * <p><i>asList</i> returns a read-only view of the buffer as a list of tokens, created on each access.</p>
+     * @return List<Token>
+     */
+    public List<Token> asList() {
+        return new TokenList();
+    }
+
+    /**
+     * <p><i>slot</i> returns where a token is held in the arrays, rejecting indices past the last token, which the
+     * arrays alone would allow, and those of discarded tokens.</p>
+     * @param index int
+     * @return int
+     */
+    private int slot(int index) {
+        if (index < discarded || index >= discarded + size) {
+            throw new IndexOutOfBoundsException("Token " + index + " out of bounds for tokens " + discarded + " to "
+                    + (discarded + size));
+        }
+
+        return index - discarded;
+    }
+
+    /**
+     * <p><i>firstLiteralFrom</i> returns the first entry of <i>literalTokens</i> at or after a token.</p>
+     * @param index int
+     * @return int
+     */
+    private int firstLiteralFrom(int index) {
+        int found = Arrays.binarySearch(literalTokens, 0, literals, index);
+
+        return found >= 0 ? found : -found - 1;
+    }
+
+    /**
+     * <p><i>TokenList</i> class adapts the buffer to <i>List&lt;Token&gt;</i>.</p>
+     */
+    private final class TokenList extends AbstractList<Token> implements RandomAccess {
+
+        @Override
+        public Token get(int index) {
+            return TokenBuffer.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return TokenBuffer.this.size();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+/**
+ * <p><i>TokenStream</i> class reads tokens one at a time, either from a <i>TokenBuffer</i> scanned beforehand or from
+ * a <i>Scanner</i> that scans each token as it is first needed. The position can be saved with <i>mark</i> and restored
+ * with <i>reset</i>, which is how the parser backtracks.</p>
+ *
+ * <p>A stream that scans as it goes keeps its tokens only until <i>discard</i> is called. Tokens in memory are then
+ * bounded by how far the parser backtracks rather than by the length of the source text. Should the stream be reset to
+ * a token it has discarded after all, it scans the source text again from the start up to that token, so the tokens
+ * read are always those of scanning the whole source text. A stream over a whole buffer never discards, as the buffer
+ * belongs to the caller.</p>
+ */
+public final class TokenStream {
+
+    /**
+     * <p>int CAPACITY is the number of tokens a stream that scans as it goes has room for before growing.</p>
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * <p>CharSequence source is the source text scanned as the stream goes, null if the buffer is complete.</p>
+     */
+    private final CharSequence source;
+
+    /**
+     * <p>TokenBuffer buffer holds the tokens being read.</p>
+     */
+    private TokenBuffer buffer;
+
+    /**
+     * <p>Scanner scanner adds tokens to <i>buffer</i> as they are needed, null if the buffer is complete.</p>
+     */
+    private Scanner scanner;
+
+    /**
+     * <p>int position is the index of the current token.</p>
+     */
+    private int position = 0;
+
+    /**
+     * <p>int furthest is the index of the furthest token the stream has been at.</p>
+     */
+    private int furthest = 0;
+
+    /**
+     * <p>int rescans is the number of times the source text was scanned again to reach a discarded token.</p>
+     */
+    private int rescans = 0;
+
+    /**
+     * <p>int peakResident is the most tokens a stream that scans as it goes has held at once.</p>
+     */
+    private int peakResident = 0;
+
+    /**
+     * <p><i>TokenStream</i> constructor over a whole buffer, positioned at the first token.</p>
+     * @param buffer TokenBuffer
+     */
+    public TokenStream(TokenBuffer buffer) {
+        this(null, buffer, null);
+    }
+
+    private TokenStream(CharSequence source, TokenBuffer buffer, Scanner scanner) {
+        this.source = source;
+        this.buffer = buffer;
+        this.scanner = scanner;
+    }
+
+    /**
+     * <p><i>scan</i> returns a stream that scans a source text as its tokens are read.</p>
+     * @param source CharSequence
+     * @return TokenStream
+     */
+    public static TokenStream scan(CharSequence source) {
+        TokenBuffer buffer = new TokenBuffer(source, CAPACITY);
+
+        return new TokenStream(source, buffer, new Scanner(source, buffer));
+    }
+
+    /**
+     * <p><i>mark</i> returns the index of the current token, to <i>reset</i> to later.</p>
+     * @return int
+     */
+    public int mark() {
+        return position;
+    }
+
+    /**
+     * <p><i>reset</i> moves to a token, usually a position marked earlier.</p>
+     * @param mark int
+     */
+    public void reset(int mark) {
+        this.position = mark;
+        if (mark > furthest) furthest = mark;
+    }
+
+    /**
+     * <p><i>advance</i> moves to the next token.</p>
+     */
+    public void advance() {
+        position++;
+        if (position > furthest) furthest = position;
+    }
+
+    /**
+     * <p><i>furthest</i> returns the index of the furthest token the stream has been at. Nothing read from the stream
+     * so far depends on the tokens after it.</p>
+     * @return int
+     */
+    public int furthest() {
+        return furthest;
+    }
+
+    /**
+     * <p><i>rescans</i> returns the number of times the stream was reset to a discarded token, and so scanned the source
+     * text again.</p>
+     * @return int
+     */
+    public int rescans() {
+        return rescans;
+    }
+
+    /**
+     * <p><i>peakResident</i> returns the most tokens the stream has held at once, all of them for a stream over a whole
+     * buffer.</p>
+     * @return int
+     */
+    public int peakResident() {
+        return source == null ? buffer.size() : peakResident;
+    }
+
+    /**
+     * <p><i>discards</i> returns whether <i>discard</i> lets go of tokens, which only a stream that scans as it goes
+     * does.</p>
+     * @return boolean
+     */
+    public boolean discards() {
+        return source != null;
+    }
+
+    /**
+     * <p><i>discard</i> lets go of the tokens before the current token, which are not expected to be reset to
+     * again.</p>
+     */
+    public void discard() {
+        if (scanner != null) {
+            // The current token is kept, so the Scanner can still tell what came before the next
+            fill();
+            buffer.discard(position);
+        }
+    }
+
+    /**
+     * <p><i>peek</i> returns the type of the current token.</p>
+     * @return TokenType
+     */
+    public TokenType peek() {
+        fill();
+        return buffer.type(position);
+    }
+
+    /**
+     * <p><i>lexeme</i> returns the text of the current token.</p>
+     * @return String
+     */
+    public String lexeme() {
+        fill();
+        return buffer.lexeme(position);
+    }
+
+    /**
+     * <p><i>literal</i> returns the literal of the current token.</p>
+     * @return Object
+     */
+    public Object literal() {
+        fill();
+        return buffer.literal(position);
+    }
+
+    /**
+     * <p><i>fill</i> scans until the current token has been scanned, or the source text has run out.</p>
+     */
+    private void fill() {
+        if (scanner != null) {
+            if (position < buffer.discarded()) {
+                rescan();
+            }
+
+            if (position >= buffer.size()) {
+                while (position >= buffer.size() && scanner.scanNext()) ;
+                peakResident = Math.max(peakResident, buffer.size() - buffer.discarded());
+            }
+        }
+    }
+
+    /**
+     * <p><i>rescan</i> scans the source text again from the start up to the current token, keeping no more tokens than
+     * discarding as it goes would.</p>
+     */
+    private void rescan() {
+        rescans++;
+
+        buffer = new TokenBuffer(source, CAPACITY);
+        scanner = new Scanner(source, buffer);
+
+        while (position >= buffer.size() && scanner.scanNext()) {
+            if (buffer.size() - buffer.discarded() > CAPACITY) {
+                // The last token is kept, so the Scanner can still tell what came before the next
+                buffer.discard(Math.min(position, buffer.size() - 1));
+            }
+        }
+        peakResident = Math.max(peakResident, buffer.size() - buffer.discarded());
+
+        buffer.discard(position);
+    }
+}
@@ -9,25 +9,37 @@ import java.util.*;
 public class Ast<String> {
 
     /**
-     * Creates Node data structure with parent, children (if any) and data contained within Node.
+     * Creates Node data structure with parent, children (if any) and data contained within Node. Children are kept in an
+     * array that grows as they are added, trimmed to their exact number by compact once parsing finishes. Leaves hold no
+     * array at all.
      * @param <String> Type of data in nodes
      */
     public static class Node<String> {
 
         /**
-         * Data of Nodes
+         * Data of Nodes, the name of its kind or the text of a token
          */
         private String data;
 
+        /**
+         * Kind of Node, LEXEME for the text of a token
+         */
+        private NodeKind kind;
+
         /**
          * Parent of Node
          */
         private Node<String> parent;
 
         /**
-         * Children of Node (if any)
+         * Children of Node (if any), null until the first is added
+         */
+        private Node<String>[] children;
+
+        /**
+         * Number of children
          */
-        private List<Node<String>> children;
+        private int childCount;
 
         /**
          * Get data
@@ -36,8 +48,22 @@ public class Ast<String> {
         public String getData() {
             return data;
         }
+
+        /**
+         * Get kind
+         * @return Kind
+         */
+        public NodeKind getKind() {
+            return kind;
+        }
     }
 
+    /**
+     * Children of a leaf, returned as the same kind of list as the children of any other Node once compacted
+     */
+    @SuppressWarnings("rawtypes")
+    private static final Node[] NO_CHILDREN = new Node[0];
+
     /**
      * Root of AST
      */
@@ -53,14 +79,29 @@ public class Ast<String> {
 
     /**
      * Create Node of AST
-     * @param data Data of Node
+     * @param kind Kind of Node
+     * @return Node
+     */
+    @SuppressWarnings("unchecked")
+    public Node<String> createNode(NodeKind kind) {
+        Node<String> node = new Node<>();
+
+        node.data = (String) kind.name();
+        node.kind = kind;
+
+        return node;
+    }
+
+    /**
+     * Create leaf Node of AST holding the text of a token
+     * @param data Text of token
      * @return Node
      */
-    public Node<String> createNode(String data) {
+    public Node<String> createLeaf(String data) {
         Node<String> node = new Node<>();
 
         node.data = data;
-        node.children = new ArrayList<>();
+        node.kind = NodeKind.LEXEME;
 
         return node;
     }
@@ -70,35 +111,91 @@ public class Ast<String> {
      * @param parent Node to add child to
      * @param child Child Node
      */
+    @SuppressWarnings("unchecked")
     public void addChild(Node<String> parent, Node<String> child) {
-        parent.children.add(child);
+        if (parent.children == null) {
+            parent.children = new Node[1];
+        } else if (parent.childCount == parent.children.length) {
+            parent.children = Arrays.copyOf(parent.children, parent.childCount * 2);
+        }
+
+        parent.children[parent.childCount++] = child;
+    }
+
+    /**
+     * Remove the children of a Node from an index on, such as those added by an attempt that failed
+     * @param parent Node to remove children from
+     * @param from Index of first child to remove
+     */
+    public void removeChildren(Node<String> parent, int from) {
+        if (from < parent.childCount) {
+            Arrays.fill(parent.children, from, parent.childCount, null);
+            parent.childCount = from;
+        }
     }
 
     /**
      * Get all children of any specified parent Node
      * @param node Parent Node
-     * @return Child Nodes
+     * @return Child Nodes, a view of the children that must not be changed
      */
+    @SuppressWarnings("unchecked")
     public List<Node<String>> getChildren(Node<String> node) {
-        return node.children;
+        if (node.childCount == 0) {
+            return Arrays.asList(NO_CHILDREN);
+        }
+
+        List<Node<String>> children = Arrays.asList(node.children);
+
+        return node.childCount == node.children.length ? children : children.subList(0, node.childCount);
+    }
+
+    /**
+     * Trim the children of a Node and of every Node below it to their exact number, once no more will be added
+     * @param node Node to start at
+     */
+    public void compact(Node<String> node) {
+        Deque<Node<String>> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            Node<String> current = stack.pop();
+
+            if (current.children == null) {
+                continue;
+            }
+
+            if (current.childCount == 0) {
+                current.children = null;
+                continue;
+            }
+
+            if (current.childCount < current.children.length) {
+                current.children = Arrays.copyOf(current.children, current.childCount);
+            }
+
+            for (Node<String> child : current.children) {
+                stack.push(child);
+            }
+        }
     }
 
     /**
      * Find parent from currentNode
      * @param currentNode Node to start at
-     * @param targetData Target Node
+     * @param targetKind Kind of target Node
      * @return Boolean
      */
-    public boolean findParent(Node<String> currentNode, String targetData) {
+    public boolean findParent(Node<String> currentNode, NodeKind targetKind) {
         if (currentNode == null) {
             return false;
         }
 
-        if (currentNode.data.equals(targetData)) {
+        if (currentNode.kind == targetKind) {
             return true; // Found the target node
         }
 
-        return findParent(currentNode.parent, targetData);
+        return findParent(currentNode.parent, targetKind);
     }
 
     /**
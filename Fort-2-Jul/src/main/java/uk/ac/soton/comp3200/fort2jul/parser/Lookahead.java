@@ -0,0 +1,566 @@
+package uk.ac.soton.comp3200.fort2jul.parser;
+
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;
+
+import java.util.Arrays;
+
+import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
+
+/**
+ * Tokens each rule of the parser can start with, one table per rule named after it and indexed by TokenType ordinal.
+ * A rule that can succeed without consuming a token may start with any token.
+ * This was automatically generated by GenerateParser from grammar_rules.json.
+ */
+final class Lookahead {
+
+    static final boolean[] InterfaceBody = of(SUBROUTINE, FUNCTION, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL,
+            CHARACTER, TYPE, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] DummyArgName = of(ID);
+    static final boolean[] NameColon = of(ID);
+    static final boolean[] SFExprList = of(LPAREN, COLON, MINUS, PLUS, COLON_COLON, LPAREN_SLASH, NOT, TRUE, FALSE, ID,
+            SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] DeferredShapeSpec = of(COLON);
+    static final boolean[] EquivalenceSetList = of(LPAREN);
+    static final boolean[] DoLblDef = of(ICON);
+    static final boolean[] GenericName = of(ID);
+    static final boolean[] UpperBound = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] ExternalNameList = of(ID);
+    static final boolean[] SubscriptList = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] AssignedGotoStmt = of(GOTO, GO, ICON);
+    static final boolean[] ColonColon = of(COLON_COLON);
+    static final boolean[] PowerUpMultOperand = of(STAR_STAR);
+    static final boolean[] ElseConstruct = of(ELSE, ICON);
+    static final boolean[] Where = of(WHERE, ICON);
+    static final boolean[] CommaExpr = of(COMMA);
+    static final boolean[] InputItemList = of(LPAREN, ID);
+    static final boolean[] MultOpMultOperand = of(STAR, SLASH);
+    static final boolean[] PowerOpMultOperand = of(STAR_STAR);
+    static final boolean[] ElseIfConstruct = of(ELSEIF, ELSE, ICON);
+    static final boolean[] AddOperand = of(LPAREN, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON,
+            RDCON, BCON, OCON, ZCON);
+    static final boolean[] VariableComma = of(ID);
+    static final boolean[] DataStmtValueList = of(LPAREN, MINUS, PLUS, TRUE, FALSE, ID, SCON, ICON, HCON, SP, RDCON,
+            BCON, OCON, ZCON);
+    static final boolean[] LblRef = of(ICON);
+    static final boolean[] FunctionArg = of(ID);
+    static final boolean[] ComponentName = of(ID);
+    static final boolean[] CPrimary = of(LPAREN, ID, SCON);
+    static final boolean[] FieldSelector = of(LPAREN, PERCENT);
+    static final boolean[] StmtFunctionRange = of(LPAREN);
+    static final boolean[] RdFmtIdExpr = of(LPAREN);
+    static final boolean[] MultOperand = of(LPAREN, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON,
+            RDCON, BCON, OCON, ZCON);
+    static final boolean[] SelectCaseBody = of(CASE, ICON);
+    static final boolean[] InquireStmt = of(INQUIRE, ICON);
+    static final boolean[] SFFactor = of(LPAREN, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON,
+            BCON, OCON, ZCON);
+    static final boolean[] Level1Expr = of(LPAREN, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON,
+            RDCON, BCON, OCON, ZCON);
+    static final boolean[] NamelistStmt = of(NAMELIST, ICON);
+    static final boolean[] DataStmtValue = of(LPAREN, MINUS, PLUS, TRUE, FALSE, ID, SCON, ICON, HCON, SP, RDCON, BCON,
+            OCON, ZCON);
+    static final boolean[] NamedConstantDefList = of(ID);
+    static final boolean[] ImplicitRange = of(ID);
+    static final boolean[] DoubleDoStmt = of(DO);
+    static final boolean[] InquireSpec = of(EXIST_EQUAL, ACTION_EQUAL, UNFORMATTED_EQUAL, FILE_EQUAL, READ_EQUAL,
+            RECL_EQUAL, ACCESS_EQUAL, NAMED_EQUAL, UNIT_EQUAL, FORM_EQUAL, NAME_EQUAL, READWRITE_EQUAL, BLANK_EQUAL,
+            WRITE_EQUAL, PAD_EQUAL, OPENED_EQUAL, DELIM_EQUAL, NEXTREC_EQUAL, NUMBER_EQUAL, ERR_EQUAL, FORMATTED_EQUAL,
+            IOSTAT_EQUAL, DIRECT_EQUAL, SEQUENTIAL_EQUAL, POSITION_EQUAL);
+    static final boolean[] EndModuleStmt = of(END, ENDMODULE, ICON);
+    static final boolean[] EndTypeStmt = of(END, ENDTYPE, ICON);
+    static final boolean[] DataStmtObjectList = of(LPAREN, ID);
+    static final boolean[] RelOp = of(EQUAL_EQUAL, SLASH_EQUAL, LESS, LESS_EQUAL, GREATER, GREATER_EQUAL, BANG_EQUAL,
+            SP);
+    static final boolean[] ContainsStmt = of(CONTAINS, ICON);
+    static final boolean[] DimensionStmt = of(DIMENSION, ICON);
+    static final boolean[] NamedConstant = of(ID);
+    static final boolean[] SavedEntityList = of(SLASH, ID);
+    static final boolean[] NamedConstantDef = of(ID);
+    static final boolean[] PlusMinus = of(MINUS, PLUS);
+    static final boolean[] SubprogramInterfaceBody = of(INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, FORMAT,
+            PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, USE, INTERFACE, DOUBLE,
+            ICON);
+    static final boolean[] Comblock = of(SLASH);
+    static final boolean[] BlockDataSubprogram = of(BLOCKDATA, BLOCK, ICON);
+    static final boolean[] GotoStmt = of(GOTO, GO, ICON);
+    static final boolean[] OpenStmt = of(OPEN, ICON);
+    static final boolean[] ArrayElement = of(ID);
+    static final boolean[] BlockDataBody = of(INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, FORMAT,
+            PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, USE, INTERFACE, DOUBLE,
+            ICON);
+    static final boolean[] ModuleBody = of(INCLUDE, SUBROUTINE, FUNCTION, ENTRY, DIMENSION, EQUIVALENCE, COMMON,
+            INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE,
+            DATA, FORMAT, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, USE,
+            INTERFACE, CONTAINS, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] ScalarVariable = of(ID);
+    static final boolean[] SpecificationPartConstruct = of(INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER,
+            REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA,
+            FORMAT, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, USE, INTERFACE,
+            DOUBLE, ICON);
+    static final boolean[] LogicalConstant = of(TRUE, FALSE, SP);
+    static final boolean[] ArrayDeclarator = of(ID);
+    static final boolean[] AllocationList = of(ID);
+    static final boolean[] SavedCommonBlock = of(SLASH);
+    static final boolean[] CharLength = of(LPAREN, MINUS, PLUS, TRUE, FALSE, ID, SCON, ICON, HCON, SP, RDCON, BCON,
+            OCON, ZCON);
+    static final boolean[] ProgramName = of(ID);
+    static final boolean[] DataStmtObject = of(LPAREN, ID);
+    static final boolean[] KindParam = of(ID, ICON);
+    static final boolean[] DerivedTypeBody = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, PRIVATE,
+            SEQUENCE, TYPE, DOUBLE, ICON);
+    static final boolean[] SpecificationStmt = of(DIMENSION, EQUIVALENCE, COMMON, EXTERNAL, INTRINSIC, SAVE, DATA,
+            PRIVATE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, ICON);
+    static final boolean[] ConditionalBody = any();
+    static final boolean[] RewindStmt = of(REWIND, ICON);
+    static final boolean[] SectionSubscriptRef = of(LPAREN);
+    static final boolean[] CommonBlockName = of(ID);
+    static final boolean[] DeallocateStmt = of(DEALLOCATE, ICON);
+    static final boolean[] PointerAssignmentStmt = of(ID, ICON);
+    static final boolean[] ImplicitRanges = any();
+    static final boolean[] CPrimaryConcatOp = of(LPAREN, SLASH, ID, SCON);
+    static final boolean[] NamelistGroupName = of(ID);
+    static final boolean[] VariableName = of(ID);
+    static final boolean[] Subscript = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] DataStmt = of(DATA, ICON);
+    static final boolean[] LengthSelector = of(LPAREN, STAR);
+    static final boolean[] FormatEdit = of(LPAREN, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON, XCON);
+    static final boolean[] TypeDeclarationStmt = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, TYPE,
+            DOUBLE, ICON);
+    static final boolean[] DerivedTypeBodyConstruct = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER,
+            PRIVATE, SEQUENCE, TYPE, DOUBLE, ICON);
+    static final boolean[] COperand = of(ID, SCON);
+    static final boolean[] ComponentArraySpec = of(LPAREN, COLON, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] AndOperand = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] CharSelector = of(LPAREN);
+    static final boolean[] EquivOperand = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] BozLiteralConstant = of(BCON, OCON, ZCON);
+    static final boolean[] NameDataRef = of(ID);
+    static final boolean[] EndSelectStmt = of(END, ENDSELECT, ICON);
+    static final boolean[] EOS = of(NEWLINE, COMMENT);
+    static final boolean[] ObjectName = of(ID);
+    static final boolean[] UFPrimary = of(LPAREN, ID, SCON, ICON);
+    static final boolean[] AllocateStmt = of(ALLOCATE, ICON);
+    static final boolean[] IfStmt = of(IF, ICON);
+    static final boolean[] ComplexDataRefTail = of(LPAREN, PERCENT);
+    static final boolean[] InputItem = of(LPAREN, ID);
+    static final boolean[] ModuleSubprogramPartConstruct = of(SUBROUTINE, FUNCTION, INTEGER, REAL, DOUBLEPRECISION,
+            COMPLEX, LOGICAL, CHARACTER, TYPE, CONTAINS, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] ArrayAllocation = of(ID);
+    static final boolean[] Level2Expr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON,
+            SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] SFTerm = of(LPAREN, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON,
+            BCON, OCON, ZCON);
+    static final boolean[] WhereStmt = of(WHERE, ICON);
+    static final boolean[] OptionalStmt = of(OPTIONAL, ICON);
+    static final boolean[] GoToKw = of(GOTO, GO);
+    static final boolean[] RdIoCtlSpecList = of(LPAREN, STAR, MINUS, PLUS, REC_EQUAL, EOR_EQUAL, UNIT_EQUAL, ERR_EQUAL,
+            SIZE_EQUAL, ADVANCE_EQUAL, FMT_EQUAL, IOSTAT_EQUAL, NML_EQUAL, END_EQUAL, ID, SCON, ICON);
+    static final boolean[] EndfileStmt = of(END, ENDFILE, ICON);
+    static final boolean[] ComputedGotoStmt = of(GOTO, GO, ICON);
+    static final boolean[] InterfaceBodyPartConstruct = of(SUBROUTINE, FUNCTION, INTEGER, REAL, DOUBLEPRECISION,
+            COMPLEX, LOGICAL, CHARACTER, TYPE, MODULE, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] SubroutinePars = any();
+    static final boolean[] EquivOp = of(EQUAL_EQUAL, BANG_EQUAL, SP);
+    static final boolean[] CommonStmt = of(COMMON, ICON);
+    static final boolean[] StopStmt = of(STOP, ICON);
+    static final boolean[] DerivedTypeDef = of(TYPE, ICON);
+    static final boolean[] UFExpr = of(LPAREN, MINUS, PLUS, ID, SCON, ICON);
+    static final boolean[] SFDummyArgNameList = of(ID);
+    static final boolean[] CommonBlockObject = of(ID);
+    static final boolean[] EntityDecl = of(ID);
+    static final boolean[] RenameList = of(ID);
+    static final boolean[] PositionSpecList = of(LPAREN, STAR, MINUS, PLUS, UNIT_EQUAL, ERR_EQUAL, IOSTAT_EQUAL, ID,
+            SCON, ICON);
+    static final boolean[] ConcatOp = of(SLASH);
+    static final boolean[] DeferredShapeSpecList = of(COLON);
+    static final boolean[] FunctionSubprogram = of(FUNCTION, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL,
+            CHARACTER, TYPE, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] EquivOpEquivOperand = of(EQUAL_EQUAL, BANG_EQUAL, SP);
+    static final boolean[] FunctionPars = any();
+    static final boolean[] CommaInputItemList = of(COMMA);
+    static final boolean[] SFDummyArgName = of(ID);
+    static final boolean[] ElseWhere = of(WHERE, ELSEWHERE);
+    static final boolean[] AccessIdList = of(OPERATOR, ASSIGNMENT, ID);
+    static final boolean[] ImplicitSpec = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, TYPE, DOUBLE);
+    static final boolean[] LowerBound = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] PrivateSequenceStmt = of(PRIVATE, SEQUENCE, ICON);
+    static final boolean[] ImplicitStmt = of(IMPLICIT, ICON);
+    static final boolean[] Target = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON, FCON,
+            SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] MainRange = of(END, INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN,
+            GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND,
+            FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST,
+            ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, USE, INTERFACE, CONTAINS,
+            DOUBLE, GO, ENDPROGRAM, ID, ICON);
+    static final boolean[] MultOp = of(STAR, SLASH);
+    static final boolean[] AssumedSizeSpec = of(LPAREN, STAR, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] SelectCaseRange = of(END, CASE, ENDSELECT, ICON);
+    static final boolean[] FunctionRange = any();
+    static final boolean[] SubroutinePar = of(STAR, ID);
+    static final boolean[] DoLblRef = of(ICON);
+    static final boolean[] OutputItemList1 = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON,
+            HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] ConnectSpecList = any();
+    static final boolean[] IntentPar = of(ID);
+    static final boolean[] EndWhereStmt = of(END, ENDWHERE, ICON);
+    static final boolean[] ExprList = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] PointerField = of(ID);
+    static final boolean[] ExternalStmt = of(EXTERNAL, ICON);
+    static final boolean[] BlockDataStmt = of(BLOCKDATA, BLOCK, ICON);
+    static final boolean[] AddOp = of(MINUS, PLUS);
+    static final boolean[] FunctionPrefix = of(FUNCTION, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER,
+            TYPE, DOUBLE, RECURSIVE);
+    static final boolean[] SubstringRange = of(LPAREN);
+    static final boolean[] DoConstruct = of(DO, ID, ICON);
+    static final boolean[] ConnectSpec = of(ACTION_EQUAL, FILE_EQUAL, RECL_EQUAL, ACCESS_EQUAL, UNIT_EQUAL, FORM_EQUAL,
+            BLANK_EQUAL, PAD_EQUAL, DELIM_EQUAL, ERR_EQUAL, IOSTAT_EQUAL, STATUS_EQUAL, POSITION_EQUAL);
+    static final boolean[] Primary = of(LPAREN, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, SP, RDCON);
+    static final boolean[] ComponentDeclList = of(ID);
+    static final boolean[] AssumedShapeSpec = of(LPAREN, COLON, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] UnitIdentifier = of(LPAREN, STAR, MINUS, PLUS, ID, SCON, ICON);
+    static final boolean[] PointerObject = of(ID);
+    static final boolean[] CaseValueRangeList = of(LPAREN, COLON, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] FunctionParList = any();
+    static final boolean[] ProgramUnit = of(END, INCLUDE, SUBROUTINE, PROGRAM, FUNCTION, ENTRY, BLOCKDATA, DIMENSION,
+            EQUIVALENCE, COMMON, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER,
+            EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN, GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN,
+            CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE,
+            INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE,
+            SELECT, CYCLE, EXIT, MODULE, USE, INTERFACE, CONTAINS, DOUBLE, GO, ENDPROGRAM, BLOCK, RECURSIVE, ID, ICON);
+    static final boolean[] ComponentAttrSpec = of(DIMENSION, POINTER);
+    static final boolean[] AttrSpec = of(DIMENSION, PARAMETER, EXTERNAL, INTRINSIC, SAVE, PRIVATE, POINTER, ALLOCATABLE,
+            INTENT, OPTIONAL, TARGET, PUBLIC);
+    static final boolean[] PowerOp = of(STAR_STAR);
+    static final boolean[] TypeSpec = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, TYPE, DOUBLE);
+    static final boolean[] Constant = of(LPAREN, MINUS, PLUS, TRUE, FALSE, ID, SCON, ICON, HCON, SP, RDCON, BCON, OCON,
+            ZCON);
+    static final boolean[] ModuleName = of(ID);
+    static final boolean[] EndFunctionStmt = of(END, ENDFUNCTION, ICON);
+    static final boolean[] LblDef = any();
+    static final boolean[] IfThenStmt = of(IF, ICON);
+    static final boolean[] IntentStmt = of(INTENT, ICON);
+    static final boolean[] AccessStmt = of(PRIVATE, PUBLIC, ICON);
+    static final boolean[] Allocation = of(ID);
+    static final boolean[] ProcedureName = of(ID);
+    static final boolean[] ArrayConstructor = of(LPAREN_SLASH);
+    static final boolean[] Body = of(END, INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN,
+            GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND,
+            FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST,
+            ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, USE, INTERFACE, DOUBLE,
+            GO, ID, ICON);
+    static final boolean[] ComponentDefStmt = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, TYPE,
+            DOUBLE, ICON);
+    static final boolean[] Datalist = of(LPAREN, COMMA, ID);
+    static final boolean[] AccessSpec = of(PRIVATE, PUBLIC);
+    static final boolean[] ComplexComponent = of(MINUS, PLUS, ID, ICON, RDCON);
+    static final boolean[] IntentSpec = of(IN, OUT, INOUT);
+    static final boolean[] Ident = of(ID);
+    static final boolean[] EntryStmt = of(ENTRY, ICON);
+    static final boolean[] OrUpOrOperand = of(OR, SP);
+    static final boolean[] RdUnitId = of(LPAREN);
+    static final boolean[] TargetObject = of(ID);
+    static final boolean[] ContinueStmt = of(CONTINUE, ICON);
+    static final boolean[] Sign = of(MINUS, PLUS);
+    static final boolean[] EditElement = of(LPAREN, ID, SCON, HCON, FCON, RDCON);
+    static final boolean[] StructureConstructor = of(ID);
+    static final boolean[] ElseStmt = of(ELSE, ICON);
+    static final boolean[] OnlyList = of(ONLY);
+    static final boolean[] EquivalenceObjectList = of(ID);
+    static final boolean[] AndOpAndOperand = of(AND, SP);
+    static final boolean[] ActionStmt = of(END, ASSIGN, GOTO, IF, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN,
+            CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, CALL, RETURN, ALLOCATE, NULLIFY, DEALLOCATE, WHERE, CYCLE, EXIT,
+            GO, ID, ICON);
+    static final boolean[] CaseBodyConstruct = of(END, ENTRY, DATA, ASSIGN, GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE,
+            READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, ALLOCATE, NULLIFY,
+            DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CASE, CYCLE, EXIT, GO, ID, ICON);
+    static final boolean[] NamedConstantUse = of(ID);
+    static final boolean[] OrOperand = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] SFPrimary = of(LPAREN, ID, ICON);
+    static final boolean[] BodyConstruct = of(END, INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN,
+            GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND,
+            FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST,
+            ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, USE, INTERFACE, DOUBLE,
+            GO, ID, ICON);
+    static final boolean[] EquivalenceObject = of(ID);
+    static final boolean[] DefinedUnaryOp = of(ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] Level5Expr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] LoopControl = of(WHILE, ID);
+    static final boolean[] CaseStmt = of(CASE, ICON);
+    static final boolean[] ThenPart = of(END, ENTRY, DATA, ASSIGN, GOTO, IF, ELSEIF, ELSE, ENDIF, DO, CONTINUE, STOP,
+            PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, ALLOCATE,
+            NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, GO, ID, ICON);
+    static final boolean[] ElsePart = of(END, ENTRY, DATA, ASSIGN, GOTO, IF, ENDIF, DO, CONTINUE, STOP, PAUSE, WRITE,
+            READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, ALLOCATE, NULLIFY,
+            DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, GO, ID, ICON);
+    static final boolean[] IntrinsicList = of(ID);
+    static final boolean[] CaseValueRange = of(LPAREN, COLON, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] TypeParamValue = of(LPAREN, STAR, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] PointerObjectList = of(ID);
+    static final boolean[] SubroutineRange = of(LPAREN, NEWLINE, COMMENT);
+    static final boolean[] ICONOrScon = of(SCON, ICON);
+    static final boolean[] InterfaceBlock = of(INTERFACE, ICON);
+    static final boolean[] Expr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON, FCON,
+            SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] EquivalenceSet = of(LPAREN);
+    static final boolean[] ExternalName = of(ID);
+    static final boolean[] EndInterfaceStmt = of(END, ENDINTERFACE, ICON);
+    static final boolean[] AndOp = of(AND, SP);
+    static final boolean[] ElsewhereStmt = of(ELSEWHERE, ICON);
+    static final boolean[] CaseSelector = of(DEFAULT, LPAREN);
+    static final boolean[] ProcedureNameList = of(ID);
+    static final boolean[] MainProgram = of(END, INCLUDE, PROGRAM, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN,
+            GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND,
+            FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST,
+            ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, USE, INTERFACE, CONTAINS,
+            DOUBLE, GO, ENDPROGRAM, ID, ICON);
+    static final boolean[] AllocateObjectList = of(ID);
+    static final boolean[] AccessId = of(OPERATOR, ASSIGNMENT, ID);
+    static final boolean[] EndIfStmt = of(END, ENDIF, ICON);
+    static final boolean[] DefinedBinaryOp = of(ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] BodyPlusInternals = of(END, INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN,
+            GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND,
+            FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST,
+            ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, USE, INTERFACE, CONTAINS,
+            DOUBLE, GO, ID, ICON);
+    static final boolean[] AcValueList1 = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] PauseStmt = of(PAUSE, ICON);
+    static final boolean[] WhereConstructStmt = of(WHERE, ICON);
+    static final boolean[] ArrayDeclaratorList = of(ID);
+    static final boolean[] ExecutableConstruct = of(END, ASSIGN, GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ,
+            PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, CALL, RETURN, ALLOCATE, NULLIFY, DEALLOCATE, WHERE,
+            ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, GO, ID, ICON);
+    static final boolean[] FormatStmt = of(FORMAT, ICON);
+    static final boolean[] UnsignedArithmeticConstant = of(LPAREN, ICON, RDCON);
+    static final boolean[] OutputImpliedDo = of(LPAREN);
+    static final boolean[] SavedEntity = of(SLASH, ID);
+    static final boolean[] SFExprListRef = of(LPAREN);
+    static final boolean[] ComponentDecl = of(ID);
+    static final boolean[] StmtFunctionStmt = of(ID, ICON);
+    static final boolean[] AllocatedShape = of(LPAREN);
+    static final boolean[] ModuleSubprogram = of(SUBROUTINE, FUNCTION, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL,
+            CHARACTER, TYPE, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] TypeName = of(ID);
+    static final boolean[] AssignStmt = of(ASSIGN, ICON);
+    static final boolean[] ModuleStmt = of(MODULE, ICON);
+    static final boolean[] Label = of(ICON);
+    static final boolean[] ComplexDataRef = of(ID);
+    static final boolean[] UnitIdentifierComma = of(LPAREN, STAR, MINUS, PLUS, ID, SCON, ICON);
+    static final boolean[] Name = of(ID);
+    static final boolean[] EndName = of(ID);
+    static final boolean[] CommaLoopControl = of(WHILE, COMMA, ID);
+    static final boolean[] DataIDoObject = of(LPAREN, ID);
+    static final boolean[] DerivedTypeStmt = of(TYPE, ICON);
+    static final boolean[] BackspaceStmt = of(BACKSPACE, ICON);
+    static final boolean[] SubroutineArgList = any();
+    static final boolean[] Comlist = of(SLASH, ID);
+    static final boolean[] SubscriptListRef = of(LPAREN);
+    static final boolean[] EquivalenceStmt = of(EQUIVALENCE, ICON);
+    static final boolean[] ModuleProcedureStmt = of(MODULE, ICON);
+    static final boolean[] EndProgramStmt = of(END, ENDPROGRAM, ICON);
+    static final boolean[] AssumedShapeSpecList = of(LPAREN, COLON, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID,
+            SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] FmtSpec = of(LPAREN, COLON, SLASH, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON,
+            ZCON, XCON);
+    static final boolean[] AllocateObject = of(ID);
+    static final boolean[] ArithmeticIfStmt = of(IF, ICON);
+    static final boolean[] PointerStmt = of(POINTER, ICON);
+    static final boolean[] ReadStmt = of(READ, ICON);
+    static final boolean[] InquireSpecList = any();
+    static final boolean[] ElseIfStmt = of(ELSEIF, ELSE, ICON);
+    static final boolean[] ArrayAllocationList = of(ID);
+    static final boolean[] ComponentAttrSpecList = of(DIMENSION, POINTER);
+    static final boolean[] TargetStmt = of(TARGET, ICON);
+    static final boolean[] MislexedFCON = of(ID, RDCON);
+    static final boolean[] SectionSubscriptList = of(LPAREN, COLON, MINUS, PLUS, COLON_COLON, LPAREN_SLASH, NOT, TRUE,
+            FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] EndDoStmt = of(END, ENDDO, ICON);
+    static final boolean[] InterfaceStmt = of(INTERFACE, ICON);
+    static final boolean[] GenericSpec = of(OPERATOR, ASSIGNMENT);
+    static final boolean[] SubroutineNameUse = of(ID);
+    static final boolean[] SubscriptTripletTail = of(COLON, COLON_COLON);
+    static final boolean[] ArrayName = of(ID);
+    static final boolean[] DataStmtSet = of(LPAREN, ID);
+    static final boolean[] ComplexConst = of(LPAREN);
+    static final boolean[] CallStmt = of(CALL, ICON);
+    static final boolean[] AcImpliedDo = of(LPAREN);
+    static final boolean[] OutputItemList = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON,
+            HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] InterfaceBlockBody = of(SUBROUTINE, FUNCTION, INTEGER, REAL, DOUBLEPRECISION, COMPLEX,
+            LOGICAL, CHARACTER, TYPE, MODULE, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] FunctionPar = of(ID);
+    static final boolean[] SubroutineName = of(ID);
+    static final boolean[] Rename = of(ID);
+    static final boolean[] UFFactor = of(LPAREN, ID, SCON, ICON);
+    static final boolean[] ExplicitShapeSpec = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON,
+            HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] UseName = of(ID);
+    static final boolean[] BlockDoConstruct = of(DO, ID, ICON);
+    static final boolean[] SubroutineParList = any();
+    static final boolean[] CaseConstruct = of(SELECTCASE, SELECT, ID, ICON);
+    static final boolean[] FormatIdentifier = of(LPAREN, STAR, ID, SCON, ICON);
+    static final boolean[] WhereConstruct = of(WHERE, ELSEWHERE);
+    static final boolean[] IoControlSpec = of(REC_EQUAL, EOR_EQUAL, UNIT_EQUAL, ERR_EQUAL, SIZE_EQUAL, ADVANCE_EQUAL,
+            FMT_EQUAL, IOSTAT_EQUAL, NML_EQUAL, END_EQUAL);
+    static final boolean[] RelOpLevel3Expr = of(EQUAL_EQUAL, SLASH_EQUAL, LESS, LESS_EQUAL, GREATER, GREATER_EQUAL,
+            BANG_EQUAL, SP);
+    static final boolean[] SubroutineSubprogram = of(SUBROUTINE, RECURSIVE, ICON);
+    static final boolean[] CExpr = of(LPAREN, ID, SCON);
+    static final boolean[] program = of(END, INCLUDE, SUBROUTINE, PROGRAM, FUNCTION, ENTRY, BLOCKDATA, DIMENSION,
+            EQUIVALENCE, COMMON, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER,
+            EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN, GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN,
+            CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE,
+            INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE,
+            SELECT, CYCLE, EXIT, MODULE, USE, INTERFACE, CONTAINS, DOUBLE, GO, ENDPROGRAM, BLOCK, RECURSIVE, NEWLINE,
+            COMMENT, ID, ICON);
+    static final boolean[] DeclarationConstruct = of(DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL, DOUBLEPRECISION,
+            COMPLEX, LOGICAL, CHARACTER, EXTERNAL, INTRINSIC, SAVE, DATA, PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT,
+            OPTIONAL, TARGET, PUBLIC, NAMELIST, INTERFACE, DOUBLE, ICON);
+    static final boolean[] ArraySpec = of(LPAREN, STAR, COLON, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] ConcatOpLevel2Expr = of(SLASH);
+    static final boolean[] AllocatableStmt = of(ALLOCATABLE, ICON);
+    static final boolean[] MaskExpr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] CloseSpec = of(UNIT_EQUAL, ERR_EQUAL, IOSTAT_EQUAL, STATUS_EQUAL);
+    static final boolean[] IntentParList = of(ID);
+    static final boolean[] ExplicitShapeSpecList = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON,
+            ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] IoControlSpecList = of(LPAREN, STAR, MINUS, PLUS, REC_EQUAL, EOR_EQUAL, UNIT_EQUAL,
+            ERR_EQUAL, SIZE_EQUAL, ADVANCE_EQUAL, FMT_EQUAL, IOSTAT_EQUAL, NML_EQUAL, END_EQUAL, ID, SCON, ICON);
+    static final boolean[] ImpliedDoVariable = of(ID);
+    static final boolean[] ExecutionPartConstruct = of(END, ENTRY, DATA, ASSIGN, GOTO, IF, DO, CONTINUE, STOP, PAUSE,
+            WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, ALLOCATE,
+            NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE, SELECT, CYCLE, EXIT, GO, ID, ICON);
+    static final boolean[] EntityDeclList = of(ID);
+    static final boolean[] EntryName = of(ID);
+    static final boolean[] OptionalPar = of(ID);
+    static final boolean[] RdFmtId = of(LPAREN, STAR, ID, SCON, ICON);
+    static final boolean[] SubroutineArg = of(LPAREN, STAR, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON,
+            HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] IntrinsicProcedureName = of(ID);
+    static final boolean[] DataIDoObjectList = of(LPAREN, ID);
+    static final boolean[] NullifyStmt = of(NULLIFY, ICON);
+    static final boolean[] Module = of(MODULE, ICON);
+    static final boolean[] StructureComponent = of(ID);
+    static final boolean[] IntrinsicStmt = of(INTRINSIC, ICON);
+    static final boolean[] FunctionInterfaceRange = of(LPAREN, NEWLINE, COMMENT);
+    static final boolean[] Level3Expr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON,
+            SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] SaveStmt = of(SAVE, ICON);
+    static final boolean[] PointerStmtObjectList = of(ID);
+    static final boolean[] FunctionReference = of(ID);
+    static final boolean[] DataImpliedDo = of(LPAREN);
+    static final boolean[] OrOp = of(OR, SP);
+    static final boolean[] SubroutineInterfaceRange = of(LPAREN, NEWLINE, COMMENT);
+    static final boolean[] AddOpAddOperand = of(MINUS, PLUS);
+    static final boolean[] CloseStmt = of(CLOSE, ICON);
+    static final boolean[] SectionSubscript = of(LPAREN, COLON, MINUS, PLUS, COLON_COLON, LPAREN_SLASH, NOT, TRUE,
+            FALSE, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] ImplicitSpecList = of(INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, TYPE,
+            DOUBLE);
+    static final boolean[] AttrSpecSeq = of(COMMA);
+    static final boolean[] PointerStmtObject = of(ID);
+    static final boolean[] SFVarName = of(ID);
+    static final boolean[] DefinedOperator = of(STAR, SLASH, MINUS, STAR_STAR, PLUS, EQUAL_EQUAL, SLASH_EQUAL, LESS,
+            LESS_EQUAL, GREATER, GREATER_EQUAL, BANG_EQUAL, OR, AND, NOT, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON,
+            ZCON);
+    static final boolean[] ExitStmt = of(EXIT, ICON);
+    static final boolean[] SFExpr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON, SP,
+            PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] PositionSpec = of(UNIT_EQUAL, ERR_EQUAL, IOSTAT_EQUAL);
+    static final boolean[] CommentOrNewline = of(NEWLINE, COMMENT);
+    static final boolean[] LblRefList = of(ICON);
+    static final boolean[] CommaSectionSubscript = of(COMMA);
+    static final boolean[] Formatsep = of(COLON, SLASH);
+    static final boolean[] NotOp = of(NOT, SP);
+    static final boolean[] FunctionName = of(ID);
+    static final boolean[] UFTerm = of(LPAREN, ID, SCON, ICON);
+    static final boolean[] TargetObjectList = of(ID);
+    static final boolean[] ExecutableProgram = of(END, INCLUDE, SUBROUTINE, PROGRAM, FUNCTION, ENTRY, BLOCKDATA,
+            DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL, DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT,
+            PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN, GOTO, IF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT,
+            OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, FORMAT, CALL, RETURN, PRIVATE, TYPE, POINTER, ALLOCATABLE,
+            INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, SELECTCASE,
+            SELECT, CYCLE, EXIT, MODULE, USE, INTERFACE, CONTAINS, DOUBLE, GO, ENDPROGRAM, BLOCK, RECURSIVE, ID, ICON);
+    static final boolean[] DoLabelStmt = of(END, ASSIGN, GOTO, IF, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN,
+            CLOSE, INQUIRE, BACKSPACE, ENDFILE, REWIND, CALL, RETURN, ALLOCATE, NULLIFY, DEALLOCATE, WHERE, CYCLE, EXIT,
+            GO, ID, ICON);
+    static final boolean[] PrintStmt = of(PRINT, ICON);
+    static final boolean[] UseStmt = of(USE, ICON);
+    static final boolean[] FunctionArgList = of(LPAREN, COLON, MINUS, PLUS, COLON_COLON, LPAREN_SLASH, NOT, TRUE, FALSE,
+            ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] KindSelector = of(LPAREN);
+    static final boolean[] WriteStmt = of(WRITE, ICON);
+    static final boolean[] InputImpliedDo = of(LPAREN);
+    static final boolean[] BlockDataName = of(ID);
+    static final boolean[] ReturnStmt = of(RETURN, ICON);
+    static final boolean[] OptionalParList = of(ID);
+    static final boolean[] NamelistGroups = of(SLASH);
+    static final boolean[] IncludeStmt = of(INCLUDE);
+    static final boolean[] Variable = of(ID);
+    static final boolean[] CycleStmt = of(CYCLE, ICON);
+    static final boolean[] AcValueList = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, NOT, TRUE, FALSE, ID, SCON, ICON, HCON,
+            FCON, SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] IfConstruct = of(IF, ICON);
+    static final boolean[] BlockDataBodyConstruct = of(INCLUDE, ENTRY, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL,
+            DOUBLEPRECISION, COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, FORMAT,
+            PRIVATE, TYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET, PUBLIC, NAMELIST, USE, INTERFACE, DOUBLE,
+            ICON);
+    static final boolean[] Level4Expr = of(LPAREN, MINUS, PLUS, LPAREN_SLASH, TRUE, FALSE, ID, SCON, ICON, HCON, FCON,
+            SP, PCON, RDCON, BCON, OCON, ZCON);
+    static final boolean[] EndSubroutineStmt = of(END, ENDSUBROUTINE, ICON);
+    static final boolean[] LabelDoStmt = of(DO, ICON);
+    static final boolean[] EndBlockDataStmt = of(END, ENDBLOCKDATA, ENDBLOCK, ICON);
+    static final boolean[] NamelistGroupObject = of(ID);
+    static final boolean[] ProgramStmt = of(PROGRAM, ICON);
+    static final boolean[] Only = of(OPERATOR, ASSIGNMENT, ID);
+    static final boolean[] RdCtlSpec = of(LPAREN);
+    static final boolean[] ParameterStmt = of(PARAMETER, ICON);
+    static final boolean[] InternalSubprogram = of(SUBROUTINE, FUNCTION, INTEGER, REAL, DOUBLEPRECISION, COMPLEX,
+            LOGICAL, CHARACTER, TYPE, DOUBLE, RECURSIVE, ICON);
+    static final boolean[] AssignmentStmt = of(ID, ICON);
+    static final boolean[] CloseSpecList = any();
+
+    private Lookahead() {
+    }
+
+    private static boolean[] of(TokenType... types) {
+        boolean[] table = new boolean[TokenType.values().length];
+
+        for (TokenType type : types) {
+            table[type.ordinal()] = true;
+        }
+
+        return table;
+    }
+
+    private static boolean[] any() {
+        boolean[] table = new boolean[TokenType.values().length];
+        Arrays.fill(table, true);
+
+        return table;
+    }
+}
@@ -0,0 +1,245 @@
+package uk.ac.soton.comp3200.fort2jul.parser;
+
+import java.util.Arrays;
+
+/**
+ * Packrat memo table for the backtracking parser. Results are keyed by (rule id, token index) so a rule that has already
+ * been tried at a position is answered from the table instead of being parsed again after a rewind. Each position
+ * holds its own column of rule results, allocated the first time a rule is recorded there. Columns before a position
+ * the parser will not rewind to can be discarded, along with the subtrees they hold.
+ */
+class MemoTable {
+
+    /**
+     * Approximate heap cost of one recorded result, used for reporting only
+     */
+    private static final int BYTES_PER_ENTRY = 24;
+
+    /**
+     * Approximate heap cost of an allocated column besides its slots, used for reporting only
+     */
+    private static final int BYTES_PER_COLUMN = 40;
+
+    /**
+     * Approximate heap cost of a slot of a column, used for reporting only
+     */
+    private static final int BYTES_PER_SLOT = 4;
+
+    /**
+     * Slots of a new column. Only a handful of the rules are tried at most positions, so a column indexed by every rule
+     * would be mostly empty
+     */
+    private static final int COLUMN_SLOTS = 8;
+
+    /**
+     * Result of applying a rule at a position
+     */
+    static final class Entry {
+
+        /**
+         * Id of the rule, the index Parser gives it
+         */
+        final int rule;
+
+        /**
+         * Position of the token stream after the rule succeeded
+         */
+        final int end;
+
+        /**
+         * Subtree built by the rule, null if the rule failed
+         */
+        final Ast.Node<String> node;
+
+        /**
+         * Records the result of a rule
+         * @param rule Id of rule
+         * @param end Position after the rule
+         * @param node Subtree of the rule, null on failure
+         */
+        Entry(int rule, int end, Ast.Node<String> node) {
+            this.rule = rule;
+            this.end = end;
+            this.node = node;
+        }
+    }
+
+    /**
+     * Results recorded at one position, in a flat array indexed by rule id and probed linearly from there. The array is
+     * kept at most half full, so a lookup reads a slot or two
+     */
+    private static final class Column {
+
+        private Entry[] slots = new Entry[COLUMN_SLOTS];
+
+        private int size = 0;
+
+        Entry get(int rule) {
+            int mask = slots.length - 1;
+
+            for (int i = rule & mask; slots[i] != null; i = (i + 1) & mask) {
+                if (slots[i].rule == rule) {
+                    return slots[i];
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Records a result, replacing any of the same rule
+         * @param entry Result
+         * @return Whether the rule had no result here before
+         */
+        boolean put(Entry entry) {
+            int mask = slots.length - 1;
+            int i = entry.rule & mask;
+
+            while (slots[i] != null) {
+                if (slots[i].rule == entry.rule) {
+                    slots[i] = entry;
+                    return false;
+                }
+
+                i = (i + 1) & mask;
+            }
+
+            slots[i] = entry;
+
+            if (++size * 2 > slots.length) {
+                Entry[] old = slots;
+                slots = new Entry[old.length * 2];
+                size = 0;
+
+                for (Entry moved : old) {
+                    if (moved != null) {
+                        put(moved);
+                    }
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * One column of results per token index from first on, grown as results are recorded further on
+     */
+    private Column[] columns;
+
+    /**
+     * Token index of the first column, those before it have been discarded
+     */
+    private int first = 0;
+
+    /**
+     * Number of columns from first on that may hold results
+     */
+    private int used = 0;
+
+    private int entries = 0;
+    private int allocatedColumns = 0;
+    private long slots = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates a memo table for a token stream
+     * @param size Number of tokens in the stream, or of those expected to be held at once if it is not known
+     */
+    MemoTable(int size) {
+        columns = new Column[size + 1];
+    }
+
+    /**
+     * Looks up the result of a rule at a position
+     * @param rule Id of rule
+     * @param position Token index
+     * @return Recorded result, null if the rule has not been tried at this position
+     */
+    Entry recall(int rule, int position) {
+        Column column = position >= first && position - first < columns.length ? columns[position - first] : null;
+        Entry entry = column == null ? null : column.get(rule);
+
+        if (entry == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Records the result of a rule at a position
+     * @param position Token index the rule started at
+     * @param entry Result of the rule
+     */
+    void store(int position, Entry entry) {
+        if (position < first) {
+            // The parser will not rewind this far
+            return;
+        }
+
+        if (position - first >= columns.length) {
+            columns = Arrays.copyOf(columns, Math.max(columns.length * 2, position - first + 1));
+        }
+
+        Column column = columns[position - first];
+        used = Math.max(used, position - first + 1);
+
+        if (column == null) {
+            column = new Column();
+            columns[position - first] = column;
+            allocatedColumns++;
+            slots += COLUMN_SLOTS;
+        }
+
+        int before = column.slots.length;
+
+        if (column.put(entry)) {
+            entries++;
+        }
+
+        slots += column.slots.length - before;
+    }
+
+    /**
+     * Drops the results of rules started before a position
+     * @param position Token index of the first column to keep
+     */
+    void discard(int position) {
+        if (position <= first) {
+            return;
+        }
+
+        int count = Math.min(position - first, used);
+
+        for (int i = 0; i < count; i++) {
+            if (columns[i] != null) {
+                entries -= columns[i].size;
+                slots -= columns[i].slots.length;
+                allocatedColumns--;
+            }
+        }
+
+        System.arraycopy(columns, count, columns, 0, used - count);
+        Arrays.fill(columns, used - count, used, null);
+        used -= count;
+        first = position;
+    }
+
+    /**
+     * Summarises usage and approximate memory of the table
+     * @return Statistics of memo table
+     */
+    String stats() {
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0 : (100.0 * hits) / lookups;
+        long bytes = (long) entries * BYTES_PER_ENTRY + (long) allocatedColumns * BYTES_PER_COLUMN
+                + slots * BYTES_PER_SLOT + (long) columns.length * 4;
+
+        return String.format("Memo table: %d entries in %d/%d columns, %d hits of %d lookups (%.1f%%), ~%d KB",
+                entries, allocatedColumns, columns.length, hits, lookups, hitRate, bytes / 1024);
+    }
+}
@@ -0,0 +1,76 @@
+package uk.ac.soton.comp3200.fort2jul.parser;
+
+/**
+ * Kinds of node in the AST, named after the rule or token type that creates them, with LEXEME for the text of a token.
+ * This was automatically generated by GenerateParser from grammar_rules.json.
+ */
+public enum NodeKind {
+    AcImpliedDo, AcValueList, AcValueList1, AccessId, AccessIdList, AccessSpec, AccessStmt, ActionStmt, AddOp,
+    AddOpAddOperand, AddOperand, AllocatableStmt, AllocateObject, AllocateObjectList, AllocateStmt, AllocatedShape,
+    Allocation, AllocationList, AndOp, AndOpAndOperand, AndOperand, ArithmeticIfStmt, ArrayAllocation,
+    ArrayAllocationList, ArrayConstructor, ArrayDeclarator, ArrayDeclaratorList, ArrayElement, ArrayName, ArraySpec,
+    AssignStmt, AssignedGotoStmt, AssignmentStmt, AssumedShapeSpec, AssumedShapeSpecList, AssumedSizeSpec, AttrSpec,
+    AttrSpecSeq, BackspaceStmt, BlockDataBody, BlockDataBodyConstruct, BlockDataName, BlockDataStmt,
+    BlockDataSubprogram, BlockDoConstruct, Body, BodyConstruct, BodyPlusInternals, BozLiteralConstant, CExpr, COperand,
+    CPrimary, CPrimaryConcatOp, CallStmt, CaseBodyConstruct, CaseConstruct, CaseSelector, CaseStmt, CaseValueRange,
+    CaseValueRangeList, CharLength, CharSelector, CloseSpec, CloseSpecList, CloseStmt, ColonColon, Comblock, Comlist,
+    CommaExpr, CommaInputItemList, CommaLoopControl, CommaSectionSubscript, CommentOrNewline, CommonBlockName,
+    CommonBlockObject, CommonStmt, ComplexComponent, ComplexConst, ComplexDataRef, ComplexDataRefTail,
+    ComponentArraySpec, ComponentAttrSpec, ComponentAttrSpecList, ComponentDecl, ComponentDeclList, ComponentDefStmt,
+    ComponentName, ComputedGotoStmt, ConcatOp, ConcatOpLevel2Expr, ConditionalBody, ConnectSpec, ConnectSpecList,
+    Constant, ContainsStmt, ContinueStmt, CycleStmt, DataIDoObject, DataIDoObjectList, DataImpliedDo, DataStmt,
+    DataStmtObject, DataStmtObjectList, DataStmtSet, DataStmtValue, DataStmtValueList, Datalist, DeallocateStmt,
+    DeclarationConstruct, DeferredShapeSpec, DeferredShapeSpecList, DefinedBinaryOp, DefinedOperator, DefinedUnaryOp,
+    DerivedTypeBody, DerivedTypeBodyConstruct, DerivedTypeDef, DerivedTypeStmt, DimensionStmt, DoConstruct, DoLabelStmt,
+    DoLblDef, DoLblRef, DoubleDoStmt, DummyArgName, EOS, EditElement, ElseConstruct, ElseIfConstruct, ElseIfStmt,
+    ElsePart, ElseStmt, ElseWhere, ElsewhereStmt, EndBlockDataStmt, EndDoStmt, EndFunctionStmt, EndIfStmt,
+    EndInterfaceStmt, EndModuleStmt, EndName, EndProgramStmt, EndSelectStmt, EndSubroutineStmt, EndTypeStmt,
+    EndWhereStmt, EndfileStmt, EntityDecl, EntityDeclList, EntryName, EntryStmt, EquivOp, EquivOpEquivOperand,
+    EquivOperand, EquivalenceObject, EquivalenceObjectList, EquivalenceSet, EquivalenceSetList, EquivalenceStmt,
+    ExecutableConstruct, ExecutableProgram, ExecutionPartConstruct, ExitStmt, ExplicitShapeSpec, ExplicitShapeSpecList,
+    Expr, ExprList, ExternalName, ExternalNameList, ExternalStmt, FieldSelector, FmtSpec, FormatEdit, FormatIdentifier,
+    FormatStmt, Formatsep, FunctionArg, FunctionArgList, FunctionInterfaceRange, FunctionName, FunctionPar,
+    FunctionParList, FunctionPars, FunctionPrefix, FunctionRange, FunctionReference, FunctionSubprogram, GenericName,
+    GenericSpec, GoToKw, GotoStmt, ICONOrScon, Ident, IfConstruct, IfStmt, IfThenStmt, ImplicitRange, ImplicitRanges,
+    ImplicitSpec, ImplicitSpecList, ImplicitStmt, ImpliedDoVariable, IncludeStmt, InputImpliedDo, InputItem,
+    InputItemList, InquireSpec, InquireSpecList, InquireStmt, IntentPar, IntentParList, IntentSpec, IntentStmt,
+    InterfaceBlock, InterfaceBlockBody, InterfaceBody, InterfaceBodyPartConstruct, InterfaceStmt, InternalSubprogram,
+    IntrinsicList, IntrinsicProcedureName, IntrinsicStmt, IoControlSpec, IoControlSpecList, KindParam, KindSelector,
+    Label, LabelDoStmt, LblDef, LblRef, LblRefList, LengthSelector, Level1Expr, Level2Expr, Level3Expr, Level4Expr,
+    Level5Expr, LogicalConstant, LoopControl, LowerBound, MainProgram, MainRange, MaskExpr, MislexedFCON, Module,
+    ModuleBody, ModuleName, ModuleProcedureStmt, ModuleStmt, ModuleSubprogram, ModuleSubprogramPartConstruct, MultOp,
+    MultOpMultOperand, MultOperand, Name, NameColon, NameDataRef, NamedConstant, NamedConstantDef, NamedConstantDefList,
+    NamedConstantUse, NamelistGroupName, NamelistGroupObject, NamelistGroups, NamelistStmt, NotOp, NullifyStmt,
+    ObjectName, Only, OnlyList, OpenStmt, OptionalPar, OptionalParList, OptionalStmt, OrOp, OrOperand, OrUpOrOperand,
+    OutputImpliedDo, OutputItemList, OutputItemList1, ParameterStmt, PauseStmt, PlusMinus, PointerAssignmentStmt,
+    PointerField, PointerObject, PointerObjectList, PointerStmt, PointerStmtObject, PointerStmtObjectList, PositionSpec,
+    PositionSpecList, PowerOp, PowerOpMultOperand, PowerUpMultOperand, Primary, PrintStmt, PrivateSequenceStmt,
+    ProcedureName, ProcedureNameList, ProgramName, ProgramStmt, ProgramUnit, RdCtlSpec, RdFmtId, RdFmtIdExpr,
+    RdIoCtlSpecList, RdUnitId, ReadStmt, RelOp, RelOpLevel3Expr, Rename, RenameList, ReturnStmt, RewindStmt,
+    SFDummyArgName, SFDummyArgNameList, SFExpr, SFExprList, SFExprListRef, SFFactor, SFPrimary, SFTerm, SFVarName,
+    SaveStmt, SavedCommonBlock, SavedEntity, SavedEntityList, ScalarVariable, SectionSubscript, SectionSubscriptList,
+    SectionSubscriptRef, SelectCaseBody, SelectCaseRange, Sign, SpecificationPartConstruct, SpecificationStmt,
+    StmtFunctionRange, StmtFunctionStmt, StopStmt, StructureComponent, StructureConstructor, SubprogramInterfaceBody,
+    SubroutineArg, SubroutineArgList, SubroutineInterfaceRange, SubroutineName, SubroutineNameUse, SubroutinePar,
+    SubroutineParList, SubroutinePars, SubroutineRange, SubroutineSubprogram, Subscript, SubscriptList,
+    SubscriptListRef, SubscriptTripletTail, SubstringRange, Target, TargetObject, TargetObjectList, TargetStmt,
+    ThenPart, TypeDeclarationStmt, TypeName, TypeParamValue, TypeSpec, UFExpr, UFFactor, UFPrimary, UFTerm,
+    UnitIdentifier, UnitIdentifierComma, UnsignedArithmeticConstant, UpperBound, UseName, UseStmt, Variable,
+    VariableComma, VariableName, Where, WhereConstruct, WhereConstructStmt, WhereStmt, WriteStmt, program, END, INCLUDE,
+    SUBROUTINE, PROGRAM, FUNCTION, ENTRY, BLOCKDATA, DIMENSION, EQUIVALENCE, COMMON, INTEGER, REAL, DOUBLEPRECISION,
+    COMPLEX, LOGICAL, CHARACTER, IMPLICIT, PARAMETER, EXTERNAL, INTRINSIC, SAVE, DATA, ASSIGN, TO, GOTO, IF, THEN,
+    ELSEIF, ELSE, ENDIF, DO, CONTINUE, STOP, PAUSE, WRITE, READ, PRINT, OPEN, CLOSE, INQUIRE, BACKSPACE, ENDFILE,
+    REWIND, FORMAT, CALL, RETURN, PRIVATE, SEQUENCE, TYPE, ENDTYPE, POINTER, ALLOCATABLE, INTENT, OPTIONAL, TARGET,
+    PUBLIC, IN, OUT, INOUT, NAMELIST, ALLOCATE, NULLIFY, DEALLOCATE, WHERE, ELSEWHERE, ENDWHERE, SELECTCASE, SELECT,
+    CASE, ENDSELECT, DEFAULT, ENDDO, CYCLE, EXIT, MODULE, ENDMODULE, USE, ONLY, INTERFACE, ENDINTERFACE, PROCEDURE,
+    OPERATOR, ASSIGNMENT, CONTAINS, DOUBLE, PRECISION, NONE, WHILE, GO, FILE, ENDPROGRAM, BLOCK, ENDBLOCKDATA, ENDBLOCK,
+    RECURSIVE, ENDFUNCTION, ENDSUBROUTINE, LPAREN, RPAREN, COMMA, STAR, COLON, SLASH, MINUS, EQUAL, DOLLAR, STAR_STAR,
+    PLUS, COLON_COLON, LPAREN_SLASH, SLASH_RPAREN, PERCENT, EQUAL_GREATER, UNDERSCORE, DOT, EQUAL_EQUAL, SLASH_EQUAL,
+    LESS, LESS_EQUAL, GREATER, GREATER_EQUAL, EXIST_EQUAL, ACTION_EQUAL, UNFORMATTED_EQUAL, FILE_EQUAL, READ_EQUAL,
+    RECL_EQUAL, ACCESS_EQUAL, BANG_EQUAL, REC_EQUAL, EOR_EQUAL, NAMED_EQUAL, UNIT_EQUAL, SIGN_EQUAL, FORM_EQUAL,
+    NAME_EQUAL, READWRITE_EQUAL, OR, BLANK_EQUAL, WRITE_EQUAL, KIND_EQUAL, PAD_EQUAL, OPENED_EQUAL, DELIM_EQUAL, AND,
+    NOT, NEXTREC_EQUAL, NUMBER_EQUAL, ERR_EQUAL, FORMATTED_EQUAL, SIZE_EQUAL, ADVANCE_EQUAL, IOLENGTH_EQUAL, FMT_EQUAL,
+    IOSTAT_EQUAL, NML_EQUAL, STAT_EQUAL, TRUE, DIRECT_EQUAL, STATUS_EQUAL, SEQUENTIAL_EQUAL, END_EQUAL, FALSE,
+    POSITION_EQUAL, LEN_EQUAL, NEWLINE, COMMENT, EPSILON, EOF, ID, SCON, ICON, HCON, FCON, SP, PCON, RDCON, BCON, OCON,
+    ZCON, XCON, LEXEME
+}
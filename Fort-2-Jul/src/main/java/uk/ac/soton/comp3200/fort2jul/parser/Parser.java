@@ -2,9 +2,11 @@ package uk.ac.soton.comp3200.fort2jul.parser;
 
 import org.apache.log4j.Logger;
 import uk.ac.soton.comp3200.fort2jul.lexer.Token;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenStream;
 import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;
+import uk.ac.soton.comp3200.fort2jul.util.Trace;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
@@ -12,51 +14,129 @@ import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
 /**
  * Parser class is responsible for parsing the list of tokens and constructing the resultant syntax tree,
  * if and only if the program is syntactically correct. Each method reflects a given rule in Fortran 77. Parser
- * state is restored for each rule failed if there are other rules in a given method.
+ * state is restored for each rule failed if there are other rules in a given method. All parser state belongs to
+ * the instance, so separate parsers may run on separate threads; a single parser must not be shared between threads.
+ * Each rule first checks the current token against the tokens it can start with, kept in Lookahead, and fails without
+ * trying its alternatives on any other token. The tables are worked out from grammar_rules.json, so a rule method that
+ * starts with a token its rule in the grammar cannot start with needs a production added there.
+ * This was automatically generated by GenerateParser from grammar_rules.json and the rule bodies written by hand in
+ * hand_written_rules.txt, so change those and run it again rather than editing this class.
  */
 public class Parser {
 
 	private static final Logger logger = Logger.getLogger(Parser.class);
 
 	/**
-	 * Token stream
+	 * Stream of tokens to parse
 	 */
-	private static List<Token> tokens = new ArrayList<>();
+	private final TokenStream stream;
 
 	/**
-	 * Pointer of token stream
+	 * AST of program
 	 */
-	private static int current = 0;
+	private Ast<String> ast = new Ast<>( new Ast.Node<>());
 
 	/**
-	 * AST of program
+	 * Memo table columns allocated up front when the number of tokens is not known
 	 */
-	private Ast<String> ast = new Ast<>( new Ast.Node<>());
+	private static final int MEMO_COLUMNS = 1024;
 
 	/**
-	 * Saves parser state for back tracking
+	 * Names of the rules, indexed by the id each rule method looks its results up by in the memo table
 	 */
-	private static class ParserState {
-		/**
-		 * Current position
-		 */
-		int current;
+	private static final String[] RULES = {
+		"DummyArgName", "ElseStmt", "EquivalenceObjectList", "SFExpr", "SFTerm", "SFFactor", "SFPrimary", "SFVarName",
+		"SFExprList", "ActionStmt", "EndfileStmt", "IfStmt", "EquivalenceSetList", "NamedConstantUse", "OrOperand",
+		"UpperBound", "BodyConstruct", "EquivalenceObject", "Level5Expr", "LoopControl", "IntrinsicList",
+		"TypeParamValue", "SubroutineRange", "ExternalNameList", "SubscriptList", "AssignedGotoStmt",
+		"PowerOpMultOperand", "Expr", "EquivalenceSet", "ElseConstruct", "ElsePart", "ExternalName", "AndOp",
+		"CommaExpr", "InputItemList", "MultOpMultOperand", "ElseIfConstruct", "ElseIfStmt", "AddOperand", "MainProgram",
+		"VariableComma", "DataStmtValueList", "LblRef", "CPrimary", "PauseStmt", "ArrayDeclaratorList",
+		"ExecutableConstruct", "FormatStmt", "StmtFunctionRange", "UnsignedArithmeticConstant", "RdFmtIdExpr",
+		"OutputImpliedDo", "SavedEntity", "MultOperand", "InquireStmt", "Level1Expr", "StmtFunctionStmt",
+		"DataStmtValue", "NamedConstantDefList", "ImplicitRange", "InquireSpec", "DataStmtObjectList", "AssignStmt",
+		"FormatEdit", "Label", "RelOp", "DimensionStmt", "NamedConstant", "SavedEntityList", "Name", "NamedConstantDef",
+		"PlusMinus", "CommaLoopControl", "Comblock", "DataIDoObject", "BlockDataSubprogram", "GotoStmt", "OpenStmt",
+		"BackspaceStmt", "SubroutineArgList", "ArrayElement", "ICONOrScon", "Comlist", "ScalarVariable",
+		"SpecificationPartConstruct", "EquivalenceStmt", "LogicalConstant", "ArrayDeclarator", "SavedCommonBlock",
+		"CharLength", "ProgramName", "EndName", "EndProgramStmt", "DataStmtObject", "FmtSpec", "ArithmeticIfStmt",
+		"ReadStmt", "SpecificationStmt", "ConditionalBody", "InquireSpecList", "RewindStmt", "SectionSubscriptRef",
+		"CommonBlockName", "ImplicitRanges", "CPrimaryConcatOp", "VariableName", "Subscript", "DataStmt",
+		"LengthSelector", "TypeDeclarationStmt", "COperand", "SectionSubscriptList", "AndOperand", "EquivOperand",
+		"SubroutineNameUse", "NameDataRef", "SubscriptTripletTail", "DataStmtSet", "EOS", "ComplexConst", "CallStmt",
+		"OutputItemList", "FunctionPar", "SubroutineName", "ObjectName", "UFFactor", "ExplicitShapeSpec", "UFPrimary",
+		"MislexedFCON", "ComplexDataRefTail", "ComplexDataRef", "InputItem", "SubroutineParList", "Level2Expr",
+		"FormatIdentifier", "IoControlSpec", "GoToKw", "RelOpLevel3Expr", "RdIoCtlSpecList", "SubroutineSubprogram",
+		"CExpr", "ComputedGotoStmt", "DeclarationConstruct", "SubroutinePars", "EquivOp", "ArraySpec", "CommonStmt",
+		"ConcatOpLevel2Expr", "StopStmt", "CloseSpec", "ExplicitShapeSpecList", "IoControlSpecList",
+		"ImpliedDoVariable", "ExecutionPartConstruct", "EntityDeclList", "UFExpr", "EntryName", "SFDummyArgNameList",
+		"CommonBlockObject", "RdFmtId", "EntityDecl", "SubroutineArg", "PositionSpecList", "ConcatOp",
+		"IntrinsicProcedureName", "FunctionSubprogram", "DataIDoObjectList", "FunctionPars", "CommaInputItemList",
+		"SFDummyArgName", "ImplicitSpec", "IntrinsicStmt", "LowerBound", "Level3Expr", "ImplicitStmt", "SaveStmt",
+		"MainRange", "FunctionReference", "MultOp", "AssumedSizeSpec", "DataImpliedDo", "OrOp", "FunctionRange",
+		"SubroutinePar", "DoLblRef", "OutputItemList1", "AddOpAddOperand", "ConnectSpecList", "CloseStmt",
+		"SectionSubscript", "ImplicitSpecList", "PositionSpec", "CommentOrNewline", "ExternalStmt", "BlockDataStmt",
+		"AddOp", "LblRefList", "FunctionPrefix", "SubstringRange", "DoConstruct", "Formatsep", "NotOp", "ConnectSpec",
+		"FunctionName", "UFTerm", "Primary", "ExecutableProgram", "PrintStmt", "UnitIdentifier", "FunctionParList",
+		"ProgramUnit", "WriteStmt", "InputImpliedDo", "BlockDataName", "ReturnStmt", "PowerOp", "TypeSpec", "Variable",
+		"Constant", "EndFunctionStmt", "LblDef", "IfThenStmt", "IfConstruct", "ThenPart", "EndIfStmt",
+		"BlockDataBodyConstruct", "Level4Expr", "EndSubroutineStmt", "LabelDoStmt", "EndBlockDataStmt", "Body",
+		"Datalist", "ComplexComponent", "Ident", "EntryStmt", "ProgramStmt", "RdCtlSpec", "RdUnitId", "ParameterStmt",
+		"ContinueStmt", "AssignmentStmt", "Sign", "EditElement", "CloseSpecList", "BlockDataBody"
+	};
+
+	/**
+	 * Packrat memo table of rule results, null when memoization is off
+	 */
+	private final MemoTable memoTable;
 
-		/**
-		 * Save current position for backtracing
-		 * @param current
-		 */
-		ParserState(int current) {
-			this.current = current;
-		}
+	/**
+	 * Class constructor for parser
+	 * @param tokens
+	 */
+	public Parser(TokenBuffer tokens) {
+		this(tokens, false);
 	}
 
 	/**
 	 * Class constructor for parser
 	 * @param tokens
+	 * @param memoize Caches the result of each rule at each position, trading memory for less re-parsing
+	 */
+	public Parser(TokenBuffer tokens, boolean memoize) {
+		this.stream = tokens.stream();
+		this.memoTable = memoize ? new MemoTable(tokens.size()) : null;
+	}
+
+	/**
+	 * Class constructor for parser over a list of tokens, which are copied into a token buffer
+	 * @param tokens
 	 */
 	public Parser(List<Token> tokens) {
-		Parser.tokens = tokens;
+		this(TokenBuffer.of(tokens), false);
+	}
+
+	/**
+	 * Class constructor for parser over a list of tokens, which are copied into a token buffer
+	 * @param tokens
+	 * @param memoize Caches the result of each rule at each position, trading memory for less re-parsing
+	 */
+	public Parser(List<Token> tokens, boolean memoize) {
+		this(TokenBuffer.of(tokens), memoize);
+	}
+
+	/**
+	 * Class constructor for parser over a stream of tokens, such as one scanning the source text as it is parsed.
+	 * If it is, tokens and memoized results before each parsed program unit, and each parsed statement of a body,
+	 * are discarded. The parser never backtracks into an earlier unit, nor into an earlier statement of a program that
+	 * parses, as each rule with a body parses it once. Should it backtrack into one while failing to parse a program,
+	 * the stream scans the source text again
+	 * @param tokens
+	 * @param memoize Caches the result of each rule at each position, trading memory for less re-parsing
+	 */
+	public Parser(TokenStream tokens, boolean memoize) {
+		this.stream = tokens;
+		this.memoTable = memoize ? new MemoTable(MEMO_COLUMNS) : null;
 	}
 
 	/**
@@ -66,7 +146,19 @@ public class Parser {
 	public Ast<String> parseTokens() {
 		logger.info("Parsing tokens");
 
-		if (!topProduction()) {
+		stream.reset(0);
+
+		boolean parsed = topProduction();
+
+		if (memoTable != null) {
+			logger.info(memoTable.stats());
+		}
+
+		if (stream.discards()) {
+			logger.info("Held at most " + stream.peakResident() + " tokens at once, scanned again " + stream.rescans() + " times");
+		}
+
+		if (!parsed) {
 			logger.error("Parsing failed, returning null");
 
 			return null;
@@ -74,9 +166,81 @@ public class Parser {
 
 		logger.info("Parsing successful, returning syntax tree");
 
+		ast.compact(ast.getRootNode());
+
 		return ast;
 	}
 
+	/**
+	 * Entry point for parsing a single program unit at the current position, so a program can be parsed one unit at a
+	 * time. Units are parsed exactly as program does, so the units of a whole program end where they would here
+	 * @return ProgramUnit node, null if no unit could be parsed
+	 */
+	public Ast.Node<String> parseProgramUnit() {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExecutableProgram);
+
+		if (!ProgramUnit(node)) {
+			return null;
+		}
+
+		ast.compact(node);
+
+		return ast.getChildren(node).get(0);
+	}
+
+	/**
+	 * Entry point for parsing a single comment or newline at the current position, as found before the first and
+	 * after the last program unit
+	 * @return CommentOrNewline node, null if there is none
+	 */
+	public Ast.Node<String> parseCommentOrNewline() {
+		Ast.Node<String> node = ast.createNode(NodeKind.program);
+
+		if (!CommentOrNewline(node)) {
+			return null;
+		}
+
+		ast.compact(node);
+
+		return ast.getChildren(node).get(0);
+	}
+
+	/**
+	 * Discards the tokens and memoized results before the next token to parse, once a program unit or a statement of a
+	 * body has been parsed from a stream that scans as it goes
+	 * @return true, so it can follow the rule in a sequence
+	 */
+	private boolean discard() {
+		// A buffered stream keeps every token anyway, and dropping memoized results would only lose them
+		if (!stream.discards()) {
+			return true;
+		}
+
+		stream.discard();
+
+		if (memoTable != null) {
+			memoTable.discard(stream.mark());
+		}
+
+		return true;
+	}
+
+	/**
+	 * Index of the next token to parse
+	 * @return Position
+	 */
+	public int position() {
+		return stream.mark();
+	}
+
+	/**
+	 * Index of the furthest token looked at, a failed parse would fail the same whatever follows it
+	 * @return Position
+	 */
+	public int furthestPosition() {
+		return stream.furthest();
+	}
+
 	/**
 	 * Entry point for parsing rules
 	 * @return Boolean
@@ -91,24 +255,78 @@ public class Parser {
 		return true;
 	}
 
+	/**
+	 * Parses a whole program, comments and newlines around its units included, as the AST
+	 * @return Boolean
+	 */
+	private boolean program() {
+		int start = stream.mark();
+		Ast.Node<String> node = ast.createNode(NodeKind.program);
+
+		while (CommentOrNewline(node)) ;
+		if (!ExecutableProgram(node)) {
+			stream.reset(start);
+			return false;
+		}
+		while (CommentOrNewline(node)) ;
+
+		ast = new Ast<>(node);
+		return true;
+	}
+
+	/**
+	 * Parses a single name as the AST, when the tokens are not a program
+	 * @return Boolean
+	 */
+	private boolean SFVarName() {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFVarName);
+
+		if (!Ident(node)) {
+			return false;
+		}
+
+		ast = new Ast<>(node);
+		return true;
+	}
+
 	/**
 	* DummyArgName ::= 	Ident
 	*/
 	private boolean DummyArgName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DummyArgName)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(0, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DummyArgNameProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(0, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(0, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("DummyArgName");
+	private Ast.Node<String> DummyArgNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DummyArgName);
 
 		boolean a = Ident(node);
 
 		if (a) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -119,90 +337,148 @@ public class Parser {
 	*           | 	IN_2
 	*/
 	private boolean ElseStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ElseStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(1, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ElseStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(1, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(1, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ElseStmt");
+	private Ast.Node<String> ElseStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ElseStmt);
 
 		boolean a = LblDef(node);
 		boolean b = ELSE(node);
 		boolean c = EOS(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* EquivalenceObjectList ::= 	EquivalenceObject+
 	*/
 	private boolean EquivalenceObjectList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivalenceObjectList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EquivalenceObjectList");
+		int start = stream.mark();
 
-		boolean a = EquivalenceObject(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = EquivalenceObjectList(node);
+		Boolean memo = recall(2, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = EquivalenceObjectListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(2, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(2, start, node);
+		return true;
+	}
 
-		node = ast.createNode("EquivalenceObjectList");
+	private Ast.Node<String> EquivalenceObjectListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivalenceObjectList);
 
-		boolean e = EquivalenceObject(node);
+		boolean a = EquivalenceObject(node);
 
-		if (e) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && EquivalenceObject(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
+	/**
+	* SFExpr ::= 	SFTerm
+	*/
 	private boolean SFExpr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFExpr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(3, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFExpr");
+		Ast.Node<String> node = SFExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(3, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(3, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFExpr);
 
 		boolean a = SFTerm(node);
 
 		if (a) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExpr");
+		node = ast.createNode(NodeKind.SFExpr);
 
 		boolean b = Sign(node);
 		boolean c = AddOperand(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExpr");
+		node = ast.createNode(NodeKind.SFExpr);
 
 		boolean f = AddOperand(node);
 		boolean e = AddOp(node);
@@ -212,31 +488,52 @@ public class Parser {
 		}
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* SFTerm ::= 	SFFactor
+	*/
 	private boolean SFTerm(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFTerm)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(4, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SFTermProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(4, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFTerm");
+		ast.addChild(parentNode, node);
+		memoize(4, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFTermProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFTerm);
 
 		boolean a = SFFactor(node);
 
 		if (a) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFTerm");
+		node = ast.createNode(NodeKind.SFTerm);
 
 		boolean b = MultOperand(node);
 		boolean c = MultOp(node);
@@ -247,121 +544,178 @@ public class Parser {
 		}
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* SFFactor ::= 	MultOperand
+	*           | 	PowerOp
+	*           | 	SFPrimary
+	*/
 	private boolean SFFactor(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFFactor)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(5, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SFFactorProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(5, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFFactor");
+		ast.addChild(parentNode, node);
+		memoize(5, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFFactorProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFFactor);
 
 		boolean a = MultOperand(node);
 		boolean b = PowerOp(node);
 		boolean c = SFPrimary(node);
 
 		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFFactor");
+		node = ast.createNode(NodeKind.SFFactor);
 
 		boolean d = SFPrimary(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* SFPrimary ::= 	Icon
+	*/
 	private boolean SFPrimary(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFPrimary)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("SFPrimary");
+		Boolean memo = recall(6, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SFPrimaryProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(6, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(6, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFPrimaryProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFPrimary);
 
 		boolean a = ICON(node);
 
 		if (a) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFPrimary");
+		node = ast.createNode(NodeKind.SFPrimary);
 
 		boolean b = SFVarName(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFPrimary");
+		node = ast.createNode(NodeKind.SFPrimary);
 
 		boolean c = ComplexDataRef(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFPrimary");
+		node = ast.createNode(NodeKind.SFPrimary);
 
 		boolean d = FunctionReference(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFPrimary");
+		node = ast.createNode(NodeKind.SFPrimary);
 
 		boolean e = LPAREN(node);
 		boolean f = Expr(node);
 		boolean g = RPAREN(node);
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SFVarName ::= 	Ident
 	*/
 	private boolean SFVarName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFVarName)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(7, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFVarName");
+		Ast.Node<String> node = SFVarNameProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(7, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(7, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFVarNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFVarName);
 
 		boolean a1 = Ident(node);
 		boolean b1 = DOLLAR(node);
@@ -370,14 +724,10 @@ public class Parser {
 		boolean e1 = RPAREN(node);
 
 		if (a1 && b1 && c1 && d1 && e1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -386,9 +736,32 @@ public class Parser {
 	*           | 	Expr?
 	*/
 	private boolean SFExprList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFExprList)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("SFExprList");
+		Boolean memo = recall(8, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SFExprListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(8, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(8, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFExprListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFExprList);
 
 		boolean a1 = SFDummyArgNameList(node);
 		boolean b1 = COMMA(node);
@@ -397,14 +770,12 @@ public class Parser {
 		boolean e1 = Expr(node);
 
 		if (a1 && b1 && c1 && d1 && e1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean w = SFDummyArgNameList(node);
 		boolean x = COMMA(node);
@@ -412,14 +783,12 @@ public class Parser {
 		boolean z = COLON(node);
 
 		if (w && x && y && z) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean p = SFDummyArgNameList(node);
 		boolean q = COMMA(node);
@@ -427,54 +796,46 @@ public class Parser {
 		boolean s = Expr(node);
 
 		if (p && q && r && s) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean b = COLON(node);
 		boolean c = Expr(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean g = Expr(node);
 		boolean h = COLON(node);
 		boolean i = Expr(node);
 
 		if (g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean e = Expr(node);
 		boolean f = COLON(node);
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean l = SectionSubscript(node);
 		boolean k = COMMA(node);
@@ -485,365 +846,325 @@ public class Parser {
 		}
 
 		if (j && k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean m = SFDummyArgNameList(node);
 		boolean n = COMMA(node);
 		boolean o = COLON(node);
 
 		if (m && n && o) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean t = SFDummyArgNameList(node);
 		boolean u = COMMA(node);
 		boolean v = Expr(node);
 
 		if (t && u && v) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean o1 = Expr(node);
 
 		if (o1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean d = SFExpr(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean a = COLON(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SFExprList");
+		node = ast.createNode(NodeKind.SFExprList);
 
 		boolean z1 = SFDummyArgNameList(node);
 
 		if (z1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ActionStmt ::= 	ArithmeticIfStmt
 	*/
 	private boolean ActionStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ActionStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(9, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ActionStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(9, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(9, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ActionStmt");
+	private Ast.Node<String> ActionStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean p = PrintStmt(node);
 
 		if (p) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean a = ArithmeticIfStmt(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean b = AssignmentStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean c = AssignStmt(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean d = BackspaceStmt(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean e = CallStmt(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean f = CloseStmt(node);
 
 		if (f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean g = ContinueStmt(node);
 
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean h = EndfileStmt(node);
 
 		if (h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean i = GotoStmt(node);
 
 		if (i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean j = ComputedGotoStmt(node);
 
 		if (j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean k = AssignedGotoStmt(node);
 
 		if (k) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean l = IfStmt(node);
 
 		if (l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean m = InquireStmt(node);
 
 		if (m) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean n = OpenStmt(node);
 
 		if (n) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean o = PauseStmt(node);
 
 		if (o) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean q = ReadStmt(node);
 
 		if (q) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean r = ReturnStmt(node);
 
 		if (r) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean s = RewindStmt(node);
 
 		if (s) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean t = StmtFunctionStmt(node);
 
 		if (t) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean u = StopStmt(node);
 
 		if (u) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ActionStmt");
+		node = ast.createNode(NodeKind.ActionStmt);
 
 		boolean v = WriteStmt(node);
 
 		if (v) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -853,9 +1174,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EndfileStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndfileStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(10, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EndfileStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(10, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(10, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EndfileStmt");
+	private Ast.Node<String> EndfileStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndfileStmt);
 
 		boolean a = LblDef(node);
 		boolean b = ENDFILE(node);
@@ -863,14 +1207,12 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if ((b && c && d) || (a && b && c && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EndfileStmt");
+		node = ast.createNode(NodeKind.EndfileStmt);
 
 		boolean e = LblDef(node);
 		boolean f = ENDFILE(node);
@@ -880,14 +1222,10 @@ public class Parser {
 		boolean j = EOS(node);
 
 		if ((f && g && h && i && j) || (e && f && g && h && i && j)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -899,9 +1237,32 @@ public class Parser {
 	*           | 	ActionStmt
 	*/
 	private boolean IfStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IfStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("IfStmt");
+		Boolean memo = recall(11, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = IfStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(11, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(11, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> IfStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IfStmt);
 
 		boolean a = LblDef(node);
 		boolean b = IF(node);
@@ -918,83 +1279,136 @@ public class Parser {
 		}
 
 		if ((b && c && d && e && f) || (a && b && c && d && e && f)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* EquivalenceSetList ::= 	EquivalenceSet+
 	*/
 	private boolean EquivalenceSetList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivalenceSetList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EquivalenceSetList");
+		int start = stream.mark();
 
-		boolean a = EquivalenceSet(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = EquivalenceSetList(node);
+		Boolean memo = recall(12, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = EquivalenceSetListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(12, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(12, start, node);
+		return true;
+	}
 
-		node = ast.createNode("EquivalenceSetList");
+	private Ast.Node<String> EquivalenceSetListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivalenceSetList);
 
-		boolean e = EquivalenceSet(node);
+		boolean a = EquivalenceSet(node);
 
-		if (e) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && EquivalenceSet(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* NamedConstantUse ::= 	Ident
 	*/
 	private boolean NamedConstantUse(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.NamedConstantUse)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("NamedConstantUse");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(13, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = NamedConstantUseProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(13, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(13, start, node);
+		return true;
 	}
 
+	private Ast.Node<String> NamedConstantUseProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.NamedConstantUse);
+
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
+	}
 
 	/**
 	* OrOperand ::= 	AndOperand
 	*           | 	AndOpAndOperand*
 	*/
 	private boolean OrOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.OrOperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(14, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = OrOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(14, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(14, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("OrOperand");
+	private Ast.Node<String> OrOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.OrOperand);
 
 		boolean a = AndOperand(node);
 		if (a) {
@@ -1002,89 +1416,140 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* UpperBound ::= 	Expr
 	*/
 	private boolean UpperBound(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UpperBound)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("UpperBound");
+		int start = stream.mark();
 
-		boolean a = Expr(node);
+		Boolean memo = recall(15, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = UpperBoundProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(15, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(15, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> UpperBoundProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UpperBound);
 
-		return false;
+		boolean a = Expr(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* BodyConstruct ::= 	SpecificationPartConstruct
 	*/
 	private boolean BodyConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.BodyConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("BodyConstruct");
+		Boolean memo = recall(16, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = BodyConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(16, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(16, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> BodyConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BodyConstruct);
 
 		boolean b = ExecutableConstruct(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("BodyConstruct");
+		node = ast.createNode(NodeKind.BodyConstruct);
 
 		boolean a = SpecificationPartConstruct(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* EquivalenceObject ::= 	Variable
 	*/
 	private boolean EquivalenceObject(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivalenceObject)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EquivalenceObject");
+		int start = stream.mark();
 
-		boolean a = Variable(node);
+		Boolean memo = recall(17, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = EquivalenceObjectProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(17, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(17, start, node);
+		return true;
+	}
 
-		return false;
+	private Ast.Node<String> EquivalenceObjectProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivalenceObject);
+
+		boolean a = Variable(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -1092,9 +1557,32 @@ public class Parser {
 	*           | 	EquivOpEquivOperand*
 	*/
 	private boolean Level5Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Level5Expr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(18, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = Level5ExprProduction(start);
 
-		Ast.Node<String> node = ast.createNode("Level5Expr");
+		if (node == null) {
+			stream.reset(start);
+			memoize(18, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(18, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> Level5ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Level5Expr);
 
 		boolean a = EquivOperand(node);
 		if (a) {
@@ -1102,14 +1590,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1121,9 +1605,32 @@ public class Parser {
 	*           | 	CommaExpr?
 	*/
 	private boolean LoopControl(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LoopControl)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(19, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = LoopControlProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(19, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(19, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("LoopControl");
+	private Ast.Node<String> LoopControlProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LoopControl);
 
 		boolean a = VariableName(node);
 		boolean b = EQUAL(node);
@@ -1139,85 +1646,113 @@ public class Parser {
 		boolean f = CommaExpr(node);
 
 		if ((a && b && c && d && e && f) || (a && b && c && d && e)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
-
 	/**
 	* IntrinsicList ::= 	IntrinsicProcedureName+
 	*/
 	private boolean IntrinsicList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IntrinsicList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("IntrinsicList");
+		int start = stream.mark();
 
-		boolean a = IntrinsicProcedureName(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = IntrinsicList(node);
+		Boolean memo = recall(20, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = IntrinsicListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(20, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(20, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> IntrinsicListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IntrinsicList);
 
-		node = ast.createNode("IntrinsicList");
+		boolean a = IntrinsicProcedureName(node);
 
-		boolean e = IntrinsicProcedureName(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (e) {
+			if (COMMA(node) && IntrinsicProcedureName(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* TypeParamValue ::= 	Expr
 	*/
 	private boolean TypeParamValue(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.TypeParamValue)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(21, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = TypeParamValueProduction(start);
 
-		Ast.Node<String> node = ast.createNode("TypeParamValue");
+		if (node == null) {
+			stream.reset(start);
+			memoize(21, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(21, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> TypeParamValueProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.TypeParamValue);
 
 		boolean b = STAR(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeParamValue");
+		node = ast.createNode(NodeKind.TypeParamValue);
 
 		boolean a = Expr(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1227,9 +1762,32 @@ public class Parser {
 	*           | 	EndSubroutineStmt
 	*/
 	private boolean SubroutineRange(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineRange)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("SubroutineRange");
+		Boolean memo = recall(22, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubroutineRangeProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(22, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(22, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubroutineRangeProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineRange);
 
 		boolean a = SubroutineParList(node);
 		boolean b = EOS(node);
@@ -1237,89 +1795,116 @@ public class Parser {
 		boolean d = EndSubroutineStmt(node);
 
 		if ((a && b && c && d) || (b && c && d) || (a && b && d) || (b && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ExternalNameList ::= 	ExternalName+
 	*/
 	private boolean ExternalNameList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExternalNameList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ExternalNameList");
+		int start = stream.mark();
 
-		boolean a = ExternalName(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = ExternalNameList(node);
+		Boolean memo = recall(23, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = ExternalNameListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(23, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(23, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ExternalNameListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExternalNameList);
 
-		node = ast.createNode("ExternalNameList");
+		boolean a = ExternalName(node);
 
-		boolean d = ExternalName(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (d) {
+			if (COMMA(node) && ExternalName(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* SubscriptList ::= 	Subscript+
 	*/
 	private boolean SubscriptList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubscriptList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SubscriptList");
+		int start = stream.mark();
 
-		boolean a = Subscript(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = SubscriptList(node);
+		Boolean memo = recall(24, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if ((a && b && c)) {
+		Ast.Node<String> node = SubscriptListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(24, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(24, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubscriptListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubscriptList);
 
-		node = ast.createNode("SubscriptList");
+		boolean a = Subscript(node);
 
-		boolean e = Subscript(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (e) {
+			if (COMMA(node) && Subscript(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
@@ -1329,9 +1914,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean AssignedGotoStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AssignedGotoStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(25, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AssignedGotoStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(25, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("AssignedGotoStmt");
+		ast.addChild(parentNode, node);
+		memoize(25, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> AssignedGotoStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AssignedGotoStmt);
 
 		boolean a = LblDef(node);
 		boolean b = GoToKw(node);
@@ -1339,14 +1947,12 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssignedGotoStmt");
+		node = ast.createNode(NodeKind.AssignedGotoStmt);
 
 		boolean e = LblDef(node);
 		boolean f = GoToKw(node);
@@ -1357,14 +1963,12 @@ public class Parser {
 		boolean k = EOS(node);
 
 		if (f && g && h && i && j && k) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssignedGotoStmt");
+		node = ast.createNode(NodeKind.AssignedGotoStmt);
 
 		boolean l = LblDef(node);
 		boolean m = GoToKw(node);
@@ -1375,20 +1979,43 @@ public class Parser {
 		boolean r = EOS(node);
 
 		if (m && n && o && p && q && r) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* PowerOpMultOperand ::= 	PowerOp
+	*           | 	MultOperand
+	*/
 	private boolean PowerOpMultOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.PowerOpMultOperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(26, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = PowerOpMultOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(26, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("PowerOpMultOperand");
+		ast.addChild(parentNode, node);
+		memoize(26, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> PowerOpMultOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PowerOpMultOperand);
 
 		boolean a = PowerOp(node);
 		boolean b = false; //MultOperand(node);
@@ -1398,35 +2025,50 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Expr ::= 	Level5Expr
 	*/
 	private boolean Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Expr)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Expr");
+		int start = stream.mark();
 
-		boolean a = Level5Expr(node);
+		Boolean memo = recall(27, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = ExprProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(27, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(27, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Expr);
 
-		return false;
+		boolean a = Level5Expr(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -1437,9 +2079,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean EquivalenceSet(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivalenceSet)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(28, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EquivalenceSetProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(28, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(28, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EquivalenceSet");
+	private Ast.Node<String> EquivalenceSetProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivalenceSet);
 
 		boolean a = LPAREN(node);
 		boolean b = EquivalenceObject(node);
@@ -1448,14 +2113,10 @@ public class Parser {
 		boolean e = RPAREN(node);
 
 		if (a && b && c && d && e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1463,9 +2124,32 @@ public class Parser {
 	*           | 	ConditionalBody
 	*/
 	private boolean ElseConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ElseConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(29, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ElseConstructProduction(start);
 
-		Ast.Node<String> node = ast.createNode("ElseConstruct");
+		if (node == null) {
+			stream.reset(start);
+			memoize(29, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(29, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ElseConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ElseConstruct);
 
 		boolean a = ElseStmt(node);
 		boolean b = false;
@@ -1475,54 +2159,92 @@ public class Parser {
 		}
 
 		if (a && b) {
+			return node;
+		}
 
-			ast.addChild(parentNode, node);
-			return true;
+		return null;
+	}
+
+	/**
+	* ElsePart ::= 	ConditionalBody?
+	*           | 	EndIfStmt
+	*/
+	private boolean ElsePart(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.ElsePart)) {
+			return false;
 		}
 
-		current = state.current;
+		int start = stream.mark();
 
-		return false;
+		Boolean memo = recall(30, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ElsePartProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(30, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(30, start, node);
+		return true;
 	}
 
-	private boolean ElsePart(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("ElsePart");
+	private Ast.Node<String> ElsePartProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ElsePart);
 
 		boolean a = ConditionalBody(node);
 		boolean b = EndIfStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ExternalName ::= 	Ident
 	*/
 	private boolean ExternalName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExternalName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ExternalName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(31, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = ExternalNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(31, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(31, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ExternalNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExternalName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -1531,35 +2253,52 @@ public class Parser {
 	*           | 	SP
 	*/
 	private boolean AndOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AndOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(32, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AndOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(32, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(32, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("AndOp");
+	private Ast.Node<String> AndOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AndOp);
 
 		boolean a = SP(node);
 		boolean b = AND(node);
 		boolean c = SP(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AndOp");
+		node = ast.createNode(NodeKind.AndOp);
 
 		boolean d = AND(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1567,9 +2306,32 @@ public class Parser {
 	*           | 	Expr
 	*/
 	private boolean CommaExpr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommaExpr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(33, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		Ast.Node<String> node = ast.createNode("CommaExpr");
+		Ast.Node<String> node = CommaExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(33, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(33, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> CommaExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommaExpr);
 
 		boolean a = COMMA(node);
 		boolean b = false;
@@ -1578,23 +2340,42 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* InputItemList ::= 	InputItem+
 	*/
 	private boolean InputItemList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.InputItemList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(34, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = InputItemListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(34, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(34, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("InputItemList");
+	private Ast.Node<String> InputItemListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.InputItemList);
 
 		boolean a = InputItem(node);
 		boolean b = COMMA(node);
@@ -1604,26 +2385,21 @@ public class Parser {
 		}
 
 		if ((a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InputItemList");
+		node = ast.createNode(NodeKind.InputItemList);
 
 		boolean d = InputItem(node);
 		boolean e = EQUAL(node);
 
 		if (d && !e) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1631,22 +2407,41 @@ public class Parser {
 	*           | 	MultOperand
 	*/
 	private boolean MultOpMultOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.MultOpMultOperand)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("MultOpMultOperand");
+		int start = stream.mark();
+
+		Boolean memo = recall(35, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = MultOpMultOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(35, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(35, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> MultOpMultOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.MultOpMultOperand);
 
 		boolean a = MultOp(node);
 		boolean b = MultOperand(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1654,9 +2449,32 @@ public class Parser {
 	*           | 	ConditionalBody
 	*/
 	private boolean ElseIfConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ElseIfConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(36, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ElseIfConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(36, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ElseIfConstruct");
+		ast.addChild(parentNode, node);
+		memoize(36, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ElseIfConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ElseIfConstruct);
 
 		boolean a = ElseIfStmt(node);
 		boolean b = false;
@@ -1666,14 +2484,10 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1688,9 +2502,32 @@ public class Parser {
 	*           | 	IN_2
 	*/
 	private boolean ElseIfStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ElseIfStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(37, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ElseIfStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(37, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(37, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ElseIfStmt");
+	private Ast.Node<String> ElseIfStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ElseIfStmt);
 
 		boolean a = LblDef(node);
 		boolean b = ELSEIF(node);
@@ -1704,14 +2541,12 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if ((b && c && d && e && f && g) || (a && b && c && d && e && f && g)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ElseIfStmt");
+		node = ast.createNode(NodeKind.ElseIfStmt);
 
 		boolean a1 = LblDef(node);
 		boolean b1 = ELSE(node);
@@ -1726,14 +2561,10 @@ public class Parser {
 		boolean g1 = EOS(node);
 
 		if ((b1 && c1 && d1 && e1 && f1 && g1 && z) || (a1 && b1 && c1 && d1 && e1 && f1 && g1 && z)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1741,9 +2572,32 @@ public class Parser {
 	*           | 	MultOpMultOperand*
 	*/
 	private boolean AddOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AddOperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(38, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AddOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(38, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(38, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("AddOperand");
+	private Ast.Node<String> AddOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AddOperand);
 
 		boolean a = MultOperand(node);
 		if (a) {
@@ -1751,14 +2605,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1766,34 +2616,51 @@ public class Parser {
 	*           | 	MainRange
 	*/
 	private boolean MainProgram(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.MainProgram)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(39, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = MainProgramProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(39, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(39, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("MainProgram");
+	private Ast.Node<String> MainProgramProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.MainProgram);
 
 		boolean a = ProgramStmt(node);
 		boolean b = MainRange(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("MainProgram");
+		node = ast.createNode(NodeKind.MainProgram);
 
 		boolean c = MainRange(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -1801,92 +2668,166 @@ public class Parser {
 	*           | 	","
 	*/
 	private boolean VariableComma(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.VariableComma)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(40, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = VariableCommaProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(40, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("VariableComma");
+		ast.addChild(parentNode, node);
+		memoize(40, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> VariableCommaProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.VariableComma);
 
 		boolean a = VariableName(node);
 		boolean b = COMMA(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
-
 	/**
 	* DataStmtValueList ::= 	DataStmtValue+
 	*/
 	private boolean DataStmtValueList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataStmtValueList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DataStmtValueList");
+		int start = stream.mark();
 
-		boolean a = DataStmtValue(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c =  (DataStmtValueList(node)) ;
+		Boolean memo = recall(41, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
+		Ast.Node<String> node = DataStmtValueListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(41, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(41, start, node);
+		return true;
+	}
 
-		node = ast.createNode("DataStmtValueList");
+	private Ast.Node<String> DataStmtValueListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataStmtValueList);
 
-		boolean d = DataStmtValue(node);
+		boolean a = DataStmtValue(node);
 
-		if (d) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && DataStmtValue(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* LblRef ::= 	Label
 	*/
 	private boolean LblRef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LblRef)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("LblRef");
+		int start = stream.mark();
 
-		boolean a = Label(node);
+		Boolean memo = recall(42, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = LblRefProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(42, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(42, start, node);
+		return true;
 	}
 
+	private Ast.Node<String> LblRefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LblRef);
+
+		boolean a = Label(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
+	}
 
 	/**
 	* CPrimary ::= 	COperand
 	*/
 	private boolean CPrimary(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CPrimary)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(43, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CPrimaryProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(43, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("CPrimary");
+		ast.addChild(parentNode, node);
+		memoize(43, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> CPrimaryProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CPrimary);
 
 		boolean b = LPAREN(node);
 		boolean c = false; //CExpr(node);
@@ -1896,40 +2837,56 @@ public class Parser {
 		boolean d = RPAREN(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CPrimary");
+		node = ast.createNode(NodeKind.CPrimary);
 
 
 		boolean a = COperand(node);
 
 		if (a) {
+			return node;
+		}
 
-			ast.addChild(parentNode, node);
-			return true;
+		return null;
+	}
+
+	/**
+	* PauseStmt ::= 	LblDef
+	*           | 	"pause"
+	*           | 	ICONOrScon?
+	*           | 	EOS
+	*/
+	private boolean PauseStmt(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.PauseStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(44, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = PauseStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(44, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(44, start, node);
+		return true;
 	}
 
-
-	/**
-	* PauseStmt ::= 	LblDef
-	*           | 	"pause"
-	*           | 	IconOrScon?
-	*           | 	EOS
-	*/
-	private boolean PauseStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("PauseStmt");
+	private Ast.Node<String> PauseStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PauseStmt);
 
 		boolean a = LblDef(node);
 		boolean b = PAUSE(node);
@@ -1937,97 +2894,123 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d || a && b && d || b && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ArrayDeclaratorList ::= 	ArrayDeclarator+
 	*/
 	private boolean ArrayDeclaratorList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ArrayDeclaratorList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ArrayDeclaratorList");
+		int start = stream.mark();
 
-		boolean b = ArrayDeclarator(node);
-		boolean c = COMMA(node);
-		boolean d = false;
-		if (b && c) {
-			d = ArrayDeclaratorList(node) ;
+		Boolean memo = recall(45, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (b && c && d) {
+		Ast.Node<String> node = ArrayDeclaratorListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(45, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(45, start, node);
+		return true;
+	}
 
-		node = ast.createNode("ArrayDeclaratorList");
+	private Ast.Node<String> ArrayDeclaratorListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ArrayDeclaratorList);
 
 		boolean a = ArrayDeclarator(node);
 
-		if (a) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && ArrayDeclarator(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* ExecutableConstruct ::= 	ActionStmt
 	*/
 	private boolean ExecutableConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExecutableConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(46, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ExecutableConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(46, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(46, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ExecutableConstruct");
+	private Ast.Node<String> ExecutableConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExecutableConstruct);
 
 		boolean a = ActionStmt(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ExecutableConstruct");
+		node = ast.createNode(NodeKind.ExecutableConstruct);
 
 		boolean b = DoConstruct(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ExecutableConstruct");
+		node = ast.createNode(NodeKind.ExecutableConstruct);
 
 		boolean c = IfConstruct(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2039,9 +3022,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean FormatStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FormatStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(47, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FormatStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(47, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(47, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FormatStmt");
+	private Ast.Node<String> FormatStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FormatStmt);
 
 		boolean a = LblDef(node);
 		boolean b = FORMAT(node);
@@ -2051,14 +3057,10 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if ((b && c && e && f)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2070,9 +3072,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean StmtFunctionRange(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.StmtFunctionRange)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(48, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = StmtFunctionRangeProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(48, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(48, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("StmtFunctionRange");
+	private Ast.Node<String> StmtFunctionRangeProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.StmtFunctionRange);
 
 		boolean a = LPAREN(node);
 		boolean b = SFDummyArgNameList(node);
@@ -2085,60 +3110,71 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if ((a && b && c && d && e && f) || (a && c && d && e && f)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* UnsignedArithmeticConstant ::= 	Icon
 	*/
 	private boolean UnsignedArithmeticConstant(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UnsignedArithmeticConstant)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(49, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = UnsignedArithmeticConstantProduction(start);
 
-		Ast.Node<String> node = ast.createNode("UnsignedArithmeticConstant");
+		if (node == null) {
+			stream.reset(start);
+			memoize(49, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(49, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> UnsignedArithmeticConstantProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UnsignedArithmeticConstant);
 
 
 		boolean a = ICON(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		ast.createNode("UnsignedArithmeticConstant");
+		ast.createNode(NodeKind.UnsignedArithmeticConstant);
 
 		boolean b = RDCON(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		ast.createNode("UnsignedArithmeticConstant");
+		ast.createNode(NodeKind.UnsignedArithmeticConstant);
 
 		boolean c = ComplexConst(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2147,23 +3183,42 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean RdFmtIdExpr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RdFmtIdExpr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(50, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RdFmtIdExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(50, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("RdFmtIdExpr");
+		ast.addChild(parentNode, node);
+		memoize(50, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> RdFmtIdExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RdFmtIdExpr);
 
 		boolean a = LPAREN(node);
 		boolean b = UFExpr(node);
 		boolean c = RPAREN(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2179,9 +3234,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean OutputImpliedDo(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.OutputImpliedDo)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(51, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = OutputImpliedDoProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(51, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(51, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("OutputImpliedDo");
+	private Ast.Node<String> OutputImpliedDoProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.OutputImpliedDo);
 
 		boolean a = LPAREN(node);
 		boolean b = false;
@@ -2211,14 +3289,12 @@ public class Parser {
 		boolean j = RPAREN(node);
 
 		if ((a && b && c && d && e && f && g && h && i && q && j) || (a && b && c && d && e && f && g && h && j)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OutputImpliedDo");
+		node = ast.createNode(NodeKind.OutputImpliedDo);
 
 		boolean k = LPAREN(node);
 		boolean l = false; //OutputItemList1(node);
@@ -2248,48 +3324,61 @@ public class Parser {
 		boolean t = RPAREN(node);
 
 		if ((k && l && m && n && o && p && ll && r && s && w && t) || (k && l && m && n && o && p && ll && r && t)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SavedEntity ::= 	VariableName
 	*/
 	private boolean SavedEntity(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SavedEntity)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(52, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SavedEntityProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(52, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(52, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SavedEntity");
+	private Ast.Node<String> SavedEntityProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SavedEntity);
 
 		boolean b = SavedCommonBlock(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SavedEntity");
+		node = ast.createNode(NodeKind.SavedEntity);
 
 
 		boolean a = VariableName(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2297,9 +3386,32 @@ public class Parser {
 	*           | 	PowerUpMultOperand?
 	*/
 	private boolean MultOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.MultOperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(53, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = MultOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(53, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(53, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("MultOperand");
+	private Ast.Node<String> MultOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.MultOperand);
 
 		boolean a = Level1Expr(node);
 		boolean b = false; //PowerOpMultOperand(node);
@@ -2308,14 +3420,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2327,9 +3435,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean InquireStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.InquireStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(54, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = InquireStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(54, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("InquireStmt");
+		ast.addChild(parentNode, node);
+		memoize(54, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> InquireStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.InquireStmt);
 
 		boolean a = LblDef(node);
 		boolean b = INQUIRE(node);
@@ -2339,35 +3470,50 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if (b && c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Level1Expr ::= 	Primary
 	*/
 	private boolean Level1Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Level1Expr)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Level1Expr");
+		int start = stream.mark();
 
-		boolean a = Primary(node);
+		Boolean memo = recall(55, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = Level1ExprProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(55, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(55, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> Level1ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Level1Expr);
 
-		return false;
+		boolean a = Primary(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -2376,111 +3522,160 @@ public class Parser {
 	*           | 	StmtFunctionRange
 	*/
 	private boolean StmtFunctionStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.StmtFunctionStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(56, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = StmtFunctionStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(56, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(56, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("StmtFunctionStmt");
+	private Ast.Node<String> StmtFunctionStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.StmtFunctionStmt);
 
 		boolean a = LblDef(node);
 		boolean b = Name(node);
 		boolean c = StmtFunctionRange(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* DataStmtValue ::= 	Constant
 	*/
 	private boolean DataStmtValue(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataStmtValue)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(57, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DataStmtValueProduction(start);
 
-		Ast.Node<String> node = ast.createNode("DataStmtValue");
+		if (node == null) {
+			stream.reset(start);
+			memoize(57, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(57, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> DataStmtValueProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataStmtValue);
 
 		boolean b = ICON(node);
 		boolean c = STAR(node);
 		boolean d = Constant(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("DataStmtValue");
+		node = ast.createNode(NodeKind.DataStmtValue);
 
 		boolean e = NamedConstantUse(node);
 		boolean f = STAR(node);
 		boolean g = Constant(node);
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("DataStmtValue");
+		node = ast.createNode(NodeKind.DataStmtValue);
 
 
 		boolean a = Constant(node);
 
-		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
-		}
-
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* NamedConstantDefList ::= 	NamedConstantDef+
 	*/
 	private boolean NamedConstantDefList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.NamedConstantDefList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("NamedConstantDefList");
+		int start = stream.mark();
 
-		boolean b = NamedConstantDef(node);
-		boolean c = COMMA(node);
-		boolean d = false;
-		if (b && c) {
-			d = NamedConstantDefList(node) ;
+		Boolean memo = recall(58, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (b && c && d) {
+		Ast.Node<String> node = NamedConstantDefListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(58, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(58, start, node);
+		return true;
+	}
 
-		node = ast.createNode("NamedConstantDefList");
+	private Ast.Node<String> NamedConstantDefListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.NamedConstantDefList);
 
 		boolean a = NamedConstantDef(node);
 
-		if (a) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && NamedConstantDef(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
@@ -2489,23 +3684,42 @@ public class Parser {
 	*           | 	Ident
 	*/
 	private boolean ImplicitRange(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ImplicitRange)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(59, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ImplicitRangeProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(59, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(59, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ImplicitRange");
+	private Ast.Node<String> ImplicitRangeProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ImplicitRange);
 
 		boolean a = Ident(node);
 		boolean b = MINUS(node);
 		boolean c = Ident(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -2513,204 +3727,197 @@ public class Parser {
 	*           | 	UnitIdentifier
 	*/
 	private boolean InquireSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.InquireSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(60, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = InquireSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(60, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(60, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("InquireSpec");
+	private Ast.Node<String> InquireSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean a = UNIT_EQUAL(node);
 		boolean b = UnitIdentifier(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean c = FILE_EQUAL(node);
 		boolean d = CExpr(node);
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean e = ERR_EQUAL(node);
 		boolean f = LblRef(node);
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean g = IOSTAT_EQUAL(node);
 		boolean h = ScalarVariable(node);
 
 		if (g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean i = EXIST_EQUAL(node);
 		boolean j = ScalarVariable(node);
 
 		if (i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean k = OPENED_EQUAL(node);
 		boolean l = ScalarVariable(node);
 
 		if (k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean m = NUMBER_EQUAL(node);
 		boolean n = ScalarVariable(node);
 
 		if (m && n) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean o = NAMED_EQUAL(node);
 		boolean p = ScalarVariable(node);
 
 		if (o && p) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean q = NAME_EQUAL(node);
 		boolean r = ScalarVariable(node);
 
 		if (q && r) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean s = ACCESS_EQUAL(node);
 		boolean t = ScalarVariable(node);
 
 		if (s && t) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean u = SEQUENTIAL_EQUAL(node);
 		boolean v = ScalarVariable(node);
 
 		if (u && v) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean w = DIRECT_EQUAL(node);
 		boolean x = ScalarVariable(node);
 
 		if (w && x) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean y = FORM_EQUAL(node);
 		boolean z = ScalarVariable(node);
 
 		if (y && z) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean a1 = FORMATTED_EQUAL(node);
 		boolean b1 = ScalarVariable(node);
 
 		if (a1 && b1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean c1 = UNFORMATTED_EQUAL(node);
 		boolean d1 = ScalarVariable(node);
 
 		if (c1 && d1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean e1 = RECL_EQUAL(node);
 		boolean f1 = false;
@@ -2719,80 +3926,85 @@ public class Parser {
 		}
 
 		if (e1 && f1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean g1 = NEXTREC_EQUAL(node);
 		boolean h1 = ScalarVariable(node);
 
 		if (g1 && h1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpec");
+		node = ast.createNode(NodeKind.InquireSpec);
 
 		boolean i1 = BLANK_EQUAL(node);
 		boolean j1 = ScalarVariable(node);
 
 		if (i1 && j1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-
-		return false;
+		return null;
 	}
 
-
 	/**
 	* DataStmtObjectList ::= 	DataStmtObject+
 	*/
 	private boolean DataStmtObjectList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataStmtObjectList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DataStmtObjectList");
+		int start = stream.mark();
 
-		boolean a = DataStmtObject(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = DataStmtObjectList(node) ;
+		Boolean memo = recall(61, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
+		Ast.Node<String> node = DataStmtObjectListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(61, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(61, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> DataStmtObjectListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataStmtObjectList);
 
-		node = ast.createNode("DataStmtObjectList");
+		boolean a = DataStmtObject(node);
 
-		boolean d = DataStmtObject(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (d) {
+			if (COMMA(node) && DataStmtObject(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
@@ -2804,9 +4016,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean AssignStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AssignStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(62, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AssignStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(62, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("AssignStmt");
+		ast.addChild(parentNode, node);
+		memoize(62, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> AssignStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AssignStmt);
 
 		boolean a = LblDef(node);
 		boolean b = ASSIGN(node);
@@ -2816,129 +4051,154 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if (b && c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* FormatEdit ::= 	EditElement
+	*/
 	private boolean FormatEdit(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FormatEdit)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(63, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FormatEditProduction(start);
 
-		Ast.Node<String> node = ast.createNode("FormatEdit");
+		if (node == null) {
+			stream.reset(start);
+			memoize(63, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(63, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> FormatEditProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean a = EditElement(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatEdit");
+		node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean b = ICON(node);
 		boolean c = EditElement(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatEdit");
+		node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean d = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node) || XCON(node));
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatEdit");
+		node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean h = PCON(node);
 		boolean i = ICON(node);
 		boolean j = EditElement(node);
 
 		if (h && i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatEdit");
+		node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean f = PCON(node);
 		boolean g = EditElement(node);
 
 		if (f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatEdit");
+		node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean e = PCON(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatEdit");
+		node = ast.createNode(NodeKind.FormatEdit);
 
 		boolean x = XCON(node);
 
 		if (x) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Label ::= 	Icon
 	*/
 	private boolean Label(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Label)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Label");
+		int start = stream.mark();
 
-		boolean a = ICON(node);
+		Boolean memo = recall(64, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = LabelProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(64, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(64, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> LabelProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Label);
 
-		return false;
+		boolean a = ICON(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -2947,165 +4207,162 @@ public class Parser {
 	*           | 	SP
 	*/
 	private boolean RelOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RelOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(65, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RelOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(65, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(65, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("RelOp");
+	private Ast.Node<String> RelOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RelOp);
 
 		boolean a = SP(node);
 		boolean b = EQUAL_EQUAL(node);
 		boolean c = SP(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean d = SP(node);
 		boolean e = BANG_EQUAL(node);
 		boolean f = SP(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean g = SP(node);
 		boolean h = LESS(node);
 		boolean i = SP(node);
 
 		if (g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean j = SP(node);
 		boolean k = LESS_EQUAL(node);
 		boolean l = SP(node);
 
 		if (j && k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean m = SP(node);
 		boolean n = GREATER(node);
 		boolean o = SP(node);
 
 		if (m && n && o) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean p = SP(node);
 		boolean q = GREATER_EQUAL(node);
 		boolean r = SP(node);
 
 		if (p && q && r) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean s = EQUAL_EQUAL(node);
 
 		if (s) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean t = BANG_EQUAL(node);
 
 		if (t) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean u = LESS(node);
 
 		if (u) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean v = LESS_EQUAL(node);
 
 		if (v) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean w = GREATER(node);
 
 		if (w) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RelOp");
+		node = ast.createNode(NodeKind.RelOp);
 
 		boolean x = GREATER_EQUAL(node);
 
 		if (x) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3115,9 +4372,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean DimensionStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DimensionStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(66, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DimensionStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(66, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DimensionStmt");
+		ast.addChild(parentNode, node);
+		memoize(66, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> DimensionStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DimensionStmt);
 
 		boolean a = LblDef(node);
 		boolean b = DIMENSION(node);
@@ -3125,92 +4405,143 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* NamedConstant ::= 	Ident
 	*/
 	private boolean NamedConstant(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.NamedConstant)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("NamedConstant");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(67, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = NamedConstantProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(67, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(67, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> NamedConstantProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.NamedConstant);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* SavedEntityList ::= 	SavedEntity+
 	*/
 	private boolean SavedEntityList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SavedEntityList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SavedEntityList");
+		int start = stream.mark();
 
-		boolean a = SavedEntity(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = SavedEntityList(node);
+		Boolean memo = recall(68, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = SavedEntityListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(68, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(68, start, node);
+		return true;
+	}
 
-		node = ast.createNode("SavedEntityList");
+	private Ast.Node<String> SavedEntityListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SavedEntityList);
 
-		boolean e = SavedEntity(node);
+		boolean a = SavedEntity(node);
 
-		if (e) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && SavedEntity(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* Name ::= 	Ident
 	*/
 	private boolean Name(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Name)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Name");
+		int start = stream.mark();
+
+		Boolean memo = recall(69, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = NameProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(69, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(69, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> NameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Name);
 
 		boolean a = Ident(node);
 
 		if (a) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3219,9 +4550,32 @@ public class Parser {
 	*           | 	Expr
 	*/
 	private boolean NamedConstantDef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.NamedConstantDef)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("NamedConstantDef");
+		int start = stream.mark();
+
+		Boolean memo = recall(70, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = NamedConstantDefProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(70, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(70, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> NamedConstantDefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.NamedConstantDef);
 
 		boolean a = NamedConstant(node);
 		boolean b = EQUAL(node);
@@ -3231,47 +4585,60 @@ public class Parser {
 		}
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* PlusMinus ::= 	"+"
 	*/
 	private boolean PlusMinus(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.PlusMinus)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(71, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = PlusMinusProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(71, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("PlusMinus");
+		ast.addChild(parentNode, node);
+		memoize(71, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> PlusMinusProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PlusMinus);
 
 		boolean a = PLUS(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("PlusMinus");
+		node = ast.createNode(NodeKind.PlusMinus);
 
 		boolean b = MINUS(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3279,23 +4646,41 @@ public class Parser {
 	*           | 	LoopControl
 	*/
 	private boolean CommaLoopControl(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommaLoopControl)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("CommaLoopControl");
+		int start = stream.mark();
 
-		boolean a = COMMA(node);
-		boolean b = LoopControl(node);
+		Boolean memo = recall(72, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (b) {
+		Ast.Node<String> node = CommaLoopControlProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(72, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(72, start, node);
+		return true;
+	}
 
+	private Ast.Node<String> CommaLoopControlProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommaLoopControl);
 
-		return false;
+		boolean a = COMMA(node);
+		boolean b = LoopControl(node);
+
+		if (b) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -3305,23 +4690,44 @@ public class Parser {
 	*           | 	SPON
 	*/
 	private boolean Comblock(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Comblock)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(73, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComblockProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(73, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(73, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("Comblock");
+	private Ast.Node<String> ComblockProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Comblock);
 
 		boolean e = SLASH(node);
 		boolean f = CommonBlockName(node);
 		boolean g = SLASH(node);
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Comblock");
+		node = ast.createNode(NodeKind.Comblock);
 
 		boolean a = SLASH(node);
 		//boolean b = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node));
@@ -3329,47 +4735,60 @@ public class Parser {
 		//boolean d = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node));
 
 		if (a && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* DataIDoObject ::= 	ArrayElement
 	*/
 	private boolean DataIDoObject(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataIDoObject)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(74, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DataIDoObjectProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(74, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DataIDoObject");
+		ast.addChild(parentNode, node);
+		memoize(74, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> DataIDoObjectProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataIDoObject);
 
 		boolean a = ArrayElement(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("DataIDoObject");
+		node = ast.createNode(NodeKind.DataIDoObject);
 
 		boolean b = DataImpliedDo(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3378,36 +4797,53 @@ public class Parser {
 	*           | 	EndBlockDataStmt
 	*/
 	private boolean BlockDataSubprogram(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.BlockDataSubprogram)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(75, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = BlockDataSubprogramProduction(start);
 
-		Ast.Node<String> node = ast.createNode("BlockDataSubprogram");
+		if (node == null) {
+			stream.reset(start);
+			memoize(75, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(75, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> BlockDataSubprogramProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BlockDataSubprogram);
 
 		boolean a = BlockDataStmt(node);
 		boolean b = BlockDataBody(node);
 		boolean c = EndBlockDataStmt(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("BlockDataSubprogram");
+		node = ast.createNode(NodeKind.BlockDataSubprogram);
 
 		boolean d = BlockDataStmt(node);
 		boolean e = EndBlockDataStmt(node);
 
 		if (d && e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3417,9 +4853,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean GotoStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.GotoStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("GotoStmt");
+		Boolean memo = recall(76, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = GotoStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(76, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(76, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> GotoStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.GotoStmt);
 
 		boolean a = LblDef(node);
 		boolean b = GoToKw(node);
@@ -3427,14 +4886,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3446,9 +4901,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean OpenStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.OpenStmt)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("OpenStmt");
+		int start = stream.mark();
+
+		Boolean memo = recall(77, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = OpenStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(77, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(77, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> OpenStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.OpenStmt);
 
 		boolean a = LblDef(node);
 		boolean b = OPEN(node);
@@ -3458,14 +4936,10 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if (b && c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3475,9 +4949,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean BackspaceStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.BackspaceStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(78, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = BackspaceStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(78, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("BackspaceStmt");
+		ast.addChild(parentNode, node);
+		memoize(78, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> BackspaceStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BackspaceStmt);
 
 		boolean a = LblDef(node);
 		boolean b = BACKSPACE(node);
@@ -3485,14 +4982,12 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("BackspaceStmt");
+		node = ast.createNode(NodeKind.BackspaceStmt);
 
 		boolean e = LblDef(node);
 		boolean f = BACKSPACE(node);
@@ -3502,23 +4997,42 @@ public class Parser {
 		boolean j = EOS(node);
 
 		if (f && g && h && i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SubroutineArgList ::= 	{SubroutineArg ","}*
 	*/
 	private boolean SubroutineArgList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineArgList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(79, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubroutineArgListProduction(start);
 
-		Ast.Node<String> node = ast.createNode("SubroutineArgList");
+		if (node == null) {
+			stream.reset(start);
+			memoize(79, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(79, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubroutineArgListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineArgList);
 
 		boolean a = SubroutineArg(node);
 		boolean b = COMMA(node);
@@ -3528,19 +5042,16 @@ public class Parser {
 		}
 
 		if ((a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SubroutineArgList");
+		node = ast.createNode(NodeKind.SubroutineArgList);
 
 		boolean e = SubroutineArg(node);
 
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 
 	}
 
@@ -3551,9 +5062,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean ArrayElement(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ArrayElement)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(80, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ArrayElementProduction(start);
 
-		Ast.Node<String> node = ast.createNode("ArrayElement");
+		if (node == null) {
+			stream.reset(start);
+			memoize(80, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(80, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ArrayElementProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ArrayElement);
 
 		boolean a = VariableName(node);
 		boolean b = LPAREN(node);
@@ -3561,81 +5095,60 @@ public class Parser {
 		boolean d = RPAREN(node);
 
 		if (a && b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* ICONOrScon ::= 	Icon
+	*/
 	private boolean ICONOrScon(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("ICONOrScon");
-
-		boolean a = ICON(node);
-
-		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+		if (!predicts(Lookahead.ICONOrScon)) {
+			return false;
 		}
 
-		current = state.current;
-
-		node = ast.createNode("ICONOrScon");
+		int start = stream.mark();
 
-		boolean b = SCON(node);
+		Boolean memo = recall(81, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (b) {
+		Ast.Node<String> node = ICONOrSconProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(81, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(81, start, node);
+		return true;
 	}
 
-	/**
-	* BlockDataBody ::= 	BlockDataBodyConstruct
-	*/
-	private boolean BlockDataBody(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("BlockDataBody");
-
-		boolean b = false; //BlockDataBody("BlockDataBody");
-		boolean c = BlockDataBodyConstruct(node);
-		if (c) {
-			b = BlockDataBody(node);
-		}
-
-		if (b && c) {
+	private Ast.Node<String> ICONOrSconProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ICONOrScon);
 
-			ast.addChild(parentNode, node);
-			return true;
-		}
+		boolean a = ICON(node);
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		node = ast.createNode("BlockDataBody");
+		stream.reset(start);
 
-		boolean a = BlockDataBodyConstruct(node);
+		node = ast.createNode(NodeKind.ICONOrScon);
 
-		if (a) {
+		boolean b = SCON(node);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (b) {
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3643,9 +5156,32 @@ public class Parser {
 	*           | 	CommonBlockObject
 	*/
 	private boolean Comlist(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Comlist)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("Comlist");
+		Boolean memo = recall(82, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComlistProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(82, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(82, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ComlistProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Comlist);
 
 		boolean e = Comblock(node);
 		boolean f = CommonBlockObject(node);
@@ -3657,14 +5193,12 @@ public class Parser {
 		}
 
 		if (c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Comlist");
+		node = ast.createNode(NodeKind.Comlist);
 
 		boolean g = false; //Comlist(node);
 		boolean h = Comblock(node);
@@ -3674,14 +5208,12 @@ public class Parser {
 		}
 
 		if (g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Comlist");
+		node = ast.createNode(NodeKind.Comlist);
 
 		boolean m = CommonBlockObject(node);
 		boolean n = COMMA(node);
@@ -3691,143 +5223,163 @@ public class Parser {
 		}
 
 		if (m && n && o) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Comlist");
+		node = ast.createNode(NodeKind.Comlist);
 
 
 		boolean a = Comblock(node);
 		boolean b = CommonBlockObject(node);
 
 		if ((a && b)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Comlist");
+		node = ast.createNode(NodeKind.Comlist);
 
 		boolean l = CommonBlockObject(node);
 
 		if (l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ScalarVariable ::= 	VariableName
 	*/
 	private boolean ScalarVariable(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ScalarVariable)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(83, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ScalarVariableProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(83, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(83, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ScalarVariable");
+	private Ast.Node<String> ScalarVariableProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ScalarVariable);
 
 		boolean a = VariableName(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ScalarVariable");
+		node = ast.createNode(NodeKind.ScalarVariable);
 
 		boolean b = ArrayElement(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SpecificationPartConstruct ::= 	ImplicitStmt
 	*/
 	private boolean SpecificationPartConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SpecificationPartConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(84, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SpecificationPartConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(84, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(84, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SpecificationPartConstruct");
+	private Ast.Node<String> SpecificationPartConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SpecificationPartConstruct);
 
 		boolean a = ImplicitStmt(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationPartConstruct");
+		node = ast.createNode(NodeKind.SpecificationPartConstruct);
 
 		boolean b = ParameterStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationPartConstruct");
+		node = ast.createNode(NodeKind.SpecificationPartConstruct);
 
 		boolean c = FormatStmt(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationPartConstruct");
+		node = ast.createNode(NodeKind.SpecificationPartConstruct);
 
 		boolean d = EntryStmt(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationPartConstruct");
+		node = ast.createNode(NodeKind.SpecificationPartConstruct);
 
 		boolean e = DeclarationConstruct(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3837,9 +5389,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EquivalenceStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivalenceStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(85, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EquivalenceStmtProduction(start);
 
-		Ast.Node<String> node = ast.createNode("EquivalenceStmt");
+		if (node == null) {
+			stream.reset(start);
+			memoize(85, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(85, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> EquivalenceStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivalenceStmt);
 
 		boolean a = LblDef(node);
 		boolean b = EQUIVALENCE(node);
@@ -3847,14 +5422,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3863,36 +5434,52 @@ public class Parser {
 	*           | 	SP
 	*/
 	private boolean LogicalConstant(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LogicalConstant)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(86, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = LogicalConstantProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(86, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(86, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("LogicalConstant");
+	private Ast.Node<String> LogicalConstantProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LogicalConstant);
 
 		boolean b = TRUE(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("LogicalConstant");
+		node = ast.createNode(NodeKind.LogicalConstant);
 
 		boolean e = FALSE(node);
 
 		if ( e ) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
-
 	/**
 	* ArrayDeclarator ::= 	VariableName
 	*           | 	"("
@@ -3900,9 +5487,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean ArrayDeclarator(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ArrayDeclarator)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(87, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ArrayDeclaratorProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(87, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ArrayDeclarator");
+		ast.addChild(parentNode, node);
+		memoize(87, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ArrayDeclaratorProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ArrayDeclarator);
 
 		boolean a = VariableName(node);
 		boolean b = LPAREN(node);
@@ -3910,14 +5520,10 @@ public class Parser {
 		boolean d = RPAREN(node);
 
 		if (a && b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3926,23 +5532,42 @@ public class Parser {
 	*           | 	"/"
 	*/
 	private boolean SavedCommonBlock(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SavedCommonBlock)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(88, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SavedCommonBlockProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(88, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(88, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SavedCommonBlock");
+	private Ast.Node<String> SavedCommonBlockProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SavedCommonBlock);
 
 		boolean a = SLASH(node);
 		boolean b = CommonBlockName(node);
 		boolean c = SLASH(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -3951,9 +5576,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean CharLength(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CharLength)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(89, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CharLengthProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(89, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(89, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CharLength");
+	private Ast.Node<String> CharLengthProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CharLength);
 
 		boolean a = LPAREN(node);
 		boolean b = false; //TypeParamValue(node);
@@ -3964,68 +5612,100 @@ public class Parser {
 
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CharLength");
+		node = ast.createNode(NodeKind.CharLength);
 
 		boolean d = Constant(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ProgramName ::= 	Ident
 	*/
 	private boolean ProgramName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ProgramName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ProgramName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(90, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = ProgramNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(90, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(90, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ProgramNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ProgramName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* EndName ::= 	Ident
 	*/
 	private boolean EndName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EndName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(91, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = EndNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(91, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(91, start, node);
+		return true;
+	}
 
-		return false;
+	private Ast.Node<String> EndNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndName);
+
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -4034,21 +5714,42 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EndProgramStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndProgramStmt)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EndProgramStmt");
+		int start = stream.mark();
+
+		Boolean memo = recall(92, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EndProgramStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(92, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(92, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> EndProgramStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndProgramStmt);
 
 		boolean a = LblDef(node);
 		boolean b = END(node);
 		boolean c = EOS(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
 		boolean d = LblDef(node);
 		boolean e = ENDPROGRAM(node);
@@ -4056,12 +5757,10 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if (e && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
 		boolean h = LblDef(node);
 		boolean i = END(node);
@@ -4070,57 +5769,92 @@ public class Parser {
 		boolean l = EOS(node);
 
 		if (i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* DataStmtObject ::= 	Variable
 	*/
 	private boolean DataStmtObject(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataStmtObject)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(93, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DataStmtObjectProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(93, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(93, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("DataStmtObject");
+	private Ast.Node<String> DataStmtObjectProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataStmtObject);
 
 		boolean a = Variable(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("DataStmtObject");
+		node = ast.createNode(NodeKind.DataStmtObject);
 
 		boolean b = DataImpliedDo(node);
 
 		if (b) {
+			return node;
+		}
 
-			ast.addChild(parentNode, node);
-			return true;
+		return null;
+	}
+
+	/**
+	* FmtSpec ::= 	FormatEdit
+	*/
+	private boolean FmtSpec(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.FmtSpec)) {
+			return false;
 		}
 
-		current = state.current;
+		int start = stream.mark();
 
-		return false;
-	}
+		Boolean memo = recall(94, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FmtSpecProduction(start);
 
+		if (node == null) {
+			stream.reset(start);
+			memoize(94, start, null);
+			return false;
+		}
 
-	/**
-	* FmtSpec ::= 	Formatedit
-	*/
-	private boolean FmtSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		ast.addChild(parentNode, node);
+		memoize(94, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FmtSpec");
+	private Ast.Node<String> FmtSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FmtSpec);
 
 		boolean s = FormatEdit(node);
 		boolean r = Formatsep(node);
@@ -4132,14 +5866,12 @@ public class Parser {
 		}
 
 		if (p && q && r && s) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 		boolean g = FormatEdit(node);
 		boolean h = Formatsep(node);
@@ -4150,14 +5882,12 @@ public class Parser {
 		}
 
 		if (g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 		boolean j = FormatEdit(node); //FmtSpec(node);
 		boolean k = COMMA(node);
@@ -4168,14 +5898,12 @@ public class Parser {
 		}
 
 		if (j && k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 		boolean m = Formatsep(node);
 		boolean n = COMMA(node);
@@ -4186,28 +5914,24 @@ public class Parser {
 		}
 
 		if (m && n && o) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 
 		boolean d = FormatEdit(node);
 		boolean c = Formatsep(node);
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 		boolean e = false;
 		boolean f = Formatsep(node);
@@ -4216,39 +5940,31 @@ public class Parser {
 		}
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 
 		boolean a = FormatEdit(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FmtSpec");
+		node = ast.createNode(NodeKind.FmtSpec);
 
 		boolean b = Formatsep(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4265,9 +5981,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ArithmeticIfStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ArithmeticIfStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(95, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ArithmeticIfStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(95, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(95, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ArithmeticIfStmt");
+	private Ast.Node<String> ArithmeticIfStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ArithmeticIfStmt);
 
 		boolean a = LblDef(node);
 		boolean b = IF(node);
@@ -4285,14 +6024,10 @@ public class Parser {
 		boolean k = EOS(node);
 
 		if (b && c && d && e && f && g && h && i && j && k) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4303,9 +6038,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ReadStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ReadStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(96, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ReadStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(96, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(96, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ReadStmt");
+	private Ast.Node<String> ReadStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ReadStmt);
 
 		boolean a = LblDef(node);
 		boolean b = READ(node);
@@ -4314,14 +6072,12 @@ public class Parser {
 		boolean e = EOS(node);
 
 		if ((a && b && c && d && e) ||(b && c && d && e) || (a && b && c && e)|| (b && c && e)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ReadStmt");
+		node = ast.createNode(NodeKind.ReadStmt);
 
 		boolean f = LblDef(node);
 		boolean g = READ(node);
@@ -4330,131 +6086,179 @@ public class Parser {
 		boolean j = EOS(node);
 
 		if ((f && g && h && i && j) || (g && h && i && j) ||(f && g && h && j)||(g && h && j)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SpecificationStmt ::= 	CommonStmt
 	*/
 	private boolean SpecificationStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SpecificationStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(97, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SpecificationStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(97, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(97, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SpecificationStmt");
+	private Ast.Node<String> SpecificationStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean a = CommonStmt(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationStmt");
+		node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean b = DataStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationStmt");
+		node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean c = DimensionStmt(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationStmt");
+		node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean d = EquivalenceStmt(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationStmt");
+		node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean e = ExternalStmt(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationStmt");
+		node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean f = IntrinsicStmt(node);
 
 		if (f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SpecificationStmt");
+		node = ast.createNode(NodeKind.SpecificationStmt);
 
 		boolean g = SaveStmt(node);
 
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ConditionalBody ::= 	ExecutionPartConstruct*
 	*/
 	private boolean ConditionalBody(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ConditionalBody)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("ConditionalBody");
+		Boolean memo = recall(98, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ConditionalBodyProduction(start);
 
-		while (ExecutionPartConstruct(node)) ;
+		if (node == null) {
+			stream.reset(start);
+			memoize(98, start, null);
+			return false;
+		}
 
 		ast.addChild(parentNode, node);
+		memoize(98, start, node);
 		return true;
 	}
 
+	private Ast.Node<String> ConditionalBodyProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ConditionalBody);
+
+		while (ExecutionPartConstruct(node) && discard()) ;
+
+		return node;
+	}
+
 	/**
 	* InquireSpecList ::= 	UnitIdentifier?
 	*           | 	{InquireSpec ","}*
 	*/
 	private boolean InquireSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.InquireSpecList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(99, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = InquireSpecListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(99, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(99, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("InquireSpecList");
+	private Ast.Node<String> InquireSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.InquireSpecList);
 
 		boolean a = InquireSpec(node);
 		boolean b = COMMA(node);
@@ -4464,26 +6268,20 @@ public class Parser {
 		}
 
 		if ((a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InquireSpecList");
+		node = ast.createNode(NodeKind.InquireSpecList);
 
 		boolean e = UnitIdentifier(node);
 
 		if ((e)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4493,9 +6291,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean RewindStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RewindStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(100, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RewindStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(100, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("RewindStmt");
+		ast.addChild(parentNode, node);
+		memoize(100, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> RewindStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RewindStmt);
 
 		boolean a = LblDef(node);
 		boolean b = REWIND(node);
@@ -4503,14 +6324,12 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RewindStmt");
+		node = ast.createNode(NodeKind.RewindStmt);
 
 		boolean e = LblDef(node);
 		boolean f = REWIND(node);
@@ -4520,14 +6339,10 @@ public class Parser {
 		boolean j = EOS(node);
 
 		if (f && g && h && i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4536,9 +6351,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean SectionSubscriptRef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SectionSubscriptRef)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(101, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SectionSubscriptRefProduction(start);
 
-		Ast.Node<String> node = ast.createNode("SectionSubscriptRef");
+		if (node == null) {
+			stream.reset(start);
+			memoize(101, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(101, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SectionSubscriptRefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SectionSubscriptRef);
 
 		boolean a = LPAREN(node);
 		boolean b = false; //SectionSubscriptList(node);
@@ -4548,65 +6386,99 @@ public class Parser {
 		boolean c = RPAREN(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* CommonBlockName ::= 	Ident
 	*/
 	private boolean CommonBlockName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommonBlockName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("CommonBlockName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(102, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = CommonBlockNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(102, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(102, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> CommonBlockNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommonBlockName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* ImplicitRanges ::= 	{ImplicitRange ","}*
 	*/
 	private boolean ImplicitRanges(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ImplicitRanges)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(103, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ImplicitRangesProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(103, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(103, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ImplicitRanges");
+	private Ast.Node<String> ImplicitRangesProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ImplicitRanges);
 
 		boolean a = ImplicitRange(node);
 		boolean b = COMMA(node);
 
 		if (a && b) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
 		boolean c = ImplicitRange(node);
 
 		if (c) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4614,9 +6486,32 @@ public class Parser {
 	*           | 	ConcatOp
 	*/
 	private boolean CPrimaryConcatOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CPrimaryConcatOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("CPrimaryConcatOp");
+		Boolean memo = recall(104, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CPrimaryConcatOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(104, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(104, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> CPrimaryConcatOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CPrimaryConcatOp);
 
 		boolean a = false; // CPrimary("CPrimaryConcatOp");
 		boolean b = ConcatOp(node);
@@ -4626,56 +6521,90 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* VariableName ::= 	Ident
 	*/
 	private boolean VariableName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.VariableName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("VariableName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(105, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = VariableNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(105, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(105, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> VariableNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.VariableName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* Subscript ::= 	Expr
 	*/
 	private boolean Subscript(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Subscript)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Subscript");
+		int start = stream.mark();
 
-		boolean a = Expr(node);
+		Boolean memo = recall(106, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = SubscriptProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(106, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(106, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubscriptProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Subscript);
 
-		return false;
+		boolean a = Expr(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -4685,9 +6614,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean DataStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(107, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DataStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(107, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(107, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("DataStmt");
+	private Ast.Node<String> DataStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataStmt);
 
 		boolean a = LblDef(node);
 		boolean b = DATA(node);
@@ -4695,14 +6647,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4710,9 +6658,32 @@ public class Parser {
 	*           | 	CharLength
 	*/
 	private boolean LengthSelector(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LengthSelector)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(108, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = LengthSelectorProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(108, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(108, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("LengthSelector");
+	private Ast.Node<String> LengthSelectorProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LengthSelector);
 
 		boolean a = STAR(node);
 		boolean b = false; //CharLength(node);
@@ -4722,14 +6693,12 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("LengthSelector");
+		node = ast.createNode(NodeKind.LengthSelector);
 
 		boolean c = LPAREN(node);
 		boolean d = false; //TypeParamValue(node);
@@ -4739,14 +6708,10 @@ public class Parser {
 		boolean e = RPAREN(node);
 
 		if (c && d && e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4756,9 +6721,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean TypeDeclarationStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.TypeDeclarationStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(109, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = TypeDeclarationStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(109, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(109, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("TypeDeclarationStmt");
+	private Ast.Node<String> TypeDeclarationStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.TypeDeclarationStmt);
 
 		boolean a = LblDef(node);
 		boolean b = TypeSpec(node);
@@ -4766,97 +6754,123 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* COperand ::= 	Scon
 	*/
 	private boolean COperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.COperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(110, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = COperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(110, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(110, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("COperand");
+	private Ast.Node<String> COperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.COperand);
 
 		boolean a = SCON(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("COperand");
+		node = ast.createNode(NodeKind.COperand);
 
 		boolean b = NameDataRef(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("COperand");
+		node = ast.createNode(NodeKind.COperand);
 
 		boolean c = FunctionReference(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SectionSubscriptList ::= 	SectionSubscript+
 	*/
 	private boolean SectionSubscriptList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SectionSubscriptList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SectionSubscriptList");
+		int start = stream.mark();
 
-		boolean b = SectionSubscript(node);
-		boolean c = COMMA(node);
-		boolean d = false;
-		if (b && c) {
-			d = SectionSubscriptList(node) ;
+		Boolean memo = recall(111, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (b && c && d) {
+		Ast.Node<String> node = SectionSubscriptListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(111, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(111, start, node);
+		return true;
+	}
 
-		node = ast.createNode("SectionSubscriptList");
+	private Ast.Node<String> SectionSubscriptListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SectionSubscriptList);
 
 		boolean a = SectionSubscript(node);
 
-		if (a) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && SectionSubscript(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
@@ -4864,34 +6878,74 @@ public class Parser {
 	*           | 	Level4Expr
 	*/
 	private boolean AndOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AndOperand)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("AndOperand");
+		int start = stream.mark();
 
-		boolean a = NotOp(node);
-		boolean b = Level4Expr(node);
+		Boolean memo = recall(112, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (b) {
+		Ast.Node<String> node = AndOperandProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(112, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(112, start, node);
+		return true;
 	}
 
+	private Ast.Node<String> AndOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AndOperand);
 
+		boolean a = NotOp(node);
+		boolean b = Level4Expr(node);
+
+		if (b) {
+			return node;
+		}
+
+		return null;
+	}
 
 	/**
 	* EquivOperand ::= 	OrOperand
 	*           | 	OrUpOrOperand*
 	*/
 	private boolean EquivOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivOperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(113, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EquivOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(113, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EquivOperand");
+		ast.addChild(parentNode, node);
+		memoize(113, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> EquivOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivOperand);
 
 		boolean a = OrOperand(node);
 		if (a) {
@@ -4899,35 +6953,50 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SubroutineNameUse ::= 	Ident
 	*/
 	private boolean SubroutineNameUse(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineNameUse)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SubroutineNameUse");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(114, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = SubroutineNameUseProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(114, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(114, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubroutineNameUseProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineNameUse);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -4935,9 +7004,32 @@ public class Parser {
 	*           | 	ComplexDataRefTail*
 	*/
 	private boolean NameDataRef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.NameDataRef)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(115, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = NameDataRefProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(115, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(115, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("NameDataRef");
+	private Ast.Node<String> NameDataRefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.NameDataRef);
 
 		boolean a = Name(node);
 		if (a) {
@@ -4945,14 +7037,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -4960,9 +7048,32 @@ public class Parser {
 	*           | 	Expr?
 	*/
 	private boolean SubscriptTripletTail(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubscriptTripletTail)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(116, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubscriptTripletTailProduction(start);
 
-		Ast.Node<String> node = ast.createNode("SubscriptTripletTail");
+		if (node == null) {
+			stream.reset(start);
+			memoize(116, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(116, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubscriptTripletTailProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubscriptTripletTail);
 
 		boolean c = COLON(node);
 		boolean d = false;
@@ -4976,14 +7087,12 @@ public class Parser {
 		}
 
 		if (c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SubscriptTripletTail");
+		node = ast.createNode(NodeKind.SubscriptTripletTail);
 
 		boolean g = COLON_COLON(node);
 		boolean h = false;
@@ -4993,14 +7102,12 @@ public class Parser {
 		}
 
 		if (g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SubscriptTripletTail");
+		node = ast.createNode(NodeKind.SubscriptTripletTail);
 
 
 		boolean a = COLON(node);
@@ -5010,14 +7117,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5027,9 +7130,32 @@ public class Parser {
 	*           | 	"/"
 	*/
 	private boolean DataStmtSet(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataStmtSet)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(117, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DataStmtSetProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(117, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DataStmtSet");
+		ast.addChild(parentNode, node);
+		memoize(117, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> DataStmtSetProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataStmtSet);
 
 		boolean a = DataStmtObjectList(node);
 		boolean b = SLASH(node);
@@ -5037,14 +7163,10 @@ public class Parser {
 		boolean d = SLASH(node);
 
 		if (a && b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5052,9 +7174,32 @@ public class Parser {
 	*           | 	CommentOrNewline*
 	*/
 	private boolean EOS(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EOS)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(118, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EOSProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(118, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(118, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EOS");
+	private Ast.Node<String> EOSProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EOS);
 
 		boolean a = CommentOrNewline(node);
 		if (a) {
@@ -5062,14 +7207,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5080,9 +7221,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean ComplexConst(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ComplexConst)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(119, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComplexConstProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(119, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(119, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ComplexConst");
+	private Ast.Node<String> ComplexConstProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ComplexConst);
 
 		boolean a = LPAREN(node);
 		boolean b = ComplexComponent(node);
@@ -5091,14 +7255,10 @@ public class Parser {
 		boolean e = RPAREN(node);
 
 		if (a && b && c && d && e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5108,9 +7268,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean CallStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CallStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(120, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CallStmtProduction(start);
 
-		Ast.Node<String> node = ast.createNode("CallStmt");
+		if (node == null) {
+			stream.reset(start);
+			memoize(120, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(120, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> CallStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CallStmt);
 
 		boolean a = LblDef(node);
 		boolean b = CALL(node);
@@ -5118,14 +7301,12 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CallStmt");
+		node = ast.createNode(NodeKind.CallStmt);
 
 		boolean e = LblDef(node);
 		boolean f = CALL(node);
@@ -5136,47 +7317,60 @@ public class Parser {
 		boolean k = EOS(node);
 
 		if (f && g && h && i && j && k || f && g && h && j && k || e && f && g && h && i && j && k) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* OutputItemList ::= 	Expr
 	*/
 	private boolean OutputItemList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.OutputItemList)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("OutputItemList");
+		Boolean memo = recall(121, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = OutputItemListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(121, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(121, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> OutputItemListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.OutputItemList);
 
 		boolean b = OutputItemList1(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OutputItemList");
+		node = ast.createNode(NodeKind.OutputItemList);
 
 		boolean a = Expr(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 
 	}
 
@@ -5184,73 +7378,152 @@ public class Parser {
 	* FunctionPar ::= 	DummyArgName
 	*/
 	private boolean FunctionPar(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionPar)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("FunctionPar");
+		int start = stream.mark();
 
-		boolean a = DummyArgName(node);
+		Boolean memo = recall(122, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = FunctionParProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(122, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(122, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> FunctionParProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionPar);
 
-		return false;
+		boolean a = DummyArgName(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* SubroutineName ::= 	Ident
 	*/
 	private boolean SubroutineName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SubroutineName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(123, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = SubroutineNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(123, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(123, start, node);
+		return true;
 	}
 
+	private Ast.Node<String> SubroutineNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineName);
+
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
+	}
 
 	/**
 	* ObjectName ::= 	Ident
 	*/
 	private boolean ObjectName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ObjectName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ObjectName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(124, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = ObjectNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(124, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(124, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ObjectNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ObjectName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* UFFactor ::= 	UFPrimary
 	*/
 	private boolean UFFactor(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UFFactor)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(125, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = UFFactorProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(125, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(125, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("UFFactor");
+	private Ast.Node<String> UFFactorProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UFFactor);
 
 		boolean b = UFPrimary(node);
 		boolean c = PowerOp(node);
@@ -5261,27 +7534,21 @@ public class Parser {
 		}
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFFactor");
+		node = ast.createNode(NodeKind.UFFactor);
 
 
 		boolean a = UFPrimary(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5290,9 +7557,32 @@ public class Parser {
 	*           | 	UpperBound
 	*/
 	private boolean ExplicitShapeSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExplicitShapeSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(126, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ExplicitShapeSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(126, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ExplicitShapeSpec");
+		ast.addChild(parentNode, node);
+		memoize(126, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ExplicitShapeSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExplicitShapeSpec);
 
 		boolean a = LowerBound(node);
 		boolean b = COLON(node);
@@ -5303,83 +7593,92 @@ public class Parser {
 		}
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ExplicitShapeSpec");
+		node = ast.createNode(NodeKind.ExplicitShapeSpec);
 
 		boolean d = UpperBound(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* UFPrimary ::= 	Icon
 	*/
 	private boolean UFPrimary(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UFPrimary)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(127, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = UFPrimaryProduction(start);
 
-		Ast.Node<String> node = ast.createNode("UFPrimary");
+		if (node == null) {
+			stream.reset(start);
+			memoize(127, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(127, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> UFPrimaryProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UFPrimary);
 
 		boolean a = ICON(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFPrimary");
+		node = ast.createNode(NodeKind.UFPrimary);
 
 		boolean b = SCON(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFPrimary");
+		node = ast.createNode(NodeKind.UFPrimary);
 
 		boolean c = NameDataRef(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFPrimary");
+		node = ast.createNode(NodeKind.UFPrimary);
 
 		boolean d = FunctionReference(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFPrimary");
+		node = ast.createNode(NodeKind.UFPrimary);
 
 		boolean e = LPAREN(node);
 		boolean f = false; // UFExpr(node);
@@ -5389,20 +7688,45 @@ public class Parser {
 		boolean g = RPAREN(node);
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* MislexedFCON ::= 	RDcon
+	*           | 	SPOFF
+	*           | 	RDcon
+	*           | 	SPON
+	*/
 	private boolean MislexedFCON(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.MislexedFCON)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(128, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = MislexedFCONProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(128, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("MislexedFCON");
+		ast.addChild(parentNode, node);
+		memoize(128, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> MislexedFCONProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.MislexedFCON);
 
 		boolean a = RDCON(node);
 		boolean b = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node));
@@ -5410,14 +7734,12 @@ public class Parser {
 		boolean d = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node));
 
 		if (a && b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("MislexedFCON");
+		node = ast.createNode(NodeKind.MislexedFCON);
 
 		boolean e = Ident(node);
 		boolean f = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node));
@@ -5425,54 +7747,96 @@ public class Parser {
 		boolean h = (ICON(node) || HCON(node) || FCON(node) || SP(node) || PCON(node) || RDCON(node) || BCON(node) || OCON(node) || ZCON(node));
 
 		if (e && f && g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ComplexDataRefTail ::= 	SectionSubscriptRef
 	*/
 	private boolean ComplexDataRefTail(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ComplexDataRefTail)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(129, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComplexDataRefTailProduction(start);
 
-		Ast.Node<String> node = ast.createNode("ComplexDataRefTail");
+		if (node == null) {
+			stream.reset(start);
+			memoize(129, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(129, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ComplexDataRefTailProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ComplexDataRefTail);
 
 		boolean a = SectionSubscriptRef(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ComplexDataRefTail");
+		node = ast.createNode(NodeKind.ComplexDataRefTail);
 
 		boolean b = PERCENT(node);
 		boolean c = Name(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
+	/**
+	* ComplexDataRef ::= 	Name
+	*           | 	"("
+	*           | 	SectionSubscriptList
+	*           | 	")"
+	*/
 	private boolean ComplexDataRef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ComplexDataRef)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(130, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComplexDataRefProduction(start);
 
-		Ast.Node<String> node = ast.createNode("ComplexDataRef");
+		if (node == null) {
+			stream.reset(start);
+			memoize(130, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(130, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ComplexDataRefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ComplexDataRef);
 
 		boolean a = Name(node);
 		boolean b = LPAREN(node);
@@ -5480,14 +7844,12 @@ public class Parser {
 		boolean d = RPAREN(node);
 
 		if (a && b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ComplexDataRef");
+		node = ast.createNode(NodeKind.ComplexDataRef);
 
 		boolean f = LPAREN(node);
 		boolean g = SectionSubscriptList(node);
@@ -5498,48 +7860,60 @@ public class Parser {
 		}
 
 		if (a && b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* InputItem ::= 	NameDataRef
 	*/
 	private boolean InputItem(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.InputItem)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(131, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = InputItemProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(131, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(131, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("InputItem");
+	private Ast.Node<String> InputItemProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.InputItem);
 
 		boolean a = Variable(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("InputItem");
+		node = ast.createNode(NodeKind.InputItem);
 
 		boolean b = InputImpliedDo(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5548,23 +7922,42 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean SubroutineParList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineParList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(132, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubroutineParListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(132, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(132, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SubroutineParList");
+	private Ast.Node<String> SubroutineParListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineParList);
 
 		boolean a = LPAREN(node);
 		boolean b = SubroutinePars(node);
 		boolean c = RPAREN(node);
 
 		if ((a && b && c) || (a && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5573,9 +7966,32 @@ public class Parser {
 	*           | 	AddOpAddOperand*
 	*/
 	private boolean Level2Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Level2Expr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(133, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = Level2ExprProduction(start);
 
-		Ast.Node<String> node = ast.createNode("Level2Expr");
+		if (node == null) {
+			stream.reset(start);
+			memoize(133, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(133, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> Level2ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Level2Expr);
 
 		boolean a = Sign(node);
 		boolean b = AddOperand(node);
@@ -5584,14 +8000,12 @@ public class Parser {
 		}
 
 		if ((a && b)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Level2Expr");
+		node = ast.createNode(NodeKind.Level2Expr);
 
 		boolean c = AddOperand(node);
 		if (c) {
@@ -5599,59 +8013,70 @@ public class Parser {
 		}
 
 		if ((c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* FormatIdentifier ::= 	LblRef
 	*/
 	private boolean FormatIdentifier(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FormatIdentifier)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("FormatIdentifier");
+		Boolean memo = recall(134, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FormatIdentifierProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(134, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(134, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> FormatIdentifierProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FormatIdentifier);
 
 		boolean a = LblRef(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatIdentifier");
+		node = ast.createNode(NodeKind.FormatIdentifier);
 
 		boolean b = CExpr(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FormatIdentifier");
+		node = ast.createNode(NodeKind.FormatIdentifier);
 
 		boolean c = STAR(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5659,9 +8084,32 @@ public class Parser {
 	*           | 	FormatIdentifier
 	*/
 	private boolean IoControlSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IoControlSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(135, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = IoControlSpecProduction(start);
 
-		Ast.Node<String> node = ast.createNode("IoControlSpec");
+		if (node == null) {
+			stream.reset(start);
+			memoize(135, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(135, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> IoControlSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IoControlSpec);
 
 		boolean a = FMT_EQUAL(node);
 		boolean b = false; //FormatIdentifier(node);
@@ -5670,14 +8118,12 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpec");
+		node = ast.createNode(NodeKind.IoControlSpec);
 
 		boolean c = UNIT_EQUAL(node);
 		boolean d = false; //UnitIdentifier(node);
@@ -5687,14 +8133,12 @@ public class Parser {
 		}
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpec");
+		node = ast.createNode(NodeKind.IoControlSpec);
 
 		boolean e = REC_EQUAL(node);
 		boolean f = false; // Expr(node);
@@ -5703,40 +8147,34 @@ public class Parser {
 		}
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpec");
+		node = ast.createNode(NodeKind.IoControlSpec);
 
 		boolean g = END_EQUAL(node);
 		boolean h = LblRef(node);
 
 		if (g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpec");
+		node = ast.createNode(NodeKind.IoControlSpec);
 
 		boolean i = ERR_EQUAL(node);
 		boolean j = LblRef(node);
 
 		if (i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpec");
+		node = ast.createNode(NodeKind.IoControlSpec);
 
 		boolean k = IOSTAT_EQUAL(node);
 		boolean l = false;
@@ -5745,48 +8183,61 @@ public class Parser {
 		}
 
 		if (k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* GoToKw ::= 	"goto"
 	*/
 	private boolean GoToKw(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.GoToKw)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("GoToKw");
+		Boolean memo = recall(136, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = GoToKwProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(136, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(136, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> GoToKwProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.GoToKw);
 
 		boolean a = GOTO(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("GoToKw");
+		node = ast.createNode(NodeKind.GoToKw);
 
 		boolean b = GO(node);
 		boolean c = TO(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5794,22 +8245,41 @@ public class Parser {
 	*           | 	Level3Expr
 	*/
 	private boolean RelOpLevel3Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RelOpLevel3Expr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(137, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RelOpLevel3ExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(137, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(137, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("RelOpLevel3Expr");
+	private Ast.Node<String> RelOpLevel3ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RelOpLevel3Expr);
 
 		boolean a = RelOp(node);
 		boolean b = Level3Expr(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5818,37 +8288,56 @@ public class Parser {
 	*           | 	IoControlSpec
 	*/
 	private boolean RdIoCtlSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RdIoCtlSpecList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(138, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RdIoCtlSpecListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(138, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(138, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("RdIoCtlSpecList");
+	private Ast.Node<String> RdIoCtlSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RdIoCtlSpecList);
 
 		boolean a = UnitIdentifier(node);
 		boolean b = COMMA(node);
 		boolean c = IoControlSpec(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdIoCtlSpecList");
+		node = ast.createNode(NodeKind.RdIoCtlSpecList);
 
 		boolean d = UnitIdentifier(node);
 		boolean e = COMMA(node);
 		boolean f = FormatIdentifier(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdIoCtlSpecList");
+		node = ast.createNode(NodeKind.RdIoCtlSpecList);
 
 		boolean h = false; //RdIoCtlSpecList("RdIoCtlSpecList");
 		boolean j = IoControlSpec(node);
@@ -5859,26 +8348,20 @@ public class Parser {
 		}
 
 		if (h && i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdIoCtlSpecList");
+		node = ast.createNode(NodeKind.RdIoCtlSpecList);
 
 		boolean g = IoControlSpec(node);
 
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5888,9 +8371,32 @@ public class Parser {
 	*           | 	SubroutineRange
 	*/
 	private boolean SubroutineSubprogram(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineSubprogram)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(139, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubroutineSubprogramProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(139, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(139, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SubroutineSubprogram");
+	private Ast.Node<String> SubroutineSubprogramProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineSubprogram);
 
 		boolean a = LblDef(node);
 		boolean b = SUBROUTINE(node);
@@ -5902,14 +8408,10 @@ public class Parser {
 		}
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5917,53 +8419,43 @@ public class Parser {
 	*           | 	CPrimaryConcatOp*
 	*/
 	private boolean CExpr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CExpr)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("CExpr");
+		int start = stream.mark();
 
-		boolean a = CPrimary(node);
-		if (a) {
-			while (CPrimaryConcatOp(node)) ;
+		Boolean memo = recall(140, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a) {
+		Ast.Node<String> node = CExprProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(140, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(140, start, node);
+		return true;
 	}
 
-	/**
-	* program ::= 	IN_6
-	*           | 	CommentOrNewline*
-	*           | 	ExecutableProgram
-	*           | 	CommentOrNewline*
-	*           | 	EX_6
-	*/
-	private boolean program() {
-		ParserState state = new ParserState(current);
-		
-		Ast.Node<String> node = ast.createNode("program");
+	private Ast.Node<String> CExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CExpr);
 
-		while (CommentOrNewline(node)) ;
-		boolean a = ExecutableProgram(node);
+		boolean a = CPrimary(node);
 		if (a) {
-			while (CommentOrNewline(node)) ;
+			while (CPrimaryConcatOp(node)) ;
 		}
 
 		if (a) {
-
-			ast = new Ast<>(node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -5977,9 +8469,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ComputedGotoStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ComputedGotoStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(141, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComputedGotoStmtProduction(start);
 
-		Ast.Node<String> node = ast.createNode("ComputedGotoStmt");
+		if (node == null) {
+			stream.reset(start);
+			memoize(141, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(141, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ComputedGotoStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ComputedGotoStmt);
 
 		boolean a = LblDef(node);
 		boolean b = GoToKw(node);
@@ -5994,83 +8509,113 @@ public class Parser {
 		boolean h = EOS(node);
 
 		if ((a && b && c && d && e && f && g && h) || (b && c && d && e && f && g && h) || (a && b && c && d && e && g && h) || (b && c && d && e && g && h)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* DeclarationConstruct ::= 	TypeDeclarationStmt
 	*/
 	private boolean DeclarationConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DeclarationConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(142, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DeclarationConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(142, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(142, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("DeclarationConstruct");
+	private Ast.Node<String> DeclarationConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DeclarationConstruct);
 
 		boolean a = TypeDeclarationStmt(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("DeclarationConstruct");
+		node = ast.createNode(NodeKind.DeclarationConstruct);
 
 		boolean b = SpecificationStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SubroutinePars ::= 	{SubroutinePar ","}*
 	*/
 	private boolean SubroutinePars(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutinePars)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SubroutinePars");
+		int start = stream.mark();
 
-		boolean a = SubroutinePar(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = SubroutinePars(node);
+		Boolean memo = recall(143, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = SubroutineParsProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(143, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(143, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubroutineParsProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutinePars);
 
-		node = ast.createNode("SubroutinePars");
+		boolean a = SubroutinePar(node);
 
-		boolean d = SubroutinePar(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (d) {
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && SubroutinePar(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
@@ -6079,94 +8624,124 @@ public class Parser {
 	*           | 	SP
 	*/
 	private boolean EquivOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EquivOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(144, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EquivOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(144, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(144, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EquivOp");
+	private Ast.Node<String> EquivOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EquivOp);
 
 		boolean a = SP(node);
 		boolean b = EQUAL_EQUAL(node);
 		boolean c = SP(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EquivOp");
+		node = ast.createNode(NodeKind.EquivOp);
 
 		boolean d = SP(node);
 		boolean e = BANG_EQUAL(node);
 		boolean f = SP(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EquivOp");
+		node = ast.createNode(NodeKind.EquivOp);
 
 		boolean g = BANG_EQUAL(node);
 
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EquivOp");
+		node = ast.createNode(NodeKind.EquivOp);
 
 		boolean h = EQUAL_EQUAL(node);
 
 		if (h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ArraySpec ::= 	ExplicitShapeSpecList
 	*/
 	private boolean ArraySpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ArraySpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(145, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ArraySpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(145, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(145, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ArraySpec");
+	private Ast.Node<String> ArraySpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ArraySpec);
 
 		boolean a = ExplicitShapeSpecList(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ArraySpec");
+		node = ast.createNode(NodeKind.ArraySpec);
 
 		boolean b = AssumedSizeSpec(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -6176,9 +8751,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean CommonStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommonStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(146, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CommonStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(146, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(146, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CommonStmt");
+	private Ast.Node<String> CommonStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommonStmt);
 
 		boolean a = LblDef(node);
 		boolean b = COMMON(node);
@@ -6186,14 +8784,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -6201,34 +8795,76 @@ public class Parser {
 	*           | 	Level2Expr
 	*/
 	private boolean ConcatOpLevel2Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ConcatOpLevel2Expr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(147, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ConcatOpLevel2ExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(147, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ConcatOpLevel2Expr");
+		ast.addChild(parentNode, node);
+		memoize(147, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ConcatOpLevel2ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ConcatOpLevel2Expr);
 
 		boolean a = ConcatOp(node);
 		boolean b = Level3Expr(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* StopStmt ::= 	LblDef
 	*           | 	"stop"
-	*           | 	IconOrScon?
+	*           | 	ICONOrScon?
 	*           | 	EOS
 	*/
 	private boolean StopStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.StopStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(148, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = StopStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(148, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(148, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("StopStmt");
+	private Ast.Node<String> StopStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.StopStmt);
 
 		boolean a = LblDef(node);
 		boolean b = STOP(node);
@@ -6236,14 +8872,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if ((a && b && c && d) ||( b && c && d) || (a && b && d)|| (b && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -6251,99 +8883,127 @@ public class Parser {
 	*           | 	UnitIdentifier
 	*/
 	private boolean CloseSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CloseSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(149, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CloseSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(149, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(149, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CloseSpec");
+	private Ast.Node<String> CloseSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CloseSpec);
 
 		boolean a = UNIT_EQUAL(node);
 		boolean b = UnitIdentifier(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CloseSpec");
+		node = ast.createNode(NodeKind.CloseSpec);
 
 		boolean c = ERR_EQUAL(node);
 		boolean d = LblRef(node);
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CloseSpec");
+		node = ast.createNode(NodeKind.CloseSpec);
 
 		boolean e = STATUS_EQUAL(node);
 		boolean f = CExpr(node);
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CloseSpec");
+		node = ast.createNode(NodeKind.CloseSpec);
 
 		boolean g = IOSTAT_EQUAL(node);
 		boolean h = ScalarVariable(node);
 
 		if (g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ExplicitShapeSpecList ::= 	ExplicitShapeSpec+
 	*/
 	private boolean ExplicitShapeSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExplicitShapeSpecList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ExplicitShapeSpecList");
+		int start = stream.mark();
 
-		boolean b = ExplicitShapeSpec(node);
-		boolean c = COMMA(node);
-		boolean d = false;
-		if (b && c) {
-			d = ExplicitShapeSpecList(node) ;
+		Boolean memo = recall(150, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (b && c && d) {
+		Ast.Node<String> node = ExplicitShapeSpecListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(150, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(150, start, node);
+		return true;
+	}
 
-		node = ast.createNode("ExplicitShapeSpecList");
+	private Ast.Node<String> ExplicitShapeSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExplicitShapeSpecList);
 
 		boolean a = ExplicitShapeSpec(node);
 
-		if (a) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && ExplicitShapeSpec(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
@@ -6352,51 +9012,68 @@ public class Parser {
 	*           | 	","
 	*/
 	private boolean IoControlSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IoControlSpecList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(151, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = IoControlSpecListProduction(start);
 
-		Ast.Node<String> node = ast.createNode("IoControlSpecList");
+		if (node == null) {
+			stream.reset(start);
+			memoize(151, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(151, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> IoControlSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IoControlSpecList);
 
 		boolean a = UnitIdentifier(node);
 		boolean b = DOLLAR(node);
 		boolean c = COMMA(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpecList");
+		node = ast.createNode(NodeKind.IoControlSpecList);
 
 		boolean d = UnitIdentifier(node);
 		boolean e = COMMA(node);
 		boolean f = FormatIdentifier(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpecList");
+		node = ast.createNode(NodeKind.IoControlSpecList);
 
 		boolean g = UnitIdentifier(node);
 		boolean h = COMMA(node);
 		boolean i = IoControlSpec(node);
 
 		if (g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpecList");
+		node = ast.createNode(NodeKind.IoControlSpecList);
 
 		boolean m = IoControlSpec(node);
 		boolean l = COMMA(node);
@@ -6406,170 +9083,226 @@ public class Parser {
 		}
 
 		if (k && l && m) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("IoControlSpecList");
+		node = ast.createNode(NodeKind.IoControlSpecList);
 
 		boolean j = IoControlSpec(node);
 
 		if (j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ImpliedDoVariable ::= 	Ident
 	*/
 	private boolean ImpliedDoVariable(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ImpliedDoVariable)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ImpliedDoVariable");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(152, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = ImpliedDoVariableProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(152, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(152, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ImpliedDoVariableProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ImpliedDoVariable);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* ExecutionPartConstruct ::= 	ExecutableConstruct
 	*/
 	private boolean ExecutionPartConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExecutionPartConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(153, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ExecutionPartConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(153, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(153, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ExecutionPartConstruct");
+	private Ast.Node<String> ExecutionPartConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExecutionPartConstruct);
 
 		boolean a = ExecutableConstruct(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ExecutionPartConstruct");
+		node = ast.createNode(NodeKind.ExecutionPartConstruct);
 
 		boolean b = FormatStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ExecutionPartConstruct");
+		node = ast.createNode(NodeKind.ExecutionPartConstruct);
 
 		boolean c = DataStmt(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ExecutionPartConstruct");
+		node = ast.createNode(NodeKind.ExecutionPartConstruct);
 
 		boolean d = EntryStmt(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* EntityDeclList ::= 	EntityDecl+
 	*/
 	private boolean EntityDeclList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("EntityDeclList");
-
-		boolean a = EntityDecl(node);
-		boolean b = false;
-		boolean c = false; //EntityDecl(node) ;
-
-		if (a) {
-			b = COMMA(node);
+		if (!predicts(Lookahead.EntityDeclList)) {
+			return false;
 		}
 
-		if (a && b) {
-			c = EntityDeclList(node);
+		int start = stream.mark();
+
+		Boolean memo = recall(154, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if ((a && b && c)) {
+		Ast.Node<String> node = EntityDeclListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(154, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(154, start, node);
+		return true;
+	}
 
-		node = ast.createNode("EntityDeclList");
+	private Ast.Node<String> EntityDeclListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EntityDeclList);
 
-		boolean d = EntityDecl(node);
+		boolean a = EntityDecl(node);
 
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (d) {
+			if (COMMA(node) && EntityDecl(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* UFExpr ::= 	UFTerm
 	*/
 	private boolean UFExpr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UFExpr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(155, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = UFExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(155, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(155, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("UFExpr");
+	private Ast.Node<String> UFExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UFExpr);
 
 		boolean b = Sign(node);
 		boolean c = UFTerm(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFExpr");
+		node = ast.createNode(NodeKind.UFExpr);
 
 		boolean d = false; //UFExpr("UFExpr");
 		boolean f = UFTerm(node);
@@ -6580,214 +9313,291 @@ public class Parser {
 		}
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFExpr");
+		node = ast.createNode(NodeKind.UFExpr);
 
 		boolean a = UFTerm(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* EntryName ::= 	Ident
 	*/
 	private boolean EntryName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EntryName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("EntryName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(156, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = EntryNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(156, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(156, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> EntryNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EntryName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* SFDummyArgNameList ::= 	SFDummyArgName+
 	*/
 	private boolean SFDummyArgNameList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFDummyArgNameList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFDummyArgNameList");
+		int start = stream.mark();
 
-		boolean a = SFDummyArgName(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = SFDummyArgNameList(node);
+		Boolean memo = recall(157, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if ((a && b && c)) {
+		Ast.Node<String> node = SFDummyArgNameListProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(157, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(157, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFDummyArgNameListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFDummyArgNameList);
 
-		node = ast.createNode("SFDummyArgNameList");
+		boolean a = SFDummyArgName(node);
 
-		boolean e = SFDummyArgName(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (e) {
+			if (COMMA(node) && SFDummyArgName(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* CommonBlockObject ::= 	VariableName
 	*/
 	private boolean CommonBlockObject(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommonBlockObject)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(158, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CommonBlockObjectProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(158, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(158, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CommonBlockObject");
+	private Ast.Node<String> CommonBlockObjectProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommonBlockObject);
 
 		boolean b = ArrayDeclarator(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CommonBlockObject");
+		node = ast.createNode(NodeKind.CommonBlockObject);
 
 		boolean a = VariableName(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* RdFmtId ::= 	LblRef
 	*/
 	private boolean RdFmtId(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RdFmtId)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(159, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RdFmtIdProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(159, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(159, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("RdFmtId");
+	private Ast.Node<String> RdFmtIdProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RdFmtId);
 
 		boolean a = LblRef(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdFmtId");
+		node = ast.createNode(NodeKind.RdFmtId);
 
 		boolean b = STAR(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdFmtId");
+		node = ast.createNode(NodeKind.RdFmtId);
 
 		boolean d = COperand(node);
 		boolean e = ConcatOp(node);
 		boolean f = CPrimary(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdFmtId");
+		node = ast.createNode(NodeKind.RdFmtId);
 
 		boolean g = RdFmtIdExpr(node);
 		boolean h = ConcatOp(node);
 		boolean i = CPrimary(node);
 
 		if (g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdFmtId");
+		node = ast.createNode(NodeKind.RdFmtId);
 
 		boolean c = COperand(node);
 
-		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
-		}
-
-		current = state.current;
+		if (c) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* EntityDecl ::= 	ObjectName
 	*/
 	private boolean EntityDecl(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EntityDecl)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(160, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EntityDeclProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(160, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(160, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EntityDecl");
+	private Ast.Node<String> EntityDeclProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EntityDecl);
 
 		boolean f = ObjectName(node);
 		boolean g = STAR(node);
 		boolean h = CharLength(node);
 
 		if (f && g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EntityDecl");
+		node = ast.createNode(NodeKind.EntityDecl);
 
 		boolean i = ObjectName(node);
 		boolean j = LPAREN(node);
@@ -6797,14 +9607,12 @@ public class Parser {
 		boolean n = CharLength(node);
 
 		if (i && j && k && l && m && n) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EntityDecl");
+		node = ast.createNode(NodeKind.EntityDecl);
 
 		boolean b = ObjectName(node);
 		boolean c = LPAREN(node);
@@ -6812,72 +9620,81 @@ public class Parser {
 		boolean e = RPAREN(node);
 
 		if (b && c && d && e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EntityDecl");
+		node = ast.createNode(NodeKind.EntityDecl);
 
 		boolean a = ObjectName(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SubroutineArg ::= 	Expr
 	*/
 	private boolean SubroutineArg(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutineArg)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(161, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubroutineArgProduction(start);
 
-		Ast.Node<String> node = ast.createNode("SubroutineArg");
+		if (node == null) {
+			stream.reset(start);
+			memoize(161, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(161, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SubroutineArgProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutineArg);
 
 		boolean a = Expr(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SubroutineArg");
+		node = ast.createNode(NodeKind.SubroutineArg);
 
 		boolean b = HCON(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SubroutineArg");
+		node = ast.createNode(NodeKind.SubroutineArg);
 
 		boolean c = STAR(node);
 		boolean d = LblRef(node);
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -6885,9 +9702,32 @@ public class Parser {
 	*           | 	PositionSpec+
 	*/
 	private boolean PositionSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.PositionSpecList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(162, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = PositionSpecListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(162, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("PositionSpecList");
+		ast.addChild(parentNode, node);
+		memoize(162, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> PositionSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PositionSpecList);
 
 		boolean a = PositionSpec(node);
 		boolean b = COMMA(node);
@@ -6897,38 +9737,30 @@ public class Parser {
 		}
 
 		if ((a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("PositionSpecList");
+		node = ast.createNode(NodeKind.PositionSpecList);
 
 		boolean e = UnitIdentifier(node);
 		boolean d = COMMA(node);
 		boolean f = PositionSpec(node);
 		if ((e && d && f)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("PositionSpecList");
+		node = ast.createNode(NodeKind.PositionSpecList);
 
 		boolean g = PositionSpec(node);
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -6938,9 +9770,32 @@ public class Parser {
 	*           | 	SPON
 	*/
 	private boolean ConcatOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ConcatOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(163, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ConcatOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(163, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(163, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ConcatOp");
+	private Ast.Node<String> ConcatOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ConcatOp);
 
 		boolean a = SLASH(node);
 		//boolean b = (ICON("ConcatOp") || HCON("ConcatOp") || FCON("ConcatOp") || SP("ConcatOp") || PCON("ConcatOp") || RDCON("ConcatOp") || BCON("ConcatOp") || OCON("ConcatOp") || ZCON("ConcatOp"));
@@ -6948,35 +9803,50 @@ public class Parser {
 		//boolean d = (ICON("ConcatOp") || HCON("ConcatOp") || FCON("ConcatOp") || SP("ConcatOp") || PCON("ConcatOp") || RDCON("ConcatOp") || BCON("ConcatOp") || OCON("ConcatOp") || ZCON("ConcatOp"));
 
 		if (a && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* IntrinsicProcedureName ::= 	Ident
 	*/
 	private boolean IntrinsicProcedureName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IntrinsicProcedureName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("IntrinsicProcedureName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(164, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = IntrinsicProcedureNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(164, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(164, start, node);
+		return true;
+	}
 
-		return false;
+	private Ast.Node<String> IntrinsicProcedureNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IntrinsicProcedureName);
+
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -6986,9 +9856,32 @@ public class Parser {
 	*           | 	FunctionRange
 	*/
 	private boolean FunctionSubprogram(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionSubprogram)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(165, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FunctionSubprogramProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(165, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(165, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FunctionSubprogram");
+	private Ast.Node<String> FunctionSubprogramProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionSubprogram);
 
 		boolean a = LblDef(node);
 		boolean b = FunctionPrefix(node);
@@ -6998,60 +9891,95 @@ public class Parser {
 			d = FunctionRange(node);
 		}
 		if ((a && b && c && d) || (b && c && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* DataIDoObjectList ::= 	DataIDoObject+
 	*/
 	private boolean DataIDoObjectList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataIDoObjectList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DataIDoObjectList");
+		int start = stream.mark();
 
-		boolean a = DataIDoObject(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = DataIDoObjectList(node);
+		Boolean memo = recall(166, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = DataIDoObjectListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(166, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(166, start, node);
+		return true;
+	}
 
-		node = ast.createNode("DataIDoObjectList");
+	private Ast.Node<String> DataIDoObjectListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataIDoObjectList);
 
-		boolean e = DataIDoObject(node);
+		boolean a = DataIDoObject(node);
 
-		if (e) {
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-			ast.addChild(parentNode, node);
-			return true;
+			if (COMMA(node) && DataIDoObject(node)) {
+				continue;
+			}
+
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* FunctionPars ::= 	{FunctionPar ","}*
 	*/
 	private boolean FunctionPars(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionPars)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(167, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FunctionParsProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(167, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(167, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FunctionPars");
+	private Ast.Node<String> FunctionParsProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionPars);
 
 		boolean a  = FunctionPar(node);
 		boolean b = COMMA(node);
@@ -7061,27 +9989,24 @@ public class Parser {
 		}
 
 		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FunctionPars");
+		node = ast.createNode(NodeKind.FunctionPars);
 
 		boolean d  = FunctionPar(node);
 
 		if (d) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FunctionPars");
+		node = ast.createNode(NodeKind.FunctionPars);
 
-		ast.addChild(parentNode, node);
-		return true;
+		return node;
 
 	}
 
@@ -7090,43 +10015,81 @@ public class Parser {
 	*           | 	InputItemList
 	*/
 	private boolean CommaInputItemList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommaInputItemList)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("CommaInputItemList");
+		Boolean memo = recall(168, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CommaInputItemListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(168, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(168, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> CommaInputItemListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommaInputItemList);
 
 		boolean a = COMMA(node);
 		boolean b = InputItemList(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SFDummyArgName ::= 	Ident
 	*/
 	private boolean SFDummyArgName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SFDummyArgName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFDummyArgName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(169, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = SFDummyArgNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(169, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(169, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SFDummyArgNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SFDummyArgName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -7134,9 +10097,32 @@ public class Parser {
 	*           | 	ImplicitRanges
 	*/
 	private boolean ImplicitSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ImplicitSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(170, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ImplicitSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(170, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ImplicitSpec");
+		ast.addChild(parentNode, node);
+		memoize(170, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ImplicitSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ImplicitSpec);
 
 		boolean g = TypeSpec(node);
 		boolean d = LPAREN(node);
@@ -7146,14 +10132,12 @@ public class Parser {
 		boolean f = RPAREN(node);
 
 		if ((g && d && f)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ImplicitSpec");
+		node = ast.createNode(NodeKind.ImplicitSpec);
 
 		boolean a = TypeSpec(node);
 		if (a) {
@@ -7161,26 +10145,20 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ImplicitSpec");
+		node = ast.createNode(NodeKind.ImplicitSpec);
 
 		boolean h = TypeSpec(node);
 
 		if ((h)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7190,9 +10168,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean IntrinsicStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IntrinsicStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(171, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = IntrinsicStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(171, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(171, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("IntrinsicStmt");
+	private Ast.Node<String> IntrinsicStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IntrinsicStmt);
 
 		boolean a = LblDef(node);
 		boolean b = INTRINSIC(node);
@@ -7200,46 +10201,83 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* LowerBound ::= 	Expr
 	*/
 	private boolean LowerBound(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LowerBound)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(172, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = LowerBoundProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(172, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(172, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("LowerBound");
+	private Ast.Node<String> LowerBoundProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LowerBound);
 
 		boolean a = Expr(node);
 
 		if (a) {
+			return node;
+		}
 
-			ast.addChild(parentNode, node);
-			return true;
+		return null;
+	}
+
+	/**
+	* Level3Expr ::= 	Level2Expr
+	*           | 	ConcatOpLevel2Expr*
+	*/
+	private boolean Level3Expr(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.Level3Expr)) {
+			return false;
 		}
 
-		current = state.current;
+		int start = stream.mark();
 
-		return false;
-	}
+		Boolean memo = recall(173, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = Level3ExprProduction(start);
 
+		if (node == null) {
+			stream.reset(start);
+			memoize(173, start, null);
+			return false;
+		}
 
-	/**
-	* Level3Expr ::= 	Level2Expr
-	*           | 	ConcatOpLevel2Expr*
-	*/
-	private boolean Level3Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		ast.addChild(parentNode, node);
+		memoize(173, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("Level3Expr");
+	private Ast.Node<String> Level3ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Level3Expr);
 
 		boolean a = Level2Expr(node);
 		if (a) {
@@ -7247,14 +10285,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7264,9 +10298,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ImplicitStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ImplicitStmt)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ImplicitStmt");
+		int start = stream.mark();
+
+		Boolean memo = recall(174, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ImplicitStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(174, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(174, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ImplicitStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ImplicitStmt);
 
 		boolean a = LblDef(node);
 		boolean b = IMPLICIT(node);
@@ -7274,14 +10331,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7290,23 +10343,44 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean SaveStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SaveStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(175, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SaveStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(175, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SaveStmt");
+		ast.addChild(parentNode, node);
+		memoize(175, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SaveStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SaveStmt);
 
 		boolean a = LblDef(node);
 		boolean b = SAVE(node);
 		boolean c = EOS(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SaveStmt");
+		node = ast.createNode(NodeKind.SaveStmt);
 
 		boolean d = LblDef(node);
 		boolean e = SAVE(node);
@@ -7314,14 +10388,10 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7329,22 +10399,41 @@ public class Parser {
 	*           | 	EndProgramStmt
 	*/
 	private boolean MainRange(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.MainRange)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(176, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = MainRangeProduction(start);
 
-		Ast.Node<String> node = ast.createNode("MainRange");
+		if (node == null) {
+			stream.reset(start);
+			memoize(176, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(176, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> MainRangeProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.MainRange);
 
 		boolean a = Body(node);
 		boolean b = EndProgramStmt(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7353,105 +10442,158 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean FunctionReference(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionReference)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(177, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FunctionReferenceProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(177, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(177, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FunctionReference");
+	private Ast.Node<String> FunctionReferenceProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionReference);
 
 		boolean a = Name(node);
 		boolean b = LPAREN(node);
 		boolean c = RPAREN(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* MultOp ::= 	"*"
 	*/
 	private boolean MultOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.MultOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(178, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = MultOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(178, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(178, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("MultOp");
+	private Ast.Node<String> MultOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.MultOp);
 
 		boolean a = STAR(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("MultOp");
+		node = ast.createNode(NodeKind.MultOp);
 
 		boolean b = SLASH(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* AssumedSizeSpec ::= 	"*"
 	*/
 	private boolean AssumedSizeSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AssumedSizeSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(179, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AssumedSizeSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(179, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("AssumedSizeSpec");
+		ast.addChild(parentNode, node);
+		memoize(179, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> AssumedSizeSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AssumedSizeSpec);
 
 		boolean a = STAR(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssumedSizeSpec");
+		node = ast.createNode(NodeKind.AssumedSizeSpec);
 
 		boolean b = LowerBound(node);
 		boolean c = COLON(node);
 		boolean d = STAR(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssumedSizeSpec");
+		node = ast.createNode(NodeKind.AssumedSizeSpec);
 
 		boolean e = ExplicitShapeSpecList(node);
 		boolean f = COMMA(node);
 		boolean g = STAR(node);
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssumedSizeSpec");
+		node = ast.createNode(NodeKind.AssumedSizeSpec);
 
 		boolean h = ExplicitShapeSpecList(node);
 		boolean i = COMMA(node);
@@ -7463,14 +10605,10 @@ public class Parser {
 		boolean l = STAR(node);
 
 		if (h && i && j && k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7485,9 +10623,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean DataImpliedDo(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DataImpliedDo)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DataImpliedDo");
+		int start = stream.mark();
+
+		Boolean memo = recall(180, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DataImpliedDoProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(180, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(180, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> DataImpliedDoProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DataImpliedDo);
 
 		boolean j = LPAREN(node);
 		boolean k = false; // DataIDoObjectList(node);
@@ -7514,14 +10675,12 @@ public class Parser {
 		boolean t = RPAREN(node);
 
 		if (j && k && l && m && n && o && p && q && r && s && t) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("DataImpliedDo");
+		node = ast.createNode(NodeKind.DataImpliedDo);
 
 
 		boolean a = LPAREN(node);
@@ -7544,14 +10703,10 @@ public class Parser {
 		boolean i = RPAREN(node);
 
 		if (a && b && c && d && e && f && g && h && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7560,35 +10715,52 @@ public class Parser {
 	*           | 	SP
 	*/
 	private boolean OrOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.OrOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(181, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = OrOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(181, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(181, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("OrOp");
+	private Ast.Node<String> OrOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.OrOp);
 
 		boolean a = SP(node);
 		boolean b = OR(node);
 		boolean c = SP(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OrOp");
+		node = ast.createNode(NodeKind.OrOp);
 
 		boolean d = OR(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7598,9 +10770,32 @@ public class Parser {
 	*           | 	EndFunctionStmt
 	*/
 	private boolean FunctionRange(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionRange)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(182, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FunctionRangeProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(182, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(182, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FunctionRange");
+	private Ast.Node<String> FunctionRangeProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionRange);
 
 		boolean a = FunctionParList(node);
 		boolean b = EOS(node);
@@ -7608,70 +10803,101 @@ public class Parser {
 		boolean d = EndFunctionStmt(node);
 
 		if ((a && b && c && d) || (b && c && d) || (a && b && d) || (b && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* SubroutinePar ::= 	DummyArgName
 	*/
 	private boolean SubroutinePar(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubroutinePar)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(183, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubroutineParProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(183, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(183, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SubroutinePar");
+	private Ast.Node<String> SubroutineParProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubroutinePar);
 
 		boolean a = DummyArgName(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SubroutinePar");
+		node = ast.createNode(NodeKind.SubroutinePar);
 
 		boolean b = STAR(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* DoLblRef ::= 	Icon
 	*/
 	private boolean DoLblRef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.DoLblRef)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("DoLblRef");
+		int start = stream.mark();
 
-		boolean a = ICON(node);
+		Boolean memo = recall(184, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = DoLblRefProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(184, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(184, start, node);
+		return true;
 	}
 
+	private Ast.Node<String> DoLblRefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DoLblRef);
+
+		boolean a = ICON(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
+	}
 
 	/**
 	* OutputItemList1 ::= 	Expr
@@ -7679,9 +10905,32 @@ public class Parser {
 	*           | 	Expr
 	*/
 	private boolean OutputItemList1(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.OutputItemList1)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(185, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = OutputItemList1Production(start);
 
-		Ast.Node<String> node = ast.createNode("OutputItemList1");
+		if (node == null) {
+			stream.reset(start);
+			memoize(185, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(185, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> OutputItemList1Production(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.OutputItemList1);
 
 		boolean d = Expr(node);
 		boolean e = COMMA(node);
@@ -7691,14 +10940,12 @@ public class Parser {
 		}
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OutputItemList1");
+		node = ast.createNode(NodeKind.OutputItemList1);
 
 		boolean h = Expr(node);
 		boolean i = COMMA(node);
@@ -7708,14 +10955,12 @@ public class Parser {
 		}
 
 		if (h && i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OutputItemList1");
+		node = ast.createNode(NodeKind.OutputItemList1);
 
 		boolean m = OutputImpliedDo(node);
 		boolean l = COMMA(node);
@@ -7725,14 +10970,12 @@ public class Parser {
 		}
 
 		if (k && l && m) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OutputItemList1");
+		node = ast.createNode(NodeKind.OutputItemList1);
 
 		boolean a = Expr(node);
 		boolean b = COMMA(node);
@@ -7742,26 +10985,20 @@ public class Parser {
 		}
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("OutputItemList1");
+		node = ast.createNode(NodeKind.OutputItemList1);
 
 		boolean g = OutputImpliedDo(node);
 
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7769,22 +11006,41 @@ public class Parser {
 	*           | 	AddOperand
 	*/
 	private boolean AddOpAddOperand(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AddOpAddOperand)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(186, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AddOpAddOperandProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(186, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(186, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("AddOpAddOperand");
+	private Ast.Node<String> AddOpAddOperandProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AddOpAddOperand);
 
 		boolean a = AddOp(node);
 		boolean b = AddOperand(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7792,9 +11048,32 @@ public class Parser {
 	*           | 	{ConnectSpec ","}*
 	*/
 	private boolean ConnectSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ConnectSpecList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(187, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ConnectSpecListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(187, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(187, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ConnectSpecList");
+	private Ast.Node<String> ConnectSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ConnectSpecList);
 
 		boolean a = ConnectSpec(node);
 		boolean b = COMMA(node);
@@ -7804,38 +11083,30 @@ public class Parser {
 		}
 
 		if ((a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpecList");
+		node = ast.createNode(NodeKind.ConnectSpecList);
 
 		boolean d = ConnectSpec(node);
 
 		if ((d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpecList");
+		node = ast.createNode(NodeKind.ConnectSpecList);
 
 		boolean e = UnitIdentifier(node);
 
 		if ((e)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7847,9 +11118,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean CloseStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CloseStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(188, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CloseStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(188, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(188, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CloseStmt");
+	private Ast.Node<String> CloseStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CloseStmt);
 
 		boolean a = LblDef(node);
 		boolean b = CLOSE(node);
@@ -7859,14 +11153,10 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if (b && c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -7874,21 +11164,42 @@ public class Parser {
 	*           | 	SubscriptTripletTail?
 	*/
 	private boolean SectionSubscript(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SectionSubscript)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(189, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SectionSubscriptProduction(start);
 
-		Ast.Node<String> node = ast.createNode("SectionSubscript");
+		if (node == null) {
+			stream.reset(start);
+			memoize(189, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(189, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SectionSubscriptProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SectionSubscript);
 
 		boolean c = SubscriptTripletTail(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("SectionSubscript");
+		node = ast.createNode(NodeKind.SectionSubscript);
 
 		boolean a = Expr(node);
 		boolean b = false; //SubscriptTripletTail(node);
@@ -7897,155 +11208,177 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
-
 	/**
 	* ImplicitSpecList ::= 	ImplicitSpec+
 	*/
 	private boolean ImplicitSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ImplicitSpecList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ImplicitSpecList");
+		int start = stream.mark();
 
-		boolean a = ImplicitSpec(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = ImplicitSpecList(node);
+		Boolean memo = recall(190, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = ImplicitSpecListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(190, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(190, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ImplicitSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ImplicitSpecList);
 
-		node = ast.createNode("ImplicitSpecList");
+		boolean a = ImplicitSpec(node);
 
-		boolean e = ImplicitSpec(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (e) {
+			if (COMMA(node) && ImplicitSpec(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
-	* SFVarName ::= 	Ident
+	* PositionSpec ::= 	"unit="
+	*           | 	UnitIdentifier
 	*/
-	private boolean SFVarName() {
-		ParserState state = new ParserState(current);
+	private boolean PositionSpec(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.PositionSpec)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("SFVarName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(191, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = PositionSpecProduction(start);
 
-			ast = new Ast<>(node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(191, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(191, start, node);
+		return true;
 	}
 
-	/**
-	* PositionSpec ::= 	"unit="
-	*           | 	UnitIdentifier
-	*/
-	private boolean PositionSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("PositionSpec");
+	private Ast.Node<String> PositionSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PositionSpec);
 
 		boolean a = UNIT_EQUAL(node);
 		boolean b = UnitIdentifier(node);
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("PositionSpec");
+		node = ast.createNode(NodeKind.PositionSpec);
 
 		boolean c = ERR_EQUAL(node);
 		boolean d = LblRef(node);
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("PositionSpec");
+		node = ast.createNode(NodeKind.PositionSpec);
 
 		boolean e = IOSTAT_EQUAL(node);
 		boolean f = ScalarVariable(node);
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* CommentOrNewline ::= 	comment
 	*/
 	private boolean CommentOrNewline(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CommentOrNewline)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(192, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CommentOrNewlineProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(192, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(192, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CommentOrNewline");
+	private Ast.Node<String> CommentOrNewlineProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CommentOrNewline);
 
 		boolean a = COMMENT(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CommentOrNewline");
+		node = ast.createNode(NodeKind.CommentOrNewline);
 
 		boolean b = NEWLINE(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8055,9 +11388,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ExternalStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExternalStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(193, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ExternalStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(193, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(193, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ExternalStmt");
+	private Ast.Node<String> ExternalStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExternalStmt);
 
 		boolean a = LblDef(node);
 		boolean b = EXTERNAL(node);
@@ -8065,14 +11421,10 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8082,9 +11434,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean BlockDataStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.BlockDataStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(194, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = BlockDataStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(194, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(194, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("BlockDataStmt");
+	private Ast.Node<String> BlockDataStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BlockDataStmt);
 
 		boolean a = LblDef(node);
 		boolean b = BLOCKDATA(node);
@@ -8092,14 +11467,12 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if ((a && b && c && d) || (b && c && d) || (a && b && d)|| (b && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("BlockDataStmt");
+		node = ast.createNode(NodeKind.BlockDataStmt);
 
 		boolean e = LblDef(node);
 		boolean f = BLOCK(node);
@@ -8108,118 +11481,164 @@ public class Parser {
 		boolean i = EOS(node);
 
 		if ((e && f && g && h && i) || (f && g && h && i) ||(e && f && g && i)||(f && g && i)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* AddOp ::= 	"+"
 	*/
 	private boolean AddOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AddOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(195, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AddOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(195, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(195, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("AddOp");
+	private Ast.Node<String> AddOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AddOp);
 
 		boolean a = PLUS(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AddOp");
+		node = ast.createNode(NodeKind.AddOp);
 
 		boolean b = MINUS(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* LblRefList ::= 	LblRef+
 	*/
 	private boolean LblRefList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LblRefList)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("LblRefList");
+		int start = stream.mark();
 
-		boolean a = LblRef(node);
-		boolean b = COMMA(node);
-		boolean c = false;
-		if (a && b) {
-			c = LblRefList(node);
+		Boolean memo = recall(196, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a && b && c) {
-			ast.addChild(parentNode, node);
-			return true;
+		Ast.Node<String> node = LblRefListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(196, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(196, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> LblRefListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LblRefList);
 
-		node = ast.createNode("LblRefList");
+		boolean a = LblRef(node);
 
-		boolean e = LblRef(node);
+		while (a) {
+			int position = stream.mark();
+			int children = ast.getChildren(node).size();
 
-		if (e) {
+			if (COMMA(node) && LblRef(node)) {
+				continue;
+			}
 
-			ast.addChild(parentNode, node);
-			return true;
+			stream.reset(position);
+			ast.removeChildren(node, children);
+			break;
 		}
 
-		current = state.current;
+		if (a) {
+			return node;
+		}
 
-		return false;
+		return null;
 	}
 
 	/**
 	* FunctionPrefix ::= 	"function"
 	*/
 	private boolean FunctionPrefix(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionPrefix)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(197, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FunctionPrefixProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(197, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(197, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FunctionPrefix");
+	private Ast.Node<String> FunctionPrefixProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionPrefix);
 
 		boolean a = FUNCTION(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("FunctionPrefix");
+		node = ast.createNode(NodeKind.FunctionPrefix);
 
 		boolean b = TypeSpec(node);
 		boolean c = FUNCTION(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8229,9 +11648,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean SubstringRange(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.SubstringRange)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(198, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SubstringRangeProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(198, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(198, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("SubstringRange");
+	private Ast.Node<String> SubstringRangeProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.SubstringRange);
 
 		boolean a = LPAREN(node);
 		boolean b = false; //Expr(node);
@@ -8245,68 +11687,100 @@ public class Parser {
 		boolean d = RPAREN(node);
 
 		if ((a && b && c && d) || (a && c && d)) {
+			return node;
+		}
 
-			ast.addChild(parentNode, node);
-			return true;
+		return null;
+	}
+
+	/**
+	* DoConstruct ::= 	LabelDoStmt
+	*/
+	private boolean DoConstruct(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.DoConstruct)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(199, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DoConstructProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(199, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(199, start, node);
+		return true;
 	}
 
-	/**
-	* DoConstruct ::= 	LabelDoStmt
-	*/
-	private boolean DoConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("DoConstruct");
+	private Ast.Node<String> DoConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.DoConstruct);
 
 		boolean a = LabelDoStmt(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Formatsep ::= 	"/"
 	*/
 	private boolean Formatsep(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Formatsep)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("Formatsep");
+		Boolean memo = recall(200, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FormatsepProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(200, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(200, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> FormatsepProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Formatsep);
 
 		boolean a = SLASH(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Formatsep");
+		node = ast.createNode(NodeKind.Formatsep);
 
 		boolean b = COLON(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8315,35 +11789,52 @@ public class Parser {
 	*           | 	SP
 	*/
 	private boolean NotOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.NotOp)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(201, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = NotOpProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(201, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(201, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("NotOp");
+	private Ast.Node<String> NotOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.NotOp);
 
 		boolean a = SP(node);
 		boolean b = NOT(node);
 		boolean c = SP(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("NotOp");
+		node = ast.createNode(NodeKind.NotOp);
 
 		boolean d = NOT(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8351,9 +11842,32 @@ public class Parser {
 	*           | 	UnitIdentifier
 	*/
 	private boolean ConnectSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ConnectSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(202, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ConnectSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(202, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(202, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ConnectSpec");
+	private Ast.Node<String> ConnectSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean a = UNIT_EQUAL(node);
 		boolean b = false; //UnitIdentifier(node);
@@ -8362,27 +11876,23 @@ public class Parser {
 		}
 
 		if (a && b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean c = ERR_EQUAL(node);
 		boolean d = LblRef(node);
 
 		if (c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean e = FILE_EQUAL(node);
 		boolean f = false; //CExpr("ConnectSpec");
@@ -8392,14 +11902,12 @@ public class Parser {
 		}
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean g = STATUS_EQUAL(node);
 		boolean h = false; //CExpr(node);
@@ -8409,14 +11917,12 @@ public class Parser {
 		}
 
 		if (g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean i = ACCESS_EQUAL(node);
 		boolean j = false; // CExpr(node);
@@ -8426,14 +11932,12 @@ public class Parser {
 		}
 
 		if (i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean k = FORM_EQUAL(node);
 		boolean l = false; //CExpr(node);
@@ -8443,14 +11947,12 @@ public class Parser {
 		}
 
 		if (k && l) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean m = RECL_EQUAL(node);
 		boolean n = false; // Expr(node);
@@ -8460,14 +11962,12 @@ public class Parser {
 		}
 
 		if (m && n) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean o = BLANK_EQUAL(node);
 		boolean p = false; //CExpr(node);
@@ -8477,14 +11977,12 @@ public class Parser {
 		}
 
 		if (o && p) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ConnectSpec");
+		node = ast.createNode(NodeKind.ConnectSpec);
 
 		boolean q = IOSTAT_EQUAL(node);
 		boolean r = false; //ScalarVariable(node);
@@ -8494,44 +11992,82 @@ public class Parser {
 		}
 
 		if (q && r) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* FunctionName ::= 	Ident
 	*/
 	private boolean FunctionName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("FunctionName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(203, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = FunctionNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(203, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(203, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> FunctionNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* UFTerm ::= 	UFFactor
 	*/
 	private boolean UFTerm(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UFTerm)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(204, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = UFTermProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(204, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(204, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("UFTerm");
+	private Ast.Node<String> UFTermProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UFTerm);
 
 		boolean d = UFFactor(node);
 		boolean c = MultOp(node);
@@ -8541,14 +12077,12 @@ public class Parser {
 		}
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFTerm");
+		node = ast.createNode(NodeKind.UFTerm);
 
 		boolean g = UFPrimary(node);
 		boolean f = ConcatOp(node);
@@ -8558,72 +12092,83 @@ public class Parser {
 		}
 
 		if (e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UFTerm");
+		node = ast.createNode(NodeKind.UFTerm);
 
 
 		boolean a = UFFactor(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Primary ::= 	UnsignedArithmeticConstant
 	*/
 	private boolean Primary(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Primary)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(205, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = PrimaryProduction(start);
 
-		Ast.Node<String> node = ast.createNode("Primary");
+		if (node == null) {
+			stream.reset(start);
+			memoize(205, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(205, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> PrimaryProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Primary);
 
 		boolean a = UnsignedArithmeticConstant(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Primary");
+		node = ast.createNode(NodeKind.Primary);
 
 		boolean c = FunctionReference(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Primary");
+		node = ast.createNode(NodeKind.Primary);
 
 		boolean b = NameDataRef(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Primary");
+		node = ast.createNode(NodeKind.Primary);
 
 		boolean d = LPAREN(node);
 		boolean e = false; //Expr(node);
@@ -8633,62 +12178,73 @@ public class Parser {
 		boolean f = RPAREN(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Primary");
+		node = ast.createNode(NodeKind.Primary);
 
 		boolean g = SCON(node);
 
 		if (g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Primary");
+		node = ast.createNode(NodeKind.Primary);
 
 		boolean h = LogicalConstant(node);
 
 		if (h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ExecutableProgram ::= 	ProgramUnit+
 	*/
 	private boolean ExecutableProgram(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ExecutableProgram)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ExecutableProgram");
+		int start = stream.mark();
 
-		boolean a = ProgramUnit(node);
-		if (a) {
-			while (ProgramUnit(node)) ;
+		Boolean memo = recall(206, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (a) {
+		Ast.Node<String> node = ExecutableProgramProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(206, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(206, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ExecutableProgramProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ExecutableProgram);
 
-		return false;
+		boolean a = ProgramUnit(node) && discard();
+		if (a) {
+			while (ProgramUnit(node) && discard()) ;
+		}
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -8700,9 +12256,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean PrintStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.PrintStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(207, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = PrintStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(207, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(207, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("PrintStmt");
+	private Ast.Node<String> PrintStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PrintStmt);
 
 		boolean a = LblDef(node);
 		boolean b = PRINT(node);
@@ -8712,14 +12291,12 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if (b && c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("PrintStmt");
+		node = ast.createNode(NodeKind.PrintStmt);
 
 		boolean g = LblDef(node);
 		boolean h = PRINT(node);
@@ -8727,47 +12304,60 @@ public class Parser {
 		boolean j = EOS(node);
 
 		if (h && i && j) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* UnitIdentifier ::= 	UFExpr
 	*/
 	private boolean UnitIdentifier(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.UnitIdentifier)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(208, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = UnitIdentifierProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(208, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(208, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("UnitIdentifier");
+	private Ast.Node<String> UnitIdentifierProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.UnitIdentifier);
 
 		boolean a = UFExpr(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("UnitIdentifier");
+		node = ast.createNode(NodeKind.UnitIdentifier);
 
 		boolean b = STAR(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8776,80 +12366,114 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean FunctionParList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.FunctionParList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(209, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = FunctionParListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(209, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(209, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("FunctionParList");
+	private Ast.Node<String> FunctionParListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.FunctionParList);
 
 		boolean a = LPAREN(node);
 		boolean b = FunctionPars(node);
 		boolean c = RPAREN(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* ProgramUnit ::= 	MainProgram
 	*/
 	private boolean ProgramUnit(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ProgramUnit)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ProgramUnit");
+		int start = stream.mark();
 
-		boolean a = MainProgram(node);
+		Boolean memo = recall(210, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = ProgramUnitProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(210, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(210, start, node);
+		return true;
+	}
 
-		node = ast.createNode("ProgramUnit");
+	private Ast.Node<String> ProgramUnitProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ProgramUnit);
 
+		// Subprograms fail on their first statement unless it starts one, whereas a main program needs no first statement
+		// and would parse the body of a function before failing, so it is tried last
 		boolean b = FunctionSubprogram(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ProgramUnit");
+		node = ast.createNode(NodeKind.ProgramUnit);
 
 		boolean c = SubroutineSubprogram(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ProgramUnit");
+		node = ast.createNode(NodeKind.ProgramUnit);
 
 		boolean d = BlockDataSubprogram(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		return false;
+		node = ast.createNode(NodeKind.ProgramUnit);
+
+		boolean a = MainProgram(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -8862,9 +12486,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean WriteStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.WriteStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(211, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = WriteStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(211, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(211, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("WriteStmt");
+	private Ast.Node<String> WriteStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.WriteStmt);
 
 		boolean a = LblDef(node);
 		boolean b = WRITE(node);
@@ -8881,14 +12528,10 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if ((a && b && c && d && e && f && g) || (b && c && d && e && f && g) ||(a && b && c && d && e && g)||( b && c && d && e && g)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -8904,9 +12547,32 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean InputImpliedDo(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.InputImpliedDo)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(212, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = InputImpliedDoProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(212, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(212, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("InputImpliedDo");
+	private Ast.Node<String> InputImpliedDoProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.InputImpliedDo);
 
 		boolean a = LPAREN(node);
 		boolean b = false; // InputItemList(node);
@@ -8939,35 +12605,50 @@ public class Parser {
 		boolean j = RPAREN(node);
 
 		if ((a && b && c && d && e && f && g && h && i && j) || (a && b && c && d && e && f && g && h && j)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* BlockDataName ::= 	Ident
 	*/
 	private boolean BlockDataName(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.BlockDataName)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("BlockDataName");
+		int start = stream.mark();
 
-		boolean a = Ident(node);
+		Boolean memo = recall(213, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = BlockDataNameProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(213, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(213, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> BlockDataNameProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BlockDataName);
 
-		return false;
+		boolean a = Ident(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -8977,9 +12658,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ReturnStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ReturnStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(214, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ReturnStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(214, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("ReturnStmt");
+		ast.addChild(parentNode, node);
+		memoize(214, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ReturnStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ReturnStmt);
 
 		boolean a = LblDef(node);
 		boolean b = RETURN(node);
@@ -8990,44 +12694,82 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if ((a && b && c && d) ||(b && c && d) || (a && b && d)|| (b && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* PowerOp ::= 	"**"
 	*/
 	private boolean PowerOp(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.PowerOp)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("PowerOp");
+		int start = stream.mark();
 
-		boolean a = STAR_STAR(node);
+		Boolean memo = recall(215, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = PowerOpProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(215, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(215, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> PowerOpProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.PowerOp);
 
-		return false;
+		boolean a = STAR_STAR(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
 	* TypeSpec ::= 	"integer"
 	*/
 	private boolean TypeSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.TypeSpec)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(216, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = TypeSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(216, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(216, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("TypeSpec");
+	private Ast.Node<String> TypeSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean g = CHARACTER(node);
 		boolean h = false; //LengthSelector(node);
@@ -9036,101 +12778,83 @@ public class Parser {
 		}
 
 		if (g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean m = DOUBLE(node);
 		boolean n = PRECISION(node);
 
 		if (m && n) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean f = CHARACTER(node);
 
 		if (f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 
 		boolean a = INTEGER(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean b = REAL(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean c = DOUBLEPRECISION(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean d = COMPLEX(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("TypeSpec");
+		node = ast.createNode(NodeKind.TypeSpec);
 
 		boolean e = LOGICAL(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9139,9 +12863,32 @@ public class Parser {
 	*           | 	SubstringRange?
 	*/
 	private boolean Variable(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Variable)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(217, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = VariableProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(217, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(217, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("Variable");
+	private Ast.Node<String> VariableProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Variable);
 
 		boolean a = VariableName(node);
 		boolean b = LPAREN(node);
@@ -9150,14 +12897,12 @@ public class Parser {
 
 
 		if ((a && b && c && d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Variable");
+		node = ast.createNode(NodeKind.Variable);
 
 		boolean e = VariableName(node);
 		boolean f = LPAREN(node);
@@ -9166,109 +12911,112 @@ public class Parser {
 		boolean j = SubstringRange(node);
 
 		if ((e && f && g && h && j)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Variable");
+		node = ast.createNode(NodeKind.Variable);
 
 		boolean l = VariableName(node);
 		boolean k = SubstringRange(node);
 
 		if ((l && k)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Variable");
+		node = ast.createNode(NodeKind.Variable);
 
 		boolean m = VariableName(node);
 
 		if ((m)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Constant ::= 	NamedConstantUse
 	*/
 	private boolean Constant(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Constant)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(218, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ConstantProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(218, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Constant");
+		ast.addChild(parentNode, node);
+		memoize(218, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ConstantProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Constant);
 
 		boolean b = PlusMinus(node);
 		boolean c = UnsignedArithmeticConstant(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Constant");
+		node = ast.createNode(NodeKind.Constant);
 
 		boolean d = SCON(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Constant");
+		node = ast.createNode(NodeKind.Constant);
 
 		boolean e = HCON(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Constant");
+		node = ast.createNode(NodeKind.Constant);
 
 		boolean f = LogicalConstant(node);
 
 		if (f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Constant");
+		node = ast.createNode(NodeKind.Constant);
 
 		boolean a = NamedConstantUse(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9277,46 +13025,83 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EndFunctionStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndFunctionStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(219, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EndFunctionStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(219, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(219, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EndFunctionStmt");
+	private Ast.Node<String> EndFunctionStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndFunctionStmt);
 
 		boolean a = LblDef(node);
 		boolean b = END(node);
 		boolean c = EOS(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* LblDef ::= 	ε
 	*/
 	private boolean LblDef(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LblDef)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("LblDef");
+		int start = stream.mark();
 
-		boolean b = Label(node);
+		Boolean memo = recall(220, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (b) {
+		Ast.Node<String> node = LblDefProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(220, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(220, start, node);
+		return true;
 	}
 
+	private Ast.Node<String> LblDefProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LblDef);
+
+		boolean b = Label(node);
+
+		if (b) {
+			return node;
+		}
+
+		return null;
+	}
 
 	/**
 	* IfThenStmt ::= 	LblDef
@@ -9329,9 +13114,32 @@ public class Parser {
 	*           | 	IN_2
 	*/
 	private boolean IfThenStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IfThenStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(221, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		Ast.Node<String> node = ast.createNode("IfThenStmt");
+		Ast.Node<String> node = IfThenStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(221, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(221, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> IfThenStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IfThenStmt);
 
 		boolean a = LblDef(node);
 		boolean b = IF(node);
@@ -9345,14 +13153,10 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if (b && c && d && e && f && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9363,109 +13167,89 @@ public class Parser {
 	*           | 	EndIfStmt
 	*/
 	private boolean IfConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.IfConstruct)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("IfConstruct");
+		int start = stream.mark();
 
-		boolean a = IfThenStmt(node);
-		boolean b = false;
-		if (a) {
-			b = ThenPart(node);
+		Boolean memo = recall(222, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if ((a && b)) {
+		Ast.Node<String> node = IfConstructProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(222, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		return false;
+		ast.addChild(parentNode, node);
+		memoize(222, start, node);
+		return true;
 	}
 
-	private boolean ThenPart(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("ThenPart");
-
-		boolean b = ConditionalBody(node);
-		boolean c = EndIfStmt(node);
+	private Ast.Node<String> IfConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.IfConstruct);
 
-		if ((b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+		boolean a = IfThenStmt(node);
+		boolean b = false;
+		if (a) {
+			b = ThenPart(node);
 		}
 
-		current = state.current;
-
-		node = ast.createNode("ThenPart");
-
-		boolean e = ConditionalBody(node);
-		boolean f = ElseIfConstruct(node);
-
-		if ((e && f)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+		if ((a && b)) {
+			return node;
 		}
 
-		current = state.current;
-
-		node = ast.createNode("ThenPart");
-
-		boolean g = ConditionalBody(node);
-		boolean h = ElseConstruct(node);
-
-		if ((g && h)) {
+		return null;
+	}
 
-			ast.addChild(parentNode, node);
-			return true;
+	/**
+	* ThenPart ::= 	ConditionalBody
+	*           | 	EndIfStmt
+	*/
+	private boolean ThenPart(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.ThenPart)) {
+			return false;
 		}
 
-		current = state.current;
-
-		node = ast.createNode("ThenPart");
-
-		boolean i = ElseConstruct(node);
+		int start = stream.mark();
 
-		if ((i)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+		Boolean memo = recall(223, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		current = state.current;
-
-		node = ast.createNode("ThenPart");
-
-		boolean a = EndIfStmt(node);
+		Ast.Node<String> node = ThenPartProduction(start);
 
-		if ((a)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(223, start, null);
+			return false;
 		}
 
-		current = state.current;
-
-		node = ast.createNode("ThenPart");
+		ast.addChild(parentNode, node);
+		memoize(223, start, node);
+		return true;
+	}
 
-		boolean d = ElseIfConstruct(node);
+	private Ast.Node<String> ThenPartProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ThenPart);
 
-		if ((d)) {
+		// The body is parsed once, whichever statement ends it, so its statements are never parsed again after being
+		// discarded. It matches no statement starting an alternative without it, so those alternatives are never needed
+		boolean a = ConditionalBody(node);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (a && (EndIfStmt(node) || ElseIfConstruct(node) || ElseConstruct(node))) {
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
-
 	/**
 	* EndIfStmt ::= 	LblDef
 	*           | 	EX_2
@@ -9473,23 +13257,44 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EndIfStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndIfStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(224, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EndIfStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(224, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(224, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EndIfStmt");
+	private Ast.Node<String> EndIfStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndIfStmt);
 
 		boolean a = LblDef(node);
 		boolean b = ENDIF(node);
 		boolean c = EOS(node);
 
 		if ((b && c) || (a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EndIfStmt");
+		node = ast.createNode(NodeKind.EndIfStmt);
 
 		boolean d = LblDef(node);
 		boolean e = END(node);
@@ -9497,35 +13302,50 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if ((d && e && f && g) || (e && f && g)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* BlockDataBodyConstruct ::= 	SpecificationPartConstruct
 	*/
 	private boolean BlockDataBodyConstruct(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.BlockDataBodyConstruct)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("BlockDataBodyConstruct");
+		int start = stream.mark();
 
-		boolean a = SpecificationPartConstruct(node);
+		Boolean memo = recall(225, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = BlockDataBodyConstructProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(225, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(225, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> BlockDataBodyConstructProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BlockDataBodyConstruct);
 
-		return false;
+		boolean a = SpecificationPartConstruct(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -9533,9 +13353,32 @@ public class Parser {
 	*           | 	RelOpLevel3Expr*
 	*/
 	private boolean Level4Expr(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Level4Expr)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(226, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = Level4ExprProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(226, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(226, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("Level4Expr");
+	private Ast.Node<String> Level4ExprProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Level4Expr);
 
 		boolean a = Level3Expr(node);
 		if (a) {
@@ -9543,14 +13386,10 @@ public class Parser {
 		}
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9559,23 +13398,44 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EndSubroutineStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndSubroutineStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(227, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EndSubroutineStmtProduction(start);
 
-		Ast.Node<String> node = ast.createNode("EndSubroutineStmt");
+		if (node == null) {
+			stream.reset(start);
+			memoize(227, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(227, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> EndSubroutineStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndSubroutineStmt);
 
 		boolean a = LblDef(node);
 		boolean b = END(node);
 		boolean c = EOS(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EndSubroutineStmt");
+		node = ast.createNode(NodeKind.EndSubroutineStmt);
 
 		boolean e = LblDef(node);
 		boolean f = ENDSUBROUTINE(node);
@@ -9583,14 +13443,12 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if (f && h && g) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EndSubroutineStmt");
+		node = ast.createNode(NodeKind.EndSubroutineStmt);
 
 		boolean i = LblDef(node);
 		boolean j = END(node);
@@ -9599,14 +13457,10 @@ public class Parser {
 		boolean m = EOS(node);
 
 		if (j && k && l && m) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9622,9 +13476,32 @@ public class Parser {
 	*           | 	DoLabelStmt
 	*/
 	private boolean LabelDoStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.LabelDoStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(228, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = LabelDoStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(228, start, null);
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("LabelDoStmt");
+		ast.addChild(parentNode, node);
+		memoize(228, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> LabelDoStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.LabelDoStmt);
 
 		boolean a1 = LblDef(node);
 		boolean b1 = DO(node);
@@ -9633,14 +13510,10 @@ public class Parser {
 		boolean e1 = EOS(node);
 
 		if (b1 && c1 && d1 && e1) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9649,70 +13522,116 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EndBlockDataStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EndBlockDataStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(229, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EndBlockDataStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(229, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(229, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EndBlockDataStmt");
+	private Ast.Node<String> EndBlockDataStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EndBlockDataStmt);
 
 		boolean a = LblDef(node);
 		boolean b = END(node);
 		boolean c = EOS(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Body ::= 	BodyConstruct+
 	*/
 	private boolean Body(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
-
-		Ast.Node<String> node = ast.createNode("Body");
+		if (!predicts(Lookahead.Body)) {
+			return false;
+		}
 
-		boolean b = false;
-		boolean c = BodyConstruct(node);
+		int start = stream.mark();
 
-		if (c) {
-			b = Body(node);
+		Boolean memo = recall(230, parentNode);
+		if (memo != null) {
+			return memo;
 		}
 
-		if (c) {
+		Ast.Node<String> node = BodyProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(230, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(230, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> BodyProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Body);
 
-		node = ast.createNode("Body");
+		boolean a = BodyConstruct(node) && discard();
 
-		boolean a = BodyConstruct(node);
+		while (a && BodyConstruct(node) && discard());
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Datalist ::= 	DataStmtSet
 	*/
 	private boolean Datalist(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Datalist)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(231, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = DatalistProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(231, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(231, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("Datalist");
+	private Ast.Node<String> DatalistProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Datalist);
 
 		boolean d = DataStmtSet(node);
 		boolean c = COMMA(node);
@@ -9723,14 +13642,12 @@ public class Parser {
 		}
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Datalist");
+		node = ast.createNode(NodeKind.Datalist);
 
 		boolean e = DataStmtSet(node);
 		boolean f = false;
@@ -9739,27 +13656,21 @@ public class Parser {
 		}
 
 		if (e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Datalist");
+		node = ast.createNode(NodeKind.Datalist);
 
 
 		boolean a = DataStmtSet(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9767,67 +13678,101 @@ public class Parser {
 	*           | 	Icon
 	*/
 	private boolean ComplexComponent(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ComplexComponent)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(232, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ComplexComponentProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(232, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(232, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ComplexComponent");
+	private Ast.Node<String> ComplexComponentProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ComplexComponent);
 
 		boolean a = Sign(node);
 		boolean b = ICON(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ComplexComponent");
+		node = ast.createNode(NodeKind.ComplexComponent);
 
 		boolean c = RDCON(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("ComplexComponent");
+		node = ast.createNode(NodeKind.ComplexComponent);
 
 		boolean d = Name(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Ident ::= 	id
 	*/
 	private boolean Ident(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Ident)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("Ident");
+		int start = stream.mark();
 
-		boolean a = ID(node);
+		Boolean memo = recall(233, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-		if (a) {
+		Ast.Node<String> node = IdentProduction(start);
 
-			ast.addChild(parentNode, node);
-			return true;
+		if (node == null) {
+			stream.reset(start);
+			memoize(233, start, null);
+			return false;
 		}
 
-		current = state.current;
+		ast.addChild(parentNode, node);
+		memoize(233, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> IdentProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Ident);
 
-		return false;
+		boolean a = ID(node);
+
+		if (a) {
+			return node;
+		}
+
+		return null;
 	}
 
 	/**
@@ -9842,9 +13787,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean EntryStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EntryStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(234, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EntryStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(234, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(234, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("EntryStmt");
+	private Ast.Node<String> EntryStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EntryStmt);
 
 		boolean a = LblDef(node);
 		boolean b = ENTRY(node);
@@ -9853,14 +13821,10 @@ public class Parser {
 		boolean i = EOS(node);
 
 		if (b && c && d && i) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9870,9 +13834,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ProgramStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ProgramStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("ProgramStmt");
+		Boolean memo = recall(235, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ProgramStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(235, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(235, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> ProgramStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ProgramStmt);
 
 		boolean a = LblDef(node);
 		boolean b = PROGRAM(node);
@@ -9880,49 +13867,62 @@ public class Parser {
 		boolean d = EOS(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* RdCtlSpec ::= 	RdUnitId
 	*/
 	private boolean RdCtlSpec(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RdCtlSpec)) {
+			return false;
+		}
 
-		Ast.Node<String> node = ast.createNode("RdCtlSpec");
+		int start = stream.mark();
+
+		Boolean memo = recall(236, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RdCtlSpecProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(236, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(236, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> RdCtlSpecProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RdCtlSpec);
 
 		boolean a = RdUnitId(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdCtlSpec");
+		node = ast.createNode(NodeKind.RdCtlSpec);
 
 		boolean b = LPAREN(node);
 		boolean c = RdIoCtlSpecList(node);
 		boolean d = RPAREN(node);
 
 		if (b && c && d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9931,37 +13931,54 @@ public class Parser {
 	*           | 	")"
 	*/
 	private boolean RdUnitId(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.RdUnitId)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(237, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = RdUnitIdProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(237, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(237, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("RdUnitId");
+	private Ast.Node<String> RdUnitIdProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.RdUnitId);
 
 		boolean a = LPAREN(node);
 		boolean b = UFExpr(node);
 		boolean c = RPAREN(node);
 
 		if (a && b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("RdUnitId");
+		node = ast.createNode(NodeKind.RdUnitId);
 
 		boolean d = LPAREN(node);
 		boolean e = STAR(node);
 		boolean f = RPAREN(node);
 
 		if (d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -9973,9 +13990,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ParameterStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ParameterStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(238, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ParameterStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(238, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(238, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ParameterStmt");
+	private Ast.Node<String> ParameterStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ParameterStmt);
 
 		boolean a = LblDef(node);
 		boolean b = PARAMETER(node);
@@ -9985,14 +14025,10 @@ public class Parser {
 		boolean f = EOS(node);
 
 		if (b && c && d && e && f) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -10001,23 +14037,42 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean ContinueStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.ContinueStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(239, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = ContinueStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(239, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(239, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("ContinueStmt");
+	private Ast.Node<String> ContinueStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.ContinueStmt);
 
 		boolean a = LblDef(node);
 		boolean b = CONTINUE(node);
 		boolean c = EOS(node);
 
 		if (b && c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -10030,9 +14085,32 @@ public class Parser {
 	*           | 	EOS
 	*/
 	private boolean AssignmentStmt(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.AssignmentStmt)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(240, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = AssignmentStmtProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(240, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(240, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("AssignmentStmt");
+	private Ast.Node<String> AssignmentStmtProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.AssignmentStmt);
 
 		boolean a = LblDef(node);
 		boolean b = Name(node);
@@ -10044,13 +14122,12 @@ public class Parser {
 		boolean g = EOS(node);
 
 		if ((b && e && f && g)) {
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssignmentStmt");
+		node = ast.createNode(NodeKind.AssignmentStmt);
 
 		boolean h = LblDef(node);
 		boolean i = Name(node);
@@ -10065,14 +14142,12 @@ public class Parser {
 		boolean o = EOS(node);
 
 		if ((i && j && k && l && m && n && o)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("AssignmentStmt");
+		node = ast.createNode(NodeKind.AssignmentStmt);
 
 		boolean p = LblDef(node);
 		boolean q = Name(node);
@@ -10088,116 +14163,142 @@ public class Parser {
 		boolean y = EOS(node);
 
 		if (q && r && s && t && u && w && x && y) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* Sign ::= 	"+"
 	*/
 	private boolean Sign(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.Sign)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(241, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = SignProduction(start);
 
-		Ast.Node<String> node = ast.createNode("Sign");
+		if (node == null) {
+			stream.reset(start);
+			memoize(241, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(241, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> SignProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.Sign);
 
 		boolean a = PLUS(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("Sign");
+		node = ast.createNode(NodeKind.Sign);
 
 		boolean b = MINUS(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
 	* EditElement ::= 	Fcon
 	*/
 	private boolean EditElement(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.EditElement)) {
+			return false;
+		}
+
+		int start = stream.mark();
 
-		Ast.Node<String> node = ast.createNode("EditElement");
+		Boolean memo = recall(242, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = EditElementProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(242, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(242, start, node);
+		return true;
+	}
+
+	private Ast.Node<String> EditElementProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.EditElement);
 
 		boolean a = FCON(node);
 
 		if (a) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EditElement");
+		node = ast.createNode(NodeKind.EditElement);
 
 		boolean b = MislexedFCON(node);
 
 		if (b) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EditElement");
+		node = ast.createNode(NodeKind.EditElement);
 
 		boolean c = SCON(node);
 
 		if (c) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EditElement");
+		node = ast.createNode(NodeKind.EditElement);
 
 		boolean d = HCON(node);
 
 		if (d) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EditElement");
+		node = ast.createNode(NodeKind.EditElement);
 
 		boolean e = Ident(node);
 
 		if (e) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("EditElement");
+		node = ast.createNode(NodeKind.EditElement);
 
 		boolean f = LPAREN(node);
 		boolean g = false; //FmtSpec(node);
@@ -10207,14 +14308,10 @@ public class Parser {
 		boolean h = RPAREN(node);
 
 		if (f && g && h) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -10222,9 +14319,32 @@ public class Parser {
 	*           | 	{CloseSpec ","}*
 	*/
 	private boolean CloseSpecList(Ast.Node<String> parentNode) {
-		ParserState state = new ParserState(current);
+		if (!predicts(Lookahead.CloseSpecList)) {
+			return false;
+		}
+
+		int start = stream.mark();
+
+		Boolean memo = recall(243, parentNode);
+		if (memo != null) {
+			return memo;
+		}
+
+		Ast.Node<String> node = CloseSpecListProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(243, start, null);
+			return false;
+		}
+
+		ast.addChild(parentNode, node);
+		memoize(243, start, node);
+		return true;
+	}
 
-		Ast.Node<String> node = ast.createNode("CloseSpecList");
+	private Ast.Node<String> CloseSpecListProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.CloseSpecList);
 
 		boolean a = CloseSpec(node);
 		boolean b = COMMA(node);
@@ -10234,75 +14354,81 @@ public class Parser {
 		}
 
 		if ((a && b && c)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CloseSpecList");
+		node = ast.createNode(NodeKind.CloseSpecList);
 
 		boolean d = CloseSpec(node);
 
 		if ((d)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
+		stream.reset(start);
 
-		node = ast.createNode("CloseSpecList");
+		node = ast.createNode(NodeKind.CloseSpecList);
 
 		boolean e = UnitIdentifier(node);
 
 		if ((e)) {
-
-			ast.addChild(parentNode, node);
-			return true;
+			return node;
 		}
 
-		current = state.current;
-
-		return false;
+		return null;
 	}
 
-	private boolean EQUAL_EQUAL(Ast.Node<String> parentNode) {
-		if (!match(EQUAL_EQUAL)) {
+	/**
+	* BlockDataBody ::= 	BlockDataBodyConstruct
+	*/
+	private boolean BlockDataBody(Ast.Node<String> parentNode) {
+		if (!predicts(Lookahead.BlockDataBody)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("EQUAL_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		int start = stream.mark();
 
-		ast.addChild(parentNode, node);
-		ast.addChild(node, lexNode);
-		advance();
-		return true;
-	}
+		Boolean memo = recall(244, parentNode);
+		if (memo != null) {
+			return memo;
+		}
 
-	private boolean COLON_COLON(Ast.Node<String> parentNode) {
-		if (!match(COLON_COLON)) {
+		Ast.Node<String> node = BlockDataBodyProduction(start);
+
+		if (node == null) {
+			stream.reset(start);
+			memoize(244, start, null);
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("COLON_COLON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
-
 		ast.addChild(parentNode, node);
-		ast.addChild(node, lexNode);
-		advance();
+		memoize(244, start, node);
 		return true;
 	}
 
-	private boolean CHARACTER(Ast.Node<String> parentNode) {
-		if (!match(CHARACTER)) {
+	private Ast.Node<String> BlockDataBodyProduction(int start) {
+		Ast.Node<String> node = ast.createNode(NodeKind.BlockDataBody);
+
+		boolean a = BlockDataBodyConstruct(node);
+
+		while (a && BlockDataBodyConstruct(node));
+
+		if (a) {
+			return node;
+		}
+
+		return null;
+	}
+
+	private boolean EQUAL_EQUAL(Ast.Node<String> parentNode) {
+		if (!match(EQUAL_EQUAL)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("CHARACTER");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.EQUAL_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10310,13 +14436,13 @@ public class Parser {
 		return true;
 	}
 
-	private boolean COMPLEX(Ast.Node<String> parentNode) {
-		if (!match(COMPLEX)) {
+	private boolean COLON_COLON(Ast.Node<String> parentNode) {
+		if (!match(COLON_COLON)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("COMPLEX");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.COLON_COLON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10324,14 +14450,13 @@ public class Parser {
 		return true;
 	}
 
-
-	private boolean SCON(Ast.Node<String> parentNode) {
-		if (!match(SCON)) {
+	private boolean CHARACTER(Ast.Node<String> parentNode) {
+		if (!match(CHARACTER)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("SCON");
-		Ast.Node<String> lexNode = ast.createNode((String) peek().getLiteral());
+		Ast.Node<String> node = ast.createNode(NodeKind.CHARACTER);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10339,13 +14464,13 @@ public class Parser {
 		return true;
 	}
 
-	private boolean XCON(Ast.Node<String> parentNode) {
-		if (!match(XCON)) {
+	private boolean COMPLEX(Ast.Node<String> parentNode) {
+		if (!match(COMPLEX)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("XCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.COMPLEX);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10353,13 +14478,13 @@ public class Parser {
 		return true;
 	}
 
-	private boolean FCON(Ast.Node<String> parentNode) {
-		if (!match(FCON)) {
+	private boolean SCON(Ast.Node<String> parentNode) {
+		if (!match(SCON)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.SCON);
+		Ast.Node<String> lexNode = ast.createLeaf((String) stream.literal());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10372,8 +14497,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("EQUIVALENCE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.EQUIVALENCE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10386,8 +14511,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DOLLAR");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DOLLAR);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10400,8 +14525,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PERCENT");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PERCENT);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10414,8 +14539,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("NEXTREC_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.NEXTREC_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10428,8 +14553,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("LPAREN");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.LPAREN);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10442,8 +14567,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FORM_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FORM_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10456,8 +14581,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("RPAREN");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.RPAREN);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10470,8 +14595,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("STAR");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.STAR);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10484,8 +14609,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("HCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.HCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10498,8 +14623,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PLUS");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PLUS);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10512,8 +14637,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("THEN");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.THEN);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10526,8 +14651,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("COMMA");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.COMMA);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10540,8 +14665,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("MINUS");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.MINUS);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10554,8 +14679,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("NUMBER_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.NUMBER_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10568,8 +14693,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("SLASH");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.SLASH);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10577,14 +14702,27 @@ public class Parser {
 		return true;
 	}
 
+	private boolean XCON(Ast.Node<String> parentNode) {
+		if (!match(XCON)) {
+			return false;
+		}
+
+		Ast.Node<String> node = ast.createNode(NodeKind.XCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
+
+		ast.addChild(parentNode, node);
+		ast.addChild(node, lexNode);
+		advance();
+		return true;
+	}
 
 	private boolean BLANK_EQUAL(Ast.Node<String> parentNode) {
 		if (!match(BLANK_EQUAL)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("BLANK_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.BLANK_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10597,8 +14735,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("GREATER_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.GREATER_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10611,8 +14749,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("STOP");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.STOP);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10625,8 +14763,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("COLON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.COLON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10639,8 +14777,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("LESS");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.LESS);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10653,8 +14791,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("BANG_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.BANG_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10667,8 +14805,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10681,8 +14819,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("GREATER");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.GREATER);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10695,8 +14833,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("UNIT_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.UNIT_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10709,8 +14847,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("OPENED_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.OPENED_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10723,8 +14861,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("UNFORMATTED_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.UNFORMATTED_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10737,8 +14875,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ICON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ICON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10751,8 +14889,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("NAMED_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.NAMED_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10765,8 +14903,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("NOT");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.NOT);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10779,8 +14917,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FORMATTED_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FORMATTED_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10793,8 +14931,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("CLOSE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.CLOSE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10807,8 +14945,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("SP");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.SP);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10816,14 +14954,13 @@ public class Parser {
 		return true;
 	}
 
-
 	private boolean RDCON(Ast.Node<String> parentNode) {
 		if (!match(RDCON)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("RDCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.RDCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10836,8 +14973,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("STATUS_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.STATUS_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10850,8 +14987,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("LOGICAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.LOGICAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10864,8 +15001,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("CALL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.CALL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10878,8 +15015,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DIRECT_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DIRECT_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10892,8 +15029,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ERR_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ERR_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10906,8 +15043,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("TO");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.TO);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10920,8 +15057,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("OPEN");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.OPEN);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10934,8 +15071,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("LESS_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.LESS_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10948,8 +15085,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("OCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.OCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10962,8 +15099,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DO");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DO);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10976,8 +15113,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("CONTINUE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.CONTINUE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -10990,8 +15127,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ACCESS_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ACCESS_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11004,8 +15141,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ELSEIF");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ELSEIF);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11018,8 +15155,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("IOSTAT_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.IOSTAT_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11032,8 +15169,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("INTRINSIC");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.INTRINSIC);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11041,14 +15178,27 @@ public class Parser {
 		return true;
 	}
 
+	private boolean ENDPROGRAM(Ast.Node<String> parentNode) {
+		if (!match(ENDPROGRAM)) {
+			return false;
+		}
+
+		Ast.Node<String> node = ast.createNode(NodeKind.ENDPROGRAM);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
+
+		ast.addChild(parentNode, node);
+		ast.addChild(node, lexNode);
+		advance();
+		return true;
+	}
 
 	private boolean EXTERNAL(Ast.Node<String> parentNode) {
 		if (!match(EXTERNAL)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("EXTERNAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.EXTERNAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11056,14 +15206,13 @@ public class Parser {
 		return true;
 	}
 
-
 	private boolean AND(Ast.Node<String> parentNode) {
 		if (!match(AND)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("AND");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.AND);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11076,8 +15225,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("BACKSPACE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.BACKSPACE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11090,8 +15239,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("COMMON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.COMMON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11104,8 +15253,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("END");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.END);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11118,8 +15267,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("GO");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.GO);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11132,8 +15281,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FALSE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FALSE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11146,8 +15295,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ENDFILE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ENDFILE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11160,8 +15309,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("END_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.END_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11174,8 +15323,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ZCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ZCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11188,8 +15337,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PRINT");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PRINT);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11202,8 +15351,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("REWIND");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.REWIND);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11216,8 +15365,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ENDIF");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ENDIF);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11230,8 +15379,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("COMMENT");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.COMMENT);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11239,14 +15388,13 @@ public class Parser {
 		return true;
 	}
 
-
 	private boolean ASSIGN(Ast.Node<String> parentNode) {
 		if (!match(ASSIGN)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ASSIGN");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ASSIGN);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11259,8 +15407,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("EXIST_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.EXIST_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11273,8 +15421,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PROGRAM");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PROGRAM);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11287,8 +15435,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("SEQUENTIAL_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.SEQUENTIAL_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11301,8 +15449,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ELSE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ELSE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11315,8 +15463,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("BLOCK");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.BLOCK);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11329,8 +15477,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ID");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ID);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11343,8 +15491,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("IF");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.IF);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11357,8 +15505,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("WRITE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.WRITE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11371,8 +15519,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("INQUIRE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.INQUIRE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11385,8 +15533,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DOUBLE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DOUBLE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11399,8 +15547,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11413,8 +15561,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("NAME_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.NAME_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11427,8 +15575,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("STAR_STAR");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.STAR_STAR);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11441,8 +15589,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("IMPLICIT");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.IMPLICIT);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11455,21 +15603,22 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("SAVE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.SAVE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
 		advance();
 		return true;
 	}
+
 	private boolean GOTO(Ast.Node<String> parentNode) {
 		if (!match(GOTO)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("GOTO");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.GOTO);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11482,8 +15631,22 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FMT_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FMT_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
+
+		ast.addChild(parentNode, node);
+		ast.addChild(node, lexNode);
+		advance();
+		return true;
+	}
+
+	private boolean FCON(Ast.Node<String> parentNode) {
+		if (!match(FCON)) {
+			return false;
+		}
+
+		Ast.Node<String> node = ast.createNode(NodeKind.FCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11496,8 +15659,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("RETURN");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.RETURN);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11510,8 +15673,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DATA");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DATA);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11524,8 +15687,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PRECISION");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PRECISION);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11538,8 +15701,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("SUBROUTINE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.SUBROUTINE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11552,8 +15715,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("INTEGER");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.INTEGER);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11561,14 +15724,13 @@ public class Parser {
 		return true;
 	}
 
-
 	private boolean FILE_EQUAL(Ast.Node<String> parentNode) {
 		if (!match(FILE_EQUAL)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FILE_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FILE_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11576,14 +15738,13 @@ public class Parser {
 		return true;
 	}
 
-
 	private boolean NEWLINE(Ast.Node<String> parentNode) {
 		if (!match(NEWLINE)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("NEWLINE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.NEWLINE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11596,8 +15757,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("RECL_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.RECL_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11610,8 +15771,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FUNCTION");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FUNCTION);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11624,8 +15785,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("REC_EQUAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.REC_EQUAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11638,8 +15799,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("READ");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.READ);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11652,8 +15813,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("FORMAT");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.FORMAT);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11666,8 +15827,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("OR");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.OR);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11680,8 +15841,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("REAL");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.REAL);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11694,8 +15855,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PAUSE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PAUSE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11708,8 +15869,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("BLOCKDATA");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.BLOCKDATA);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11722,8 +15883,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ENTRY");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ENTRY);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11736,8 +15897,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("TRUE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.TRUE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11750,8 +15911,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("BCON");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.BCON);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11764,8 +15925,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("PARAMETER");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.PARAMETER);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11778,8 +15939,8 @@ public class Parser {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DIMENSION");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DIMENSION);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11787,13 +15948,13 @@ public class Parser {
 		return true;
 	}
 
-	private boolean ENDPROGRAM(Ast.Node<String> parentNode) {
-		if (!match(ENDPROGRAM)) {
+	private boolean ENDSUBROUTINE(Ast.Node<String> parentNode) {
+		if (!match(ENDSUBROUTINE)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ENDPROGRAM");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.ENDSUBROUTINE);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11801,13 +15962,13 @@ public class Parser {
 		return true;
 	}
 
-	private boolean ENDSUBROUTINE(Ast.Node<String> parentNode) {
-		if (!match(ENDSUBROUTINE)) {
+	private boolean DOUBLEPRECISION(Ast.Node<String> parentNode) {
+		if (!match(DOUBLEPRECISION)) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("ENDSUBROUTINE");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		Ast.Node<String> node = ast.createNode(NodeKind.DOUBLEPRECISION);
+		Ast.Node<String> lexNode = ast.createLeaf(stream.lexeme());
 
 		ast.addChild(parentNode, node);
 		ast.addChild(node, lexNode);
@@ -11815,20 +15976,57 @@ public class Parser {
 		return true;
 	}
 
-	private boolean DOUBLEPRECISION(Ast.Node<String> parentNode) {
-		if (!match(DOUBLEPRECISION)) {
+	/**
+	 * Replay the memoized result of a rule at the current position
+	 * @param rule Id of rule
+	 * @param parentNode Node to attach the memoized subtree to
+	 * @return Result of rule, null if not memoized
+	 */
+	private Boolean recall(int rule, Ast.Node<String> parentNode) {
+		if (memoTable == null) {
+			return null;
+		}
+
+		MemoTable.Entry entry = memoTable.recall(rule, stream.mark());
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.node == null) {
 			return false;
 		}
 
-		Ast.Node<String> node = ast.createNode("DOUBLEPRECISION");
-		Ast.Node<String> lexNode = ast.createNode(peek().getLexeme());
+		if (Trace.PARSER.isEnabled()) {
+			Trace.PARSER.log("Reusing " + RULES[rule] + " from token " + stream.mark() + " to " + entry.end);
+		}
 
-		ast.addChild(parentNode, node);
-		ast.addChild(node, lexNode);
-		advance();
+		ast.addChild(parentNode, entry.node);
+		stream.reset(entry.end);
 		return true;
 	}
 
+	/**
+	 * Record the result of a rule that started at a token
+	 * @param rule Id of rule
+	 * @param start Index of the token the rule started at
+	 * @param node Subtree of rule, null if the rule failed
+	 */
+	private void memoize(int rule, int start, Ast.Node<String> node) {
+		if (memoTable != null) {
+			memoTable.store(start, new MemoTable.Entry(rule, stream.mark(), node));
+		}
+	}
+
+	/**
+	 * Check the current token can start a rule, so a rule that cannot match here fails before trying any alternative
+	 * @param lookahead Lookahead table of rule
+	 * @return Boolean
+	 */
+	private boolean predicts(boolean[] lookahead) {
+		return lookahead[stream.peek().ordinal()];
+	}
+
 	/**
 	 * Match arguments with current position in token stream
 	 * @param tokenType Token type
@@ -11850,18 +16048,20 @@ public class Parser {
 	 */
 	private boolean check(TokenType tokenType) {
 		if (isAtEnd()) return false;
-		return peek().getType() == tokenType;
+		return stream.peek() == tokenType;
 	}
 
 	/**
 	 * Advance in token stream
-	 * @return Previous token
 	 */
-	private Token advance() {
+	private void advance() {
+		if (Trace.PARSER.isEnabled()) {
+			Trace.PARSER.log("Consuming " + stream.peek() + " lex " + stream.lexeme() + " at token " + stream.mark());
+		}
+
 		if (!isAtEnd()) {
-			current++;
+			stream.advance();
 		}
-		return previous();
 	}
 
 	/**
@@ -11869,22 +16069,6 @@ public class Parser {
 	 * @return Boolean
 	 */
 	private boolean isAtEnd() {
-		return peek().getType() == EOF;
-	}
-
-	/**
-	 * Return next token in token stream
-	 * @return Next token
-	 */
-	private Token peek() {
-		return tokens.get(current);
-	}
-
-	/**
-	 * Return previous token in token stream
-	 * @return Previous token
-	 */
-	private Token previous() {
-		return tokens.get(current - 1);
+		return stream.peek() == EOF;
 	}
 }
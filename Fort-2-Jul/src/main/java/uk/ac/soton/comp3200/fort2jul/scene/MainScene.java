@@ -1,10 +1,13 @@
 package uk.ac.soton.comp3200.fort2jul.scene;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 import org.apache.log4j.Logger;
 import uk.ac.soton.comp3200.fort2jul.controller.FileController;
 import uk.ac.soton.comp3200.fort2jul.controller.SourceController;
@@ -18,6 +21,8 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Responsible for programmatically constructing the contents and layout of the main scene, displaying text areas
@@ -48,6 +53,15 @@ public class MainScene extends BaseScene {
      */
     private String targetContent;
 
+    /**
+     * Runs the previews of the source as it is edited one at a time, off the FX thread so typing never waits on them
+     */
+    private final ExecutorService previewExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Constructor of main scene, inheriting construct of view class
      * @param view View
@@ -111,6 +125,36 @@ public class MainScene extends BaseScene {
             }
         });
 
+        // Once typing pauses, show the Julia code of the source as edited, without writing any files
+        PauseTransition previewPause = new PauseTransition(Duration.millis(300));
+        previewPause.setOnFinished(event -> {
+            String fullPath = fileController.getFilePath();
+
+            if (fullPath == null || leftTextArea.getText().equals("")) {
+                return;
+            }
+
+            String content = leftTextArea.getText();
+            String directory = Paths.get(fullPath).getParent().toString();
+
+            previewExecutor.execute(new Task<Void>() {
+                @Override
+                protected Void call() {
+                    String preview = sourceController.previewContent(content, directory);
+
+                    Platform.runLater(() -> {
+                        // Text edited since is previewed by the task of that edit
+                        if (preview != null && content.equals(leftTextArea.getText())) {
+                            rightTextArea.setText(preview);
+                        }
+                    });
+
+                    return null;
+                }
+            });
+        });
+        leftTextArea.textProperty().addListener((observable, oldValue, newValue) -> previewPause.playFromStart());
+
         leftButtonBar.getButtons().addAll(transpilerButton);
 
         VBox leftVBox = new VBox();
@@ -0,0 +1,57 @@
+package uk.ac.soton.comp3200.fort2jul.tools;
+
+import org.apache.log4j.Logger;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the keyword table of Scanner. Every token type is a keyword, as the Scanner has always looked identifiers up
+ * by the names of the token types. The dotted operators are those of GenerateTokenType, and the I/O specifiers are the
+ * ones the Scanner reads together with the '=' after them. Run again whenever a token type is added.
+ */
+public class GenerateKeywordTable {
+
+    private static final Logger logger = Logger.getLogger(GenerateKeywordTable.class);
+
+    /**
+     * Specifiers scanned as one token with the '=' after them, the others in GenerateTokenType are scanned as an
+     * identifier followed by EQUAL
+     */
+    private static final List<String> SPECIFIERS = List.of("UNIT", "FILE", "ERR", "IOSTAT", "EXIST", "OPENED", "NUMBER",
+            "NAMED", "NAME", "ACCESS", "SEQUENTIAL", "DIRECT", "FORM", "FORMATTED", "UNFORMATTED", "RECL", "NEXTREC",
+            "BLANK", "FMT", "REC", "END", "STATUS");
+
+    public static void main(String[] args) throws IOException {
+        String keywordTablePath = "src/main/java/uk/ac/soton/comp3200/fort2jul/lexer/KeywordTable.java";
+
+        Map<String, String> keywords = new TreeMap<>();
+        for (TokenType type : TokenType.values()) {
+            keywords.put(type.name(), type.name());
+        }
+
+        for (Map.Entry<String, String> symbol : GenerateTokenType.specialCharacters.entrySet()) {
+            String text = symbol.getKey();
+
+            if (text.length() > 2 && text.startsWith(".") && text.endsWith(".")) {
+                keywords.put(text.toUpperCase(), symbol.getValue());
+            }
+        }
+
+        Map<String, String> specifiers = new TreeMap<>();
+        for (String specifier : SPECIFIERS) {
+            specifiers.put(specifier, TokenType.valueOf(specifier + "_EQUAL").name());
+        }
+
+        try (FileWriter fileWriter = new FileWriter(keywordTablePath)) {
+            GenerateTokenType.writeKeywordTable(fileWriter, keywords, specifiers, "GenerateKeywordTable");
+        }
+
+        logger.info("Wrote " + keywords.size() + " keywords and " + specifiers.size() + " specifiers to "
+                + keywordTablePath);
+    }
+}
@@ -8,9 +8,15 @@ import org.json.simple.parser.ParseException;
 import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;
 
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class GenerateParser {
 
@@ -112,6 +118,48 @@ public class GenerateParser {
 
     private final List<String> disallowedMethods = Arrays.asList("EX_2", "IN_2", "TAB_2", "TAB_9", "EX_6", "TAB_7", "IN_6");
 
+    /**
+     * Tokens each rule can start with, worked out from the grammar before any rule method is written
+     */
+    private final Map<String, EnumSet<TokenType>> firstSets = new LinkedHashMap<>();
+
+    /**
+     * Rules that can succeed without consuming a token
+     */
+    private final Set<String> nullableRules = new HashSet<>();
+
+    /**
+     * Rule bodies written by hand, in the order of hand_written_rules.txt
+     */
+    private final List<HandWrittenMethod> handWrittenMethods = new ArrayList<>();
+
+    /**
+     * Text of the body of each rule and the method of each terminal Parser needs, in the order they are first called
+     */
+    private final Map<String, String> methods = new LinkedHashMap<>();
+
+    /**
+     * Rules Parser writes a method for, in the order they are written. The index of a rule is its id in the memo table
+     */
+    private final List<String> memoizedRules = new ArrayList<>();
+
+    /**
+     * Body written by hand for a rule
+     * @param name Rule
+     * @param text Body, indented as in Parser
+     */
+    private record HandWrittenMethod(String name, String text) {
+    }
+
+    private static final Pattern HAND_WRITTEN_METHOD = Pattern.compile("\tprivate Ast\\.Node<String> (\\w+)Production\\(int start\\) \\{");
+
+    /**
+     * Call of a rule or terminal method from a rule method, which passes its node if it passes anything
+     */
+    private static final Pattern CALL = Pattern.compile("(?<![.\\w])(\\w+)\\((?:node)?\\)");
+
+    private static final Pattern COMMENT = Pattern.compile("//.*|/\\*(?s:.*?)\\*/");
+
     public static void main(String[] args) {
         if (args.length != 1) {
             logger.error("Usage: generate_parser <output directory>");
@@ -123,45 +171,61 @@ public class GenerateParser {
         String outputDir = args[0];
 
         GenerateParser generateParser = new GenerateParser();
-        generateParser.parseJSON("src/main/resources/json/grammar_rules.json", outputDir);
+        generateParser.parseJSON("src/main/resources/json/grammar_rules.json", "src/main/java/uk/ac/soton/comp3200/fort2jul/tools/hand_written_rules.txt", outputDir);
     }
 
-    private void parseJSON(String filePath, String outputDir) {
+    private void parseJSON(String filePath, String handWrittenPath, String outputDir) {
         JSONParser jsonParser = new JSONParser();
 
-        try (FileReader fileReader = new FileReader(filePath)) {
+        try (FileReader fileReader = new FileReader(filePath, StandardCharsets.UTF_8)) {
             logger.info("Parsing json file at " + filePath);
 
             JSONObject jsonObject = (JSONObject) jsonParser.parse(fileReader);
-            FileWriter fileWriter = new FileWriter(outputDir + "/Parser.java");
+            JSONObject rules = (JSONObject) jsonObject.get("rules");
+
+            computeFirstSets(rules);
+
+            readHandWrittenMethods(handWrittenPath);
 
-            logger.info("Begin writing to Java file at " + outputDir + "/Parser.java");
+            findMethods(rules);
 
-            writeImportsPackages(fileWriter);
+            orderRules();
 
-            writeBoilerplateCode(fileWriter);
+            try (Writer fileWriter = Files.newBufferedWriter(Paths.get(outputDir, "Parser.java"), StandardCharsets.UTF_8)) {
+                logger.info("Begin writing to Java file at " + outputDir + "/Parser.java");
 
-            writeParserStateClass(fileWriter);
+                writeImportsPackages(fileWriter);
 
-            writeClassDefinition(fileWriter);
+                writeBoilerplateCode(fileWriter);
 
-            writeParseTokensMethod(fileWriter);
+                writeClassDefinition(fileWriter);
 
-            writeTopProductionMethod(fileWriter);
+                writeParseTokensMethod(fileWriter);
 
-            writeRuleMethod(fileWriter, jsonObject);
+                writeProgramUnitMethods(fileWriter);
 
-            writeTerminalSymbolMethod(fileWriter, jsonObject);
+                writeTopProductionMethod(fileWriter);
 
-            writeHelperMethods(fileWriter);
+                writeRuleMethods(fileWriter, rules);
 
-            fileWriter.write("}");
+                writeTerminalSymbolMethods(fileWriter);
+
+                writeHelperMethods(fileWriter);
+            }
 
             logger.info("Finished writing to class");
 
-            fileWriter.close();
+            try (Writer lookaheadWriter = Files.newBufferedWriter(Paths.get(outputDir, "Lookahead.java"), StandardCharsets.UTF_8)) {
+                writeLookaheadClass(lookaheadWriter, lookahead());
+            }
+
+            logger.info("Wrote lookahead tables to " + outputDir + "/Lookahead.java");
+
+            try (Writer nodeKindWriter = Files.newBufferedWriter(Paths.get(outputDir, "NodeKind.java"), StandardCharsets.UTF_8)) {
+                writeNodeKindEnum(nodeKindWriter, new TreeSet<>(firstSets.keySet()));
+            }
 
-            logger.info("Closed file writer");
+            logger.info("Wrote node kinds to " + outputDir + "/NodeKind.java");
         } catch (IOException | ParseException e) {
             if (e instanceof IOException) {
                 logger.error("File not found at " + outputDir);
@@ -173,88 +237,699 @@ public class GenerateParser {
         }
     }
 
-    private void writeImportsPackages(FileWriter fileWriter) throws IOException {
-        fileWriter.write("package uk.ac.soton.comp3200.fort2jul.parser;\n");
-        fileWriter.write("import org.apache.log4j.Logger;\n\n");
-        fileWriter.write("import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;\n");
+    /**
+     * Reads the rule bodies written by hand, each of which starts at a line declaring it and ends at the first line
+     * closing a method. Lines between bodies are ignored
+     * @param filePath Path of hand_written_rules.txt
+     * @throws IOException
+     */
+    private void readHandWrittenMethods(String filePath) throws IOException {
+        List<String> lines = Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+
+        for (int i = 0; i < lines.size(); i++) {
+            Matcher declaration = HAND_WRITTEN_METHOD.matcher(lines.get(i));
+
+            if (!declaration.matches()) {
+                continue;
+            }
+
+            int end = lines.subList(i, lines.size()).indexOf("\t}");
+            if (end < 0) {
+                throw new IOException("Body of " + declaration.group(1) + " in " + filePath + " is never closed");
+            }
+
+            end += i;
+
+            handWrittenMethods.add(new HandWrittenMethod(declaration.group(1), String.join("\n", lines.subList(i, end + 1))));
+            i = end;
+        }
+
+        logger.info("Read " + handWrittenMethods.size() + " rule bodies written by hand from " + filePath);
+    }
+
+    /**
+     * Works out which rule and terminal methods Parser needs, starting from those its entry points call and following
+     * the calls of each method, so rules of the grammar no method calls are left out. A body written by hand is used in
+     * place of the one that would be written from the grammar
+     * @param rules Rules of grammar
+     * @throws IOException
+     */
+    private void findMethods(JSONObject rules) throws IOException {
+        Map<String, String> terminals = terminalSymbolMethods();
+        Deque<String> pending = new ArrayDeque<>(List.of("CommentOrNewline", "ExecutableProgram", "Ident", "ProgramUnit"));
+
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+
+            if (methods.containsKey(name)) {
+                continue;
+            }
+
+            StringJoiner text = new StringJoiner("\n");
+            handWrittenMethods.stream().filter(method -> method.name().equals(name)).forEach(method -> text.add(method.text()));
+            boolean handWritten = text.length() > 0;
+
+            // A terminal only matches a token, so calls nothing
+            if (terminals.containsKey(name)) {
+                methods.put(name, terminals.get(name));
+                continue;
+            }
+
+            if (!handWritten && rules.containsKey(name)) {
+                StringWriter ruleWriter = new StringWriter();
+                writeRuleBody(ruleWriter, name, (JSONArray) rules.get(name));
+                text.add(ruleWriter.toString().replaceAll("^\n+|\n+$", ""));
+            } else if (!handWritten) {
+                logger.error("No rule or terminal " + name + " to write a method for");
+                continue;
+            }
+
+            methods.put(name, text.toString());
+
+            Matcher call = CALL.matcher(COMMENT.matcher(text.toString()).replaceAll(""));
+            while (call.find()) {
+                String callee = call.group(1);
+
+                if (terminals.containsKey(callee) || rules.containsKey(callee)) {
+                    pending.add(callee);
+                } else if (!handWritten) {
+                    logger.error("Rule " + name + " calls " + callee + ", which is neither a rule nor a terminal");
+                }
+            }
+        }
+    }
+
+    /**
+     * Orders the rules Parser needs, those with a body written by hand in the order they were written then the rest in
+     * the order they are first called
+     */
+    private void orderRules() {
+        Set<String> terminals = terminalSymbolMethods().keySet();
+
+        for (HandWrittenMethod method : handWrittenMethods) {
+            if (methods.containsKey(method.name())) {
+                memoizedRules.add(method.name());
+            }
+        }
+
+        for (String name : methods.keySet()) {
+            if (!terminals.contains(name) && !memoizedRules.contains(name)) {
+                memoizedRules.add(name);
+            }
+        }
+    }
+
+    /**
+     * Works out the tokens each rule can start with, and which rules can succeed without consuming a token, repeating
+     * until nothing changes. Items are resolved as the rule methods resolve them, and an item no method is written for
+     * may start with any token.
+     * @param rules Rules of grammar
+     */
+    private void computeFirstSets(JSONObject rules) {
+        for (Object rule : rules.keySet()) {
+            firstSets.put((String) rule, EnumSet.noneOf(TokenType.class));
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+
+            for (Object rule : rules.keySet()) {
+                String ruleName = (String) rule;
+                EnumSet<TokenType> tokens = EnumSet.noneOf(TokenType.class);
+                boolean nullable = false;
+
+                for (Object productionObject : (JSONArray) rules.get(rule)) {
+                    nullable |= productionFirst(productionItems(productionObject), tokens);
+                }
+
+                if (!tokens.equals(firstSets.get(ruleName)) || nullable != nullableRules.contains(ruleName)) {
+                    firstSets.put(ruleName, tokens);
+                    if (nullable) {
+                        nullableRules.add(ruleName);
+                    }
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the tokens a production can start with
+     * @param items Items of production
+     * @param tokens Tokens so far
+     * @return Whether the production can succeed without consuming a token
+     */
+    private boolean productionFirst(List<String> items, EnumSet<TokenType> tokens) {
+        for (String item : items) {
+            boolean nullable;
+
+            if (item.startsWith("{") && item.endsWith("}*")) {
+                productionFirst(Arrays.asList(item.substring(1, item.length() - 2).split(" ")), tokens);
+                nullable = true;
+            } else if (item.endsWith("?") || item.endsWith("*")) {
+                symbolFirst(item.substring(0, item.length() - 1), tokens);
+                nullable = true;
+            } else if (item.endsWith("+")) {
+                nullable = symbolFirst(item.substring(0, item.length() - 1), tokens);
+            } else {
+                nullable = symbolFirst(item, tokens);
+            }
+
+            if (!nullable) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the tokens a terminal or rule can start with
+     * @param symbol Terminal or rule
+     * @param tokens Tokens so far
+     * @return Whether the symbol can succeed without consuming a token
+     */
+    private boolean symbolFirst(String symbol, EnumSet<TokenType> tokens) {
+        String itemName = symbol.replace("\"", "").trim();
+
+        if (replacements.containsKey(itemName)) {
+            for (String replacement : replacements.get(itemName)) {
+                tokens.add(TokenType.valueOf(replacement));
+            }
+
+            return false;
+        }
+
+        if (disallowedMethods.contains(itemName.toUpperCase()) || itemName.equals("ε")) {
+            return true;
+        }
+
+        if (specialCharacters.containsKey(itemName.toLowerCase())) {
+            tokens.add(TokenType.valueOf(specialCharacters.get(itemName.toLowerCase()).toUpperCase()));
+            return false;
+        }
+
+        if (!firstSets.containsKey(itemName)) {
+            tokens.addAll(EnumSet.allOf(TokenType.class));
+            return true;
+        }
+
+        tokens.addAll(firstSets.get(itemName));
+        return nullableRules.contains(itemName);
+    }
+
+    /**
+     * Tokens each rule can start with, any token for a rule that can succeed without consuming one
+     * @return Tokens of each rule
+     */
+    private Map<String, EnumSet<TokenType>> lookahead() {
+        Map<String, EnumSet<TokenType>> lookahead = new LinkedHashMap<>();
+
+        for (Map.Entry<String, EnumSet<TokenType>> rule : firstSets.entrySet()) {
+            lookahead.put(rule.getKey(), nullableRules.contains(rule.getKey()) ? EnumSet.allOf(TokenType.class) : rule.getValue());
+        }
+
+        return lookahead;
+    }
+
+    private void writeImportsPackages(Writer fileWriter) throws IOException {
+        fileWriter.write("package uk.ac.soton.comp3200.fort2jul.parser;\n\n");
+        fileWriter.write("import org.apache.log4j.Logger;\n");
         fileWriter.write("import uk.ac.soton.comp3200.fort2jul.lexer.Token;\n");
+        fileWriter.write("import uk.ac.soton.comp3200.fort2jul.lexer.TokenBuffer;\n");
+        fileWriter.write("import uk.ac.soton.comp3200.fort2jul.lexer.TokenStream;\n");
         fileWriter.write("import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;\n");
-        fileWriter.write("import uk.ac.soton.comp3200.fort2jul.parser.Ast;\n\n");
-        fileWriter.write("import java.util.*;\n\n");
+        fileWriter.write("import uk.ac.soton.comp3200.fort2jul.util.Trace;\n\n");
+        fileWriter.write("import java.util.List;\n\n");
+        fileWriter.write("import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;\n\n");
     }
 
-    private void writeBoilerplateCode(FileWriter fileWriter) throws IOException {
+    private void writeBoilerplateCode(Writer fileWriter) throws IOException {
+        fileWriter.write("/**\n");
+        fileWriter.write(" * Parser class is responsible for parsing the list of tokens and constructing the resultant syntax tree,\n");
+        fileWriter.write(" * if and only if the program is syntactically correct. Each method reflects a given rule in Fortran 77. Parser\n");
+        fileWriter.write(" * state is restored for each rule failed if there are other rules in a given method. All parser state belongs to\n");
+        fileWriter.write(" * the instance, so separate parsers may run on separate threads; a single parser must not be shared between threads.\n");
+        fileWriter.write(" * Each rule first checks the current token against the tokens it can start with, kept in Lookahead, and fails without\n");
+        fileWriter.write(" * trying its alternatives on any other token. The tables are worked out from grammar_rules.json, so a rule method that\n");
+        fileWriter.write(" * starts with a token its rule in the grammar cannot start with needs a production added there.\n");
+        fileWriter.write(" * This was automatically generated by GenerateParser from grammar_rules.json and the rule bodies written by hand in\n");
+        fileWriter.write(" * hand_written_rules.txt, so change those and run it again rather than editing this class.\n");
+        fileWriter.write(" */\n");
         fileWriter.write("public class Parser {\n\n");
         fileWriter.write("\tprivate static final Logger logger = Logger.getLogger(Parser.class);\n\n");
-        fileWriter.write("\tprivate static List<Token> tokens = new ArrayList<>();\n");
-        fileWriter.write("\tprivate static int current = 0;\n");
-        fileWriter.write("\tprivate Ast<String> ast;\n");
-        fileWriter.write("\tprivate List<Ast.Pair<String, String>> astPairs = new ArrayList<>();\n\n");
-    }
-
-    private void writeParserStateClass(FileWriter fileWriter) throws IOException {
-        fileWriter.write("\tprivate class ParserState {\n");
-        fileWriter.write("\t\tint current;\n");
-        fileWriter.write("\t\tList<Ast.Pair<String, String>> astPairs;\n\n");
-        fileWriter.write("\t\tParserState(int current, List<Ast.Pair<String, String>> astPairs) {\n");
-        fileWriter.write("\t\t\tthis.current = current;\n");
-        fileWriter.write("\t\t\tthis.astPairs = new ArrayList<>(astPairs);\n");
-        fileWriter.write("\t\t}\n");
-        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Stream of tokens to parse\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate final TokenStream stream;\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * AST of program\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate Ast<String> ast = new Ast<>( new Ast.Node<>());\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Memo table columns allocated up front when the number of tokens is not known\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate static final int MEMO_COLUMNS = 1024;\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Names of the rules, indexed by the id each rule method looks its results up by in the memo table\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate static final String[] RULES = {\n");
+
+        StringBuilder line = new StringBuilder("\t\t");
+        Iterator<String> names = memoizedRules.iterator();
+
+        while (names.hasNext()) {
+            String name = "\"" + names.next() + "\"" + (names.hasNext() ? "," : "");
+
+            // Wrap at 120 columns, counting a tab as four
+            if (line.length() > 2 && line.length() + 6 + name.length() + 1 > 120) {
+                fileWriter.write(line + "\n");
+                line.setLength(2);
+            }
+
+            line.append(line.length() > 2 ? " " : "").append(name);
+        }
+
+        fileWriter.write(line + "\n");
+        fileWriter.write("\t};\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Packrat memo table of rule results, null when memoization is off\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate final MemoTable memoTable;\n\n");
     }
 
-    private void writeClassDefinition(FileWriter fileWriter) throws IOException {
+    private void writeClassDefinition(Writer fileWriter) throws IOException {
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Class constructor for parser\n");
+        fileWriter.write("\t * @param tokens\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic Parser(TokenBuffer tokens) {\n");
+        fileWriter.write("\t\tthis(tokens, false);\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Class constructor for parser\n");
+        fileWriter.write("\t * @param tokens\n");
+        fileWriter.write("\t * @param memoize Caches the result of each rule at each position, trading memory for less re-parsing\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic Parser(TokenBuffer tokens, boolean memoize) {\n");
+        fileWriter.write("\t\tthis.stream = tokens.stream();\n");
+        fileWriter.write("\t\tthis.memoTable = memoize ? new MemoTable(tokens.size()) : null;\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Class constructor for parser over a list of tokens, which are copied into a token buffer\n");
+        fileWriter.write("\t * @param tokens\n");
+        fileWriter.write("\t */\n");
         fileWriter.write("\tpublic Parser(List<Token> tokens) {\n");
-        fileWriter.write("\t\tthis.tokens = tokens;\n");
+        fileWriter.write("\t\tthis(TokenBuffer.of(tokens), false);\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Class constructor for parser over a list of tokens, which are copied into a token buffer\n");
+        fileWriter.write("\t * @param tokens\n");
+        fileWriter.write("\t * @param memoize Caches the result of each rule at each position, trading memory for less re-parsing\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic Parser(List<Token> tokens, boolean memoize) {\n");
+        fileWriter.write("\t\tthis(TokenBuffer.of(tokens), memoize);\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Class constructor for parser over a stream of tokens, such as one scanning the source text as it is parsed.\n");
+        fileWriter.write("\t * If it is, tokens and memoized results before each parsed program unit, and each parsed statement of a body,\n");
+        fileWriter.write("\t * are discarded. The parser never backtracks into an earlier unit, nor into an earlier statement of a program that\n");
+        fileWriter.write("\t * parses, as each rule with a body parses it once. Should it backtrack into one while failing to parse a program,\n");
+        fileWriter.write("\t * the stream scans the source text again\n");
+        fileWriter.write("\t * @param tokens\n");
+        fileWriter.write("\t * @param memoize Caches the result of each rule at each position, trading memory for less re-parsing\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic Parser(TokenStream tokens, boolean memoize) {\n");
+        fileWriter.write("\t\tthis.stream = tokens;\n");
+        fileWriter.write("\t\tthis.memoTable = memoize ? new MemoTable(MEMO_COLUMNS) : null;\n");
         fileWriter.write("\t}\n\n");
     }
 
-    private void writeParseTokensMethod(FileWriter fileWriter) throws IOException {
+    private void writeParseTokensMethod(Writer fileWriter) throws IOException {
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Entry point for parsing token stream\n");
+        fileWriter.write("\t * @return AST\n");
+        fileWriter.write("\t */\n");
         fileWriter.write("\tpublic Ast<String> parseTokens() {\n");
-        fileWriter.write("\t\tif (!topProduction()) {\n");
-        //fileWriter.write("\t\t\tlogger.error(\"Parsing failed\");\n");
-        fileWriter.write("\t\t\treturn null;\n\t\t}\n\n");
-        //fileWriter.write("\t\tlogger.info(\"Parsing successful\");\n");
-        fileWriter.write("\t\treturn constructAst(astPairs, ast);\n");
+        fileWriter.write("\t\tlogger.info(\"Parsing tokens\");\n\n");
+        fileWriter.write("\t\tstream.reset(0);\n\n");
+        fileWriter.write("\t\tboolean parsed = topProduction();\n\n");
+        fileWriter.write("\t\tif (memoTable != null) {\n");
+        fileWriter.write("\t\t\tlogger.info(memoTable.stats());\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tif (stream.discards()) {\n");
+        fileWriter.write("\t\t\tlogger.info(\"Held at most \" + stream.peakResident() + \" tokens at once, scanned again \" + stream.rescans() + \" times\");\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tif (!parsed) {\n");
+        fileWriter.write("\t\t\tlogger.error(\"Parsing failed, returning null\");\n\n");
+        fileWriter.write("\t\t\treturn null;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tlogger.info(\"Parsing successful, returning syntax tree\");\n\n");
+        fileWriter.write("\t\tast.compact(ast.getRootNode());\n\n");
+        fileWriter.write("\t\treturn ast;\n");
         fileWriter.write("\t}\n\n");
     }
 
-    private void writeTopProductionMethod(FileWriter fileWriter) throws IOException {
+    private void writeTopProductionMethod(Writer fileWriter) throws IOException {
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Entry point for parsing rules\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
         fileWriter.write("\tpublic boolean topProduction() {\n");
+        fileWriter.write("\t\tlogger.info(\"Parsing...\");\n\n");
         fileWriter.write("\t\tif (!program()) {\n");
-        fileWriter.write("\t\t\tif (!SFVarName()) return false;\n\t\t}\n\n");
+        fileWriter.write("\t\t\treturn SFVarName();\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\treturn true;\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Parses a whole program, comments and newlines around its units included, as the AST\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate boolean program() {\n");
+        fileWriter.write("\t\tint start = stream.mark();\n");
+        fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind.program);\n\n");
+        fileWriter.write("\t\twhile (CommentOrNewline(node)) ;\n");
+        fileWriter.write("\t\tif (!ExecutableProgram(node)) {\n");
+        fileWriter.write("\t\t\tstream.reset(start);\n");
+        fileWriter.write("\t\t\treturn false;\n");
+        fileWriter.write("\t\t}\n");
+        fileWriter.write("\t\twhile (CommentOrNewline(node)) ;\n\n");
+        fileWriter.write("\t\tast = new Ast<>(node);\n");
+        fileWriter.write("\t\treturn true;\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Parses a single name as the AST, when the tokens are not a program\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate boolean SFVarName() {\n");
+        fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind.SFVarName);\n\n");
+        fileWriter.write("\t\tif (!Ident(node)) {\n");
+        fileWriter.write("\t\t\treturn false;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tast = new Ast<>(node);\n");
         fileWriter.write("\t\treturn true;\n");
+        fileWriter.write("\t}\n");
+    }
+
+    private void writeProgramUnitMethods(Writer fileWriter) throws IOException {
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Entry point for parsing a single program unit at the current position, so a program can be parsed one unit at a\n");
+        fileWriter.write("\t * time. Units are parsed exactly as program does, so the units of a whole program end where they would here\n");
+        fileWriter.write("\t * @return ProgramUnit node, null if no unit could be parsed\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic Ast.Node<String> parseProgramUnit() {\n");
+        fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind.ExecutableProgram);\n\n");
+        fileWriter.write("\t\tif (!ProgramUnit(node)) {\n");
+        fileWriter.write("\t\t\treturn null;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tast.compact(node);\n\n");
+        fileWriter.write("\t\treturn ast.getChildren(node).get(0);\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Entry point for parsing a single comment or newline at the current position, as found before the first and\n");
+        fileWriter.write("\t * after the last program unit\n");
+        fileWriter.write("\t * @return CommentOrNewline node, null if there is none\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic Ast.Node<String> parseCommentOrNewline() {\n");
+        fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind.program);\n\n");
+        fileWriter.write("\t\tif (!CommentOrNewline(node)) {\n");
+        fileWriter.write("\t\t\treturn null;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tast.compact(node);\n\n");
+        fileWriter.write("\t\treturn ast.getChildren(node).get(0);\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Discards the tokens and memoized results before the next token to parse, once a program unit or a statement of a\n");
+        fileWriter.write("\t * body has been parsed from a stream that scans as it goes\n");
+        fileWriter.write("\t * @return true, so it can follow the rule in a sequence\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate boolean discard() {\n");
+        fileWriter.write("\t\t// A buffered stream keeps every token anyway, and dropping memoized results would only lose them\n");
+        fileWriter.write("\t\tif (!stream.discards()) {\n");
+        fileWriter.write("\t\t\treturn true;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tstream.discard();\n\n");
+        fileWriter.write("\t\tif (memoTable != null) {\n");
+        fileWriter.write("\t\t\tmemoTable.discard(stream.mark());\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\treturn true;\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Index of the next token to parse\n");
+        fileWriter.write("\t * @return Position\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic int position() {\n");
+        fileWriter.write("\t\treturn stream.mark();\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Index of the furthest token looked at, a failed parse would fail the same whatever follows it\n");
+        fileWriter.write("\t * @return Position\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tpublic int furthestPosition() {\n");
+        fileWriter.write("\t\treturn stream.furthest();\n");
         fileWriter.write("\t}\n\n");
     }
 
-    private void writeRuleMethod(FileWriter fileWriter, JSONObject jsonObject) throws IOException {
-        JSONObject rules = (JSONObject) jsonObject.get("rules");
+    /**
+     * Writes the rule methods of Parser in the order of their ids, each with the first production of its rule and
+     * followed by its body
+     * @param fileWriter Writer of Parser.java
+     * @param rules Rules of grammar
+     * @throws IOException
+     */
+    private void writeRuleMethods(Writer fileWriter, JSONObject rules) throws IOException {
+        for (int id = 0; id < memoizedRules.size(); id++) {
+            String ruleName = memoizedRules.get(id);
+
+            writeRuleDoc(fileWriter, ruleName, rules);
+            writeRuleWrapper(fileWriter, ruleName, id);
+            fileWriter.write("\n" + methods.get(ruleName) + "\n");
+        }
+    }
 
-        for (Object rule : rules.keySet()) {
-            String ruleName = (String) rule;
-            JSONArray production = (JSONArray) rules.get(rule);
+    /**
+     * Writes the method of a rule, which fails on a token the rule cannot start with, replays the memoized result of the
+     * rule at the current token if there is one, and otherwise runs the body of the rule and memoizes what it returns
+     * @param fileWriter Writer of Parser.java
+     * @param ruleName Rule
+     * @param id Index of rule in RULES
+     * @throws IOException
+     */
+    private void writeRuleWrapper(Writer fileWriter, String ruleName, int id) throws IOException {
+        fileWriter.write("\tprivate boolean " + ruleName + "(Ast.Node<String> parentNode) {\n");
+        fileWriter.write("\t\tif (!predicts(Lookahead." + ruleName + ")) {\n");
+        fileWriter.write("\t\t\treturn false;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tint start = stream.mark();\n\n");
+        fileWriter.write("\t\tBoolean memo = recall(" + id + ", parentNode);\n");
+        fileWriter.write("\t\tif (memo != null) {\n");
+        fileWriter.write("\t\t\treturn memo;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tAst.Node<String> node = " + ruleName + "Production(start);\n\n");
+        fileWriter.write("\t\tif (node == null) {\n");
+        fileWriter.write("\t\t\tstream.reset(start);\n");
+        fileWriter.write("\t\t\tmemoize(" + id + ", start, null);\n");
+        fileWriter.write("\t\t\treturn false;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tast.addChild(parentNode, node);\n");
+        fileWriter.write("\t\tmemoize(" + id + ", start, node);\n");
+        fileWriter.write("\t\treturn true;\n");
+        fileWriter.write("\t}\n");
+    }
+
+    /**
+     * Writes the doc comment of a rule method, the items of the first production of its rule
+     * @param fileWriter Writer of Parser.java
+     * @param ruleName Rule
+     * @param rules Rules of grammar
+     * @throws IOException
+     */
+    private void writeRuleDoc(Writer fileWriter, String ruleName, JSONObject rules) throws IOException {
+        fileWriter.write("\n");
+
+        if (!rules.containsKey(ruleName)) {
+            return;
+        }
+
+        StringJoiner items = new StringJoiner("\n\t*           | ");
+        productionItems(((JSONArray) rules.get(ruleName)).get(0)).forEach(item -> items.add("\t" + item));
+
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t* " + ruleName + " ::= " + items + "\n");
+        fileWriter.write("\t*/\n");
+    }
+
+    /**
+     * Writes the body of a rule from its productions, which returns the node of the first alternative that matches
+     * @param fileWriter Writer of the body
+     * @param ruleName Rule
+     * @param production Alternatives of rule
+     * @throws IOException
+     */
+    private void writeRuleBody(Writer fileWriter, String ruleName, JSONArray production) throws IOException {
+        List<String> separators = listSeparators(ruleName, production);
+
+        if (separators != null) {
+            writeListProductionMethod(fileWriter, ruleName, production, separators);
+        } else if (production.size() > 1) {
+            writeMultipleProductionMethod(fileWriter, ruleName, production);
+        } else {
+            writeProductionMethod(fileWriter, ruleName, production);
+        }
+    }
+
+    /**
+     * Finds list productions, a base alternative and one repeating it with the rule itself on either side, such as
+     * X ::= A | X "," A or X ::= A | A "," X. Left recursion would never end and right recursion nests a node per
+     * element, so the list is parsed as A ("," A)* instead.
+     * @param ruleName Rule
+     * @param production Alternatives of rule
+     * @return Items between repeats of the base alternative, null if not a list production
+     */
+    private List<String> listSeparators(String ruleName, JSONArray production) {
+        if (production.size() != 2) {
+            return null;
+        }
+
+        for (int i = 0; i < 2; i++) {
+            List<String> base = productionItems(production.get(i));
+            List<String> recursive = productionItems(production.get(1 - i));
+
+            if (base.isEmpty() || base.contains(ruleName) || recursive.size() <= base.size()) {
+                continue;
+            }
 
-            if (production.size() > 1) {
-                writeMultipleProductionMethod(fileWriter, ruleName, production);
+            List<String> separators;
+            if (recursive.get(0).equals(ruleName) && recursive.subList(recursive.size() - base.size(), recursive.size()).equals(base)) {
+                separators = recursive.subList(1, recursive.size() - base.size());
+            } else if (recursive.get(recursive.size() - 1).equals(ruleName) && recursive.subList(0, base.size()).equals(base)) {
+                separators = recursive.subList(base.size(), recursive.size() - 1);
             } else {
-                writeProductionMethod(fileWriter, ruleName, production);
+                continue;
+            }
+
+            List<String> items = new ArrayList<>(base);
+            items.addAll(separators);
+
+            // Only plain items, each of which must be matched
+            if (separators.contains(ruleName) || items.stream().anyMatch(item -> item.matches(".*[?*+}]$") || disallowedMethods.contains(item.toUpperCase()))) {
+                return null;
+            }
+
+            return new ArrayList<>(separators);
+        }
+
+        return null;
+    }
+
+    private List<String> productionItems(Object productionObject) {
+        List<String> items = new ArrayList<>();
+
+        for (Object item : (JSONArray) ((JSONObject) productionObject).get("production")) {
+            items.add(item.toString().trim());
+        }
+
+        return items;
+    }
+
+    /**
+     * Call matching one plain item of a production
+     * @param item Item
+     * @return Call
+     */
+    private String itemCall(String item) {
+        String itemName = item.replace("\"", "").trim();
+
+        if (replacements.containsKey(itemName)) {
+            StringJoiner replacementJoiner = new StringJoiner(" || ", "(", ")");
+            for (String replacement : replacements.get(itemName)) {
+                replacementJoiner.add(replacement + "(node)");
+            }
+
+            return replacementJoiner.toString();
+        }
+
+        if (specialCharacters.containsKey(itemName.toLowerCase())) {
+            itemName = specialCharacters.get(itemName.toLowerCase()).toUpperCase();
+        }
+
+        if (itemName.equals("ε")) {
+            itemName = "EPSILON";
+        }
+
+        // The parser never backtracks into a program unit it has parsed, so what came before it can be discarded
+        if (itemName.equals("ProgramUnit")) {
+            return itemName + "(node) && discard()";
+        }
+
+        return itemName + "(node)";
+    }
+
+    private void writeListProductionMethod(Writer fileWriter, String ruleName, JSONArray production, List<String> separators) throws IOException {
+        List<String> base = null;
+        for (Object productionObject : production) {
+            List<String> items = productionItems(productionObject);
+            if (!items.contains(ruleName)) {
+                base = items;
             }
         }
+
+        StringJoiner element = new StringJoiner(" && ");
+        base.forEach(item -> element.add(itemCall(item)));
+
+        StringJoiner repeat = new StringJoiner(" && ");
+        separators.forEach(item -> repeat.add(itemCall(item)));
+        base.forEach(item -> repeat.add(itemCall(item)));
+
+        fileWriter.write("\n\tprivate Ast.Node<String> " + ruleName + "Production(int start) {\n");
+        fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind." + ruleName + ");\n\n");
+        fileWriter.write("\t\tboolean a = " + element + ";\n\n");
+
+        if (separators.isEmpty() && base.size() == 1) {
+            fileWriter.write("\t\twhile (a && " + repeat + ");\n\n");
+        } else {
+            // A repeat that fails part way leaves neither tokens consumed nor children behind
+            fileWriter.write("\t\twhile (a) {\n");
+            fileWriter.write("\t\t\tint position = stream.mark();\n");
+            fileWriter.write("\t\t\tint children = ast.getChildren(node).size();\n\n");
+            fileWriter.write("\t\t\tif (" + repeat + ") {\n");
+            fileWriter.write("\t\t\t\tcontinue;\n");
+            fileWriter.write("\t\t\t}\n\n");
+            fileWriter.write("\t\t\tstream.reset(position);\n");
+            fileWriter.write("\t\t\tast.removeChildren(node, children);\n");
+            fileWriter.write("\t\t\tbreak;\n");
+            fileWriter.write("\t\t}\n\n");
+        }
+
+        fileWriter.write("\t\tif (a) {\n");
+        fileWriter.write("\t\t\treturn node;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\treturn null;\n");
+        fileWriter.write("\t}\n");
     }
 
-    private void writeMultipleProductionMethod(FileWriter fileWriter, String ruleName, JSONArray production) throws IOException {
+    private void writeMultipleProductionMethod(Writer fileWriter, String ruleName, JSONArray production) throws IOException {
         //Collections.reverse(productions);
 
-        fileWriter.write("\n\tprivate boolean " + ruleName + "(String parent) {\n");
-        fileWriter.write("\t\tParserState state = new ParserState(current, astPairs);\n\n");
+        fileWriter.write("\n\tprivate Ast.Node<String> " + ruleName + "Production(int start) {\n");
+        fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind." + ruleName + ");\n\n");
         //fileWriter.write("\t\tlogger.info(\"Parsing " + ruleName + "\");\n\n");
 
         int variableSuffix = 0; // Suffix for variable name
         char variableName = 'a'; // Start from 'a'
+        boolean firstProduction = true;
         for (Object productionObject : production) {
             JSONObject p = (JSONObject) productionObject;
             JSONArray items = (JSONArray) p.get("production");
 
+            // Each alternative builds a fresh node so a failed alternative leaves no children behind
+            if (!firstProduction) {
+                fileWriter.write("\t\tnode = ast.createNode(NodeKind." + ruleName + ");\n\n");
+            }
+            firstProduction = false;
+
             Map<String, Boolean> alphaBoolean = new LinkedHashMap<>();
 
             for (Object item : items) {
@@ -279,7 +954,7 @@ public class GenerateParser {
 
                     StringBuilder replacementBuilder = new StringBuilder();
                     for (String replacement : replacements.get(itemName)) {
-                        replacementBuilder.append(replacement + "(\"" + ruleName + "\") || ");
+                        replacementBuilder.append(replacement + "(node) || ");
                     }
 
                     replacementBuilder.delete(replacementBuilder.length() - 4, replacementBuilder.length());
@@ -303,7 +978,7 @@ public class GenerateParser {
 
                 // Assign each production to a boolean variable
                 String variable = variableName + (variableSuffix > 0 ? Integer.toString(variableSuffix) : "");
-                fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(\"" + ruleName + "\");\n");
+                fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(node);\n");
                 alphaBoolean.put(variable, isOptional);
 
                 variableName++; // Move to the next letter in the alphabet
@@ -315,24 +990,22 @@ public class GenerateParser {
 
             fileWriter.write("\n\t\tif ((" + constructCondition(alphaBoolean, false) + ") || (" + constructCondition(alphaBoolean, true) + ")) {\n");
             //fileWriter.write("\t\t\tlogger.info(\"Parsed " + ruleName + "\");\n");
-            fileWriter.write("\n\t\t\tastPairs.add(new Ast.Pair<>(parent, \"" + ruleName + "\"));\n");
-            fileWriter.write("\t\t\treturn true;\n");
+            fileWriter.write("\t\t\treturn node;\n");
             fileWriter.write("\t\t}\n\n");
-            fileWriter.write("\t\tcurrent = state.current;\n");
-            fileWriter.write("\t\tastPairs = state.astPairs;\n\n");
+            fileWriter.write("\t\tstream.reset(start);\n\n");
         }
         //fileWriter.write("\t\tlogger.error(\"Parsing " + ruleName + " failed\");\n\n");
-        fileWriter.write("\t\treturn false;\n");
+        fileWriter.write("\t\treturn null;\n");
         fileWriter.write("\t}\n");
     }
 
-    private void writeProductionMethod(FileWriter fileWriter, String ruleName, JSONArray production) throws IOException {
+    private void writeProductionMethod(Writer fileWriter, String ruleName, JSONArray production) throws IOException {
         for (Object productionObject : production) {
             JSONObject p = (JSONObject) productionObject;
             JSONArray items = (JSONArray) p.get("production");
 
-            fileWriter.write("\n\tprivate boolean " + ruleName + "(String parent) {\n");
-            fileWriter.write("\t\tParserState state = new ParserState(current, astPairs);\n\n");
+            fileWriter.write("\n\tprivate Ast.Node<String> " + ruleName + "Production(int start) {\n");
+            fileWriter.write("\t\tAst.Node<String> node = ast.createNode(NodeKind." + ruleName + ");\n\n");
             //fileWriter.write("\t\tlogger.info(\"Parsing " + ruleName + "\");\n\n");
 
             Map<String, Boolean> alphaBoolean = new LinkedHashMap<>();
@@ -355,7 +1028,7 @@ public class GenerateParser {
 
                     StringBuilder replacementBuilder = new StringBuilder();
                     for (String replacement : replacements.get(itemName)) {
-                        replacementBuilder.append(replacement + "(\"" + ruleName + "\") || ");
+                        replacementBuilder.append(replacement + "(node) || ");
                     }
 
                     replacementBuilder.delete(replacementBuilder.length() - 4, replacementBuilder.length());
@@ -387,7 +1060,7 @@ public class GenerateParser {
                     }
 
                     String variable = variableName + (variableSuffix > 0 ? Integer.toString(variableSuffix) : "");
-                    fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(\"" + ruleName + "\");\n");
+                    fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(node);\n");
                     alphaBoolean.put(variable, isOptional);
 
                     variableName++; // Move to the next letter in the alphabet
@@ -410,8 +1083,8 @@ public class GenerateParser {
 
                     // Assign each production to a boolean variable
                     String variable = variableName + (variableSuffix > 0 ? Integer.toString(variableSuffix) : "");
-                    fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(\"" + ruleName + "\");\n");
-                    fileWriter.write("\t\twhile (" + itemName + "(\"" + ruleName + "\"));\n");
+                    fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(node);\n");
+                    fileWriter.write("\t\twhile (" + itemName + "(node));\n");
                     alphaBoolean.put(variable, isOptional);
 
                     variableName++; // Move to the next letter in the alphabet
@@ -435,15 +1108,14 @@ public class GenerateParser {
                         }
 
                         if (i == groupItems.length - 1)
-                            groupBuilder.append(groupItem + "(\"" + ruleName + "\")");
+                            groupBuilder.append(groupItem + "(node)");
                         else
-                            groupBuilder.append(groupItem + "(\"" + ruleName + "\") && ");
+                            groupBuilder.append(groupItem + "(node) && ");
                     }
 
                     if (items.size() == 1) {
                         fileWriter.write("\t\twhile (" + groupBuilder + ");\n\n");
-                        fileWriter.write("\t\tastPairs.add(new Ast.Pair<>(parent, \"" + ruleName + "\"));\n");
-                        fileWriter.write("\t\treturn true;\n");
+                        fileWriter.write("\t\treturn node;\n");
                         fileWriter.write("\t}\n");
                         blah = true;
                     } else {
@@ -463,9 +1135,8 @@ public class GenerateParser {
                         itemName = "EPSILON";
                     }
 
-                    fileWriter.write("\t\twhile (" + itemName + "(\"" + ruleName + "\"));\n\n");
-                    fileWriter.write("\t\tastPairs.add(new Ast.Pair<>(parent, \"" + ruleName + "\"));\n");
-                    fileWriter.write("\t\treturn true;\n");
+                    fileWriter.write("\t\twhile (" + itemName + "(node));\n\n");
+                    fileWriter.write("\t\treturn node;\n");
                     fileWriter.write("\t}\n");
 
                     blah = true;
@@ -481,7 +1152,7 @@ public class GenerateParser {
                         itemName = "EPSILON";
                     }
 
-                    fileWriter.write("\t\twhile (" + itemName + "(\"" + ruleName + "\"));\n");
+                    fileWriter.write("\t\twhile (" + itemName + "(node));\n");
                 } else {
                     itemName = item.toString().replace("\"", "").trim();
 
@@ -494,7 +1165,7 @@ public class GenerateParser {
                     }
 
                     String variable = variableName + (variableSuffix > 0 ? Integer.toString(variableSuffix) : "");
-                    fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(\"" + ruleName + "\");\n");
+                    fileWriter.write("\t\tboolean " + variable + " = " + itemName + "(node);\n");
                     alphaBoolean.put(variable, false);
 
                     variableName++; // Move to the next letter in the alphabet
@@ -515,13 +1186,10 @@ public class GenerateParser {
                     fileWriter.write("\n\t\tif ((" + constructCondition(alphaBoolean, false) + ") || (" + constructCondition(alphaBoolean, true) + ")) {\n");
                 }
                 //fileWriter.write("\t\t\tlogger.info(\"Parsed " + ruleName + "\");\n");
-                fileWriter.write("\n\t\t\tastPairs.add(new Ast.Pair<>(parent, \"" + ruleName + "\"));\n");
-                fileWriter.write("\t\t\treturn true;\n");
+                fileWriter.write("\t\t\treturn node;\n");
                 fileWriter.write("\t\t}\n\n");
-                fileWriter.write("\t\tcurrent = state.current;\n");
-                fileWriter.write("\t\tastPairs = state.astPairs;\n\n");
                 //fileWriter.write("\t\tlogger.error(\"Parsing " + ruleName + " failed\");\n\n");
-                fileWriter.write("\t\treturn false;\n");
+                fileWriter.write("\t\treturn null;\n");
                 fileWriter.write("\t}\n");
             }
         }
@@ -548,75 +1216,244 @@ public class GenerateParser {
         return conditionBuilder.toString();
     }
 
+    /**
+     * Methods of the terminals, one for each token type the special characters of the grammar stand for
+     * @return Text of method of each terminal
+     */
+    private Map<String, String> terminalSymbolMethods() {
+        Map<String, String> terminals = new LinkedHashMap<>();
 
-    private void writeTerminalSymbolMethod(FileWriter fileWriter, JSONObject jsonObject) throws IOException {
-        Set<String> generatedMethods = new HashSet<>();
-
-        for (String specialCharacter : specialCharacters.keySet()) {
-            specialCharacter = specialCharacter.replace("\"", "").trim();
-            specialCharacter = specialCharacters.get(specialCharacter).toUpperCase();
+        for (String specialCharacter : specialCharacters.values()) {
+            specialCharacter = specialCharacter.toUpperCase();
 
-            if (generatedMethods.contains(specialCharacter)) {
+            if (terminals.containsKey(specialCharacter)) {
                 continue;
             }
 
-            fileWriter.write("\tprivate boolean " + specialCharacter + "(String parent) {\n");
-            //fileWriter.write("\t\tlogger.info(\"Parsing " + specialCharacter + "\");\n\n");
-            fileWriter.write("\t\tif (!match(" + specialCharacter + ")) {\n");
-            //fileWriter.write("\t\t\tlogger.error(\"Parsing " + specialCharacter + " failed\");\n\n");
-            fileWriter.write("\t\t\treturn false;\n\t\t}\n\n");
-            fileWriter.write("\t\tastPairs.add(new Ast.Pair<>(parent, \"" + specialCharacter + "\"));\n");
-            fileWriter.write("\t\treturn true;\n\t}\n\n");
+            // The text of a character constant is its value, without the quotes of its lexeme
+            String text = specialCharacter.equals("SCON") ? "(String) stream.literal()" : "stream.lexeme()";
+
+            terminals.put(specialCharacter, "\tprivate boolean " + specialCharacter + "(Ast.Node<String> parentNode) {\n"
+                    + "\t\tif (!match(" + specialCharacter + ")) {\n"
+                    + "\t\t\treturn false;\n\t\t}\n\n"
+                    + "\t\tAst.Node<String> node = ast.createNode(NodeKind." + specialCharacter + ");\n"
+                    + "\t\tAst.Node<String> lexNode = ast.createLeaf(" + text + ");\n\n"
+                    + "\t\tast.addChild(parentNode, node);\n"
+                    + "\t\tast.addChild(node, lexNode);\n"
+                    + "\t\tadvance();\n"
+                    + "\t\treturn true;\n\t}");
+        }
+
+        return terminals;
+    }
 
-            generatedMethods.add(specialCharacter);
+    /**
+     * Writes the terminal methods Parser calls, in the order of the terminals
+     * @param fileWriter Writer of Parser.java
+     * @throws IOException
+     */
+    private void writeTerminalSymbolMethods(Writer fileWriter) throws IOException {
+        for (String terminal : terminalSymbolMethods().keySet()) {
+            if (methods.containsKey(terminal)) {
+                fileWriter.write("\n" + methods.get(terminal) + "\n");
+            }
         }
     }
 
-    private static void writeHelperMethods(FileWriter fileWriter) throws IOException {
-        fileWriter.write("\tprivate Ast<String> constructAst(List<Ast.Pair<String, String>> astPairs, Ast<String> ast) {\n");
-        fileWriter.write("\t\tCollections.reverse(astPairs);\n\n");
-        fileWriter.write("\t\tfor (Ast.Pair<String, String> pair : astPairs) {\n");
-        fileWriter.write("\t\t\tString primary = pair.getPrimary();\n");
-        fileWriter.write("\t\t\tString secondary = pair.getSecondary();\n\n");
-        fileWriter.write("\t\t\ttry {\n");
-        fileWriter.write("\t\t\t\tast.addChildren(primary, secondary);\n");
-        fileWriter.write("\t\t\t} catch (NullPointerException e) {\n");
-        fileWriter.write("\t\t\t\tlogger.error(\"Error constructing AST\");\n");
-        fileWriter.write("\t\t\t}\n");
+    private static void writeHelperMethods(Writer fileWriter) throws IOException {
+        fileWriter.write("\n\t/**\n");
+        fileWriter.write("\t * Replay the memoized result of a rule at the current position\n");
+        fileWriter.write("\t * @param rule Id of rule\n");
+        fileWriter.write("\t * @param parentNode Node to attach the memoized subtree to\n");
+        fileWriter.write("\t * @return Result of rule, null if not memoized\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate Boolean recall(int rule, Ast.Node<String> parentNode) {\n");
+        fileWriter.write("\t\tif (memoTable == null) {\n");
+        fileWriter.write("\t\t\treturn null;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tMemoTable.Entry entry = memoTable.recall(rule, stream.mark());\n\n");
+        fileWriter.write("\t\tif (entry == null) {\n");
+        fileWriter.write("\t\t\treturn null;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tif (entry.node == null) {\n");
+        fileWriter.write("\t\t\treturn false;\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tif (Trace.PARSER.isEnabled()) {\n");
+        fileWriter.write("\t\t\tTrace.PARSER.log(\"Reusing \" + RULES[rule] + \" from token \" + stream.mark() + \" to \" + entry.end);\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tast.addChild(parentNode, entry.node);\n");
+        fileWriter.write("\t\tstream.reset(entry.end);\n");
+        fileWriter.write("\t\treturn true;\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Record the result of a rule that started at a token\n");
+        fileWriter.write("\t * @param rule Id of rule\n");
+        fileWriter.write("\t * @param start Index of the token the rule started at\n");
+        fileWriter.write("\t * @param node Subtree of rule, null if the rule failed\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate void memoize(int rule, int start, Ast.Node<String> node) {\n");
+        fileWriter.write("\t\tif (memoTable != null) {\n");
+        fileWriter.write("\t\t\tmemoTable.store(start, new MemoTable.Entry(rule, stream.mark(), node));\n");
         fileWriter.write("\t\t}\n");
-        fileWriter.write("\t\treturn ast;\n");
         fileWriter.write("\t}\n\n");
-
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Check the current token can start a rule, so a rule that cannot match here fails before trying any alternative\n");
+        fileWriter.write("\t * @param lookahead Lookahead table of rule\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate boolean predicts(boolean[] lookahead) {\n");
+        fileWriter.write("\t\treturn lookahead[stream.peek().ordinal()];\n");
+        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Match arguments with current position in token stream\n");
+        fileWriter.write("\t * @param tokenType Token type\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
         fileWriter.write("\tprivate boolean match(TokenType... tokenType) {\n");
         fileWriter.write("\t\tfor (TokenType type : tokenType) {\n");
         fileWriter.write("\t\t\tif (check(type)) {\n");
-        fileWriter.write("\t\t\t\tadvance();\n");
         fileWriter.write("\t\t\t\treturn true;\n");
         fileWriter.write("\t\t\t}\n");
         fileWriter.write("\t\t}\n");
         fileWriter.write("\t\treturn false;\n");
         fileWriter.write("\t}\n\n");
-
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Check current position in token stream matches with argument\n");
+        fileWriter.write("\t * @param tokenType Token type\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
         fileWriter.write("\tprivate boolean check(TokenType tokenType) {\n");
         fileWriter.write("\t\tif (isAtEnd()) return false;\n");
-        fileWriter.write("\t\treturn peek().getType() == tokenType;\n");
+        fileWriter.write("\t\treturn stream.peek() == tokenType;\n");
         fileWriter.write("\t}\n\n");
-
-        fileWriter.write("\tprivate Token advance() {\n");
-        fileWriter.write("\t\tif (!isAtEnd()) current++;\n");
-        fileWriter.write("\t\treturn previous();\n");
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Advance in token stream\n");
+        fileWriter.write("\t */\n");
+        fileWriter.write("\tprivate void advance() {\n");
+        fileWriter.write("\t\tif (Trace.PARSER.isEnabled()) {\n");
+        fileWriter.write("\t\t\tTrace.PARSER.log(\"Consuming \" + stream.peek() + \" lex \" + stream.lexeme() + \" at token \" + stream.mark());\n");
+        fileWriter.write("\t\t}\n\n");
+        fileWriter.write("\t\tif (!isAtEnd()) {\n");
+        fileWriter.write("\t\t\tstream.advance();\n");
+        fileWriter.write("\t\t}\n");
         fileWriter.write("\t}\n\n");
-
+        fileWriter.write("\t/**\n");
+        fileWriter.write("\t * Check next token is EOF in token stream\n");
+        fileWriter.write("\t * @return Boolean\n");
+        fileWriter.write("\t */\n");
         fileWriter.write("\tprivate boolean isAtEnd() {\n");
-        fileWriter.write("\t\treturn peek().getType() == EOF;\n");
-        fileWriter.write("\t}\n\n");
+        fileWriter.write("\t\treturn stream.peek() == EOF;\n");
+        fileWriter.write("\t}\n");
+        fileWriter.write("}\n");
 
-        fileWriter.write("\tprivate Token peek() {\n");
-        fileWriter.write("\t\treturn tokens.get(current);\n");
-        fileWriter.write("\t}\n\n");
+    }
 
-        fileWriter.write("\tprivate Token previous() {\n");
-        fileWriter.write("\t\treturn tokens.get(current - 1);\n");
-        fileWriter.write("\t}\n");
+    /**
+     * Writes the kinds of node a parser creates, one for each rule and token type named after it, and LEXEME for the
+     * text of a token
+     * @param fileWriter Writer of NodeKind.java
+     * @param ruleNames Rules of grammar
+     * @throws IOException
+     */
+    private static void writeNodeKindEnum(Writer fileWriter, Collection<String> ruleNames) throws IOException {
+        Set<String> kinds = new LinkedHashSet<>(ruleNames);
+
+        for (TokenType type : TokenType.values()) {
+            kinds.add(type.name());
+        }
+
+        kinds.add("LEXEME");
+
+        fileWriter.write("package uk.ac.soton.comp3200.fort2jul.parser;\n\n");
+        fileWriter.write("/**\n");
+        fileWriter.write(" * Kinds of node in the AST, named after the rule or token type that creates them, with LEXEME for the text of a token.\n");
+        fileWriter.write(" * This was automatically generated by GenerateParser from grammar_rules.json.\n");
+        fileWriter.write(" */\n");
+        fileWriter.write("public enum NodeKind {\n");
+
+        StringBuilder line = new StringBuilder("   ");
+        Iterator<String> names = kinds.iterator();
+
+        while (names.hasNext()) {
+            String kind = " " + names.next() + (names.hasNext() ? "," : "");
+
+            // Wrap at 120 columns
+            if (line.length() > 3 && line.length() + kind.length() > 120) {
+                fileWriter.write(line + "\n");
+                line.setLength(3);
+            }
+
+            line.append(kind);
+        }
+
+        fileWriter.write(line + "\n");
+        fileWriter.write("}\n");
+    }
+
+    /**
+     * Writes the lookahead tables of a parser, one per rule named after it, which the rule checks the next token against
+     * before trying any alternative
+     * @param fileWriter Writer of Lookahead.java
+     * @param lookahead Tokens each rule can start with
+     * @throws IOException
+     */
+    private static void writeLookaheadClass(Writer fileWriter, Map<String, EnumSet<TokenType>> lookahead) throws IOException {
+        fileWriter.write("package uk.ac.soton.comp3200.fort2jul.parser;\n\n");
+        fileWriter.write("import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;\n\n");
+        fileWriter.write("import java.util.Arrays;\n\n");
+        fileWriter.write("import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;\n\n");
+        fileWriter.write("/**\n");
+        fileWriter.write(" * Tokens each rule of the parser can start with, one table per rule named after it and indexed by TokenType ordinal.\n");
+        fileWriter.write(" * A rule that can succeed without consuming a token may start with any token.\n");
+        fileWriter.write(" * This was automatically generated by GenerateParser from grammar_rules.json.\n");
+        fileWriter.write(" */\n");
+        fileWriter.write("final class Lookahead {\n\n");
+
+        for (Map.Entry<String, EnumSet<TokenType>> rule : lookahead.entrySet()) {
+            StringBuilder line = new StringBuilder("    static final boolean[] " + rule.getKey() + " = ");
+
+            if (rule.getValue().size() == TokenType.values().length) {
+                line.append("any();");
+            } else if (rule.getValue().isEmpty()) {
+                line.append("of();");
+            } else {
+                line.append("of(");
+                int lineStart = 0;
+                boolean firstOnLine = true;
+                Iterator<TokenType> types = rule.getValue().iterator();
+
+                while (types.hasNext()) {
+                    String type = types.next().name() + (types.hasNext() ? "," : ");");
+
+                    // Wrap at 120 columns
+                    if (!firstOnLine && line.length() - lineStart + type.length() + 1 > 120) {
+                        line.append("\n            ");
+                        lineStart = line.length() - 12;
+                        firstOnLine = true;
+                    }
+
+                    line.append(firstOnLine ? "" : " ").append(type);
+                    firstOnLine = false;
+                }
+            }
+
+            fileWriter.write(line + "\n");
+        }
+
+        fileWriter.write("\n    private Lookahead() {\n");
+        fileWriter.write("    }\n\n");
+        fileWriter.write("    private static boolean[] of(TokenType... types) {\n");
+        fileWriter.write("        boolean[] table = new boolean[TokenType.values().length];\n\n");
+        fileWriter.write("        for (TokenType type : types) {\n");
+        fileWriter.write("            table[type.ordinal()] = true;\n");
+        fileWriter.write("        }\n\n");
+        fileWriter.write("        return table;\n");
+        fileWriter.write("    }\n\n");
+        fileWriter.write("    private static boolean[] any() {\n");
+        fileWriter.write("        boolean[] table = new boolean[TokenType.values().length];\n");
+        fileWriter.write("        Arrays.fill(table, true);\n\n");
+        fileWriter.write("        return table;\n");
+        fileWriter.write("    }\n");
+        fileWriter.write("}\n");
     }
 }
\ No newline at end of file
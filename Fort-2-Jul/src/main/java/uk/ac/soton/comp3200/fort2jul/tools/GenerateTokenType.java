@@ -3,6 +3,7 @@ package uk.ac.soton.comp3200.fort2jul.tools;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -10,9 +11,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class GenerateTokenType {
-    private static final Map<String, String> specialCharacters = new HashMap<>();
+    static final Map<String, String> specialCharacters = new HashMap<>();
 
     static {
         specialCharacters.put("(", "LPAREN");
@@ -159,4 +161,161 @@ public class GenerateTokenType {
 
         Files.write(Paths.get("src/main/java/uk/ac/soton/comp3200/fort2jul/lexer/TokenType.java"), enumContent.toString().getBytes());
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes a table recognising words without case and without allocating. The words are hashed into a table with no
+     * two words in the same slot, the hash found by trying multipliers and shifts for the smallest table that allows it.
+     * @param fileWriter Writer of KeywordTable.java
+     * @param keywords Token type of each word, in upper case, scanned as a keyword or operator
+     * @param specifiers Token type of each word, in upper case, scanned as one token with an '=' following it
+     * @param generator Tool writing the table
+     * @throws IOException
+     */
+    static void writeKeywordTable(FileWriter fileWriter, Map<String, String> keywords, Map<String, String> specifiers,
+                                  String generator) throws IOException {
+        Set<String> words = new TreeSet<>(keywords.keySet());
+        words.addAll(specifiers.keySet());
+
+        int size = Integer.highestOneBit(words.size() * 2 - 1) * 2;
+        int[] hash = null;
+
+        while (hash == null) {
+            hash = findHash(words, size);
+            size *= 2;
+        }
+        size /= 2;
+
+        fileWriter.write("package uk.ac.soton.comp3200.fort2jul.lexer;\n\n");
+        fileWriter.write("import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;\n\n");
+        fileWriter.write("/**\n");
+        fileWriter.write(" * <p><i>KeywordTable</i> class recognises keywords, dotted operators and I/O specifiers in any case without creating a\n");
+        fileWriter.write(" * String. Each word hashes to its own slot of the table, so a word is found with one hash and one comparison.</p>\n");
+        fileWriter.write(" *\n");
+        fileWriter.write(" * <p>This was automatically generated by " + generator + ".</p>\n");
+        fileWriter.write(" */\n");
+        fileWriter.write("public final class KeywordTable {\n\n");
+        fileWriter.write("    private static final int SIZE = " + size + ";\n");
+        fileWriter.write("    private static final int MULTIPLIER = " + hash[0] + ";\n");
+        fileWriter.write("    private static final int SHIFT = " + hash[1] + ";\n\n");
+        fileWriter.write("    private static final String[] WORDS = new String[SIZE];\n");
+        fileWriter.write("    private static final TokenType[] KEYWORDS = new TokenType[SIZE];\n");
+        fileWriter.write("    private static final TokenType[] SPECIFIERS = new TokenType[SIZE];\n\n");
+        fileWriter.write("    static {\n");
+
+        for (String word : words) {
+            fileWriter.write("        put(\"" + word + "\", " + keywords.getOrDefault(word, "null") + ", "
+                    + specifiers.getOrDefault(word, "null") + ");\n");
+        }
+
+        fileWriter.write("    }\n\n");
+        fileWriter.write("""
+                    private KeywordTable() {
+                    }
+
+                    /**
+                     * <p><i>keyword</i> returns the token type of a keyword or dotted operator.</p>
+                     * @param source CharSequence
+                     * @param start int offset of the word
+                     * @param end int offset after the word
+                     * @return TokenType, null if the text is not a keyword
+                     */
+                    public static TokenType keyword(CharSequence source, int start, int end) {
+                        int slot = find(source, start, end);
+
+                        return slot < 0 ? null : KEYWORDS[slot];
+                    }
+
+                    /**
+                     * <p><i>specifier</i> returns the token type of an I/O specifier and the '=' following it.</p>
+                     * @param source CharSequence
+                     * @param start int offset of the word, without the '='
+                     * @param end int offset after the word
+                     * @return TokenType, null if the text is not a specifier
+                     */
+                    public static TokenType specifier(CharSequence source, int start, int end) {
+                        int slot = find(source, start, end);
+
+                        return slot < 0 ? null : SPECIFIERS[slot];
+                    }
+
+                    private static int find(CharSequence source, int start, int end) {
+                        int slot = hash(source, start, end);
+                        String word = WORDS[slot];
+
+                        if (word == null || word.length() != end - start) {
+                            return -1;
+                        }
+
+                        for (int i = 0; i < word.length(); i++) {
+                            if (upperCase(source.charAt(start + i)) != word.charAt(i)) {
+                                return -1;
+                            }
+                        }
+
+                        return slot;
+                    }
+
+                    private static void put(String word, TokenType keyword, TokenType specifier) {
+                        int slot = hash(word, 0, word.length());
+
+                        if (WORDS[slot] != null) {
+                            throw new IllegalStateException(WORDS[slot] + " and " + word + " share a slot");
+                        }
+
+                        WORDS[slot] = word;
+                        KEYWORDS[slot] = keyword;
+                        SPECIFIERS[slot] = specifier;
+                    }
+
+                    private static int hash(CharSequence source, int start, int end) {
+                        int hash = 0;
+
+                        for (int i = start; i < end; i++) {
+                            hash = hash * MULTIPLIER + upperCase(source.charAt(i));
+                        }
+
+                        return (hash ^ (hash >>> SHIFT)) & (SIZE - 1);
+                    }
+
+                    private static char upperCase(char c) {
+                        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+                    }
+                }
+                """);
+    }
+
+    /**
+     * Finds a multiplier and shift that hash every word to its own slot
+     * @param words Words in upper case
+     * @param size Number of slots, a power of two
+     * @return Multiplier and shift, null if there are none
+     */
+    private static int[] findHash(Set<String> words, int size) {
+        for (int multiplier = 3; multiplier < 1024; multiplier += 2) {
+            for (int shift = 1; shift < 32; shift++) {
+                boolean[] used = new boolean[size];
+                boolean perfect = true;
+
+                for (String word : words) {
+                    int hash = 0;
+                    for (int i = 0; i < word.length(); i++) {
+                        hash = hash * multiplier + word.charAt(i);
+                    }
+
+                    int slot = (hash ^ (hash >>> shift)) & (size - 1);
+                    if (used[slot]) {
+                        perfect = false;
+                        break;
+                    }
+                    used[slot] = true;
+                }
+
+                if (perfect) {
+                    return new int[]{multiplier, shift};
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -2,10 +2,15 @@ package uk.ac.soton.comp3200.fort2jul.transpiler;
 
 import org.apache.log4j.Logger;
 import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.NodeKind;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 /**
@@ -15,6 +20,16 @@ public class JuliaCodeGenerator {
 
     private static final Logger logger = Logger.getLogger(JuliaCodeGenerator.class);
 
+    /**
+     * Least number of program units generated in parallel by default
+     */
+    private static final int PARALLEL_UNITS = 16;
+
+    /**
+     * Least parallelism of the common pool to generate in parallel by default
+     */
+    private static final int PARALLEL_THREADS = 2;
+
     /**
      * Resultant AST of parser
      */
@@ -45,11 +60,36 @@ public class JuliaCodeGenerator {
      */
     private String oldFileName = "";
 
+    /**
+     * Names of the Printf.Format constants of the FORMAT statements of the unit being generated, by label
+     */
     private final HashMap<String, String> labelsToStatements = new HashMap<>();
 
-    private final List<String> listOfFunctions = new ArrayList<String>();
+    /**
+     * Names learnt to be functions from the units generated so far
+     */
+    private final Set<String> listOfFunctions = new LinkedHashSet<>();
+
+    /**
+     * Names learnt to be arrays from the units generated so far
+     */
+    private final Set<String> listOfArrays = new LinkedHashSet<>();
+
+    /**
+     * Names declared by each program unit, found before generating any
+     */
+    private SymbolTable symbols = null;
 
-    private final List<String> listOfArrays = new ArrayList<String>();
+    /**
+     * Names declared by the program unit being generated
+     */
+    private SymbolTable.Scope scope = null;
+
+    /**
+     * DO loops of the program unit being generated that need no bounds checks, null unless generating function-scoped
+     * code
+     */
+    private LoopAnalysis loops = null;
 
     private final HashMap<String, String> listOfStdFunctions;
 
@@ -69,6 +109,21 @@ public class JuliaCodeGenerator {
 
     private String programName = "";
 
+    /**
+     * Whether the output items being generated are written list-directed, separated by blanks, rather than by a format
+     */
+    private boolean listDirected = false;
+
+    /**
+     * Number of runs of program units to generate in parallel, 0 to decide from the program and the common pool
+     */
+    private int chunks = 0;
+
+    /**
+     * Whether each unit is generated as a function with variables local to it, see setScoped
+     */
+    private boolean scoped = false;
+
     /**
      * JuliaCodeGenerator generates Julia file
      * @param ast AST
@@ -86,41 +141,193 @@ public class JuliaCodeGenerator {
         this.listOfStdFunctions = generateStdFunctionMap();
     }
 
+    /**
+     * JuliaCodeGenerator generates Julia code unit by unit, see writeProgramUnit. No file is written
+     * @param outputDir Output directory of Julia file, named in the header
+     * @param juliaCode Receives any code written straight into the file rather than the body
+     * @param oldFileName File name of source
+     */
+    public JuliaCodeGenerator(String outputDir, StringBuilder juliaCode, String oldFileName) {
+        this.ast = new Ast<>(new Ast.Node<>());
+        this.outputDir = outputDir;
+        this.juliaCode = juliaCode;
+        this.oldFileName = oldFileName;
+        this.listOfStdFunctions = generateStdFunctionMap();
+    }
+
+    /**
+     * JuliaCodeGenerator generating a run of units of another generator's AST on its own thread. No file is written
+     * @param parent Generator of whole program
+     */
+    private JuliaCodeGenerator(JuliaCodeGenerator parent) {
+        this.ast = parent.ast;
+        this.outputDir = parent.outputDir;
+        this.juliaCode = new StringBuilder();
+        this.oldFileName = parent.oldFileName;
+        this.listOfStdFunctions = generateStdFunctionMap();
+        this.symbols = parent.symbols;
+        this.scoped = parent.scoped;
+    }
+
+    /**
+     * Sets how many runs of program units are generated in parallel. By default units are generated in parallel when
+     * there are enough of them and enough threads in the common pool. Either way the code is the same
+     * @param chunks Number of runs, 1 to generate units one after another
+     */
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Sets whether the main program is generated as a function main(), called once every unit has been defined, with
+     * variables local to it and to each subprogram rather than global. Julia cannot infer the types of untyped global
+     * variables, so such code runs much faster. Variables in COMMON are still shared as global variables, declared with
+     * their type where it is known
+     * @param scoped Whether to generate function-scoped code, false by default
+     */
+    public void setScoped(boolean scoped) {
+        this.scoped = scoped;
+    }
+
     /**
      * Generates Julia code based on the resultant AST
      * @return Contents of file to write
      * @throws IOException
      */
     public String generateJuliaCode() throws IOException {
+        writeJuliaCode(juliaCode);
+
+        fileWriter.write(juliaCode.toString());
+        fileWriter.close();
+
+        logger.info("Finished writing into Julia file -> Conversion successful");
+
+        return juliaCode.toString();
+    }
+
+    /**
+     * Generates Julia code based on the resultant AST, appending it to out. Program units, bodies and the parts of IF
+     * constructs append to one shared buffer as the AST is walked, so the code of a statement is not copied again for
+     * each body it is nested in. Each statement, and each FUNCTION subprogram, is still built as a String of its own
+     * before being appended. Intrinsic names are then substituted while copying the buffer to out
+     * @param out Destination of Julia code
+     * @throws IOException
+     */
+    public void writeJuliaCode(Appendable out) throws IOException {
         Ast.Node<String> rootNode = ast.getRootNode();
 
         logger.info("Beginning code conversion for file in " + outputDir);
 
-        String finalCode = "";
-        juliaCode.append("include(\"macros.jl\")\n\n");
+        StringBuilder body = new StringBuilder();
+        writeHeader(out);
 
-        juliaCode.append("# Original file located at: " + outputDir + "/" + oldFileName + "\n\n");
+        if (ast.getRootNode().getKind() == NodeKind.program) {
+            symbols = SymbolTable.build(ast);
+            transpileProgram(ast.getChildren(rootNode), body);
+        }
 
-        juliaCode.append("using Printf\n");
+        writeSubstituted(body, out);
+    }
 
-        if (ast.getRootNode().getData().equals("program")) {
-            finalCode = transpileProgram(ast.getChildren(rootNode));
-        }
+    /**
+     * Appends the lines every Julia file starts with
+     * @param out Destination of Julia code
+     * @throws IOException
+     */
+    public void writeHeader(Appendable out) throws IOException {
+        out.append("include(\"macros.jl\")\n\n");
 
-        for (String label : labelsToStatements.keySet()) {
-            finalCode = finalCode.replace(label, labelsToStatements.get(label));
-        }
+        out.append("# Original file located at: " + outputDir + "/" + oldFileName + "\n\n");
 
-        for (String func : listOfStdFunctions.keySet()) {
-            finalCode = finalCode.replace(func + "(", listOfStdFunctions.get(func) + "(");
-        }
-        juliaCode.append(finalCode);
-        fileWriter.write(juliaCode.toString());
-        fileWriter.close();
+        out.append("using Printf\n");
+    }
 
-        logger.info("Finished writing into Julia file -> Conversion successful");
+    /**
+     * Generates Julia code for a single ProgramUnit node, continuing from the units generated before it. Intrinsic names
+     * are left in place for writeSubstituted
+     * @param unit ProgramUnit node
+     * @param out Destination of Julia code
+     * @throws IOException
+     */
+    public void writeProgramUnit(Ast.Node<String> unit, Appendable out) throws IOException {
+        symbols = SymbolTable.build(ast, unit);
+        transpileProgramUnit(unit, out);
+    }
 
-        return juliaCode.toString();
+    /**
+     * Generates Julia code for a CommentOrNewline node found outside of any program unit
+     * @param node CommentOrNewline node
+     * @param out Destination of Julia code
+     * @throws IOException
+     */
+    public void writeCommentOrNewline(Ast.Node<String> node, Appendable out) throws IOException {
+        out.append(transpileCommentOrNewline(ast.getChildren(node)));
+    }
+
+    /**
+     * Substitutes the intrinsic names in generated code, appending the result to out
+     * @param body Generated code
+     * @param out Destination of Julia code
+     * @throws IOException
+     */
+    public void writeSubstituted(CharSequence body, Appendable out) throws IOException {
+        SubstitutionTrie substitutions = new SubstitutionTrie();
+        listOfStdFunctions.forEach((func, juliaFunc) -> substitutions.put(func + "(", juliaFunc + "("));
+
+        substitutions.replaceAll(body, out);
+    }
+
+    /**
+     * Returns the intrinsic names writeSubstituted replaces, each with the Julia function replacing it
+     * @return Intrinsic names to Julia functions
+     */
+    public Map<String, String> getStdFunctions() {
+        return Collections.unmodifiableMap(listOfStdFunctions);
+    }
+
+    /**
+     * Copies what the generator has learnt from the units generated so far that changes the code of later units, the
+     * names of arrays and functions, types of variables and DO loops left open. Two equal states generate the same code
+     * for the same unit
+     * @return State
+     */
+    public State saveState() {
+        return new State(currentIndent, new LinkedHashSet<>(listOfFunctions), new LinkedHashSet<>(listOfArrays),
+                new HashMap<>(varToTypes), new ArrayList<>(inDo));
+    }
+
+    /**
+     * Returns the generator to a state copied by saveState
+     * @param state State
+     */
+    public void restoreState(State state) {
+        currentIndent = state.currentIndent();
+        listOfFunctions.clear();
+        listOfFunctions.addAll(state.listOfFunctions());
+        listOfArrays.clear();
+        listOfArrays.addAll(state.listOfArrays());
+        varToTypes.clear();
+        varToTypes.putAll(state.varToTypes());
+        inDo.clear();
+        inDo.addAll(state.inDo());
+    }
+
+    /**
+     * What the generator knows between units, see saveState. The labels of FORMAT statements are learnt again for each
+     * unit, and what else it keeps is never read, so neither is part of it
+     */
+    public record State(String currentIndent, Set<String> listOfFunctions, Set<String> listOfArrays,
+                        Map<String, String> varToTypes, List<String> inDo) {
+    }
+
+    /**
+     * Checks whether a name is an array, declared as one anywhere in the unit being generated or learnt to be one by the
+     * units so far
+     * @param name Name
+     * @return Whether it is
+     */
+    private boolean isArray(String name) {
+        return (scope != null && scope.is(name, SymbolTable.Kind.ARRAY)) || listOfArrays.contains(name);
     }
 
     private HashMap<String, String> generateStdFunctionMap() {
@@ -144,122 +351,519 @@ public class JuliaCodeGenerator {
         return map;
     }
 
-    private String transpileProgram(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileProgram(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "CommentOrNewline" -> result.append(transpileCommentOrNewline(ast.getChildren(child)));
-                case "ExecutableProgram" -> result.append(transpileExecutableProgram(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case CommentOrNewline -> out.append(transpileCommentOrNewline(ast.getChildren(child)));
+                case ExecutableProgram -> transpileExecutableProgram(ast.getChildren(child), out);
             }
         }
+    }
 
-        return result.toString();
+    private void transpileExecutableProgram(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
+        List<Ast.Node<String>> units = new ArrayList<>();
+        for (Ast.Node<String> child : childNodes) {
+            if (child.getKind() == NodeKind.ProgramUnit) {
+                units.add(child);
+            }
+        }
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int runs = chunks > 0 ? chunks
+                : units.size() >= PARALLEL_UNITS && parallelism >= PARALLEL_THREADS ? parallelism * 2 : 1;
+
+        if (scoped) {
+            out.append(transpileSharedDeclarations(units));
+        }
+
+        if (runs > 1 && units.size() > 1) {
+            transpileUnitsInParallel(units, Math.min(runs, units.size()), out);
+        } else {
+            for (Ast.Node<String> unit : units) {
+                transpileProgramUnit(unit, out);
+            }
+        }
+
+        if (scoped && units.stream().anyMatch(unit -> ast.getChildren(unit).stream()
+                .anyMatch(child -> child.getKind() == NodeKind.MainProgram))) {
+            out.append("\nmain()\n");
+        }
     }
 
-    private String transpileExecutableProgram(List<Ast.Node<String>> childNodes) throws IOException {
+    /**
+     * Declares the variables in COMMON at the top level, each with its type where it is a scalar with a Julia type, see
+     * juliaType. Any other variable in COMMON is created by its first assignment
+     * @param units ProgramUnit nodes
+     * @return Declarations
+     */
+    private String transpileSharedDeclarations(List<Ast.Node<String>> units) {
         StringBuilder result = new StringBuilder();
-        for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("ProgramUnit")) {
-                result.append(transpileProgramUnit(ast.getChildren(child)));
+        Set<String> declared = new HashSet<>();
+
+        for (Ast.Node<String> unit : units) {
+            for (SymbolTable.Symbol symbol : symbols.scope(unit).symbols()) {
+                if (!symbol.is(SymbolTable.Kind.COMMON) || symbol.is(SymbolTable.Kind.ARRAY)
+                        || symbol.type() == null || !declared.add(symbol.name())) {
+                    continue;
+                }
+
+                String type = juliaType(symbol.type());
+
+                if (type != null) {
+                    result.append("global " + symbol.name() + "::" + type + " = " + initialValue(symbol.type())
+                            + "\n");
+                }
             }
         }
+
         return result.toString();
     }
 
-    private String transpileProgramUnit(List<Ast.Node<String>> childNodes) throws IOException {
+    /**
+     * Declares, at the start of the function of the unit being generated, its variables in COMMON global and its other
+     * variables local, with their types. A variable first assigned within a loop is then still the variable of the unit
+     * after it, and Julia knows the type of every local without having to infer it
+     * @return Declarations, empty if there are none or the code is not function-scoped
+     */
+    private String transpileUnitDeclarations() {
+        if (!scoped) {
+            return "";
+        }
+
+        List<String> shared = new ArrayList<>();
+        List<String> locals = new ArrayList<>();
+        for (SymbolTable.Symbol symbol : scope.symbols()) {
+            if (symbol.is(SymbolTable.Kind.COMMON)) {
+                shared.add(symbol.name());
+            } else if (isGlobalSubprogram(symbol.name())) {
+                // A local would hide the function or subroutine of the same name
+                continue;
+            } else if (symbol.kinds().isEmpty() || symbol.kinds().equals(EnumSet.of(SymbolTable.Kind.ARRAY))) {
+                locals.add(symbol.name() + typeAnnotation(symbol, "Array"));
+            }
+        }
+
         StringBuilder result = new StringBuilder();
-        for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "MainProgram" -> result.append(currentIndent + transpileMainProgram(ast.getChildren(child)));
-                case "FunctionSubprogram" -> {
+        if (!shared.isEmpty()) {
+            result.append(currentIndent + "global " + String.join(", ", shared) + "\n");
+        }
+        if (!locals.isEmpty()) {
+            result.append(currentIndent + "local " + String.join(", ", locals) + "\n");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Checks whether a name is the name of a function or subroutine of the program
+     * @param name Name
+     * @return Whether it is
+     */
+    private boolean isGlobalSubprogram(String name) {
+        return symbols.global().is(name, SymbolTable.Kind.FUNCTION)
+                || symbols.global().is(name, SymbolTable.Kind.SUBROUTINE);
+    }
+
+    /**
+     * Prefix of an assignment to a variable, which is global unless the code is function-scoped
+     * @return Prefix
+     */
+    private String global() {
+        return scoped ? "" : "global ";
+    }
+
+    /**
+     * Julia type of a scalar of a Fortran type
+     * @param type Type as transpileTypeSpec spells it, may be null
+     * @return Concrete Julia type, null for CHARACTER, which may be a vector of strings, and for no type
+     */
+    private String juliaType(String type) {
+        if (type == null) {
+            return null;
+        }
+
+        return switch (type) {
+            case "INTEGER" -> "Int";
+            case "REAL", "DOUBLE", "DOUBLEPRECISION" -> "Float64";
+            case "COMPLEX" -> "ComplexF64";
+            case "LOGICAL" -> "Bool";
+            default -> null;
+        };
+    }
+
+    /**
+     * Value a variable of a Fortran type starts with. In function-scoped code a COMPLEX variable has the type ComplexF64,
+     * so starts with a complex zero rather than the tuple convertToJuliaType gives
+     * @param type Type as transpileTypeSpec spells it
+     * @return Julia value
+     */
+    private String initialValue(String type) {
+        return scoped && type.equals("COMPLEX") ? "0.0im" : convertToJuliaType(type);
+    }
+
+    /**
+     * Annotation of a name of the unit being generated with its type, when generating function-scoped code. Arrays are
+     * annotated with the element type create_array gives them and their rank. A name that is a function, such as a
+     * dummy argument passed a function, has the type of its result rather than of its value, so is not annotated
+     * @param symbol Symbol
+     * @param array Julia array type, Array for a local or AbstractArray for an argument, which may be a section
+     * @return Annotation such as ::Float64, empty if the name has no Julia type
+     */
+    private String typeAnnotation(SymbolTable.Symbol symbol, String array) {
+        String type = juliaType(scope.typeOf(symbol.name()));
+
+        if (!scoped || type == null || (symbol.is(SymbolTable.Kind.ARRAY) && type.equals("Bool"))) {
+            return "";
+        }
+
+        if (symbol.is(SymbolTable.Kind.FUNCTION) || symbol.is(SymbolTable.Kind.EXTERNAL)
+                || isGlobalSubprogram(symbol.name())) {
+            return "";
+        }
+
+        if (symbol.is(SymbolTable.Kind.ARRAY)) {
+            return array.equals("Array") ? "::Array{" + type + ", " + symbol.dimensions().size() + "}"
+                    : "::" + array + "{" + type + "}";
+        }
+
+        return "::" + type;
+    }
+
+    /**
+     * Annotates the dummy arguments of a subprogram with their types, see typeAnnotation
+     * @param params Names of arguments separated by commas
+     * @return Arguments with their annotations
+     */
+    private String annotateArguments(String params) {
+        if (!scoped || params.isBlank()) {
+            return params;
+        }
+
+        List<String> annotated = new ArrayList<>();
+        for (String param : params.split(",")) {
+            SymbolTable.Symbol symbol = scope.lookup(param.strip());
+            annotated.add(symbol == null ? param : param + typeAnnotation(symbol, "AbstractArray"));
+        }
+
+        return String.join(",", annotated);
+    }
+
+    /**
+     * Appends a READ of one variable from a line of input
+     * @param var Variable, or array element, read into
+     * @param line Expression reading the line
+     * @param result Destination of Julia code
+     */
+    private void appendReadInto(String var, String line, StringBuilder result) {
+        if (scoped) {
+            // The line is parsed straight into the variable, which keeps the type it was declared with
+            result.append(currentIndent + var + " = parse_input(" + line + ")\n");
+            return;
+        }
+
+        String amendedVar = var.contains("[") ? var.replaceAll("[^a-zA-Z]", "") : var;
+        result.append(currentIndent + amendedVar + " = " + line + "\n");
+        // Julia does not have implicit casting of input, so need to check
+        result.append(currentIndent + global() + var + " = " + "parse_input(" + amendedVar + ")\n");
+    }
+
+    /**
+     * Units generated from one state by a generator of their own
+     * @param entry State before the first unit
+     * @param code Julia code, null if the units could not be generated
+     * @param exit State after the last unit
+     */
+    private record Run(State entry, String code, State exit) {
+    }
+
+    /**
+     * Generates program units in runs, in parallel on the common fork-join pool. Code generated for a unit depends on
+     * the names, types and DO loops learnt from the units before it, so the state before each run is first learnt by
+     * declaring the units before it one after another, see declareProgramUnit, which visits only the statements that
+     * teach the generator anything. Each run is then generated once from its state. The code of the runs is joined in
+     * source order, each checked to start from the state the run before it ended in. Should a declared state differ,
+     * as when a unit teaches the generator something declaring it does not, or a run fail, the units from that run on
+     * are generated one after another. The code is always that of generating the units one after another
+     * @param units ProgramUnit nodes
+     * @param chunks Number of runs
+     * @param out Destination of Julia code
+     * @throws IOException
+     */
+    private void transpileUnitsInParallel(List<Ast.Node<String>> units, int chunks, Appendable out) throws IOException {
+        int[] bounds = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            bounds[i] = (int) ((long) units.size() * i / chunks);
+        }
+
+        State initial = saveState();
+
+        List<Callable<Run>> runs = new ArrayList<>();
+        try {
+            for (int i = 0; i < chunks; i++) {
+                List<Ast.Node<String>> run = units.subList(bounds[i], bounds[i + 1]);
+                State entry = saveState();
+                runs.add(() -> transpileRun(run, entry));
+
+                for (Ast.Node<String> unit : run) {
+                    declareProgramUnit(unit);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Generating the units one after another fails as declaring them did, if at all
+            runs.clear();
+        } finally {
+            restoreState(initial);
+        }
+
+        List<Run> generated = invokeAll(runs);
+
+        if (!generated.isEmpty()) {
+            logger.info("Generated " + units.size() + " program units in " + chunks + " runs in parallel");
+        }
+
+        State state = initial;
+
+        for (int i = 0; i < chunks; i++) {
+            Run run = i < generated.size() ? generated.get(i) : null;
+
+            if (run == null || run.code() == null || !run.entry().equals(state)) {
+                logger.info("Generating program units " + bounds[i] + " to " + units.size() + " one after another");
+
+                restoreState(state);
+
+                // Throws as generating one after another would if the run failed
+                for (Ast.Node<String> unit : units.subList(bounds[i], units.size())) {
+                    transpileProgramUnit(unit, out);
+                }
+
+                return;
+            }
+
+            out.append(run.code());
+            state = run.exit();
+        }
+
+        restoreState(state);
+    }
+
+    /**
+     * Learns what generating a program unit would, without generating its code. The names of its functions are learnt
+     * from its FUNCTION statement, declarations and READ statements, which are few, are generated and their code thrown
+     * away, and the name each assignment assigns is looked up as generating it would. Labelled DO loops and CONTINUE
+     * statements are counted as they open and close. No other statement teaches the generator anything
+     * @param unit ProgramUnit node
+     * @throws IOException
+     */
+    private void declareProgramUnit(Ast.Node<String> unit) throws IOException {
+        scope = symbols.scope(unit);
+        for (Ast.Node<String> child : ast.getChildren(unit)) {
+            compilingFunction = child.getKind() == NodeKind.FunctionSubprogram;
+            compilingSubroutine = child.getKind() == NodeKind.SubroutineSubprogram;
+        }
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        symbols.pushChildren(unit, stack);
+
+        try {
+            while (!stack.isEmpty()) {
+                Ast.Node<String> node = stack.pop();
+
+                switch (node.getKind()) {
+                    case FunctionName -> listOfFunctions.add(transpileFunctionName(ast.getChildren(node)));
+                    case TypeDeclarationStmt -> transpileTypeDeclarationStmt(ast.getChildren(node));
+                    case DimensionStmt -> transpileDimensionStmt(ast.getChildren(node));
+                    case ReadStmt -> transpileReadStmt(ast.getChildren(node));
+                    case AssignmentStmt -> declareAssignment(node);
+                    case LabelDoStmt -> inDo.add("");
+                    case ContinueStmt -> {
+                        if (inDo.size() > 0) {
+                            inDo.remove(inDo.size() - 1);
+                        }
+                    }
+                    // Nothing below a FORMAT statement or an expression teaches the generator anything
+                    case FormatStmt, Expr -> {
+                    }
+                    default -> symbols.pushChildren(node, stack);
+                }
+            }
+        } finally {
+            compilingFunction = false;
+            compilingSubroutine = false;
+        }
+    }
+
+    /**
+     * Learns what generating an assignment would, see transpileAssignmentStmt. A name followed by parentheses that is
+     * not an array is a statement function, and a name assigned an expression with a string in it is taken for an array
+     * of characters
+     * @param node AssignmentStmt node
+     * @throws IOException
+     */
+    private void declareAssignment(Ast.Node<String> node) throws IOException {
+        String name = "";
+        for (Ast.Node<String> child : ast.getChildren(node)) {
+            switch (child.getKind()) {
+                case Name -> name = transpileName(ast.getChildren(child));
+                case LPAREN -> {
+                    if (!isArray(name)) {
+                        listOfFunctions.add(name);
+                    }
+                }
+                case Expr -> {
+                    if (!symbols.descendants(child, NodeKind.SCON).isEmpty()) {
+                        listOfArrays.add(name);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates a run of program units from a state with a generator of its own
+     * @param units ProgramUnit nodes
+     * @param entry State before the first unit
+     * @return Run, without code if the units could not be generated
+     */
+    private Run transpileRun(List<Ast.Node<String>> units, State entry) {
+        JuliaCodeGenerator generator = new JuliaCodeGenerator(this);
+        generator.restoreState(entry);
+
+        StringBuilder code = new StringBuilder();
+
+        try {
+            for (Ast.Node<String> unit : units) {
+                generator.transpileProgramUnit(unit, code);
+            }
+        } catch (RuntimeException | StackOverflowError | IOException e) {
+            // Pool threads have smaller stacks than the main thread, so a deep unit is left to it
+            return new Run(entry, null, null);
+        }
+
+        return new Run(entry, code.toString(), generator.saveState());
+    }
+
+    private static List<Run> invokeAll(List<Callable<Run>> tasks) {
+        List<Run> runs = new ArrayList<>();
+
+        for (Future<Run> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                runs.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while generating", e);
+            } catch (ExecutionException e) {
+                // Runs that fail are returned without code, so this is an Error such as running out of memory
+                throw new IllegalStateException("Could not generate run", e.getCause());
+            }
+        }
+
+        return runs;
+    }
+
+    private void transpileProgramUnit(Ast.Node<String> unit, Appendable out) throws IOException {
+        scope = symbols.scope(unit);
+        loops = scoped ? LoopAnalysis.analyse(ast, symbols, unit, listOfStdFunctions.keySet()) : null;
+        out.append(transpileFormatConstants(unit));
+
+        for (Ast.Node<String> child : ast.getChildren(unit)) {
+            switch (child.getKind()) {
+                case MainProgram -> {
+                    out.append(currentIndent);
+                    transpileMainProgram(ast.getChildren(child), out);
+                }
+                case FunctionSubprogram -> {
                     compilingFunction = true;
-                    result.append(currentIndent + transpileFunctionSubprogram(ast.getChildren(child)));
+                    out.append(currentIndent + transpileFunctionSubprogram(ast.getChildren(child)));
                     compilingFunction = false;
                 }
-                case "SubroutineSubprogram" -> {
+                case SubroutineSubprogram -> {
                     compilingSubroutine = true;
-                    result.append(currentIndent + transpileSubroutineSubprogram(ast.getChildren(child)));
+                    out.append(currentIndent);
+                    transpileSubroutineSubprogram(ast.getChildren(child), out);
                     compilingSubroutine = false;
                 }
-                case "BlockDataSubprogram" -> result.append(currentIndent + transpileBlockDataSubprogram(ast.getChildren(child)));
+                case BlockDataSubprogram -> {
+                    out.append(currentIndent);
+                    transpileBlockDataSubprogram(ast.getChildren(child), out);
+                }
             }
         }
-        return result.toString();
     }
 
-    private String transpileMainProgram(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileMainProgram(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
+        if (scoped) {
+            out.append("function main()\n");
+            pushTab();
+            out.append(transpileUnitDeclarations());
+        }
+
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ProgramStmt" -> result.append(transpileProgramStmt(ast.getChildren(child)));
-                case "MainRange" -> result.append(transpileMainRange(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ProgramStmt -> out.append(transpileProgramStmt(ast.getChildren(child)));
+                case MainRange -> transpileMainRange(ast.getChildren(child), out);
             }
         }
-        return result.toString();
+
+        if (scoped) {
+            popTab();
+            out.append(currentIndent + "end\n");
+        }
     }
 
-    private String transpileBlockDataSubprogram(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileBlockDataSubprogram(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "BlockDataStmt" -> {
+            switch (child.getKind()) {
+                case BlockDataStmt -> {
                 } // Not needed in Julia
-                case "BlockDataBody" -> result.append(transpileBlockDataBody(ast.getChildren(child)));
-                case "EndBlockDataStmt" -> {
-                    result.append(transpileEOS(ast.getChildren(child)));
+                case BlockDataBody -> transpileBlockDataBody(ast.getChildren(child), out);
+                case EndBlockDataStmt -> {
+                    out.append(transpileEOS(ast.getChildren(child)));
                 }
             }
         }
-        return result.toString();
     }
 
-    private String transpileBlockDataBody(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileBlockDataBody(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "BlockDataBody" -> result.append(transpileBlockDataBody(ast.getChildren(child)));
-                case "BlockDataBodyConstruct" -> result.append(transpileBlockDataBodyConstruct(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case BlockDataBody -> transpileBlockDataBody(ast.getChildren(child), out);
+                case BlockDataBodyConstruct -> transpileBlockDataBodyConstruct(ast.getChildren(child), out);
             }
         }
-        return result.toString();
     }
 
-    private String transpileBlockDataBodyConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileBlockDataBodyConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("SpecificationPartConstruct")) {
-                result.append(transpileSpecificationPartConstruct(ast.getChildren(child)));
+            if (child.getKind() == NodeKind.SpecificationPartConstruct) {
+                out.append(transpileSpecificationPartConstruct(ast.getChildren(child)));
             }
         }
-        return result.toString();
     }
 
-    private String transpileSubroutineSubprogram(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileSubroutineSubprogram(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         String name = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "SUBROUTINE" -> result.append(transpileSUBROUTINE(ast.getChildren(child)));
-                case "SubroutineName" -> {
+            switch (child.getKind()) {
+                case LblDef -> out.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case SUBROUTINE -> out.append(transpileSUBROUTINE(ast.getChildren(child)));
+                case SubroutineName -> {
                     name = transpileSubroutineName(ast.getChildren(child));
                     subroutine2Vars.put(name, new HashSet<>());
                     currSubroutine = name;
-                    result.append(transpileSubroutineName(ast.getChildren(child)));
+                    out.append(transpileSubroutineName(ast.getChildren(child)));
                 }
-                case "SubroutineRange" -> {
+                case SubroutineRange -> {
                     pushTab();
-                    result.append(transpileSubroutineRange(ast.getChildren(child), name));
+                    transpileSubroutineRange(ast.getChildren(child), name, out);
                 }
             }
         }
-        return result.toString();
     }
 
     private String transpileSubroutineName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -267,45 +871,45 @@ public class JuliaCodeGenerator {
     }
 
     // Pass out all input variables as results to mimic pass-by-reference behaviour
-    private String transpileSubroutineRange(List<Ast.Node<String>> childNodes, String name) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileSubroutineRange(List<Ast.Node<String>> childNodes, String name, Appendable out) throws IOException {
         String params = "";
         String body = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SubroutineParList" -> {
+            switch (child.getKind()) {
+                case SubroutineParList -> {
                     params = transpileSubroutineParList(ast.getChildren(child));
-                    result.append("(" + params + ")\n");
+                    out.append("(" + annotateArguments(params) + ")\n");
             }
-                case "EOS", "EndSubroutineStmt" -> {}
-                case "Body" ->  result.append(transpileBody(ast.getChildren(child)));
+                case EOS, EndSubroutineStmt -> {}
+                case Body -> {
+                    out.append(transpileUnitDeclarations());
+                    transpileBody(ast.getChildren(child), out);
+                }
                 }
             }
-        result.append(currentIndent + "return " + params + "\n");
+        out.append(currentIndent + "return " + params + "\n");
         popTab();
-        result.append(currentIndent + "end\n");
-
-        return result.toString();
+        out.append(currentIndent + "end\n");
     }
 
     private String transpileFunctionSubprogram(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         String name = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "FunctionPrefix" -> result.append(transpileFunctionPrefix(ast.getChildren(child)));
-                case "FunctionName" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case FunctionPrefix -> result.append(transpileFunctionPrefix(ast.getChildren(child)));
+                case FunctionName -> {
                     name = transpileFunctionName(ast.getChildren(child));
                     result.append(name);
                     listOfFunctions.add(transpileFunctionName(ast.getChildren(child)));
                 }
-                case "FunctionRange" -> {
+                case FunctionRange -> {
                     pushTab();
-                    result.append(transpileFunctionRange(ast.getChildren(child)));
-                    if (!transpileFunctionRange(ast.getChildren(child)).contains("return")) {
+                    transpileFunctionRange(ast.getChildren(child), result);
+                    if (!functionRangeToString(ast.getChildren(child)).contains("return")) {
                         result.append(currentIndent + "return _" + name + "\n");
-                    } else if (transpileFunctionRange(ast.getChildren(child)).contains("return\n")) {
+                    } else if (functionRangeToString(ast.getChildren(child)).contains("return\n")) {
                         result = new StringBuilder(result.toString().replace("return", "return _" + name));
                     }
                     popTab();
@@ -319,7 +923,7 @@ public class JuliaCodeGenerator {
     private String transpileFunctionPrefix(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("FUNCTION")) {
+            if (child.getKind() == NodeKind.FUNCTION) {
                 result.append(transpileFUNCTION(ast.getChildren(child)));
             }
         }
@@ -329,33 +933,46 @@ public class JuliaCodeGenerator {
     private String transpileFunctionName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
         return result.toString();
     }
 
-    private String transpileFunctionRange(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileFunctionRange(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "FunctionParList" -> result.append(transpileFunctionParList(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
-                case "Body" -> result.append(transpileBody(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case FunctionParList -> {
+                    out.append(transpileFunctionParList(ast.getChildren(child)));
+                    String type = juliaType(scope.typeOf(scope.name()));
+                    if (scoped && type != null) {
+                        out.append("::" + type);
+                    }
+                }
+                case EOS -> out.append(transpileEOS(ast.getChildren(child)));
+                case Body -> {
+                    out.append(transpileUnitDeclarations());
+                    transpileBody(ast.getChildren(child), out);
+                }
             }
         }
-        return result.toString();
     }
 
 
+    private String functionRangeToString(List<Ast.Node<String>> childNodes) throws IOException {
+        StringBuilder result = new StringBuilder();
+        transpileFunctionRange(childNodes, result);
+        return result.toString();
+    }
+
     private String transpileFunctionParList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "FunctionPars" -> result.append(transpileFunctionPars(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case FunctionPars -> result.append(transpileFunctionPars(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -364,10 +981,10 @@ public class JuliaCodeGenerator {
     private String transpileFunctionPars(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "FunctionPar" -> result.append(transpileFunctionPar(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "FunctionPars" -> result.append(transpileFunctionPars(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case FunctionPar -> result.append(transpileFunctionPar(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case FunctionPars -> result.append(transpileFunctionPars(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -376,8 +993,8 @@ public class JuliaCodeGenerator {
     private String transpileFunctionPar(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("DummyArgName")) {
-                result.append(transpileDummyArgName(ast.getChildren(child)));
+            if (child.getKind() == NodeKind.DummyArgName) {
+                result.append(annotateArguments(transpileDummyArgName(ast.getChildren(child))));
             }
         }
         return result.toString();
@@ -386,12 +1003,12 @@ public class JuliaCodeGenerator {
     private String transpileProgramStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "PROGRAM" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case PROGRAM -> {
                 }
-                case "ProgramName" -> programName = transpileProgramName(ast.getChildren(child));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+                case ProgramName -> programName = transpileProgramName(ast.getChildren(child));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -400,7 +1017,7 @@ public class JuliaCodeGenerator {
     private String transpileEOS(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("CommentOrNewline")) {
+            if (child.getKind() == NodeKind.CommentOrNewline) {
                 result.append(transpileCommentOrNewline(ast.getChildren(child)));
             }
         }
@@ -410,7 +1027,7 @@ public class JuliaCodeGenerator {
     private String transpileProgramName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -420,9 +1037,9 @@ public class JuliaCodeGenerator {
     private String transpileCommentOrNewline(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "COMMENT" -> result.append(transpileCOMMENT(ast.getChildren(child)));
-                case "NEWLINE" -> result.append(transpileNEWLINE(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case COMMENT -> result.append(transpileCOMMENT(ast.getChildren(child)));
+                case NEWLINE -> result.append(transpileNEWLINE(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -431,7 +1048,7 @@ public class JuliaCodeGenerator {
     private String transpileIdent(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("ID")) {
+            if (child.getKind() == NodeKind.ID) {
                 result.append(transpileId(ast.getChildren(child)));
             }
         }
@@ -450,7 +1067,7 @@ public class JuliaCodeGenerator {
     private String transpileLblDef(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Label")) {
+            if (child.getKind() == NodeKind.Label) {
                 result.append(transpileLabel(ast.getChildren(child)));
             }
         }
@@ -460,7 +1077,7 @@ public class JuliaCodeGenerator {
     private String transpileLabel(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("ICON")) {
+            if (child.getKind() == NodeKind.ICON) {
                 result.append(transpileICON(ast.getChildren(child), true));
             }
         }
@@ -479,74 +1096,66 @@ public class JuliaCodeGenerator {
         return result.toString();
     }
 
-    private String transpileMainRange(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileMainRange(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Body" -> result.append(transpileBody(ast.getChildren(child)));
-                case "EndProgramStmt" -> {
+            switch (child.getKind()) {
+                case Body -> transpileBody(ast.getChildren(child), out);
+                case EndProgramStmt -> {
                 } // Not needed in Julia
             }
         }
-
-        return result.toString();
     }
 
-    private String transpileBody(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileBody(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "BodyConstruct" -> result.append(transpileBodyConstruct(ast.getChildren(child)));
-                case "Body" -> result.append(transpileBody(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case BodyConstruct -> transpileBodyConstruct(ast.getChildren(child), out);
+                case Body -> transpileBody(ast.getChildren(child), out);
             }
         }
-
-        return result.toString();
     }
 
-    private String transpileBodyConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileBodyConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SpecificationPartConstruct" -> result.append(transpileSpecificationPartConstruct(ast.getChildren(child)));
-                case "ExecutableConstruct" -> result.append(transpileExecutableConstruct(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SpecificationPartConstruct -> out.append(transpileSpecificationPartConstruct(ast.getChildren(child)));
+                case ExecutableConstruct -> transpileExecutableConstruct(ast.getChildren(child), out);
             }
         }
-        return result.toString();
     }
 
-    private String transpileExecutableConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileExecutableConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ActionStmt" -> result.append(transpileActionStmt(ast.getChildren(child), ""));
-                case "DoConstruct" -> result.append(currentIndent + transpileDoConstruct(ast.getChildren(child)));
-                case "IfConstruct" -> result.append(currentIndent + transpileIfConstruct(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ActionStmt -> out.append(transpileActionStmt(ast.getChildren(child), ""));
+                case DoConstruct -> out.append(currentIndent + transpileDoConstruct(ast.getChildren(child)));
+                case IfConstruct -> {
+                    out.append(currentIndent);
+                    transpileIfConstruct(ast.getChildren(child), out);
+                }
             }
         }
-
-        return result.toString();
     }
 
     private String transpileDoConstruct(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("LabelDoStmt")) {
-                result.append(transpileLabelDoStmt(ast.getChildren(child)));
+            if (child.getKind() == NodeKind.LabelDoStmt) {
+                result.append(transpileLabelDoStmt(ast.getChildren(child), loops == null ? "" : loops.macros(child)));
             }
         }
         return result.toString();
     }
 
-    private String transpileLabelDoStmt(List<Ast.Node<String>> childNodes) throws IOException {
+    private String transpileLabelDoStmt(List<Ast.Node<String>> childNodes, String macros) throws IOException {
         StringBuilder result = new StringBuilder();
         inDo.add("");
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "DO" -> pushTab();
-                case "CommaLoopControl" -> result.append(transpileCommaLoopControl(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case DO -> pushTab();
+                case CommaLoopControl -> result.append(macros + transpileCommaLoopControl(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -555,116 +1164,106 @@ public class JuliaCodeGenerator {
     private String transpileCommaLoopControl(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case COMMA -> {
                 }
-                case "LoopControl" -> result.append(transpileLoopControl(ast.getChildren(child)));
+                case LoopControl -> result.append(transpileLoopControl(ast.getChildren(child)));
             }
         }
         return result.toString();
     }
 
 
-    private String transpileIfConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileIfConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "IfThenStmt" -> {
+            switch (child.getKind()) {
+                case IfThenStmt -> {
                     pushTab();
-                    result.append(transpileIfThenStmt(ast.getChildren(child)));
+                    out.append(transpileIfThenStmt(ast.getChildren(child)));
                 }
-                case "ThenPart" -> {
-                    result.append(transpileThenPart(ast.getChildren(child)));
+                case ThenPart -> {
+                    transpileThenPart(ast.getChildren(child), out);
                 }
             }
         }
-        return result.toString();
     }
 
-    private String transpileThenPart(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileThenPart(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EndIfStmt" -> {
-                    result.append(currentIndent + " end\n");
+            switch (child.getKind()) {
+                case EndIfStmt -> {
+                    out.append(currentIndent + " end\n");
                 }
-                case "ConditionalBody" -> {
-                    result.append(transpileConditionalBody(ast.getChildren(child)));
+                case ConditionalBody -> {
+                    transpileConditionalBody(ast.getChildren(child), out);
                     popTab();
                 }
-                case "ElseIfConstruct" -> {
-                    result.append(currentIndent + transpileElseIfConstruct(ast.getChildren(child)));
+                case ElseIfConstruct -> {
+                    out.append(currentIndent);
+                    transpileElseIfConstruct(ast.getChildren(child), out);
                     popTab();
                 }
-                case "ElseConstruct" -> {
-                    result.append(currentIndent + transpileElseConstruct(ast.getChildren(child)));
+                case ElseConstruct -> {
+                    out.append(currentIndent);
+                    transpileElseConstruct(ast.getChildren(child), out);
                     popTab();
                 }
             }
         }
-        return result.toString();
     }
 
-    private String transpileConditionalBody(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileConditionalBody(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("ExecutionPartConstruct")) {
-                result.append(transpileExecutionPartConstruct(ast.getChildren(child)));
+            if (child.getKind() == NodeKind.ExecutionPartConstruct) {
+                transpileExecutionPartConstruct(ast.getChildren(child), out);
             }
         }
-        return result.toString();
     }
 
-    private String transpileElseIfConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileElseIfConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ElseIfStmt" -> {
-                    result.append(transpileElseIfStmt(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ElseIfStmt -> {
+                    out.append(transpileElseIfStmt(ast.getChildren(child)));
                     pushTab();
                 }
-                case "ThenPart" -> result.append(transpileThenPart(ast.getChildren(child)));
+                case ThenPart -> transpileThenPart(ast.getChildren(child), out);
             }
         }
-        return result.toString();
     }
 
-    private String transpileElseConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileElseConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ElseStmt" -> {
-                    result.append(currentIndent + transpileElseStmt(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ElseStmt -> {
+                    out.append(currentIndent + transpileElseStmt(ast.getChildren(child)));
                     pushTab();
                 }
-                case "ElsePart" -> result.append(transpileElsePart(ast.getChildren(child)));
+                case ElsePart -> transpileElsePart(ast.getChildren(child), out);
             }
         }
-        return result.toString();
     }
 
-    private String transpileElsePart(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileElsePart(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EndIfStmt" -> {
+            switch (child.getKind()) {
+                case EndIfStmt -> {
                     popTab();
-                    result.append(currentIndent + "end\n");
+                    out.append(currentIndent + "end\n");
                 }
-                case "ConditionalBody" -> result.append(transpileConditionalBody(ast.getChildren(child)));
+                case ConditionalBody -> transpileConditionalBody(ast.getChildren(child), out);
             }
         }
-        return result.toString();
     }
 
     private String transpileElseIfStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "ELSEIF", "ELSE" -> result.append(transpileELSEIF(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case ELSEIF, ELSE -> result.append(transpileELSEIF(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
 
             }
         }
@@ -674,43 +1273,53 @@ public class JuliaCodeGenerator {
     private String transpileElseStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "ELSE" -> result.append(transpileELSE(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case ELSE -> result.append(transpileELSE(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
 
             }
         }
         return result.toString();
     }
 
-    private String transpileExecutionPartConstruct(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void transpileExecutionPartConstruct(List<Ast.Node<String>> childNodes, Appendable out) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ExecutableConstruct" -> result.append(transpileExecutableConstruct(ast.getChildren(child)));
-                case "FormatStmt" -> result.append(currentIndent + transpileFormatStmt(ast.getChildren(child)));
-                case "DataStmt" -> result.append(currentIndent + transpileDataStmt(ast.getChildren(child)));
-                case "EntryStmt" -> result.append(currentIndent + transpileEntryStmt(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ExecutableConstruct -> transpileExecutableConstruct(ast.getChildren(child), out);
+                // Compiled before the unit, see transpileFormatConstants, the indent is kept for what follows
+                case FormatStmt -> out.append(currentIndent);
+                case DataStmt -> out.append(currentIndent + transpileDataStmt(ast.getChildren(child)));
+                case EntryStmt -> out.append(currentIndent + transpileEntryStmt(ast.getChildren(child)));
             }
         }
-        return result.toString();
     }
 
     private String transpileDataStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         List<List<List<String>>> listOfLists = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "Datalist" -> listOfLists = transpileDatalist(ast.getChildren(child));
-                case "DATA", "EOS" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case Datalist -> listOfLists = transpileDatalist(ast.getChildren(child));
+                case DATA, EOS -> {
                 }
             }
         }
         for (List<List<String>> pairs : listOfLists) {
+            if (pairs.get(0).stream().anyMatch(object -> object.endsWith("\n"))) {
+                // Implied-DO lists fill their elements in place from a tuple of the values, in order
+                result.append(currentIndent + "let data = (" + String.join(", ", pairs.get(1)) + ",), k = 0\n");
+                pushTab();
+                for (String object : pairs.get(0)) {
+                    result.append(object.endsWith("\n") ? object : currentIndent + global() + object + " = data[k += 1]\n");
+                }
+                popTab();
+                result.append(currentIndent + "end\n");
+                continue;
+            }
             for (int i = 0; i < pairs.get(0).size(); i++) {
-                    result.append(currentIndent + "global " + pairs.get(0).get(i) + " = " + pairs.get(1).get(i) + "\n");
+                    result.append(currentIndent + global() + pairs.get(0).get(i) + " = " + pairs.get(1).get(i) + "\n");
             }
         }
         return result.toString();
@@ -719,11 +1328,11 @@ public class JuliaCodeGenerator {
     private List<List<List<String>>> transpileDatalist(List<Ast.Node<String>> childNodes) throws IOException {
         List<List<List<String>>> listOfLists = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "DataStmtSet" -> listOfLists.add(transpileDataStmtSet(ast.getChildren(child)));
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case DataStmtSet -> listOfLists.add(transpileDataStmtSet(ast.getChildren(child)));
+                case COMMA -> {
                 }
-                case "Datalist" -> listOfLists.addAll(transpileDatalist(ast.getChildren(child)));
+                case Datalist -> listOfLists.addAll(transpileDatalist(ast.getChildren(child)));
             }
         }
         return listOfLists;
@@ -734,11 +1343,16 @@ public class JuliaCodeGenerator {
         List<String> values = new ArrayList<>();
         List<List<String>> varsAndValues = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "DataStmtObjectList" -> vars = transpileDataStmtObjectList(ast.getChildren(child));
-                case "SLASH" -> {
+            switch (child.getKind()) {
+                case DataStmtObjectList -> {
+                    // Implied-DO lists are written inside the let block of transpileDataStmt
+                    pushTab();
+                    vars = transpileDataStmtObjectList(ast.getChildren(child));
+                    popTab();
+                }
+                case SLASH -> {
                 }
-                case "DataStmtValueList" -> values = transpileDataStmtValueList(ast.getChildren(child));
+                case DataStmtValueList -> values = transpileDataStmtValueList(ast.getChildren(child));
             }
         }
 
@@ -751,11 +1365,11 @@ public class JuliaCodeGenerator {
     private List<String> transpileDataStmtObjectList(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> vars = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "DataStmtObject" -> vars.add(transpileDataStmtObject(ast.getChildren(child)));
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case DataStmtObject -> vars.add(transpileDataStmtObject(ast.getChildren(child)));
+                case COMMA -> {
                 }
-                case "DataStmtObjectList" -> vars.addAll(transpileDataStmtObjectList(ast.getChildren(child)));
+                case DataStmtObjectList -> vars.addAll(transpileDataStmtObjectList(ast.getChildren(child)));
             }
         }
         return vars;
@@ -764,39 +1378,67 @@ public class JuliaCodeGenerator {
     private List<String> transpileDataStmtValueList(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> vars = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "DataStmtValue" -> vars.add(transpileDataStmtValue(ast.getChildren(child)));
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case DataStmtValue -> vars.addAll(transpileDataStmtValue(ast.getChildren(child)));
+                case COMMA -> {
                 }
-                case "DataStmtValueList" -> vars.addAll(transpileDataStmtValueList(ast.getChildren(child)));
+                case DataStmtValueList -> vars.addAll(transpileDataStmtValueList(ast.getChildren(child)));
             }
         }
         return vars;
     }
 
-    private String transpileDataStmtValue(List<Ast.Node<String>> childNodes) throws IOException {
+    private List<String> transpileDataStmtValue(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
+        int repeat = 0;
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Constant" -> result.append(transpileConstant(ast.getChildren(child)));
-                case "STAR" -> result.append(transpileSTAR(ast.getChildren(child)));
-                case "NamedConstantUse" -> result.append(transpileNamedConstantUse(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ICON -> repeat = Integer.parseInt(transpileICON(ast.getChildren(child), false).trim());
+                case Constant -> result.append(transpileConstant(ast.getChildren(child)));
+                case STAR -> {
+                    if (result.length() > 0) {
+                        // A named constant before the star is the repeat count
+                        repeat = repeatCount(result.toString());
+                        result.setLength(0);
+                    } else if (repeat == 0) {
+                        result.append(transpileSTAR(ast.getChildren(child)));
+                    }
+                }
+                case NamedConstantUse -> result.append(transpileNamedConstantUse(ast.getChildren(child)));
             }
         }
-        return result.toString();
+        // A repeat count r*c stands for r copies of c
+        return Collections.nCopies(Math.max(repeat, 1), result.toString());
+    }
+
+    /**
+     * Value of a named constant used as the repeat count of a DATA value, which must be known to expand the value
+     * @param name Name of a PARAMETER of the unit being generated
+     * @return Repeat count
+     * @throws IllegalArgumentException If the name is not a PARAMETER with an integer literal for its value
+     */
+    private int repeatCount(String name) {
+        SymbolTable.Symbol symbol = scope.lookup(name);
+
+        if (symbol == null || symbol.value() == null || !symbol.value().matches("\\d+")) {
+            throw new IllegalArgumentException("Repeat count " + name + " of a DATA value is not a PARAMETER with an "
+                    + "integer value");
+        }
+
+        return Integer.parseInt(symbol.value());
     }
 
     private String transpileConstant(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PlusMinus" -> result.append(transpilePlusMinus(ast.getChildren(child)));
-                case "UnsignedArithmeticConstant" -> result.append(transpileUnsignedArithmeticConstant(ast.getChildren(child)));
-                case "SCON" -> result.append(transpileSCON(ast.getChildren(child)));
-                case "LogicalConstant" -> result.append(transpileLogicalConstant(ast.getChildren(child)));
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "UNDERSCORE" -> result.append(transpileUNDERSCORE(ast.getChildren(child)));
-                case "NamedConstantUse" -> result.append(transpileNamedConstantUse(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PlusMinus -> result.append(transpilePlusMinus(ast.getChildren(child)));
+                case UnsignedArithmeticConstant -> result.append(transpileUnsignedArithmeticConstant(ast.getChildren(child)));
+                case SCON -> result.append(transpileSCON(ast.getChildren(child)));
+                case LogicalConstant -> result.append(transpileLogicalConstant(ast.getChildren(child)));
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case UNDERSCORE -> result.append(transpileUNDERSCORE(ast.getChildren(child)));
+                case NamedConstantUse -> result.append(transpileNamedConstantUse(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -805,9 +1447,9 @@ public class JuliaCodeGenerator {
     private String transpilePlusMinus(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PLUS" -> result.append(transpilePLUS(ast.getChildren(child)));
-                case "MINUS" -> result.append(transpileMINUS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PLUS -> result.append(transpilePLUS(ast.getChildren(child)));
+                case MINUS -> result.append(transpileMINUS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -816,9 +1458,9 @@ public class JuliaCodeGenerator {
     private String transpileDataStmtObject(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Variable" -> result.append(transpileVariable(ast.getChildren(child)));
-                case "DataImpliedDo" -> result.append(transpileDataImpliedDo(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Variable -> result.append(transpileVariable(ast.getChildren(child)));
+                case DataImpliedDo -> result.append(transpileDataImpliedDo(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -829,41 +1471,57 @@ public class JuliaCodeGenerator {
         List<String> elements = new ArrayList<>();
         String doVar = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Expr" -> {
+            switch (child.getKind()) {
+                case Expr -> {
                     listExpr.add(transpileExpr(ast.getChildren(child)));
                 }
-                case "COMMA", "EQUAL" -> {
+                case COMMA, EQUAL -> {
                 }
-                case "ImpliedDoVariable" -> {
+                case ImpliedDoVariable -> {
                     doVar = transpileImpliedDoVariable(ast.getChildren(child));
                 }
-                case "DataIDoObjectList" -> {
+                case DataIDoObjectList -> {
+                    pushTab();
                     elements = transpileDataIDoObjectList(ast.getChildren(child));
+                    popTab();
                 }
             }
         }
 
-
-        if (listExpr.size() == 2) {
-            result.append(currentIndent + "reduce(vcat, [[" + String.join(",", elements) + "] for " + doVar + " in " + listExpr.get(0) + ":" + listExpr.get(1) + "])\n");
-        } else if (listExpr.size() == 3) {
-            result.append(currentIndent + "reduce(vcat, [[" + String.join(",", elements) + "] for " + doVar + " in " + listExpr.get(0) + ":" + listExpr.get(2) + ":" + listExpr.get(1) + "])\n");
+        // Each element takes the next value, nested implied-DO lists are loops of their own
+        result.append(currentIndent + "for " + doVar + " in " + impliedDoRange(listExpr) + "\n");
+        pushTab();
+        for (String element : elements) {
+            result.append(element.endsWith("\n") ? element : currentIndent + element + " = data[k += 1]\n");
         }
+        popTab();
+        result.append(currentIndent + "end\n");
 
         return result.toString();
     }
 
+    /**
+     * Julia range of the bounds of an implied-DO, which Fortran gives as first, last and an optional step
+     * @param bounds Transpiled bounds
+     * @return Range
+     */
+    private String impliedDoRange(List<String> bounds) {
+        if (bounds.size() == 3) {
+            return bounds.get(0) + ":" + bounds.get(2) + ":" + bounds.get(1);
+        }
+        return bounds.get(0) + ":" + bounds.get(1);
+    }
+
     private String transpileIfThenStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "IF" -> result.append(transpileIF(ast.getChildren(child)));
-                case "LPAREN", "RPAREN", "THEN" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case IF -> result.append(transpileIF(ast.getChildren(child)));
+                case LPAREN, RPAREN, THEN -> {
                 }
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -872,9 +1530,9 @@ public class JuliaCodeGenerator {
     private List<String> transpileDataIDoObjectList(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> elements = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "DataIDoObject" -> elements.add(transpileDataIDoObject(ast.getChildren(child)));
-                case "DataIDoObjectList" -> elements.addAll(transpileDataIDoObjectList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case DataIDoObject -> elements.add(transpileDataIDoObject(ast.getChildren(child)));
+                case DataIDoObjectList -> elements.addAll(transpileDataIDoObjectList(ast.getChildren(child)));
             }
         }
         return elements;
@@ -883,9 +1541,9 @@ public class JuliaCodeGenerator {
     private String transpileDataIDoObject(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder("");
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ArrayElement" -> result.append(transpileArrayElement(ast.getChildren(child)));
-                case "DataImpliedDo" -> result.append(transpileDataImpliedDo(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ArrayElement -> result.append(transpileArrayElement(ast.getChildren(child)));
+                case DataImpliedDo -> result.append(transpileDataImpliedDo(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -894,11 +1552,11 @@ public class JuliaCodeGenerator {
     private String transpileArrayElement(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder("");
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "VariableName" -> result.append(transpileVariableName(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "SectionSubscriptList" -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case VariableName -> result.append(transpileVariableName(ast.getChildren(child)));
+                case LPAREN -> result.append("[");
+                case SectionSubscriptList -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
+                case RPAREN -> result.append("]");
             }
         }
         return result.toString();
@@ -907,12 +1565,13 @@ public class JuliaCodeGenerator {
     private String transpileSpecificationPartConstruct(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ImplicitStmt" -> result.append(currentIndent + transpileImplicitStmt(ast.getChildren(child)));
-                case "ParameterStmt" -> result.append(currentIndent + transpileParameterStmt(ast.getChildren(child)));
-                case "FormatStmt" -> result.append(currentIndent + transpileFormatStmt(ast.getChildren(child)));
-                case "EntryStmt" -> result.append(currentIndent + transpileEntryStmt(ast.getChildren(child)));
-                case "DeclarationConstruct" -> result.append(currentIndent + transpileDeclarationConstruct(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ImplicitStmt -> result.append(currentIndent + transpileImplicitStmt(ast.getChildren(child)));
+                case ParameterStmt -> result.append(currentIndent + transpileParameterStmt(ast.getChildren(child)));
+                // Compiled before the unit, see transpileFormatConstants, the indent is kept for what follows
+                case FormatStmt -> result.append(currentIndent);
+                case EntryStmt -> result.append(currentIndent + transpileEntryStmt(ast.getChildren(child)));
+                case DeclarationConstruct -> result.append(currentIndent + transpileDeclarationConstruct(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -922,7 +1581,7 @@ public class JuliaCodeGenerator {
     private String transpileImplicitStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(transpileEOS(ast.getChildren(child)));
             }
         }
@@ -931,18 +1590,16 @@ public class JuliaCodeGenerator {
 
     private void transpileImplicitRanges(List<Ast.Node<String>> childNodes) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ImplicitRange" -> transpileImplicitRange(ast.getChildren(child));
-                case "," -> juliaCode.append(child.getData() + " ");
+            switch (child.getKind()) {
+                case ImplicitRange -> transpileImplicitRange(ast.getChildren(child));
             }
         }
     }
 
     private void transpileImplicitRange(List<Ast.Node<String>> childNodes) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Ident" -> transpileIdent(ast.getChildren(child));
-                case "-" -> juliaCode.append(child.getData() + " ");
+            switch (child.getKind()) {
+                case Ident -> transpileIdent(ast.getChildren(child));
             }
         }
     }
@@ -950,12 +1607,12 @@ public class JuliaCodeGenerator {
     private String transpileParameterStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "PARAMETER", "(", ")" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case PARAMETER -> {
                 }
-                case "NamedConstantDefList" -> result.append(transpileNamedConstantDefList(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+                case NamedConstantDefList -> result.append(transpileNamedConstantDefList(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -964,11 +1621,11 @@ public class JuliaCodeGenerator {
     private String transpileNamedConstantDefList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "NamedConstantDef" -> result.append(transpileNamedConstantDef(ast.getChildren(child)) + "\n");
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case NamedConstantDef -> result.append(transpileNamedConstantDef(ast.getChildren(child)) + "\n");
+                case COMMA -> {
                 }
-                case "NamedConstantDefList" -> result.append(transpileNamedConstantDefList(ast.getChildren(child)));
+                case NamedConstantDefList -> result.append(transpileNamedConstantDefList(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -977,16 +1634,16 @@ public class JuliaCodeGenerator {
     private String transpileNamedConstantDef(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "NamedConstant" -> {
+            switch (child.getKind()) {
+                case NamedConstant -> {
                     if (listOfFunctions.contains(transpileNamedConstant(ast.getChildren(child)))) {
                         result.append("_");
                     } else {
-                        result.append("global ");
+                        result.append(global());
                     }
                     result.append(transpileNamedConstant(ast.getChildren(child)) + " = ");
                 }
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -995,7 +1652,7 @@ public class JuliaCodeGenerator {
     private String transpileNamedConstant(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -1006,7 +1663,7 @@ public class JuliaCodeGenerator {
     private String transpileNamedConstantUse(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -1015,24 +1672,59 @@ public class JuliaCodeGenerator {
 
     private void transpileGenericName(List<Ast.Node<String>> childNodes) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 transpileIdent(ast.getChildren(child));
             }
         }
     }
 
-    private String transpileFormatStmt(List<Ast.Node<String>> childNodes) throws IOException {
+    /**
+     * Compiles the FORMAT statements of a unit into Printf.Format constants, so their formats are parsed once when the
+     * file is loaded rather than each time they are used. The constants are defined ahead of the unit, as a constant
+     * cannot be defined inside a function, and named after the unit so labels of different units do not clash. Only
+     * the formats of PRINT and WRITE statements are compiled, those only READ uses are never formatted with
+     * @param unit ProgramUnit node
+     * @return Definitions of the constants
+     * @throws IOException
+     */
+    private String transpileFormatConstants(Ast.Node<String> unit) throws IOException {
+        StringBuilder result = new StringBuilder();
+        labelsToStatements.clear();
+
+        HashSet<String> written = new HashSet<>();
+        for (NodeKind kind : new NodeKind[]{NodeKind.PrintStmt, NodeKind.WriteStmt}) {
+            for (Ast.Node<String> statement : symbols.descendants(unit, kind)) {
+                for (Ast.Node<String> format : symbols.descendants(statement, NodeKind.FormatIdentifier)) {
+                    List<Ast.Node<String>> children = ast.getChildren(format);
+                    if (children.get(0).getKind() == NodeKind.LblRef) {
+                        written.add(transpileFormatIdentifier(children));
+                    }
+                }
+            }
+        }
+
+        for (Ast.Node<String> format : symbols.descendants(unit, NodeKind.FormatStmt)) {
+            result.append(transpileFormatStmt(ast.getChildren(format), written));
+        }
+        return result.toString();
+    }
+
+    private String transpileFormatStmt(List<Ast.Node<String>> childNodes, Set<String> written) throws IOException {
         String result = "";
         String label = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> {
+            switch (child.getKind()) {
+                case LblDef -> {
                     label = transpileLblDef(ast.getChildren(child));
                 }
-                case "FmtSpec" -> {
-                    labelsToStatements.put(label, "\"" + transpileFmtSpec(ast.getChildren(child)) + "\\n\"");
+                case FmtSpec -> {
+                    if (written.contains(label)) {
+                        String name = "FMT" + (scope.name().isEmpty() ? "" : "_" + scope.name()) + label;
+                        labelsToStatements.put(label, name);
+                        result = "const " + name + " = Printf.Format(\"" + transpileFmtSpec(ast.getChildren(child)) + "\\n\")\n";
+                    }
                 }
-                case "EOS" -> {
+                case EOS -> {
                 }
             }
         }
@@ -1042,15 +1734,15 @@ public class JuliaCodeGenerator {
     private String transpileFmtSpec(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "FormatEdit" -> {
+            switch (child.getKind()) {
+                case FormatEdit -> {
                     if (transpileFormatEdit(ast.getChildren(child)).equals("A")) {
                         result.append("%s");
                     } else {
                         result.append(transpileFormatEdit(ast.getChildren(child)));
                     }
                 }
-                case "FmtSpec" -> result.append(transpileFmtSpec(ast.getChildren(child)));
+                case FmtSpec -> result.append(transpileFmtSpec(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1060,15 +1752,15 @@ public class JuliaCodeGenerator {
     private String transpileFormatEdit(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EditElement" -> result.append(transpileEditElement(ast.getChildren(child)));
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "FCON" -> result.append(transpileFCON(ast.getChildren(child)));
-                case "RDCON" -> result.append(transpileRDCON(ast.getChildren(child)));
-                case "BCON" -> result.append(transpileBCON(ast.getChildren(child)));
-                case "OCON" -> result.append(transpileOCON(ast.getChildren(child)));
-                case "ZCON" -> result.append(transpileZCON(ast.getChildren(child)));
-                case "XCON" -> result.append(transpileXCON(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case EditElement -> result.append(transpileEditElement(ast.getChildren(child)));
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case FCON -> result.append(transpileFCON(ast.getChildren(child)));
+                case RDCON -> result.append(transpileRDCON(ast.getChildren(child)));
+                case BCON -> result.append(transpileBCON(ast.getChildren(child)));
+                case OCON -> result.append(transpileOCON(ast.getChildren(child)));
+                case ZCON -> result.append(transpileZCON(ast.getChildren(child)));
+                case XCON -> result.append(transpileXCON(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1077,15 +1769,15 @@ public class JuliaCodeGenerator {
     private String transpileEditElement(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "FCON" -> result.append(transpileFCON(ast.getChildren(child)));
-                case "SCON" -> {
+            switch (child.getKind()) {
+                case FCON -> result.append(transpileFCON(ast.getChildren(child)));
+                case SCON -> {
                     String str = transpileSCON(ast.getChildren(child));
                     str = str.replace("\"", "");
                     result.append(str);
                 }
-                case "Ident" -> result.append(transpileIdent(ast.getChildren(child)));
-                case "FmtSpec" -> result.append(transpileFmtSpec(ast.getChildren(child)));
+                case Ident -> result.append(transpileIdent(ast.getChildren(child)));
+                case FmtSpec -> result.append(transpileFmtSpec(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1130,11 +1822,11 @@ public class JuliaCodeGenerator {
     private String transpileEntryStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "EntryName" -> result.append(transpileEntryName(ast.getChildren(child)));
-                case "SubroutineParList" -> result.append(transpileSubroutineParList(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case EntryName -> result.append(transpileEntryName(ast.getChildren(child)));
+                case SubroutineParList -> result.append(transpileSubroutineParList(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1143,7 +1835,7 @@ public class JuliaCodeGenerator {
     private String transpileEntryName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -1153,7 +1845,7 @@ public class JuliaCodeGenerator {
     private String transpileSubroutineParList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("SubroutinePars")) {
+            if (child.getKind() == NodeKind.SubroutinePars) {
                 result.append(transpileSubroutinePars(ast.getChildren(child)));
             }
         }
@@ -1163,12 +1855,12 @@ public class JuliaCodeGenerator {
     private String transpileSubroutinePars(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SubroutinePar" -> {
+            switch (child.getKind()) {
+                case SubroutinePar -> {
                     result.append(transpileSubroutinePar(ast.getChildren(child)));
                 }
-                case "SubroutinePars" -> result.append(transpileSubroutinePars(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SubroutinePars -> result.append(transpileSubroutinePars(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1177,9 +1869,9 @@ public class JuliaCodeGenerator {
     private String transpileSubroutinePar(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "DummyArgName" -> result.append(transpileDummyArgName(ast.getChildren(child)));
-                case "STAR" -> result.append(transpileSTAR(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case DummyArgName -> result.append(transpileDummyArgName(ast.getChildren(child)));
+                case STAR -> result.append(transpileSTAR(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1188,9 +1880,9 @@ public class JuliaCodeGenerator {
     private String transpileDeclarationConstruct(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "TypeDeclarationStmt" -> result.append(transpileTypeDeclarationStmt(ast.getChildren(child)));
-                case "SpecificationStmt" -> result.append(transpileSpecificationStmt(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case TypeDeclarationStmt -> result.append(transpileTypeDeclarationStmt(ast.getChildren(child)));
+                case SpecificationStmt -> result.append(transpileSpecificationStmt(ast.getChildren(child)));
             }
         }
 
@@ -1202,9 +1894,9 @@ public class JuliaCodeGenerator {
         List<String> types = new ArrayList<>();
         List<String> vars = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "TypeSpec" -> types = transpileTypeSpec(ast.getChildren(child));
-                case "EntityDeclList" -> {
+            switch (child.getKind()) {
+                case TypeSpec -> types = transpileTypeSpec(ast.getChildren(child));
+                case EntityDeclList -> {
                     vars = transpileEntityDeclList(ast.getChildren(child));
                     if (types.size() > 1 && vars.get(0).contains("array")) {
                         List<String> newVars = List.of(vars.get(0).split(" "));
@@ -1223,12 +1915,19 @@ public class JuliaCodeGenerator {
         }
         if (types.size() > 1) {
             for (String var : vars) {
-                result.append("global " + var + " = Vector{String}(undef," + types.get(1) + ")\n");
+                if (scoped && isGlobalSubprogram(var)) {
+                    // The type of a function, not a variable
+                    continue;
+                }
+                result.append(global() + var + " = Vector{String}(undef," + types.get(1) + ")\n");
             }
         } else if ((!compilingFunction && !compilingSubroutine)){
             for (String var : vars) {
-                if (!var.contains("array") && !listOfArrays.contains(var) && !listOfFunctions.contains(var)) { // Do not overwrite array
-                    result.append("global " + var + " = " + convertToJuliaType(types.get(0)) + "\n");
+                // Only arrays declared so far, a later DIMENSION statement replaces the variable with its array. Locals
+                // of function-scoped code have the type of the array from the start, so are never given a scalar
+                boolean array = scoped ? isArray(var) : listOfArrays.contains(var);
+                if (!var.contains("array") && !array && !listOfFunctions.contains(var)) { // Do not overwrite array
+                    result.append(global() + var + " = " + initialValue(types.get(0)) + "\n");
                 }
                 }
             }
@@ -1238,9 +1937,9 @@ public class JuliaCodeGenerator {
     private List<String> transpileEntityDeclList(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> vars = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EntityDecl" -> vars.add(transpileEntityDecl(ast.getChildren(child)));
-                case "EntityDeclList" -> vars.addAll(transpileEntityDeclList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case EntityDecl -> vars.add(transpileEntityDecl(ast.getChildren(child)));
+                case EntityDeclList -> vars.addAll(transpileEntityDeclList(ast.getChildren(child)));
             }
         }
 
@@ -1252,16 +1951,17 @@ public class JuliaCodeGenerator {
         String name = "";
         String dims = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ObjectName" -> name = transpileObjectName(ast.getChildren(child));
-                case "ArraySpec" -> dims = transpileArraySpec(ast.getChildren(child));
+            switch (child.getKind()) {
+                case ObjectName -> name = transpileObjectName(ast.getChildren(child));
+                case ArraySpec -> dims = transpileArraySpec(ast.getChildren(child));
 
             }
         }
 
         if (dims.length() > 0) {
             listOfArrays.add(name);
-            result.append(currentIndent + "global " + name + " = create_array(\"REAL\"," + dims + ")\n");
+            String type = scoped ? scope.typeOf(name) : "REAL";
+            result.append(currentIndent + global() + name + " = create_array(\"" + type + "\"," + dims + ")\n");
         } else {
             result.append(name);
         }
@@ -1272,7 +1972,7 @@ public class JuliaCodeGenerator {
     private String transpileObjectName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -1283,15 +1983,15 @@ public class JuliaCodeGenerator {
     private List<String> transpileTypeSpec(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> types = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LengthSelector" -> types.add(transpileLengthSelector(ast.getChildren(child)));
-                case "CHARACTER" -> types.add("CHARACTER");
-                case "DOUBLE" -> types.add("DOUBLE");
-                case "DOUBLEPRECISION" -> types.add("DOUBLEPRECISION");
-                case "INTEGER" -> types.add("INTEGER");
-                case "REAL" -> types.add("REAL");
-                case "LOGICAL" -> types.add("LOGICAL");
-                case "COMPLEX" -> types.add("COMPLEX");
+            switch (child.getKind()) {
+                case LengthSelector -> types.add(transpileLengthSelector(ast.getChildren(child)));
+                case CHARACTER -> types.add("CHARACTER");
+                case DOUBLE -> types.add("DOUBLE");
+                case DOUBLEPRECISION -> types.add("DOUBLEPRECISION");
+                case INTEGER -> types.add("INTEGER");
+                case REAL -> types.add("REAL");
+                case LOGICAL -> types.add("LOGICAL");
+                case COMPLEX -> types.add("COMPLEX");
             }
         }
 
@@ -1301,9 +2001,9 @@ public class JuliaCodeGenerator {
     private String transpileLengthSelector(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "CharLength" -> result.append(transpileCharLength(ast.getChildren(child)));
-                case "TypeParamValue" -> result.append(transpileTypeParamValue(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case CharLength -> result.append(transpileCharLength(ast.getChildren(child)));
+                case TypeParamValue -> result.append(transpileTypeParamValue(ast.getChildren(child)));
             }
         }
 
@@ -1313,9 +2013,9 @@ public class JuliaCodeGenerator {
     private String transpileCharLength(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Constant" -> result.append(transpileConstant(ast.getChildren(child)));
-                case "TypeParamValue" -> result.append(transpileTypeParamValue(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Constant -> result.append(transpileConstant(ast.getChildren(child)));
+                case TypeParamValue -> result.append(transpileTypeParamValue(ast.getChildren(child)));
             }
         }
 
@@ -1325,7 +2025,7 @@ public class JuliaCodeGenerator {
     private String transpileTypeParamValue(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Expr")) {
+            if (child.getKind() == NodeKind.Expr) {
                 result.append(transpileExpr(ast.getChildren(child)));
             }
         }
@@ -1336,18 +2036,18 @@ public class JuliaCodeGenerator {
     private String transpileSpecificationStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "CommonStmt" -> {
+            switch (child.getKind()) {
+                case CommonStmt -> {
                 } // For-2-Jul uses global variables for now
-                case "DataStmt" -> result.append(transpileDataStmt(ast.getChildren(child)));
-                case "DimensionStmt" -> result.append(transpileDimensionStmt(ast.getChildren(child)));
-                case "EquivalenceStmt" -> {
+                case DataStmt -> result.append(transpileDataStmt(ast.getChildren(child)));
+                case DimensionStmt -> result.append(transpileDimensionStmt(ast.getChildren(child)));
+                case EquivalenceStmt -> {
                 } // Not supported
-                case "ExternalStmt" -> {
+                case ExternalStmt -> {
                 } // Julia resolves function calls
-                case "IntrinsicStmt" -> {
+                case IntrinsicStmt -> {
                 } // No need to declare intrinsic functions
-                case "SaveStmt" -> {
+                case SaveStmt -> {
                 } // No direct equivalent in Julia
             }
         }
@@ -1359,10 +2059,10 @@ public class JuliaCodeGenerator {
     private String transpileCommonStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "Comlist" -> result.append(transpileComlist(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case Comlist -> result.append(transpileComlist(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
 
@@ -1372,10 +2072,10 @@ public class JuliaCodeGenerator {
     private String transpileComlist(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Comblock" -> result.append(transpileComblock(ast.getChildren(child)));
-                case "CommonBlockObject" -> result.append(transpileCommonBlockObject(ast.getChildren(child)));
-                case "Comlist" -> result.append(transpileComlist(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Comblock -> result.append(transpileComblock(ast.getChildren(child)));
+                case CommonBlockObject -> result.append(transpileCommonBlockObject(ast.getChildren(child)));
+                case Comlist -> result.append(transpileComlist(ast.getChildren(child)));
             }
         }
 
@@ -1385,7 +2085,7 @@ public class JuliaCodeGenerator {
     private String transpileComblock(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("CommonBlockName")) {
+            if (child.getKind() == NodeKind.CommonBlockName) {
                 result.append("global " + transpileCommonBlockName(ast.getChildren(child)));
             }
         }
@@ -1396,7 +2096,7 @@ public class JuliaCodeGenerator {
     private String transpileCommonBlockName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -1407,9 +2107,9 @@ public class JuliaCodeGenerator {
     private String transpileCommonBlockObject(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ArrayDeclarator" -> result.append(transpileArrayDeclarator(ast.getChildren(child)));
-                case "VariableName" -> result.append("global " + transpileVariableName(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ArrayDeclarator -> result.append(transpileArrayDeclarator(ast.getChildren(child)));
+                case VariableName -> result.append("global " + transpileVariableName(ast.getChildren(child)));
             }
         }
 
@@ -1419,10 +2119,10 @@ public class JuliaCodeGenerator {
     private String transpileDimensionStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "ArrayDeclaratorList" -> result.append(transpileArrayDeclaratorList(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case ArrayDeclaratorList -> result.append(transpileArrayDeclaratorList(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
 
@@ -1432,10 +2132,10 @@ public class JuliaCodeGenerator {
     private String transpileArrayDeclaratorList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ArrayDeclarator" -> result.append(transpileArrayDeclarator(ast.getChildren(child)));
-                case "ArrayDeclaratorList" -> result.append(transpileArrayDeclaratorList(ast.getChildren(child)));
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case ArrayDeclarator -> result.append(transpileArrayDeclarator(ast.getChildren(child)));
+                case ArrayDeclaratorList -> result.append(transpileArrayDeclaratorList(ast.getChildren(child)));
+                case COMMA -> {
                 } //result.append(transpileCOMMA(ast.getChildren(child)));
             }
         }
@@ -1448,21 +2148,22 @@ public class JuliaCodeGenerator {
         String dims = "";
         String name = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "VariableName" -> {
+            switch (child.getKind()) {
+                case VariableName -> {
                     name = transpileVariableName(ast.getChildren(child));
                     listOfArrays.add(name);
                     if (compilingSubroutine) {
                         break;
                     }
-                    result.append("global " + name + " = ");
+                    result.append(global() + name + " = ");
                 }
-                case "ArraySpec" -> {
+                case ArraySpec -> {
                     if (compilingSubroutine) {
                         break;
                     }
                     dims = transpileArraySpec(ast.getChildren(child));
-                    result.append("create_array(\"" + varToTypes.get(name) + "\"," + dims + ")\n");
+                    String type = scoped ? scope.typeOf(name) : varToTypes.get(name);
+                    result.append("create_array(\"" + type + "\"," + dims + ")\n");
                     listOfArrays.add(varToTypes.get(name));
                 }
             }
@@ -1475,9 +2176,9 @@ public class JuliaCodeGenerator {
         StringBuilder result = new StringBuilder();
         List<String> dimensions = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ExplicitShapeSpecList" -> dimensions = transpileExplicitShapeSpecList(ast.getChildren(child));
-                case "AssumedSizeSpec" -> dimensions = transpileAssumedSizeSpec(ast.getChildren(child));
+            switch (child.getKind()) {
+                case ExplicitShapeSpecList -> dimensions = transpileExplicitShapeSpecList(ast.getChildren(child));
+                case AssumedSizeSpec -> dimensions = transpileAssumedSizeSpec(ast.getChildren(child));
             }
         }
         StringBuilder dims = new StringBuilder();
@@ -1493,9 +2194,9 @@ public class JuliaCodeGenerator {
     private List<String> transpileAssumedSizeSpec(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> dimensions = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "STAR" -> dimensions.add(transpileSTAR(ast.getChildren(child)));
-                case "ExplicitShapeSpecList" -> dimensions.addAll(transpileExplicitShapeSpecList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case STAR -> dimensions.add(transpileSTAR(ast.getChildren(child)));
+                case ExplicitShapeSpecList -> dimensions.addAll(transpileExplicitShapeSpecList(ast.getChildren(child)));
             }
         }
 
@@ -1505,9 +2206,9 @@ public class JuliaCodeGenerator {
     private List<String> transpileExplicitShapeSpecList(List<Ast.Node<String>> childNodes) throws IOException {
         List<String> dimensions = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ExplicitShapeSpec" -> dimensions.add(transpileExplicitShapeSpec(ast.getChildren(child)));
-                case "ExplicitShapeSpecList" -> dimensions.addAll(transpileExplicitShapeSpecList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ExplicitShapeSpec -> dimensions.add(transpileExplicitShapeSpec(ast.getChildren(child)));
+                case ExplicitShapeSpecList -> dimensions.addAll(transpileExplicitShapeSpecList(ast.getChildren(child)));
             }
         }
 
@@ -1518,7 +2219,7 @@ public class JuliaCodeGenerator {
     private String transpileExplicitShapeSpec(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("UpperBound")) {
+            if (child.getKind() == NodeKind.UpperBound) {
                 result.append(transpileUpperBound(ast.getChildren(child)));
             }
         }
@@ -1529,7 +2230,7 @@ public class JuliaCodeGenerator {
     private String transpileUpperBound(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Expr")) {
+            if (child.getKind() == NodeKind.Expr) {
                 result.append(transpileExpr(ast.getChildren(child)));
             }
         }
@@ -1541,10 +2242,10 @@ public class JuliaCodeGenerator {
     private String transpileExpr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Level5Expr" -> result.append(transpileLevel5Expr(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "DefinedBinaryOp" -> result.append(transpileDefinedBinaryOp(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Level5Expr -> result.append(transpileLevel5Expr(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case DefinedBinaryOp -> result.append(transpileDefinedBinaryOp(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1553,10 +2254,10 @@ public class JuliaCodeGenerator {
     private String transpileLevel5Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EquivOperand" -> result.append(transpileEquivOperand(ast.getChildren(child)));
-                case "EquivOp" -> result.append(transpileEquivOp(ast.getChildren(child)));
-                case "Level5Expr" -> result.append(transpileLevel5Expr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case EquivOperand -> result.append(transpileEquivOperand(ast.getChildren(child)));
+                case EquivOp -> result.append(transpileEquivOp(ast.getChildren(child)));
+                case Level5Expr -> result.append(transpileLevel5Expr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1565,10 +2266,10 @@ public class JuliaCodeGenerator {
     private String transpileEquivOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "OrOperand" -> result.append(transpileOrOperand(ast.getChildren(child)));
-                case "OrOp" -> result.append(transpileOrOp(ast.getChildren(child)));
-                case "EquivOperand" -> result.append(transpileEquivOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case OrOperand -> result.append(transpileOrOperand(ast.getChildren(child)));
+                case OrOp -> result.append(transpileOrOp(ast.getChildren(child)));
+                case EquivOperand -> result.append(transpileEquivOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1577,7 +2278,7 @@ public class JuliaCodeGenerator {
     private String transpileOrOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("OR")) {
+            if (child.getKind() == NodeKind.OR) {
                 result.append(transpileOR(ast.getChildren(child)));
             }
         }
@@ -1587,9 +2288,9 @@ public class JuliaCodeGenerator {
     private String transpileEquivOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EQUAL_EQUAL" -> result.append(transpileEQUAL_EQUAL(ast.getChildren(child)));
-                case "BANG_EQUAL" -> result.append(transpileBANG_EQUAL(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case EQUAL_EQUAL -> result.append(transpileEQUAL_EQUAL(ast.getChildren(child)));
+                case BANG_EQUAL -> result.append(transpileBANG_EQUAL(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1598,10 +2299,10 @@ public class JuliaCodeGenerator {
     private String transpileOrOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "AndOperand" -> result.append(transpileAndOperand(ast.getChildren(child)));
-                case "AndOp" -> result.append(transpileAndOp(ast.getChildren(child)));
-                case "OrOperand" -> result.append(transpileOrOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case AndOperand -> result.append(transpileAndOperand(ast.getChildren(child)));
+                case AndOp -> result.append(transpileAndOp(ast.getChildren(child)));
+                case OrOperand -> result.append(transpileOrOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1611,9 +2312,9 @@ public class JuliaCodeGenerator {
     private String transpileAndOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "NotOp" -> result.append(transpileNotOp(ast.getChildren(child)));
-                case "Level4Expr" -> result.append(transpileLevel4Expr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case NotOp -> result.append(transpileNotOp(ast.getChildren(child)));
+                case Level4Expr -> result.append(transpileLevel4Expr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1622,9 +2323,9 @@ public class JuliaCodeGenerator {
     private String transpileNotOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "NOT" -> result.append(transpileNOT(ast.getChildren(child)));
-                case "SP" -> {
+            switch (child.getKind()) {
+                case NOT -> result.append(transpileNOT(ast.getChildren(child)));
+                case SP -> {
                 }
             }
         }
@@ -1634,7 +2335,7 @@ public class JuliaCodeGenerator {
     private String transpileAndOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("AND")) {
+            if (child.getKind() == NodeKind.AND) {
                 result.append(transpileAND(ast.getChildren(child)));
             }
         }
@@ -1644,9 +2345,9 @@ public class JuliaCodeGenerator {
     private String transpileLevel4Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Level3Expr" -> result.append(transpileLevel3Expr(ast.getChildren(child)));
-                case "RelOpLevel3Expr" -> result.append(transpileRelOpLevel3Expr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Level3Expr -> result.append(transpileLevel3Expr(ast.getChildren(child)));
+                case RelOpLevel3Expr -> result.append(transpileRelOpLevel3Expr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1655,9 +2356,9 @@ public class JuliaCodeGenerator {
     private String transpileLevel3Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Level2Expr" -> result.append(transpileLevel2Expr(ast.getChildren(child)));
-                case "ConcatOpLevel2Expr" -> result.append(transpileConcatOpLevel2Expr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Level2Expr -> result.append(transpileLevel2Expr(ast.getChildren(child)));
+                case ConcatOpLevel2Expr -> result.append(transpileConcatOpLevel2Expr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1666,9 +2367,9 @@ public class JuliaCodeGenerator {
     private String transpileRelOpLevel3Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "RelOp" -> result.append(transpileRelOp(ast.getChildren(child)));
-                case "Level3Expr" -> result.append(transpileLevel3Expr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case RelOp -> result.append(transpileRelOp(ast.getChildren(child)));
+                case Level3Expr -> result.append(transpileLevel3Expr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1677,13 +2378,13 @@ public class JuliaCodeGenerator {
     private String transpileRelOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "EQUAL_EQUAL" -> result.append(transpileEQUAL_EQUAL(ast.getChildren(child)));
-                case "BANG_EQUAL" -> result.append(transpileBANG_EQUAL(ast.getChildren(child)));
-                case "LESS" -> result.append(transpileLESS(ast.getChildren(child)));
-                case "LESS_EQUAL" -> result.append(transpileLESS_EQUAL(ast.getChildren(child)));
-                case "GREATER" -> result.append(transpileGREATER(ast.getChildren(child)));
-                case "GREATER_EQUAL" -> result.append(transpileGREATER_EQUAL(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case EQUAL_EQUAL -> result.append(transpileEQUAL_EQUAL(ast.getChildren(child)));
+                case BANG_EQUAL -> result.append(transpileBANG_EQUAL(ast.getChildren(child)));
+                case LESS -> result.append(transpileLESS(ast.getChildren(child)));
+                case LESS_EQUAL -> result.append(transpileLESS_EQUAL(ast.getChildren(child)));
+                case GREATER -> result.append(transpileGREATER(ast.getChildren(child)));
+                case GREATER_EQUAL -> result.append(transpileGREATER_EQUAL(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1692,12 +2393,12 @@ public class JuliaCodeGenerator {
     private String transpileLevel2Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Sign" -> result.append(transpileSign(ast.getChildren(child)));
-                case "AddOperand" -> result.append(transpileAddOperand(ast.getChildren(child)));
-                case "AddOpAddOperand" -> result.append(transpileAddOpAddOperand(ast.getChildren(child)));
-                case "Level2Expr" -> result.append(transpileLevel2Expr(ast.getChildren(child)));
-                case "AddOp" -> result.append(transpileAddOp(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Sign -> result.append(transpileSign(ast.getChildren(child)));
+                case AddOperand -> result.append(transpileAddOperand(ast.getChildren(child)));
+                case AddOpAddOperand -> result.append(transpileAddOpAddOperand(ast.getChildren(child)));
+                case Level2Expr -> result.append(transpileLevel2Expr(ast.getChildren(child)));
+                case AddOp -> result.append(transpileAddOp(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1706,9 +2407,9 @@ public class JuliaCodeGenerator {
     private String transpileConcatOpLevel2Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ConcatOp" -> result.append(transpileConcatOp(ast.getChildren(child)));
-                case "Level3Expr" -> result.append(transpileLevel3Expr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ConcatOp -> result.append(transpileConcatOp(ast.getChildren(child)));
+                case Level3Expr -> result.append(transpileLevel3Expr(ast.getChildren(child)));
             }
         }
 
@@ -1718,9 +2419,9 @@ public class JuliaCodeGenerator {
     private String transpileSign(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PLUS" -> result.append(transpilePLUS(ast.getChildren(child)));
-                case "MINUS" -> result.append(transpileMINUS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PLUS -> result.append(transpilePLUS(ast.getChildren(child)));
+                case MINUS -> result.append(transpileMINUS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1729,12 +2430,12 @@ public class JuliaCodeGenerator {
     private String transpileDefinedBinaryOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "RDCON" -> result.append(transpileRDCON(ast.getChildren(child)));
-                case "OCON" -> result.append(transpileOCON(ast.getChildren(child)));
-                case "ZCON" -> result.append(transpileZCON(ast.getChildren(child)));
-                case "BCON" -> result.append(transpileBCON(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case RDCON -> result.append(transpileRDCON(ast.getChildren(child)));
+                case OCON -> result.append(transpileOCON(ast.getChildren(child)));
+                case ZCON -> result.append(transpileZCON(ast.getChildren(child)));
+                case BCON -> result.append(transpileBCON(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1743,9 +2444,9 @@ public class JuliaCodeGenerator {
     private String transpileAddOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "MultOperand" -> result.append(transpileMultOperand(ast.getChildren(child)));
-                case "MultOpMultOperand" -> result.append(transpileMultOpMultOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case MultOperand -> result.append(transpileMultOperand(ast.getChildren(child)));
+                case MultOpMultOperand -> result.append(transpileMultOpMultOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1754,9 +2455,9 @@ public class JuliaCodeGenerator {
     private String transpileAddOpAddOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "AddOp" -> result.append(transpileAddOp(ast.getChildren(child)));
-                case "AddOperand" -> result.append(transpileAddOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case AddOp -> result.append(transpileAddOp(ast.getChildren(child)));
+                case AddOperand -> result.append(transpileAddOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1765,9 +2466,9 @@ public class JuliaCodeGenerator {
     private String transpileAddOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PLUS" -> result.append(transpilePLUS(ast.getChildren(child)));
-                case "MINUS" -> result.append(transpileMINUS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PLUS -> result.append(transpilePLUS(ast.getChildren(child)));
+                case MINUS -> result.append(transpileMINUS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1776,9 +2477,9 @@ public class JuliaCodeGenerator {
     private String transpileMultOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Level1Expr" -> result.append(transpileLevel1Expr(ast.getChildren(child)));
-                case "PowerOpMultOperand" -> result.append(transpilePowerOpMultOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Level1Expr -> result.append(transpileLevel1Expr(ast.getChildren(child)));
+                case PowerOpMultOperand -> result.append(transpilePowerOpMultOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1787,9 +2488,9 @@ public class JuliaCodeGenerator {
     private String transpileMultOpMultOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "MultOp" -> result.append(transpileMultOp(ast.getChildren(child)));
-                case "MultOperand" -> result.append(transpileMultOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case MultOp -> result.append(transpileMultOp(ast.getChildren(child)));
+                case MultOperand -> result.append(transpileMultOperand(ast.getChildren(child)));
             }
         }
 
@@ -1799,9 +2500,9 @@ public class JuliaCodeGenerator {
     private String transpileMultOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "STAR" -> result.append(transpileSTAR(ast.getChildren(child)));
-                case "SLASH" -> result.append(transpileSLASH(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case STAR -> result.append(transpileSTAR(ast.getChildren(child)));
+                case SLASH -> result.append(transpileSLASH(ast.getChildren(child)));
             }
         }
 
@@ -1811,7 +2512,7 @@ public class JuliaCodeGenerator {
     private String transpileLevel1Expr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Primary")) {
+            if (child.getKind() == NodeKind.Primary) {
                 result.append(transpilePrimary(ast.getChildren(child)));
             }
         }
@@ -1821,7 +2522,7 @@ public class JuliaCodeGenerator {
     private String transpileCommaExpr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Expr")) {
+            if (child.getKind() == NodeKind.Expr) {
                 result.append(transpileExpr(ast.getChildren(child)));
             }
         }
@@ -1835,18 +2536,18 @@ public class JuliaCodeGenerator {
         String j = "";
         String step = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "VariableName" -> var = transpileVariableName(ast.getChildren(child));
-                case "EQUAL", "COMMA" -> {
+            switch (child.getKind()) {
+                case VariableName -> var = transpileVariableName(ast.getChildren(child));
+                case EQUAL, COMMA -> {
                 }
-                case "Expr" -> {
+                case Expr -> {
                     if (i.length() == 0) {
                         i = transpileExpr(ast.getChildren(child));
                     } else {
                         j = transpileExpr(ast.getChildren(child));
                     }
                 }
-                case "CommaExpr" -> step = transpileCommaExpr(ast.getChildren(child));
+                case CommaExpr -> step = transpileCommaExpr(ast.getChildren(child));
             }
         }
 
@@ -1862,15 +2563,15 @@ public class JuliaCodeGenerator {
     private String transpilePrimary(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UnsignedArithmeticConstant" -> result.append(transpileUnsignedArithmeticConstant(ast.getChildren(child)));
-                case "NameDataRef" -> result.append(transpileNameDataRef(ast.getChildren(child)));
-                case "FunctionReference" -> result.append(transpileFunctionReference(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "SCON" -> result.append(transpileSCON(ast.getChildren(child)));
-                case "LogicalConstant" -> result.append(transpileLogicalConstant(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case UnsignedArithmeticConstant -> result.append(transpileUnsignedArithmeticConstant(ast.getChildren(child)));
+                case NameDataRef -> result.append(transpileNameDataRef(ast.getChildren(child)));
+                case FunctionReference -> result.append(transpileFunctionReference(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case SCON -> result.append(transpileSCON(ast.getChildren(child)));
+                case LogicalConstant -> result.append(transpileLogicalConstant(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1879,9 +2580,9 @@ public class JuliaCodeGenerator {
     private String transpileLogicalConstant(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "TRUE" -> result.append(transpileTRUE(ast.getChildren(child)));
-                case "FALSE" -> result.append(transpileFALSE(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case TRUE -> result.append(transpileTRUE(ast.getChildren(child)));
+                case FALSE -> result.append(transpileFALSE(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1891,10 +2592,10 @@ public class JuliaCodeGenerator {
     private String transpileUnsignedArithmeticConstant(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "RDCON" -> result.append(transpileRDCON(ast.getChildren(child)));
-                case "ComplexConst" -> result.append(transpileComplexConst(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case RDCON -> result.append(transpileRDCON(ast.getChildren(child)));
+                case ComplexConst -> result.append(transpileComplexConst(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1905,11 +2606,11 @@ public class JuliaCodeGenerator {
         String l = "(";
         String r = ")";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SectionSubscriptRef" -> result.append(transpileSectionSubscriptRef(ast.getChildren(child)).replace("(", l).replace(")", r));
-                case "PERCENT" -> result.append(transpilePERCENT(ast.getChildren(child)));
-                case "Name" -> {
-                    if (listOfArrays.contains(transpileName(ast.getChildren(child)))) {
+            switch (child.getKind()) {
+                case SectionSubscriptRef -> result.append(transpileSectionSubscriptRef(ast.getChildren(child)).replace("(", l).replace(")", r));
+                case PERCENT -> result.append(transpilePERCENT(ast.getChildren(child)));
+                case Name -> {
+                    if (isArray(transpileName(ast.getChildren(child)))) {
                         l = "[";
                         r = "]";
                     }
@@ -1925,8 +2626,8 @@ public class JuliaCodeGenerator {
         String l = "";
         String r = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Name" -> {
+            switch (child.getKind()) {
+                case Name -> {
                     if (listOfFunctions.contains(transpileName(ast.getChildren(child)))) {
                         l = "(";
                         r = ")";
@@ -1937,7 +2638,7 @@ public class JuliaCodeGenerator {
                     }
                     result.append(transpileName(ast.getChildren(child)));
                 }
-                case "ComplexDataRefTail" -> {
+                case ComplexDataRefTail -> {
                     if (l.equals("(")) { // Function call
                         result = result.deleteCharAt(0);
                     }
@@ -1952,7 +2653,7 @@ public class JuliaCodeGenerator {
     private String transpileName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -1962,11 +2663,11 @@ public class JuliaCodeGenerator {
     private String transpileFunctionReference(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Name" -> result.append(transpileName(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "FunctionArgList" -> result.append(transpileFunctionArgList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Name -> result.append(transpileName(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case FunctionArgList -> result.append(transpileFunctionArgList(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1975,11 +2676,11 @@ public class JuliaCodeGenerator {
     private String transpileFunctionArgList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "FunctionArg" -> result.append(transpileFunctionArg(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SectionSubscriptList" -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
-                case "FunctionArgList" -> result.append(transpileFunctionArgList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case FunctionArg -> result.append(transpileFunctionArg(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SectionSubscriptList -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
+                case FunctionArgList -> result.append(transpileFunctionArgList(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -1988,9 +2689,9 @@ public class JuliaCodeGenerator {
     private String transpileFunctionArg(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Name" -> result.append(result.append(transpileName(ast.getChildren(child))) + " = ");
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Name -> result.append(result.append(transpileName(ast.getChildren(child))) + " = ");
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2050,9 +2751,9 @@ public class JuliaCodeGenerator {
         String real = "";
         String im = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "ComplexComponent" -> {
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case ComplexComponent -> {
                     if (isImaginary) {
                         result.append(transpileComplexComponent(ast.getChildren(child)) + "im");
                     } else {
@@ -2060,8 +2761,8 @@ public class JuliaCodeGenerator {
                         isImaginary = true;
                     }
                 }
-                case "COMMA" -> result.append(" " + transpilePLUS(ast.getChildren(child)) + " ");
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case COMMA -> result.append(" " + transpilePLUS(ast.getChildren(child)) + " ");
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
 
             }
         }
@@ -2071,11 +2772,11 @@ public class JuliaCodeGenerator {
     private String transpileComplexComponent(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Sign" -> result.append(transpileSign(ast.getChildren(child)));
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "RDCON" -> result.append(transpileRDCON(ast.getChildren(child)));
-                case "Name" -> result.append(transpileName(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Sign -> result.append(transpileSign(ast.getChildren(child)));
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case RDCON -> result.append(transpileRDCON(ast.getChildren(child)));
+                case Name -> result.append(transpileName(ast.getChildren(child)));
 
             }
         }
@@ -2085,7 +2786,7 @@ public class JuliaCodeGenerator {
     private String transpileDummyArgName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -2095,11 +2796,11 @@ public class JuliaCodeGenerator {
     private List<String> transpileInputItemList(List<Ast.Node<String>> childNodes, boolean stdin, String filename) throws IOException {
         List<String> inputList = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "InputItem" -> inputList.add(transpileInputItem(ast.getChildren(child), stdin, filename));
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case InputItem -> inputList.add(transpileInputItem(ast.getChildren(child), stdin, filename));
+                case COMMA -> {
                 }
-                case "InputItemList" -> inputList.addAll(transpileInputItemList(ast.getChildren(child), stdin, filename));
+                case InputItemList -> inputList.addAll(transpileInputItemList(ast.getChildren(child), stdin, filename));
             }
         }
         return inputList;
@@ -2108,9 +2809,9 @@ public class JuliaCodeGenerator {
     private String transpileInputItem(List<Ast.Node<String>> childNodes, boolean stdin, String filename) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Variable" -> result.append(transpileVariable(ast.getChildren(child)));
-                case "InputImpliedDo" -> result.append(transpileInputImpliedDo(ast.getChildren(child), stdin, filename));
+            switch (child.getKind()) {
+                case Variable -> result.append(transpileVariable(ast.getChildren(child)));
+                case InputImpliedDo -> result.append(transpileInputImpliedDo(ast.getChildren(child), stdin, filename));
             }
         }
         return result.toString();
@@ -2122,18 +2823,18 @@ public class JuliaCodeGenerator {
         String l = "(";
         String r = ")";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "VariableName" -> {
-                    if (listOfArrays.contains(transpileVariableName(ast.getChildren(child)))) {
+            switch (child.getKind()) {
+                case VariableName -> {
+                    if (isArray(transpileVariableName(ast.getChildren(child)))) {
                         l = "[";
                         r = "]";
                     }
                     result.append(transpileVariableName(ast.getChildren(child)));
                 }
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "SubscriptList" -> result.append(transpileSubscriptList(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "SubstringRange" -> result.append(transpileSubstringRange(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case SubscriptList -> result.append(transpileSubscriptList(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case SubstringRange -> result.append(transpileSubstringRange(ast.getChildren(child)));
             }
         }
         return result.toString().replace("(", l).replace(")", r);
@@ -2142,7 +2843,7 @@ public class JuliaCodeGenerator {
     private String transpileVariableName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -2151,7 +2852,7 @@ public class JuliaCodeGenerator {
 
     private void transpileEquivalenceObject(List<Ast.Node<String>> childNodes) throws IOException {
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Variable")) {
+            if (child.getKind() == NodeKind.Variable) {
                 transpileVariable(ast.getChildren(child));
             }
         }
@@ -2160,15 +2861,15 @@ public class JuliaCodeGenerator {
     private String transpileSFExprList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "COLON" -> result.append(transpileCOLON(ast.getChildren(child)));
-                case "COLON_COLON" -> result.append(transpileCOLON_COLON(ast.getChildren(child)));
-                case "SFExprList" -> result.append(transpileSFExprList(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "SFDummyArgNameList" -> result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
-                case "SFExpr" -> result.append(transpileSFExpr(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SectionSubscript" -> result.append(transpileSectionSubscript(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case COLON -> result.append(transpileCOLON(ast.getChildren(child)));
+                case COLON_COLON -> result.append(transpileCOLON_COLON(ast.getChildren(child)));
+                case SFExprList -> result.append(transpileSFExprList(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case SFDummyArgNameList -> result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
+                case SFExpr -> result.append(transpileSFExpr(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SectionSubscript -> result.append(transpileSectionSubscript(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2177,12 +2878,12 @@ public class JuliaCodeGenerator {
     private String transpileSFExpr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SFTerm" -> result.append(transpileSFTerm(ast.getChildren(child)));
-                case "Sign" -> result.append(transpileSign(ast.getChildren(child)));
-                case "AddOperand" -> result.append(transpileAddOperand(ast.getChildren(child)));
-                case "AddOp" -> result.append(transpileAddOp(ast.getChildren(child)));
-                case "SFExpr" -> result.append(transpileSFExpr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SFTerm -> result.append(transpileSFTerm(ast.getChildren(child)));
+                case Sign -> result.append(transpileSign(ast.getChildren(child)));
+                case AddOperand -> result.append(transpileAddOperand(ast.getChildren(child)));
+                case AddOp -> result.append(transpileAddOp(ast.getChildren(child)));
+                case SFExpr -> result.append(transpileSFExpr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2191,11 +2892,11 @@ public class JuliaCodeGenerator {
     private String transpileSFTerm(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SFTerm" -> result.append(transpileSFTerm(ast.getChildren(child)));
-                case "MultOperand" -> result.append(transpileMultOperand(ast.getChildren(child)));
-                case "MultOp" -> result.append(transpileMultOp(ast.getChildren(child)));
-                case "SFFactor" -> result.append(transpileSFFactor(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SFTerm -> result.append(transpileSFTerm(ast.getChildren(child)));
+                case MultOperand -> result.append(transpileMultOperand(ast.getChildren(child)));
+                case MultOp -> result.append(transpileMultOp(ast.getChildren(child)));
+                case SFFactor -> result.append(transpileSFFactor(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2204,10 +2905,10 @@ public class JuliaCodeGenerator {
     private String transpileSFFactor(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PowerOp" -> result.append(transpilePowerOp(ast.getChildren(child)));
-                case "MultOperand" -> result.append(transpileMultOperand(ast.getChildren(child)));
-                case "SFPrimary" -> result.append(transpileSFPrimary(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PowerOp -> result.append(transpilePowerOp(ast.getChildren(child)));
+                case MultOperand -> result.append(transpileMultOperand(ast.getChildren(child)));
+                case SFPrimary -> result.append(transpileSFPrimary(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2216,14 +2917,14 @@ public class JuliaCodeGenerator {
     private String transpileSFPrimary(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "SFVarName" -> result.append(transpileSFVarName(ast.getChildren(child)));
-                case "ComplexDataRef" -> result.append(transpileComplexDataRef(ast.getChildren(child)));
-                case "FunctionReference" -> result.append(transpileFunctionReference(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case SFVarName -> result.append(transpileSFVarName(ast.getChildren(child)));
+                case ComplexDataRef -> result.append(transpileComplexDataRef(ast.getChildren(child)));
+                case FunctionReference -> result.append(transpileFunctionReference(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2232,12 +2933,12 @@ public class JuliaCodeGenerator {
     private String transpileComplexDataRef(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Name" -> result.append(transpileName(ast.getChildren(child)));
-                case "SectionSubscriptList" -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
-                case "ComplexDataRef" -> result.append(transpileComplexDataRef(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Name -> result.append(transpileName(ast.getChildren(child)));
+                case SectionSubscriptList -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
+                case ComplexDataRef -> result.append(transpileComplexDataRef(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2246,11 +2947,11 @@ public class JuliaCodeGenerator {
     private String transpileSFVarName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Ident" -> result.append(transpileIdent(ast.getChildren(child)));
-                case "DOLLAR" -> result.append(transpileDOLLAR(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Ident -> result.append(transpileIdent(ast.getChildren(child)));
+                case DOLLAR -> result.append(transpileDOLLAR(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2260,9 +2961,9 @@ public class JuliaCodeGenerator {
         StringBuilder result = new StringBuilder();
         String arrSlice;
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SectionSubscript" -> {
+            switch (child.getKind()) {
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SectionSubscript -> {
                     arrSlice = transpileSectionSubscript(ast.getChildren(child));
                     if (arrSlice.length() - arrSlice.replace(":", "").length() == 2) {
                         arrSlice = swapIndices(arrSlice);
@@ -2282,101 +2983,46 @@ public class JuliaCodeGenerator {
         boolean isInputVar = true;
         String doVar = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Expr" -> {
+            switch (child.getKind()) {
+                case Expr -> {
                     if (isInputVar) {
                         inputVars.add(transpileExpr(ast.getChildren(child)));
                     } else {
                         listExpr.add(transpileExpr(ast.getChildren(child)));
                     }
                 }
-                case "COMMA" -> {
+                case COMMA -> {
                 }
-                case "ImpliedDoVariable" -> {
+                case ImpliedDoVariable -> {
                     doVar = transpileImpliedDoVariable(ast.getChildren(child));
                     isInputVar = false; // Next expressions are bounds
                 }
-                case "EQUAL" -> {
+                case EQUAL -> {
                 }
-                case "InputItemList" -> {
+                case InputItemList -> {
                     inputVars.addAll(transpileInputItemList(ast.getChildren(child), stdin, filename));
                 }
             }
         }
 
-        // Case of 2 bounds
-        if (listExpr.size() == 2) {
-            result.append(currentIndent + "for " + doVar + " in " + listExpr.get(0) + ":" + listExpr.get(1) + "\n");
-            pushTab();
-            for (String var : inputVars) {
-                String amendedVar = "";
-                if (var.contains("[")) {
-                    amendedVar = var.replaceAll("[^a-zA-Z]", "");
-                } else {
-                    amendedVar = var;
-                }
-                if (stdin) {
-                    result.append(currentIndent + amendedVar + " = " + "readline()\n");
-                } else {
-                    result.append(currentIndent + amendedVar + " = " + "readline(" + filename + ")\n");
-                }
-                result.append(currentIndent + "global " + var + " = " + "parse_input(" + amendedVar + ")\n");
-            }
-            popTab();
-            result.append(currentIndent + "end\n");
-        }
-        // Case of 1 bound
-        else if (listExpr.size() == 2) {
-            String toPrint = listExpr.get(0);
-            result.append(currentIndent + "for " + doVar + " in 1:" + listExpr.get(1) + "\n");
-            pushTab();
-            for (String var : inputVars) {
-                String amendedVar = "";
-                if (var.contains("[")) {
-                    amendedVar = var.replaceAll("[^a-zA-Z]", "");
-                } else {
-                    amendedVar = var;
-                }
-                if (stdin) {
-                    result.append(currentIndent + amendedVar + " = " + "readline()\n");
-                } else {
-                    result.append(currentIndent + amendedVar + " = " + "readline(" + filename + ")\n");
-                }
-                result.append(currentIndent + "global " + var + " = " + "parse_input(" + amendedVar + ")\n");
-            }
-            popTab();
-            result.append(currentIndent + "end\n");
-            // Case of strided bounds
-        } else if (listExpr.size() == 3) {
-            result.append(currentIndent + "for " + doVar + " in " + listExpr.get(0) + ":" + listExpr.get(1) + ":" + listExpr.get(2) + "\n");
-            pushTab();
-            for (String var : inputVars) {
-                String amendedVar = "";
-                if (var.contains("[")) {
-                    amendedVar = var.replaceAll("[^a-zA-Z]", "");
-                } else {
-                    amendedVar = var;
-                }
-                if (stdin) {
-                    result.append(currentIndent + amendedVar + " = " + "readline()\n");
-                } else {
-                    result.append(currentIndent + amendedVar + " = " + "readline(" + filename + ")\n");
-                }
-                result.append(currentIndent + "global " + var + " = " + "parse_input(" + amendedVar + ")\n");
-            }
-            popTab();
-            result.append(currentIndent + "end\n");
+        // Each variable is read straight into its element, nothing is gathered
+        result.append(currentIndent + "for " + doVar + " in " + impliedDoRange(listExpr) + "\n");
+        pushTab();
+        for (String var : inputVars) {
+            appendReadInto(var, stdin ? "readline()" : "readline(" + filename + ")", result);
         }
+        popTab();
+        result.append(currentIndent + "end\n");
         return result.toString();
     }
 
     private String transpileSubscriptList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Subscript" -> result.append(transpileSubscript(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SubscriptList" -> result.append(transpileSubscriptList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Subscript -> result.append(transpileSubscript(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SubscriptList -> result.append(transpileSubscriptList(ast.getChildren(child)));
 
             }
         }
@@ -2386,7 +3032,7 @@ public class JuliaCodeGenerator {
     private String transpileSubscript(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Expr")) {
+            if (child.getKind() == NodeKind.Expr) {
                 result.append(transpileExpr(ast.getChildren(child)));
             }
         }
@@ -2396,9 +3042,9 @@ public class JuliaCodeGenerator {
     private String transpilePowerOpMultOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PowerOp" -> result.append(transpilePowerOp(ast.getChildren(child)));
-                case "MultOperand" -> result.append(transpileMultOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PowerOp -> result.append(transpilePowerOp(ast.getChildren(child)));
+                case MultOperand -> result.append(transpileMultOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2408,34 +3054,34 @@ public class JuliaCodeGenerator {
     private String transpileActionStmt(List<Ast.Node<String>> childNodes, String args) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PrintStmt" -> result.append(currentIndent + transpilePrintStmt(ast.getChildren(child)));
-                case "ArithmeticIfStmt" -> result.append(currentIndent + transpileArithmeticIfStmt(ast.getChildren(child)));
-                case "AssignmentStmt" -> result.append(currentIndent + transpileAssignmentStmt(ast.getChildren(child)));
-                case "AssignStmt" -> result.append(currentIndent + transpileAssignStmt(ast.getChildren(child)));
-                case "BackspaceStmt" -> result.append(currentIndent + transpileBackspaceStmt(ast.getChildren(child)));
-                case "CallStmt" -> result.append(currentIndent + transpileCallStmt(ast.getChildren(child)));
-                case "CloseStmt" -> result.append(currentIndent + transpileCloseStmt(ast.getChildren(child)));
-                case "ContinueStmt" -> {
+            switch (child.getKind()) {
+                case PrintStmt -> result.append(currentIndent + transpilePrintStmt(ast.getChildren(child)));
+                case ArithmeticIfStmt -> result.append(currentIndent + transpileArithmeticIfStmt(ast.getChildren(child)));
+                case AssignmentStmt -> result.append(currentIndent + transpileAssignmentStmt(ast.getChildren(child)));
+                case AssignStmt -> result.append(currentIndent + transpileAssignStmt(ast.getChildren(child)));
+                case BackspaceStmt -> result.append(currentIndent + transpileBackspaceStmt(ast.getChildren(child)));
+                case CallStmt -> result.append(currentIndent + transpileCallStmt(ast.getChildren(child)));
+                case CloseStmt -> result.append(currentIndent + transpileCloseStmt(ast.getChildren(child)));
+                case ContinueStmt -> {
                     popTab();
                     result.append(currentIndent + transpileContinueStmt(ast.getChildren(child)));
                 }
-                case "EndfileStmt" -> result.append(currentIndent + transpileEndfileStmt(ast.getChildren(child)));
-                case "GotoStmt" -> result.append(currentIndent + transpileGotoStmt(ast.getChildren(child)));
-                case "ComputedGotoStmt" -> result.append(currentIndent + transpileComputedGotoStmt(ast.getChildren(child)));
-                case "AssignedGotoStmt" -> result.append(currentIndent + transpileAssignedGotoStmt(ast.getChildren(child)));
-                case "IfStmt" -> {
+                case EndfileStmt -> result.append(currentIndent + transpileEndfileStmt(ast.getChildren(child)));
+                case GotoStmt -> result.append(currentIndent + transpileGotoStmt(ast.getChildren(child)));
+                case ComputedGotoStmt -> result.append(currentIndent + transpileComputedGotoStmt(ast.getChildren(child)));
+                case AssignedGotoStmt -> result.append(currentIndent + transpileAssignedGotoStmt(ast.getChildren(child)));
+                case IfStmt -> {
                     result.append(currentIndent + transpileIfStmt(ast.getChildren(child), "") + "\n" + currentIndent + "end\n");
                 }
-                case "InquireStmt" -> result.append(currentIndent + transpileInquireStmt(ast.getChildren(child)));
-                case "OpenStmt" -> result.append(currentIndent + transpileOpenStmt(ast.getChildren(child)));
-                case "PauseStmt" -> result.append(currentIndent + transpilePauseStmt(ast.getChildren(child)));
-                case "ReadStmt" -> result.append(currentIndent + transpileReadStmt(ast.getChildren(child)));
-                case "ReturnStmt" -> result.append(currentIndent + transpileReturnStmt(ast.getChildren(child), args));
-                case "RewindStmt" -> result.append(currentIndent + transpileRewindStmt(ast.getChildren(child)));
-                case "StmtFunctionStmt" -> result.append(currentIndent + transpileStmtFunctionStmt(ast.getChildren(child)));
-                case "StopStmt" -> result.append(currentIndent + transpileStopStmt(ast.getChildren(child)));
-                case "WriteStmt" -> result.append(transpileWriteStmt(ast.getChildren(child)));
+                case InquireStmt -> result.append(currentIndent + transpileInquireStmt(ast.getChildren(child)));
+                case OpenStmt -> result.append(currentIndent + transpileOpenStmt(ast.getChildren(child)));
+                case PauseStmt -> result.append(currentIndent + transpilePauseStmt(ast.getChildren(child)));
+                case ReadStmt -> result.append(currentIndent + transpileReadStmt(ast.getChildren(child)));
+                case ReturnStmt -> result.append(currentIndent + transpileReturnStmt(ast.getChildren(child), args));
+                case RewindStmt -> result.append(currentIndent + transpileRewindStmt(ast.getChildren(child)));
+                case StmtFunctionStmt -> result.append(currentIndent + transpileStmtFunctionStmt(ast.getChildren(child)));
+                case StopStmt -> result.append(currentIndent + transpileStopStmt(ast.getChildren(child)));
+                case WriteStmt -> result.append(transpileWriteStmt(ast.getChildren(child)));
 
             }
         }
@@ -2446,7 +3092,7 @@ public class JuliaCodeGenerator {
     private String transpileArithmeticIfStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2457,7 +3103,7 @@ public class JuliaCodeGenerator {
     private String transpileAssignStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2467,7 +3113,7 @@ public class JuliaCodeGenerator {
     private String transpileBackspaceStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2478,7 +3124,7 @@ public class JuliaCodeGenerator {
     private String transpileEndfileStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2489,7 +3135,7 @@ public class JuliaCodeGenerator {
     private String transpilePauseStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2500,7 +3146,7 @@ public class JuliaCodeGenerator {
     private String transpileAssignedGotoStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2511,7 +3157,7 @@ public class JuliaCodeGenerator {
     private String transpileInquireStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("EOS")) {
+            if (child.getKind() == NodeKind.EOS) {
                 result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
@@ -2523,12 +3169,16 @@ public class JuliaCodeGenerator {
         List<String> items = new ArrayList<>();
         String writeStr = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "WRITE", "LPAREN", "RPAREN" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case WRITE, LPAREN, RPAREN -> {
+                }
+                case IoControlSpecList -> writeStr = transpileIoControlSpecList(ast.getChildren(child), true);
+                case OutputItemList -> {
+                    listDirected = !writeStr.contains("sprintf") && !writeStr.contains("Printf.format(");
+                    items = List.of(transpileOutputItemList(ast.getChildren(child)).split(","));
+                    listDirected = false;
                 }
-                case "IoControlSpecList" -> writeStr = transpileIoControlSpecList(ast.getChildren(child), true);
-                case "OutputItemList" -> items = List.of(transpileOutputItemList(ast.getChildren(child)).split(","));
             }
         }
 
@@ -2538,7 +3188,7 @@ public class JuliaCodeGenerator {
             resStr = resStr + "," + item;
         }
 
-        if (resStr.contains("sprintf")) {
+        if (resStr.contains("sprintf") || resStr.contains("Printf.format(")) {
             resStr = resStr + ")";
         }
 
@@ -2555,8 +3205,8 @@ public class JuliaCodeGenerator {
         String fmtString = "";
         String varStr = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UnitIdentifier" -> {
+            switch (child.getKind()) {
+                case UnitIdentifier -> {
                     String res = transpileUnitIdentifier(ast.getChildren(child));
                     if (res.equals("*") || res.equals("_6")) {
                         stdout = true;
@@ -2565,25 +3215,25 @@ public class JuliaCodeGenerator {
                         filename = true;
                     }
                 }
-                case "DOLLAR", "COMMA" -> {
+                case DOLLAR, COMMA -> {
                 }
-                case "FormatIdentifier" -> {
+                case FormatIdentifier -> {
                     fmtString = transpileFormatIdentifier(ast.getChildren(child));
                     fmt = true;
                 }
-                case "IoControlSpec" -> {
+                case IoControlSpec -> {
                     String var = transpileIoControlSpec(ast.getChildren(child));
                     if (var.contains("_6")) {
                         stdout = true;
-                    } else if (ast.getChildren(child).get(0).getData().equals("UNIT_EQUAL")) {
+                    } else if (ast.getChildren(child).get(0).getKind() == NodeKind.UNIT_EQUAL) {
                         filename = true;
                         file = var;
-                    } else if (ast.getChildren(child).get(0).getData().equals("FMT_EQUAL")) {
+                    } else if (ast.getChildren(child).get(0).getKind() == NodeKind.FMT_EQUAL) {
                         fmt = true;
                         fmtString = var;
                     }
                 }
-                case "IoControlSpecList" -> varStr = varStr + transpileIoControlSpecList(ast.getChildren(child), false);
+                case IoControlSpecList -> varStr = varStr + transpileIoControlSpecList(ast.getChildren(child), false);
             }
         }
 
@@ -2593,8 +3243,10 @@ public class JuliaCodeGenerator {
         } else if (filename && topLevel) {
             result.append("write(" + file +",");
         }
-        // Format string
-        if (fmt) {
+        // Format string, or the constant of a FORMAT statement
+        if (fmt && labelsToStatements.containsKey(fmtString)) {
+            result.append("Printf.format(" + labelsToStatements.get(fmtString));
+        } else if (fmt) {
             result.append("@sprintf(" + fmtString);
         }
         if (varStr.length() > 0) {
@@ -2606,9 +3258,9 @@ public class JuliaCodeGenerator {
     private String transpileOutputItemList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "OutputItemList1" -> result.append(transpileOutputItemList1(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case OutputItemList1 -> result.append(transpileOutputItemList1(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2617,11 +3269,11 @@ public class JuliaCodeGenerator {
     private String transpileOutputItemList1(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "OutputImpliedDo" -> result.append(transpileOutputImpliedDo(ast.getChildren(child)));
-                case "OutputItemList1" -> result.append(transpileOutputItemList1(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case OutputImpliedDo -> result.append(transpileOutputImpliedDo(ast.getChildren(child)));
+                case OutputItemList1 -> result.append(transpileOutputItemList1(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2634,10 +3286,10 @@ public class JuliaCodeGenerator {
         List<String> argVars = new ArrayList<>();
         String name = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "SubroutineNameUse" -> name = transpileSubroutineNameUse(ast.getChildren(child));
-                case "SubroutineArgList" -> args.addAll(transpileSubroutineArgList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case SubroutineNameUse -> name = transpileSubroutineNameUse(ast.getChildren(child));
+                case SubroutineArgList -> args.addAll(transpileSubroutineArgList(ast.getChildren(child)));
             }
         }
 
@@ -2649,7 +3301,7 @@ public class JuliaCodeGenerator {
         }
 
         if (assignVars.size() > 0) {
-            result.append(currentIndent + "global " + String.join(",", assignVars) + " = ");
+            result.append(currentIndent + global() + String.join(",", assignVars) + " = ");
         }
 
         result.append(name + "(" +  String.join(",", argVars) + ")\n");
@@ -2660,11 +3312,11 @@ public class JuliaCodeGenerator {
     private String transpileStopStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "STOP" -> result.append(transpileSTOP(ast.getChildren(child)));
-                case "ICONOrScon" -> result.append(transpileICONOrScon(ast.getChildren(child)));
-                case "EOS" -> result.append(")" + transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case STOP -> result.append(transpileSTOP(ast.getChildren(child)));
+                case ICONOrScon -> result.append(transpileICONOrScon(ast.getChildren(child)));
+                case EOS -> result.append(")" + transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2673,9 +3325,9 @@ public class JuliaCodeGenerator {
     private String transpileICONOrScon(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), false));
-                case "SCON" -> result.append(transpileSCON(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ICON -> result.append(transpileICON(ast.getChildren(child), false));
+                case SCON -> result.append(transpileSCON(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2684,10 +3336,10 @@ public class JuliaCodeGenerator {
     private String transpileStmtFunctionStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "Name" -> result.append(transpileName(ast.getChildren(child)));
-                case "StmtFunctionRange" -> result.append(transpileStmtFunctionRange(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case Name -> result.append(transpileName(ast.getChildren(child)));
+                case StmtFunctionRange -> result.append(transpileStmtFunctionRange(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2696,13 +3348,13 @@ public class JuliaCodeGenerator {
     private String transpileStmtFunctionRange(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "SFDummyArgNameList" -> result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "EQUAL" -> result.append(transpileEQUAL(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case SFDummyArgNameList -> result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case EQUAL -> result.append(transpileEQUAL(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2711,12 +3363,12 @@ public class JuliaCodeGenerator {
     private String transpileRewindStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "REWIND" -> result.append("seek(");
-                case "UnitIdentifier" -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
-                case "PositionSpecList" -> result.append(transpilePositionSpecList(ast.getChildren(child)));
-                case "EOS" -> result.append(", 0)" + transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case REWIND -> result.append("seek(");
+                case UnitIdentifier -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
+                case PositionSpecList -> result.append(transpilePositionSpecList(ast.getChildren(child)));
+                case EOS -> result.append(", 0)" + transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2728,12 +3380,12 @@ public class JuliaCodeGenerator {
         List<String> vars = new ArrayList<>();
         boolean stdin = false;
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "READ" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case READ -> {
                 }
                 // Read from file
-                case "RdCtlSpec" -> {
+                case RdCtlSpec -> {
                     String readType = transpileRdCtlSpec(ast.getChildren(child));
                     if (readType.equals("(*)")) {
                         stdin = true;
@@ -2747,14 +3399,14 @@ public class JuliaCodeGenerator {
                     }
                 }
                 // Read from stdin
-                case "RdFmtId" -> {
+                case RdFmtId -> {
                     String readType = transpileRdFmtId(ast.getChildren(child));
                     stdin = true;
                     // No equivalent of formatting read statements in Julia
                 }
-                case "CommaInputItemList" -> vars = transpileInputItemList(ast.getChildren(child), stdin, unit);
-                case "InputItemList" -> vars = transpileInputItemList(ast.getChildren(child), stdin, unit);
-                case "EOS" -> {
+                case CommaInputItemList -> vars = transpileInputItemList(ast.getChildren(child), stdin, unit);
+                case InputItemList -> vars = transpileInputItemList(ast.getChildren(child), stdin, unit);
+                case EOS -> {
                 }
             }
         }
@@ -2762,15 +3414,7 @@ public class JuliaCodeGenerator {
         if (stdin) {
             for (String var : vars) {
                 if (!var.contains("readline")) {
-                    String amendedVar = "";
-                    if (var.contains("[")) {
-                        amendedVar = var.replaceAll("[^a-zA-Z]", "");
-                    } else {
-                        amendedVar = var;
-                    }
-                    result.append(currentIndent + amendedVar + " = readline()\n");
-                    // Julia does not have implicit casting of input, so need to check
-                    result.append(currentIndent + "global " + var + " = " + "parse_input(" + amendedVar + ")\n");
+                    appendReadInto(var, "readline()", result);
                     listOfArrays.add(var);
                 } else {
                     result.append(var);
@@ -2779,16 +3423,10 @@ public class JuliaCodeGenerator {
         } else {
             for (String var : vars) {
                 if (!var.contains("readline")) {
-                    String amendedVar = "";
                     if (var.contains("[")) {
                         listOfArrays.add(var);
-                        amendedVar = var.replaceAll("[^a-zA-Z]", "");
-                    } else {
-                        amendedVar = var;
                     }
-                    result.append(currentIndent + amendedVar + " = readline(" + unit + ")\n");
-                    // Julia does not have implicit casting of input, so need to check
-                    result.append(currentIndent + "global " + var + " = " + "parse_input(" + amendedVar + ")\n");
+                    appendReadInto(var, "readline(" + unit + ")", result);
                 } else {
                     result.append(var);
                 }
@@ -2803,11 +3441,11 @@ public class JuliaCodeGenerator {
         boolean altReturn = false;
         String expr = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "RETURN", "EOS" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case RETURN, EOS -> {
                 }
-                case "Expr" -> {
+                case Expr -> {
                     altReturn = true;
                     expr = transpileExpr(ast.getChildren(child));
                 }
@@ -2827,11 +3465,11 @@ public class JuliaCodeGenerator {
     private String transpileRdCtlSpec(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "RdUnitId" -> result.append(transpileRdUnitId(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "RdIoCtlSpecList" -> result.append(transpileRdIoCtlSpecList(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case RdUnitId -> result.append(transpileRdUnitId(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case RdIoCtlSpecList -> result.append(transpileRdIoCtlSpecList(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2840,13 +3478,13 @@ public class JuliaCodeGenerator {
     private String transpileRdFmtId(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblRef" -> result.append(transpileLblRef(ast.getChildren(child)));
-                case "STAR" -> result.append(transpileSTAR(ast.getChildren(child)));
-                case "COperand" -> result.append(transpileCOperand(ast.getChildren(child)));
-                case "ConcatOp" -> result.append(transpileConcatOp(ast.getChildren(child)));
-                case "CPrimary" -> result.append(transpileCPrimary(ast.getChildren(child)));
-                case "RdFmtIdExpr" -> result.append(transpileRdFmtIdExpr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblRef -> result.append(transpileLblRef(ast.getChildren(child)));
+                case STAR -> result.append(transpileSTAR(ast.getChildren(child)));
+                case COperand -> result.append(transpileCOperand(ast.getChildren(child)));
+                case ConcatOp -> result.append(transpileConcatOp(ast.getChildren(child)));
+                case CPrimary -> result.append(transpileCPrimary(ast.getChildren(child)));
+                case RdFmtIdExpr -> result.append(transpileRdFmtIdExpr(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2855,10 +3493,10 @@ public class JuliaCodeGenerator {
     private String transpileRdFmtIdExpr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "UFExpr" -> result.append(transpileUFExpr(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case UFExpr -> result.append(transpileUFExpr(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2867,9 +3505,9 @@ public class JuliaCodeGenerator {
     private String transpilePositionSpecList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "PositionSpec" -> result.append(transpilePositionSpec(ast.getChildren(child)));
-                case "UnitIdentifier" -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case PositionSpec -> result.append(transpilePositionSpec(ast.getChildren(child)));
+                case UnitIdentifier -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2878,7 +3516,7 @@ public class JuliaCodeGenerator {
     private String transpilePositionSpec(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("UnitIdentifier")) {
+            if (child.getKind() == NodeKind.UnitIdentifier) {
                 result.append(transpileUnitIdentifier(ast.getChildren(child)));
             }
         }
@@ -2888,9 +3526,9 @@ public class JuliaCodeGenerator {
     private String transpileRdIoCtlSpecList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UnitIdentifier" -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
-                case "IoControlSpec" -> result.append(transpileIoControlSpec(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case UnitIdentifier -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
+                case IoControlSpec -> result.append(transpileIoControlSpec(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2899,9 +3537,9 @@ public class JuliaCodeGenerator {
     private String transpileIoControlSpec(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UnitIdentifier" -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
-                case "FormatIdentifier" -> result.append(transpileFormatIdentifier(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case UnitIdentifier -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
+                case FormatIdentifier -> result.append(transpileFormatIdentifier(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2910,17 +3548,17 @@ public class JuliaCodeGenerator {
     private String transpileRdUnitId(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "UFExpr" -> {
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case UFExpr -> {
                     String res = transpileUFExpr(ast.getChildren(child));
                     if (Pattern.matches("-?\\d+(\\.\\d+)?", res)) {
                         result.append("_");
                     }
                     result.append(res);
                 }
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "STAR" -> result.append(transpileSTAR(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case STAR -> result.append(transpileSTAR(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -2933,11 +3571,11 @@ public class JuliaCodeGenerator {
         String unit = "";
         String fileName = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "OPEN", "LPAREN", "RPAREN", "EOS" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case OPEN, LPAREN, RPAREN, EOS -> {
                 }
-                case "ConnectSpecList" -> vars = transpileConnectSpecList(ast.getChildren(child));
+                case ConnectSpecList -> vars = transpileConnectSpecList(ast.getChildren(child));
             }
         }
 
@@ -2957,16 +3595,16 @@ public class JuliaCodeGenerator {
         StringBuilder result = new StringBuilder();
         List<String> vars = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ConnectSpec" -> vars.addAll(transpileConnectSpec(ast.getChildren(child)));
-                case "UnitIdentifier" -> {
+            switch (child.getKind()) {
+                case ConnectSpec -> vars.addAll(transpileConnectSpec(ast.getChildren(child)));
+                case UnitIdentifier -> {
                     String res = transpileUFExpr(ast.getChildren(child));
                     if (Pattern.matches("-?\\d+(\\.\\d+)?", res)) {
                         result.append("_");
                     }
                     result.append(res);
                 }
-                case "ConnectSpecList" -> vars.addAll(transpileConnectSpecList(ast.getChildren(child)));
+                case ConnectSpecList -> vars.addAll(transpileConnectSpecList(ast.getChildren(child)));
             }
         }
         return vars;
@@ -2976,10 +3614,10 @@ public class JuliaCodeGenerator {
         List<String> vars = new ArrayList<>();
         boolean nextIsFile = false;
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UnitIdentifier" -> vars.add(transpileUnitIdentifier(ast.getChildren(child)));
-                case "FILE_EQUAL" -> nextIsFile = true;
-                case "CExpr" -> {
+            switch (child.getKind()) {
+                case UnitIdentifier -> vars.add(transpileUnitIdentifier(ast.getChildren(child)));
+                case FILE_EQUAL -> nextIsFile = true;
+                case CExpr -> {
                     if (nextIsFile) {
                         vars.add(transpileCExpr(ast.getChildren(child)));
                     }
@@ -2996,15 +3634,15 @@ public class JuliaCodeGenerator {
     private String transpileContinueStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "CONTINUE" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case CONTINUE -> {
                     if (inDo.size() > 0) {
                         result.append("end");
                         inDo.remove(inDo.size() - 1);
                     }
                 }
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3013,11 +3651,11 @@ public class JuliaCodeGenerator {
     private String transpileGotoStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "GoToKw" -> result.append(transpileGoToKw(ast.getChildren(child)));
-                case "LblRef" -> result.append(transpileLblRef(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case GoToKw -> result.append(transpileGoToKw(ast.getChildren(child)));
+                case LblRef -> result.append(transpileLblRef(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3028,12 +3666,12 @@ public class JuliaCodeGenerator {
         String var = "";
         List<String> lblList = new ArrayList<>();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "GoToKw", "LPAREN", "RPAREN", "COMMA" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case GoToKw, LPAREN, RPAREN, COMMA -> {
                 }
-                case "LblRefList" -> lblList = Arrays.asList(transpileLblRefList(ast.getChildren(child)).split(","));
-                case "Expr" -> var = transpileExpr(ast.getChildren(child));
+                case LblRefList -> lblList = Arrays.asList(transpileLblRefList(ast.getChildren(child)).split(","));
+                case Expr -> var = transpileExpr(ast.getChildren(child));
             }
         }
 
@@ -3046,13 +3684,13 @@ public class JuliaCodeGenerator {
     private String transpileCloseStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "CLOSE" -> result.append(transpileCLOSE(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "CloseSpecList" -> result.append(transpileCloseSpecList(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case CLOSE -> result.append(transpileCLOSE(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case CloseSpecList -> result.append(transpileCloseSpecList(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3061,13 +3699,13 @@ public class JuliaCodeGenerator {
     private String transpileIfStmt(List<Ast.Node<String>> childNodes, String args) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "IF" -> result.append(transpileIF(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "ActionStmt" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case IF -> result.append(transpileIF(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case ActionStmt -> {
                     pushTab();
                     result.append("\n" + transpileActionStmt(ast.getChildren(child), args));
                 }
@@ -3080,8 +3718,8 @@ public class JuliaCodeGenerator {
     private String transpileGoToKw(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "GOTO", "GO" -> result.append(transpileGOTO(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case GOTO, GO -> result.append(transpileGOTO(ast.getChildren(child)));
             }
         }
 
@@ -3091,7 +3729,7 @@ public class JuliaCodeGenerator {
     private String transpileSubroutineNameUse(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -3103,8 +3741,8 @@ public class JuliaCodeGenerator {
         StringBuilder result = new StringBuilder();
         List<List<String>> args = new ArrayList<>(new ArrayList<>());
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SubroutineArg" -> {
+            switch (child.getKind()) {
+                case SubroutineArg -> {
                     List<String> pair = new ArrayList<>();
                     pair.add(transpileSubroutineArg(ast.getChildren(child)));
                     if (Pattern.matches("[a-zA-Z]+", transpileSubroutineArg(ast.getChildren(child)))
@@ -3116,8 +3754,8 @@ public class JuliaCodeGenerator {
                     }
                     args.add(pair);
                 }
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SubroutineArgList" -> args.addAll(transpileSubroutineArgList(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SubroutineArgList -> args.addAll(transpileSubroutineArgList(ast.getChildren(child)));
             }
         }
 
@@ -3127,13 +3765,13 @@ public class JuliaCodeGenerator {
     private String transpileCloseSpecList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "CloseSpec" -> result.append(transpileCloseSpec(ast.getChildren(child)));
-                case "COMMA" -> {
+            switch (child.getKind()) {
+                case CloseSpec -> result.append(transpileCloseSpec(ast.getChildren(child)));
+                case COMMA -> {
                 }
-                case "CloseSpecList" -> {
+                case CloseSpecList -> {
                 }
-                case "UnitIdentifier" -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
+                case UnitIdentifier -> result.append(transpileUnitIdentifier(ast.getChildren(child)));
             }
         }
 
@@ -3143,10 +3781,10 @@ public class JuliaCodeGenerator {
     private String transpileLblRefList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblRef" -> result.append(transpileLblRef(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "LblRefList" -> result.append(transpileLblRefList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblRef -> result.append(transpileLblRef(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case LblRefList -> result.append(transpileLblRefList(ast.getChildren(child)));
             }
         }
 
@@ -3156,7 +3794,7 @@ public class JuliaCodeGenerator {
     private String transpileCloseSpec(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("UnitIdentifier")) {
+            if (child.getKind() == NodeKind.UnitIdentifier) {
                 result.append(transpileUnitIdentifier(ast.getChildren(child)));
             }
         }
@@ -3167,7 +3805,7 @@ public class JuliaCodeGenerator {
     private String transpileUnitIdentifier(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("UFExpr")) {
+            if (child.getKind() == NodeKind.UFExpr) {
                 String res = transpileUFExpr(ast.getChildren(child));
                 if (Pattern.matches("-?\\d+(\\.\\d+)?", res)) {
                     result.append("_");
@@ -3182,11 +3820,11 @@ public class JuliaCodeGenerator {
     private String transpileUFExpr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Sign" -> result.append(transpileSign(ast.getChildren(child)));
-                case "UFTerm" -> result.append(transpileUFTerm(ast.getChildren(child)));
-                case "AddOp" -> result.append(transpileAddOp(ast.getChildren(child)));
-                case "UFExpr" -> result.append(transpileUFExpr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Sign -> result.append(transpileSign(ast.getChildren(child)));
+                case UFTerm -> result.append(transpileUFTerm(ast.getChildren(child)));
+                case AddOp -> result.append(transpileAddOp(ast.getChildren(child)));
+                case UFExpr -> result.append(transpileUFExpr(ast.getChildren(child)));
             }
         }
 
@@ -3196,12 +3834,12 @@ public class JuliaCodeGenerator {
     private String transpileUFTerm(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UFFactor" -> result.append(transpileUFFactor(ast.getChildren(child)));
-                case "MultOp" -> result.append(transpileMultOp(ast.getChildren(child)));
-                case "UFTerm" -> result.append(transpileUFTerm(ast.getChildren(child)));
-                case "UFPrimary" -> result.append(transpileUFPrimary(ast.getChildren(child)));
-                case "ConcatOp" -> result.append(transpileConcatOp(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case UFFactor -> result.append(transpileUFFactor(ast.getChildren(child)));
+                case MultOp -> result.append(transpileMultOp(ast.getChildren(child)));
+                case UFTerm -> result.append(transpileUFTerm(ast.getChildren(child)));
+                case UFPrimary -> result.append(transpileUFPrimary(ast.getChildren(child)));
+                case ConcatOp -> result.append(transpileConcatOp(ast.getChildren(child)));
             }
         }
 
@@ -3211,10 +3849,10 @@ public class JuliaCodeGenerator {
     private String transpileUFFactor(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "UFPrimary" -> result.append(transpileUFPrimary(ast.getChildren(child)));
-                case "PowerOp" -> result.append(transpilePowerOp(ast.getChildren(child)));
-                case "UFFactor" -> result.append(transpileUFFactor(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case UFPrimary -> result.append(transpileUFPrimary(ast.getChildren(child)));
+                case PowerOp -> result.append(transpilePowerOp(ast.getChildren(child)));
+                case UFFactor -> result.append(transpileUFFactor(ast.getChildren(child)));
             }
         }
 
@@ -3224,14 +3862,14 @@ public class JuliaCodeGenerator {
     private String transpileUFPrimary(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "ICON" -> result.append(transpileICON(ast.getChildren(child), ast.findParent(child, "Label")));
-                case "SCON" -> result.append(transpileSCON(ast.getChildren(child)));
-                case "NameDataRef" -> result.append(transpileNameDataRef(ast.getChildren(child)));
-                case "FunctionReference" -> result.append(transpileFunctionReference(ast.getChildren(child)));
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "UFExpr" -> result.append(transpileUFExpr(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case ICON -> result.append(transpileICON(ast.getChildren(child), ast.findParent(child, NodeKind.Label)));
+                case SCON -> result.append(transpileSCON(ast.getChildren(child)));
+                case NameDataRef -> result.append(transpileNameDataRef(ast.getChildren(child)));
+                case FunctionReference -> result.append(transpileFunctionReference(ast.getChildren(child)));
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case UFExpr -> result.append(transpileUFExpr(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
 
@@ -3241,10 +3879,10 @@ public class JuliaCodeGenerator {
     private String transpileSubroutineArg(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "Name" -> result.append(transpileName(ast.getChildren(child)) + " = ");
-                case "LblRef" -> result.append(transpileLblRef(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case Name -> result.append(transpileName(ast.getChildren(child)) + " = ");
+                case LblRef -> result.append(transpileLblRef(ast.getChildren(child)));
             }
         }
 
@@ -3254,7 +3892,7 @@ public class JuliaCodeGenerator {
     private String transpileLblRef(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Label")) {
+            if (child.getKind() == NodeKind.Label) {
                 result.append(transpileLabel(ast.getChildren(child)));
             }
         }
@@ -3270,15 +3908,15 @@ public class JuliaCodeGenerator {
         String name = "";
         String fullName = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "Name" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case Name -> {
                     name = transpileName(ast.getChildren(child));
-                    if (listOfArrays.contains(name)) {
+                    if (isArray(name)) {
                         l = "[";
                         r = "]";
                     } else {
-                        result.append("global ");
+                        result.append(global());
                         if (listOfFunctions.contains(name)) {
                             result.append("_");
                         }
@@ -3286,26 +3924,26 @@ public class JuliaCodeGenerator {
                     result.append(name);
                     fullName += name;
                 }
-                case "LPAREN" -> {
-                    if (!listOfArrays.contains(name)) {
+                case LPAREN -> {
+                    if (!isArray(name)) {
                         listOfFunctions.add(name);
                     }
                     result.append(l);
                     fullName += l;
                 }
-                case "EQUAL" -> result.append(" = ");
-                case "SFDummyArgNameList" -> {
+                case EQUAL -> result.append(" = ");
+                case SFDummyArgNameList -> {
                     result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
                     fullName += transpileSFDummyArgNameList(ast.getChildren(child));
                 }
-                case "RPAREN" -> {
+                case RPAREN -> {
                     result.append(r);
                     fullName += r;
                 }
-                case "SFExprList" -> result.append(transpileSFExprList(ast.getChildren(child)));
-                case "PERCENT" -> result.append(transpilePERCENT(ast.getChildren(child)));
-                case "NameDataRef" -> result.append(transpileNameDataRef(ast.getChildren(child)));
-                case "SubstringRange" -> {
+                case SFExprList -> result.append(transpileSFExprList(ast.getChildren(child)));
+                case PERCENT -> result.append(transpilePERCENT(ast.getChildren(child)));
+                case NameDataRef -> result.append(transpileNameDataRef(ast.getChildren(child)));
+                case SubstringRange -> {
                     substringSlice = transpileSubstringRange(ast.getChildren(child));
                     substringSlice = substringSlice.substring(1, substringSlice.length() - 1);
                     // If stride included, swap indices
@@ -3313,16 +3951,19 @@ public class JuliaCodeGenerator {
                         substringSlice = swapIndices(substringSlice);
                     }
                 }
-                case "Expr" -> {
+                case Expr -> {
                     String expr = transpileExpr(ast.getChildren(child));
                     if (expr.contains("\"")) {
                         listOfArrays.add(name);
                         result.append(expr);
+                    } else if (scoped && !listOfFunctions.contains(name) && "INTEGER".equals(scope.typeOf(name))) {
+                        // Fortran truncates a REAL assigned to an INTEGER, where Julia would not convert it
+                        result.append("trunc(Int, " + expr + ")");
                     } else {
                         result.append(expr);
                     }
                 }
-                case "EOS" -> result.append(transpileEOS(ast.getChildren(child)));
+                case EOS -> result.append(transpileEOS(ast.getChildren(child)));
             }
         }
 
@@ -3338,22 +3979,28 @@ public class JuliaCodeGenerator {
     private String transpilePrintStmt(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblDef" -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
-                case "PRINT" -> {
+            switch (child.getKind()) {
+                case LblDef -> result.append(addLabel(transpileLblDef(ast.getChildren(child))));
+                case PRINT -> {
                 }
-                case "FormatIdentifier" -> {
+                case FormatIdentifier -> {
                     String fmt = transpileFormatIdentifier(ast.getChildren(child));
                     if (fmt.equals("*")) {
                         result.append("println(");
+                        listDirected = true;
+                    } else if (labelsToStatements.containsKey(fmt)) {
+                        result.append("Printf.format(stdout, " + labelsToStatements.get(fmt) + ", ");
                     } else {
                         result.append("@printf(" + fmt + ", ");
                     }
                 }
-                case "COMMA" -> {
+                case COMMA -> {
+                }
+                case OutputItemList -> {
+                    result.append(transpileOutputItemList(ast.getChildren(child)));
+                    listDirected = false;
                 }
-                case "OutputItemList" -> result.append(transpileOutputItemList(ast.getChildren(child)));
-                case "EOS" -> {
+                case EOS -> {
                     result.append(")");
                     result.append(transpileEOS(ast.getChildren(child)));
                 }
@@ -3365,10 +4012,10 @@ public class JuliaCodeGenerator {
     private String transpileFormatIdentifier(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LblRef" -> result.append(transpileLblRef(ast.getChildren(child)));
-                case "CExpr" -> result.append(transpileCExpr(ast.getChildren(child)));
-                case "STAR" -> result.append(transpileSTAR(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LblRef -> result.append(transpileLblRef(ast.getChildren(child)));
+                case CExpr -> result.append(transpileCExpr(ast.getChildren(child)));
+                case STAR -> result.append(transpileSTAR(ast.getChildren(child)));
             }
         }
 
@@ -3376,74 +4023,59 @@ public class JuliaCodeGenerator {
     }
 
     private String transpileOutputImpliedDo(List<Ast.Node<String>> childNodes) throws IOException {
-        StringBuilder result = new StringBuilder();
+        // Only the outermost list is joined, the lists nested in it give it their items
+        boolean joined = listDirected;
+        listDirected = false;
+
         List<String> listExpr = new ArrayList<>();
         List<String> outputVars = new ArrayList<>();
         boolean isOutputVar = true;
+        boolean single = true;
         String doVar = "";
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "Expr" -> {
+            switch (child.getKind()) {
+                case Expr -> {
                     if (isOutputVar) {
                         outputVars.add(transpileExpr(ast.getChildren(child)));
                     } else {
                         listExpr.add(transpileExpr(ast.getChildren(child)));
                     }
                 }
-                case "COMMA" -> {
+                case COMMA -> {
                 }
-                case "ImpliedDoVariable" -> {
+                case ImpliedDoVariable -> {
                     doVar = transpileImpliedDoVariable(ast.getChildren(child));
                     isOutputVar = false; // next expressions are bounds
                 }
-                case "EQUAL" -> {
+                case EQUAL -> {
                 }
-                case "OutputItemList1" -> {
-                    outputVars.addAll(List.of(transpileOutputItemList1(ast.getChildren(child)).split(",")));
+                case OutputItemList1 -> {
+                    outputVars.add(transpileOutputItemList1(ast.getChildren(child)));
+                    single = false;
                 }
             }
         }
 
-        StringBuilder outVars = new StringBuilder();
+        String range = " for " + doVar + " in " + impliedDoRange(listExpr);
+        String items = single ? "(" + outputVars.get(0) + range + ")"
+                : "Iterators.flatten((" + String.join(", ", outputVars) + ",)" + range + ")";
 
-        for (String var : outputVars) {
-            outVars.append(var + " ");
-        }
+        listDirected = joined;
 
-        // Case of 2 bounds
-        if (listExpr.size() == 2) {
-            result.append("for " + doVar + " in " + listExpr.get(0) + ":" + listExpr.get(1) + "\n");
-            pushTab();
-            result.append(currentIndent + "println(" + outVars + ")\n"); // Output so print
-            popTab();
-            result.append(currentIndent + "end\n");
-        }
-        // Case of 1 bound
-        else if (listExpr.size() == 2) {
-            String toPrint = listExpr.get(0);
-            result.append("for " + doVar + " in 1:" + listExpr.get(1) + "\n");
-            pushTab();
-            result.append(currentIndent + "println(" + outVars + ")\n"); // Output so print
-            popTab();
-            result.append(currentIndent + "end\n");
-            // Case of strided bounds
-        } else if (listExpr.size() == 3) {
-            result.append(currentIndent + "for " + doVar + " in " + listExpr.get(0) + ":" + listExpr.get(1) + ":" + listExpr.get(2) + "\n");
-            pushTab();
-            result.append(currentIndent + "println(" + outVars + ")\n"); // Output so print
-            popTab();
-            result.append(currentIndent + "end\n");
+        // List-directed output separates the items by blanks, a format is given them as arguments. Either way they go
+        // straight to the output from a generator, without a loop or an array
+        if (joined) {
+            return "join(" + items + ", \" \")";
         }
-
-        return result.toString();
+        return items + "...";
     }
 
     private String transpileCExpr(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "CPrimary" -> result.append(transpileCPrimary(ast.getChildren(child)));
-                case "CPrimaryConcatOp" -> result.append(transpileCPrimaryConcatOp(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case CPrimary -> result.append(transpileCPrimary(ast.getChildren(child)));
+                case CPrimaryConcatOp -> result.append(transpileCPrimaryConcatOp(ast.getChildren(child)));
             }
         }
 
@@ -3453,9 +4085,9 @@ public class JuliaCodeGenerator {
     private String transpileCPrimaryConcatOp(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "CPrimary" -> result.append(transpileCPrimary(ast.getChildren(child)));
-                case "ConcatOp" -> result.append(transpileConcatOp(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case CPrimary -> result.append(transpileCPrimary(ast.getChildren(child)));
+                case ConcatOp -> result.append(transpileConcatOp(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3464,7 +4096,7 @@ public class JuliaCodeGenerator {
     private String transpileImpliedDoVariable(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -3475,11 +4107,11 @@ public class JuliaCodeGenerator {
     private String transpileCPrimary(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "CExpr" -> result.append(transpileCExpr(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
-                case "COperand" -> result.append(transpileCOperand(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case CExpr -> result.append(transpileCExpr(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
+                case COperand -> result.append(transpileCOperand(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3488,10 +4120,10 @@ public class JuliaCodeGenerator {
     private String transpileCOperand(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SCON" -> result.append(transpileSCON(ast.getChildren(child)));
-                case "NameDataRef" -> result.append(transpileNameDataRef(ast.getChildren(child)));
-                case "FunctionReference" -> result.append(transpileFunctionReference(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SCON -> result.append(transpileSCON(ast.getChildren(child)));
+                case NameDataRef -> result.append(transpileNameDataRef(ast.getChildren(child)));
+                case FunctionReference -> result.append(transpileFunctionReference(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3500,10 +4132,10 @@ public class JuliaCodeGenerator {
     private String transpileSectionSubscriptRef(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "SectionSubscriptList" -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case SectionSubscriptList -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3512,11 +4144,11 @@ public class JuliaCodeGenerator {
     private String transpileSubstringRange(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "LPAREN" -> result.append(transpileLPAREN(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "SubscriptTripletTail" -> result.append(transpileSubscriptTripletTail(ast.getChildren(child)));
-                case "RPAREN" -> result.append(transpileRPAREN(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case LPAREN -> result.append(transpileLPAREN(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case SubscriptTripletTail -> result.append(transpileSubscriptTripletTail(ast.getChildren(child)));
+                case RPAREN -> result.append(transpileRPAREN(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3525,10 +4157,10 @@ public class JuliaCodeGenerator {
     private String transpileSectionSubscriptList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SectionSubscript" -> result.append(transpileSectionSubscript(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SectionSubscriptList" -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SectionSubscript -> result.append(transpileSectionSubscript(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SectionSubscriptList -> result.append(transpileSectionSubscriptList(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3537,10 +4169,10 @@ public class JuliaCodeGenerator {
     private String transpileSFDummyArgNameList(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SFDummyArgName" -> result.append(transpileSFDummyArgName(ast.getChildren(child)));
-                case "COMMA" -> result.append(transpileCOMMA(ast.getChildren(child)));
-                case "SFDummyArgNameList" -> result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SFDummyArgName -> result.append(transpileSFDummyArgName(ast.getChildren(child)));
+                case COMMA -> result.append(transpileCOMMA(ast.getChildren(child)));
+                case SFDummyArgNameList -> result.append(transpileSFDummyArgNameList(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3549,7 +4181,7 @@ public class JuliaCodeGenerator {
     private String transpileSFDummyArgName(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            if (child.getData().equals("Ident")) {
+            if (child.getKind() == NodeKind.Ident) {
                 result.append(transpileIdent(ast.getChildren(child)));
             }
         }
@@ -3559,10 +4191,10 @@ public class JuliaCodeGenerator {
     private String transpileSubscriptTripletTail(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "COLON" -> result.append(transpileCOLON(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
-                case "COLON_COLON" -> result.append(transpileCOLON_COLON(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case COLON -> result.append(transpileCOLON(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
+                case COLON_COLON -> result.append(transpileCOLON_COLON(ast.getChildren(child)));
             }
         }
         return result.toString();
@@ -3571,9 +4203,9 @@ public class JuliaCodeGenerator {
     private String transpileSectionSubscript(List<Ast.Node<String>> childNodes) throws IOException {
         StringBuilder result = new StringBuilder();
         for (Ast.Node<String> child : childNodes) {
-            switch (child.getData()) {
-                case "SubscriptTripletTail" -> result.append(transpileSubscriptTripletTail(ast.getChildren(child)));
-                case "Expr" -> result.append(transpileExpr(ast.getChildren(child)));
+            switch (child.getKind()) {
+                case SubscriptTripletTail -> result.append(transpileSubscriptTripletTail(ast.getChildren(child)));
+                case Expr -> result.append(transpileExpr(ast.getChildren(child)));
             }
         }
 
@@ -5,6 +5,13 @@ import org.apache.log4j.Logger;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Automatically generates macro file for any Julia programming.
@@ -24,29 +31,81 @@ public class JuliaMacroGenerator {
     private final File file;
 
     /**
-     * Filewriter
+     * Writer that macro definitions are written to
      */
-    private FileWriter fileWriter = null;
+    private Writer fileWriter = null;
+
+    /**
+     * Macros written in this run, keyed by canonical output directory
+     */
+    private static final ConcurrentHashMap<String, String> writtenMacros = new ConcurrentHashMap<>();
 
     /**
      * Generates macro file to their specified output directory
      * @param outputDir
      */
     public JuliaMacroGenerator(String outputDir) {
-        logger.info("Creating new macros.jl file in " + outputDir);
+        logger.info("Creating macros.jl generator for " + outputDir);
 
         this.outputDir = outputDir;
         this.file = new File(outputDir, "macros.jl");
     }
 
     /**
-     * Writes macro definitions in macros file
+     * Writes macro definitions in macros file. The file is written at most once per directory in a run, or not at all if
+     * it already holds the same macros. Files transpiled in parallel into one directory share the single write.
      * @throws IOException
      */
     public void generateMacroCode() throws IOException {
-        logger.info("Writing into macros.jl...");
+        String macros = renderMacros();
+        String directory = file.getCanonicalFile().getParent();
+
+        try {
+            writtenMacros.compute(directory, (key, written) -> {
+                if (macros.equals(written) && file.isFile()) {
+                    logger.info("macros.jl already written in " + outputDir);
+                    return written;
+                }
+
+                writeIfChanged(macros);
+                return macros;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes macros file unless its contents are already the same
+     * @param macros Macro definitions
+     */
+    private void writeIfChanged(String macros) {
+        try {
+            if (file.isFile() && Arrays.equals(Files.readAllBytes(file.toPath()), macros.getBytes(Charset.defaultCharset()))) {
+                logger.info("macros.jl up to date in " + outputDir);
+                return;
+            }
+
+            logger.info("Writing into macros.jl...");
+
+            try (FileWriter writer = new FileWriter(file)) {
+                writer.write(macros);
+            }
+
+            logger.info("Finished writing into macros.jl");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        setFileWriter(new FileWriter(file));
+    /**
+     * Builds macro definitions of macros file
+     * @return Contents of macros file
+     * @throws IOException
+     */
+    private String renderMacros() throws IOException {
+        StringWriter macros = new StringWriter();
+        setFileWriter(macros);
 
         fileWriter.write("# macros.jl\n\n");
 
@@ -74,9 +133,7 @@ public class JuliaMacroGenerator {
 
         writeParseInput();
 
-        fileWriter.close();
-
-        logger.info("Finished writing into macros.jl");
+        return macros.toString();
     }
 
     private void writeDefineConst() throws IOException {
@@ -100,7 +157,7 @@ public class JuliaMacroGenerator {
     }
 
     private void writeLoopAndConcatArray() throws IOException {
-        fileWriter.write("macro loop_and_concat_array(arr, x, y, var)\n\tquote\n\t\tresult = []\n\t\tfor elem in $(esc(arr))[$(esc(x)):$(esc(y))]\n\t\t\tresult = vcat(result, elem)\n\t\tend\n\t\tresult\n\tend\nend\n\n");
+        fileWriter.write("macro loop_and_concat_array(arr, x, y, var)\n\tquote\n\t\tsrc = $(esc(arr))\n\t\tr = $(esc(x)):$(esc(y))\n\t\tresult = similar(src, length(r))\n\t\tfor (i, elem) in enumerate(r)\n\t\t\tresult[i] = src[elem]\n\t\tend\n\t\tresult\n\tend\nend\n\n");
     }
 
     private void writeConditionalGoto() throws IOException {
@@ -126,7 +183,7 @@ public class JuliaMacroGenerator {
         fileWriter.write("function parse_input(a)\n\tif try_parse(a, Int) == true\n\t\treturn parse(Int, a)\n\telseif try_parse(a, Float64) == true\n\t\treturn parse(Float64, a)\n\telse\n\t\treturn a\n\tend\nend\n");
     }
 
-    public void setFileWriter(FileWriter fileWriter) {
+    public void setFileWriter(Writer fileWriter) {
         this.fileWriter = fileWriter;
     }
 }
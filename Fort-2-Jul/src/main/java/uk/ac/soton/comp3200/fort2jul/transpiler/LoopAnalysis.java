@@ -0,0 +1,1197 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import org.apache.log4j.Logger;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.NodeKind;
+
+import java.util.*;
+
+/**
+ * DO loops of a program unit that can be generated without bounds checks, found in one pass over the unit before it is
+ * generated. A loop is marked @inbounds when every array element it indexes can be shown to lie within its array. Each
+ * subscript must be an affine function of the loop variables, such as 2*I-1, whose least and greatest values over the
+ * loops around it lie within the declared upper bound. Arrays are created from 1 whatever their declared lower bound,
+ * see transpileExplicitShapeSpec, so 1 is the lower bound of every dimension. Names other than loop variables may only
+ * be PARAMETERs or INTEGER arguments the unit never assigns. No GOTO may leave the loop or enter it from outside, as it
+ * would skip the end or the start of the @inbounds block.
+ *
+ * A loop is also marked @simd when its iterations are independent. It may only hold assignments, each array it
+ * assigns to must always be indexed by the same subscripts, which move with the loop variable, and each scalar it
+ * assigns must either be assigned before it is used in an iteration or be a sum or product carried from one iteration
+ * to the next. A scalar in COMMON is global, so is shared by every iteration, and a loop assigning to one is left
+ * without @simd.
+ *
+ * Loops are only analysed for function-scoped code, see JuliaCodeGenerator.setScoped. Elsewhere loops run at global
+ * scope or assign to global variables, where neither macro makes them faster.
+ *
+ * Only what the unit itself declares is consulted, so a unit generated on its own has the same loops marked as when it
+ * is generated with its program.
+ */
+class LoopAnalysis {
+
+    private static final Logger logger = Logger.getLogger(LoopAnalysis.class);
+
+    /**
+     * Deepest chain of PARAMETERs defined by other PARAMETERs followed
+     */
+    private static final int PARAMETER_DEPTH = 8;
+
+    /**
+     * An array element or whole array named by a statement
+     * @param name Name of array
+     * @param subscripts Source text of each subscript, null for the whole array
+     * @param assigned Whether the statement assigns to it
+     */
+    private record Reference(String name, List<String> subscripts, boolean assigned) {
+
+        @Override
+        public String toString() {
+            return subscripts == null ? name : name + "(" + String.join(",", subscripts) + ")";
+        }
+    }
+
+    /**
+     * An executable statement of the unit
+     */
+    private static final class Statement {
+
+        private final Ast.Node<String> node;
+
+        /**
+         * Label of statement, null if it has none
+         */
+        private String label = null;
+
+        /**
+         * Innermost loop the statement is executed in, null if none
+         */
+        private Loop loop = null;
+
+        private final List<Reference> references = new ArrayList<>();
+
+        /**
+         * Labels the statement may jump to
+         */
+        private final List<String> jumps = new ArrayList<>();
+
+        /**
+         * Whether the statement calls a subroutine or a function of the program
+         */
+        private boolean calls = false;
+
+        /**
+         * Name followed by parentheses that is neither an array nor a known function, null if none
+         */
+        private String unknown = null;
+
+        /**
+         * Why some element the statement indexes may lie outside its array, null if none may, see unchecked
+         */
+        private String unchecked = null;
+
+        private boolean checked = false;
+
+        private Statement(Ast.Node<String> node) {
+            this.node = node;
+        }
+    }
+
+    /**
+     * A labelled DO loop, from its DO statement to the statement with its label
+     */
+    private static final class Loop {
+
+        private final Statement header;
+
+        /**
+         * Index of DO statement
+         */
+        private final int start;
+
+        /**
+         * Index of last statement, -1 if no statement has the label of the loop
+         */
+        private int end = -1;
+
+        private String label = "";
+
+        private String variable = "";
+
+        /**
+         * Loop this loop is in, null if none
+         */
+        private final Loop parent;
+
+        /**
+         * Least and greatest values of the variable, null if either cannot be written as affine functions
+         */
+        private Linear low = null;
+        private Linear high = null;
+
+        /**
+         * Why low and high are null
+         */
+        private String unbounded = null;
+
+        private Loop(Statement header, int start, Loop parent) {
+            this.header = header;
+            this.start = start;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Affine function of names with integer coefficients
+     */
+    private static final class Linear {
+
+        private static final Linear ZERO = new Linear(new TreeMap<>(), 0);
+
+        /**
+         * Coefficient of each name, none of them 0
+         */
+        private final TreeMap<String, Long> terms;
+
+        private final long constant;
+
+        private Linear(TreeMap<String, Long> terms, long constant) {
+            this.terms = terms;
+            this.constant = constant;
+        }
+
+        static Linear of(long constant) {
+            return new Linear(new TreeMap<>(), constant);
+        }
+
+        static Linear of(String name) {
+            TreeMap<String, Long> terms = new TreeMap<>();
+            terms.put(name, 1L);
+
+            return new Linear(terms, 0);
+        }
+
+        Linear plus(Linear other) {
+            TreeMap<String, Long> sum = new TreeMap<>(terms);
+            other.terms.forEach((name, coefficient) -> {
+                long total = Math.addExact(sum.getOrDefault(name, 0L), coefficient);
+                if (total == 0) {
+                    sum.remove(name);
+                } else {
+                    sum.put(name, total);
+                }
+            });
+
+            return new Linear(sum, Math.addExact(constant, other.constant));
+        }
+
+        Linear times(long factor) {
+            if (factor == 0) {
+                return ZERO;
+            }
+
+            TreeMap<String, Long> product = new TreeMap<>();
+            terms.forEach((name, coefficient) -> product.put(name, Math.multiplyExact(coefficient, factor)));
+
+            return new Linear(product, Math.multiplyExact(constant, factor));
+        }
+
+        long coefficient(String name) {
+            return terms.getOrDefault(name, 0L);
+        }
+
+        /**
+         * Replaces a name by a function
+         * @param name Name
+         * @param value Function
+         * @return Function
+         */
+        Linear substitute(String name, Linear value) {
+            long coefficient = coefficient(name);
+            if (coefficient == 0) {
+                return this;
+            }
+
+            TreeMap<String, Long> rest = new TreeMap<>(terms);
+            rest.remove(name);
+
+            return new Linear(rest, constant).plus(value.times(coefficient));
+        }
+
+        boolean isConstant() {
+            return terms.isEmpty();
+        }
+    }
+
+    private final Ast<String> ast;
+
+    private final SymbolTable symbols;
+
+    private final SymbolTable.Scope scope;
+
+    /**
+     * Names of intrinsic functions the generator knows
+     */
+    private final Set<String> intrinsics;
+
+    /**
+     * Executable statements of the unit in source order
+     */
+    private final List<Statement> statements = new ArrayList<>();
+
+    private final List<Loop> loops = new ArrayList<>();
+
+    /**
+     * Names the unit assigns, reads into or passes to a subroutine or function of the program
+     */
+    private final Set<String> assigned = new HashSet<>();
+
+    /**
+     * Index of the statement with each label
+     */
+    private final HashMap<String, Integer> labelled = new HashMap<>();
+
+    /**
+     * Indices of the statements that may jump to each label
+     */
+    private final HashMap<String, List<Integer>> jumpsTo = new HashMap<>();
+
+    /**
+     * Macros to write before each LabelDoStmt node, loops not in the map get none
+     */
+    private final IdentityHashMap<Ast.Node<String>, String> macros = new IdentityHashMap<>();
+
+    private LoopAnalysis(Ast<String> ast, SymbolTable symbols, Ast.Node<String> unit, Set<String> intrinsics) {
+        this.ast = ast;
+        this.symbols = symbols;
+        this.scope = symbols.scope(unit);
+        this.intrinsics = intrinsics;
+    }
+
+    /**
+     * Finds the loops of a program unit that need no bounds checks, logging why each other loop does
+     * @param ast AST the unit belongs to
+     * @param symbols Symbol table of the unit
+     * @param unit ProgramUnit node
+     * @param intrinsics Names of intrinsic functions the generator knows
+     * @return Loop analysis
+     */
+    static LoopAnalysis analyse(Ast<String> ast, SymbolTable symbols, Ast.Node<String> unit, Set<String> intrinsics) {
+        LoopAnalysis analysis = new LoopAnalysis(ast, symbols, unit, intrinsics);
+
+        analysis.findStatements(unit);
+        for (int i = 0; i < analysis.statements.size(); i++) {
+            analysis.collect(i);
+        }
+        for (Loop loop : analysis.loops) {
+            analysis.bound(loop);
+        }
+        for (Loop loop : analysis.loops) {
+            analysis.mark(loop);
+        }
+
+        return analysis;
+    }
+
+    /**
+     * Macros to write before a loop
+     * @param labelDoStmt LabelDoStmt node
+     * @return "@inbounds ", "@inbounds @simd " or ""
+     */
+    String macros(Ast.Node<String> labelDoStmt) {
+        return macros.getOrDefault(labelDoStmt, "");
+    }
+
+    /**
+     * Lists the executable statements of a unit in source order, with the statement of an IF statement after it, and
+     * finds the loops they make up
+     * @param unit ProgramUnit node
+     */
+    private void findStatements(Ast.Node<String> unit) {
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        stack.push(unit);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> node = stack.pop();
+
+            switch (node.getKind()) {
+                case ActionStmt -> {
+                    for (Ast.Node<String> child : ast.getChildren(node)) {
+                        statements.add(new Statement(child));
+                        symbols.pushChildren(child, stack);
+                    }
+                }
+                case LabelDoStmt, IfThenStmt, ElseIfStmt, ElseStmt, EndIfStmt -> statements.add(new Statement(node));
+                case SpecificationPartConstruct, Expr -> {
+                }
+                default -> symbols.pushChildren(node, stack);
+            }
+        }
+
+        Deque<Loop> open = new ArrayDeque<>();
+
+        for (int i = 0; i < statements.size(); i++) {
+            Statement statement = statements.get(i);
+            statement.loop = open.peek();
+
+            for (Ast.Node<String> child : ast.getChildren(statement.node)) {
+                if (child.getKind() == NodeKind.LblDef) {
+                    statement.label = label(symbols.text(child));
+                    labelled.put(statement.label, i);
+                }
+            }
+
+            if (statement.node.getKind() == NodeKind.LabelDoStmt) {
+                Loop loop = new Loop(statement, i, open.peek());
+                for (Ast.Node<String> child : ast.getChildren(statement.node)) {
+                    if (child.getKind() == NodeKind.DoLblRef) {
+                        loop.label = label(symbols.text(child));
+                    }
+                }
+                loops.add(loop);
+                open.push(loop);
+                continue;
+            }
+
+            // Loops sharing a label all end at it, any left open inside them have no end
+            if (statement.label != null && open.stream().anyMatch(loop -> loop.label.equals(statement.label))) {
+                Loop loop;
+                do {
+                    loop = open.pop();
+                    if (loop.label.equals(statement.label)) {
+                        loop.end = i;
+                    }
+                } while (!open.isEmpty() && (!loop.label.equals(statement.label)
+                        || open.peek().label.equals(statement.label)));
+            }
+        }
+    }
+
+    /**
+     * Finds the arrays, jumps and assignments of a statement
+     * @param index Index of statement
+     */
+    private void collect(int index) {
+        Statement statement = statements.get(index);
+
+        switch (statement.node.getKind()) {
+            case AssignmentStmt -> collectAssignment(statement);
+            case CallStmt -> {
+                statement.calls = true;
+                for (Ast.Node<String> argument : symbols.descendants(statement.node, NodeKind.SubroutineArg)) {
+                    assignArgument(argument);
+                }
+            }
+        }
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        symbols.pushChildren(statement.node, stack);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> node = stack.pop();
+
+            switch (node.getKind()) {
+                // The statement of an IF statement is a statement of its own
+                case ActionStmt, LblDef -> {
+                }
+                case LblRef -> {
+                    String label = label(symbols.text(node));
+                    statement.jumps.add(label);
+                    jumpsTo.computeIfAbsent(label, key -> new ArrayList<>()).add(index);
+                }
+                case NameDataRef -> {
+                    collectNameDataRef(node, statement);
+                    symbols.pushChildren(node, stack);
+                }
+                case FunctionReference -> collectCall(symbols.identifier(node), null, statement);
+                case Variable -> {
+                    List<Ast.Node<String>> subscripts = symbols.descendants(node, NodeKind.Subscript);
+                    collectReference(symbols.identifier(node), subscripts.isEmpty() ? null : subscripts, true, statement);
+                    symbols.pushChildren(node, stack);
+                }
+                case VariableName, ImpliedDoVariable -> assigned.add(symbols.identifier(node));
+                default -> symbols.pushChildren(node, stack);
+            }
+        }
+    }
+
+    /**
+     * Finds the variable or array element an assignment is to, its subscripts and value are found by collect
+     * @param statement AssignmentStmt statement
+     */
+    private void collectAssignment(Statement statement) {
+        String name = "";
+        List<Ast.Node<String>> subscripts = null;
+
+        for (Ast.Node<String> child : ast.getChildren(statement.node)) {
+            switch (child.getKind()) {
+                case Name -> name = symbols.identifier(child);
+                case SFExprList -> subscripts = symbols.descendants(child, NodeKind.Expr);
+            }
+        }
+
+        if (subscripts != null && !scope.is(name, SymbolTable.Kind.ARRAY)) {
+            // A statement function, or a substring of a scalar
+            statement.unknown = name;
+        }
+        collectReference(name, subscripts, true, statement);
+    }
+
+    private void collectNameDataRef(Ast.Node<String> node, Statement statement) {
+        String name = "";
+        List<Ast.Node<String>> subscripts = null;
+
+        for (Ast.Node<String> child : ast.getChildren(node)) {
+            switch (child.getKind()) {
+                case Name -> name = symbols.identifier(child);
+                case ComplexDataRefTail -> subscripts = symbols.descendants(child, NodeKind.SectionSubscript);
+            }
+        }
+
+        if (scope.is(name, SymbolTable.Kind.ARRAY)) {
+            collectReference(name, subscripts, false, statement);
+        } else if (subscripts != null) {
+            collectCall(name, subscripts, statement);
+        }
+    }
+
+    private void collectReference(String name, List<Ast.Node<String>> subscripts, boolean assigns,
+                                  Statement statement) {
+        if (!scope.is(name, SymbolTable.Kind.ARRAY)) {
+            if (assigns) {
+                assigned.add(name);
+            }
+            return;
+        }
+
+        List<String> texts = null;
+        if (subscripts != null) {
+            texts = new ArrayList<>();
+            for (Ast.Node<String> subscript : subscripts) {
+                texts.add(symbols.text(subscript));
+            }
+        }
+
+        statement.references.add(new Reference(name, texts, assigns));
+        if (assigns && subscripts == null) {
+            assigned.add(name);
+        }
+    }
+
+    /**
+     * Notes a call to a function. Any name not known to be a function may be an array of another unit, so the
+     * generator may index it
+     * @param name Name of function
+     * @param arguments Argument nodes, null if none
+     * @param statement Statement
+     */
+    private void collectCall(String name, List<Ast.Node<String>> arguments, Statement statement) {
+        if (scope.is(name, SymbolTable.Kind.FUNCTION) || scope.is(name, SymbolTable.Kind.EXTERNAL)) {
+            statement.calls = true;
+            if (arguments != null) {
+                arguments.forEach(this::assignArgument);
+            }
+        } else if (!intrinsics.contains(name) && statement.unknown == null) {
+            statement.unknown = name;
+        }
+    }
+
+    /**
+     * Notes that a subroutine or function may assign to a variable passed to it
+     * @param argument Argument node
+     */
+    private void assignArgument(Ast.Node<String> argument) {
+        String text = symbols.text(argument);
+
+        if (isName(text)) {
+            assigned.add(text);
+        }
+    }
+
+    /**
+     * Finds the range of the variable of a loop
+     * @param loop Loop
+     */
+    private void bound(Loop loop) {
+        Ast.Node<String> control = symbols.descendants(loop.header.node, NodeKind.LoopControl).stream().findFirst()
+                .orElse(null);
+        if (control == null) {
+            loop.unbounded = "it has no loop control";
+            return;
+        }
+
+        List<String> values = new ArrayList<>();
+        String step = "1";
+        for (Ast.Node<String> child : ast.getChildren(control)) {
+            switch (child.getKind()) {
+                case VariableName -> loop.variable = symbols.identifier(child);
+                case Expr -> values.add(symbols.text(child));
+                case CommaExpr -> step = symbols.text(child).substring(1);
+            }
+        }
+
+        if (!"INTEGER".equals(scope.typeOf(loop.variable))) {
+            loop.unbounded = loop.variable + " is not INTEGER";
+            return;
+        }
+        if (values.size() != 2) {
+            loop.unbounded = "its range is not a first and last value";
+            return;
+        }
+        for (int i = loop.start + 1; loop.end >= 0 && i <= loop.end; i++) {
+            if (assignsScalar(statements.get(i), loop.variable)) {
+                loop.unbounded = loop.variable + " is assigned in the loop";
+                return;
+            }
+        }
+
+        try {
+            Affine reader = new Affine(loop.parent);
+            Linear first = reader.read(values.get(0));
+            Linear last = first == null ? null : reader.read(values.get(1));
+            Linear increment = last == null ? null : reader.read(step);
+
+            if (increment == null) {
+                loop.unbounded = "the range of " + loop.variable + " " + reader.reason;
+            } else if (!increment.isConstant() || increment.constant == 0) {
+                loop.unbounded = "the step of " + loop.variable + " is not a constant";
+            } else {
+                loop.low = increment.constant > 0 ? first : last;
+                loop.high = increment.constant > 0 ? last : first;
+            }
+        } catch (ArithmeticException e) {
+            loop.unbounded = "the range of " + loop.variable + " overflows";
+        }
+    }
+
+    /**
+     * Decides the macros of a loop and logs why
+     * @param loop Loop
+     */
+    private void mark(Loop loop) {
+        String name = "DO " + loop.label + " " + loop.variable + " in "
+                + (scope.name().isEmpty() ? "main program" : scope.name());
+
+        String unchecked = unchecked(loop);
+        if (unchecked != null) {
+            logger.info(name + " keeps bounds checks, " + unchecked + " [LoopAnalysis]");
+            return;
+        }
+
+        String dependent = dependent(loop);
+        if (dependent != null) {
+            macros.put(loop.header.node, "@inbounds ");
+            logger.info(name + " is @inbounds but not @simd, " + dependent + " [LoopAnalysis]");
+        } else {
+            macros.put(loop.header.node, "@inbounds @simd ");
+            logger.info(name + " is @inbounds @simd [LoopAnalysis]");
+        }
+    }
+
+    /**
+     * Finds why a loop needs bounds checks
+     * @param loop Loop
+     * @return Reason, null if it needs none
+     */
+    private String unchecked(Loop loop) {
+        if (loop.end < 0) {
+            return "no statement labelled " + loop.label + " ends it";
+        }
+        if (statements.get(loop.end).node.getKind() != NodeKind.ContinueStmt) {
+            return "it does not end with CONTINUE";
+        }
+
+        // The generator ends the innermost loop open at each CONTINUE
+        int open = 0;
+        for (int i = loop.start; i <= loop.end; i++) {
+            switch (statements.get(i).node.getKind()) {
+                case LabelDoStmt -> open++;
+                case ContinueStmt -> {
+                    open--;
+                    if (open == 0 && i < loop.end) {
+                        return "a CONTINUE before its end would end it";
+                    }
+                }
+            }
+        }
+        if (open != 0) {
+            return "it shares its CONTINUE with another loop";
+        }
+
+        boolean indexes = false;
+
+        for (int i = loop.start + 1; i <= loop.end; i++) {
+            Statement statement = statements.get(i);
+
+            switch (statement.node.getKind()) {
+                case AssignedGotoStmt, AssignStmt -> {
+                    return "it has an assigned GOTO";
+                }
+            }
+
+            for (String label : statement.jumps) {
+                Integer target = labelled.get(label);
+                if (target == null || target <= loop.start || target > loop.end) {
+                    return "it jumps to label " + label + " outside it";
+                }
+            }
+
+            if (statement.label != null) {
+                for (int from : jumpsTo.getOrDefault(statement.label, List.of())) {
+                    if (from <= loop.start || from > loop.end) {
+                        return "label " + statement.label + " in it is jumped to from outside";
+                    }
+                }
+            }
+
+            String reason = unchecked(statement);
+            if (reason != null) {
+                return reason;
+            }
+
+            indexes |= statement.references.stream().anyMatch(reference -> reference.subscripts() != null);
+        }
+
+        return indexes ? null : "it indexes no array";
+    }
+
+    /**
+     * Finds why an element a statement indexes may lie outside its array, once for each statement
+     * @param statement Statement
+     * @return Reason, null if none may
+     */
+    private String unchecked(Statement statement) {
+        if (statement.checked) {
+            return statement.unchecked;
+        }
+        statement.checked = true;
+
+        if (statement.unknown != null) {
+            statement.unchecked = statement.unknown + " is neither an array nor a known function";
+            return statement.unchecked;
+        }
+
+        for (Reference reference : statement.references) {
+            if (reference.subscripts() == null) {
+                continue;
+            }
+
+            try {
+                statement.unchecked = unchecked(reference, statement.loop);
+            } catch (ArithmeticException e) {
+                statement.unchecked = "the bounds of " + reference + " overflow";
+            }
+            if (statement.unchecked != null) {
+                break;
+            }
+        }
+
+        return statement.unchecked;
+    }
+
+    /**
+     * Finds why an array element may lie outside its array
+     * @param reference Array element
+     * @param loop Innermost loop it is indexed in
+     * @return Reason, null if it lies within
+     */
+    private String unchecked(Reference reference, Loop loop) {
+        SymbolTable.Symbol symbol = scope.lookup(reference.name());
+
+        if (symbol.is(SymbolTable.Kind.COMMON)) {
+            return reference.name() + " is in COMMON, other units may declare it differently";
+        }
+
+        List<SymbolTable.Bound> dimensions = symbol.dimensions();
+        if (dimensions.size() != reference.subscripts().size()) {
+            return reference + " does not have a subscript for each dimension";
+        }
+
+        for (int i = 0; i < dimensions.size(); i++) {
+            String upper = dimensions.get(i).upper();
+            String subscript = reference.subscripts().get(i);
+
+            if (upper.equals("*")) {
+                return reference.name() + " is of assumed size";
+            }
+
+            Affine reader = new Affine(null);
+            Linear bound = reader.read(upper);
+            if (bound == null) {
+                return "the bound " + upper + " of " + reference.name() + " " + reader.reason;
+            }
+
+            reader = new Affine(loop);
+            Linear index = reader.read(subscript);
+            if (index == null) {
+                return "subscript " + subscript + " of " + reference.name() + " " + reader.reason;
+            }
+
+            Linear least = least(index, loop);
+            if (!least.isConstant() || least.constant < 1) {
+                return reference + " may be below 1" + because(least, loop);
+            }
+
+            Linear room = least(bound.plus(index.times(-1)), loop);
+            if (!room.isConstant() || room.constant < 0) {
+                return reference + " may be above " + upper + because(room, loop);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Least value of a function over the iterations of a loop and the loops around it, eliminating the variable of
+     * each loop from the innermost out
+     * @param function Function of loop variables and unchanging names
+     * @param loop Innermost loop
+     * @return Least value, a function of the names left if it depends on anything but loop variables with a range
+     */
+    private Linear least(Linear function, Loop loop) {
+        for (; loop != null; loop = loop.parent) {
+            long coefficient = function.coefficient(loop.variable);
+
+            if (coefficient != 0) {
+                if (loop.low == null) {
+                    return function;
+                }
+                function = function.substitute(loop.variable, coefficient > 0 ? loop.low : loop.high);
+            }
+        }
+
+        return function;
+    }
+
+    /**
+     * Explains what a least value left as a function depends on
+     * @param least Least value
+     * @param loop Innermost loop
+     * @return Explanation, "" for a constant
+     */
+    private static String because(Linear least, Loop loop) {
+        for (; loop != null; loop = loop.parent) {
+            if (least.coefficient(loop.variable) != 0 && loop.unbounded != null) {
+                return ", as " + loop.unbounded;
+            }
+        }
+
+        return least.isConstant() ? "" : ", as it depends on " + String.join(", ", least.terms.keySet());
+    }
+
+    /**
+     * Finds why the iterations of a loop may depend on each other
+     * @param loop Loop, needing no bounds checks
+     * @return Reason, null if they are independent
+     */
+    private String dependent(Loop loop) {
+        List<Statement> body = statements.subList(loop.start + 1, loop.end);
+        HashMap<String, Reference> stores = new HashMap<>();
+
+        for (Statement statement : body) {
+            if (statement.node.getKind() != NodeKind.AssignmentStmt) {
+                return "it holds more than assignments";
+            }
+            if (statement.calls) {
+                return "it calls a function of the program";
+            }
+
+            for (Reference reference : statement.references) {
+                if (reference.assigned()) {
+                    stores.putIfAbsent(reference.name(), reference);
+                }
+            }
+        }
+
+        for (Reference store : stores.values()) {
+            if (store.subscripts() == null) {
+                return store + " is assigned as a whole";
+            }
+
+            boolean moves = false;
+            for (String subscript : store.subscripts()) {
+                Linear index = new Affine(loop).read(subscript);
+                moves |= index != null && index.coefficient(loop.variable) != 0;
+            }
+            if (!moves) {
+                return store + " is assigned in every iteration";
+            }
+
+            for (Statement statement : body) {
+                for (Reference reference : statement.references) {
+                    if (reference.name().equals(store.name()) && !store.subscripts().equals(reference.subscripts())) {
+                        return store + " and " + reference + " may overlap across iterations";
+                    }
+                }
+            }
+        }
+
+        Set<String> scalars = new LinkedHashSet<>();
+        for (Statement statement : body) {
+            String target = target(statement);
+            if (!scope.is(target, SymbolTable.Kind.ARRAY)) {
+                scalars.add(target);
+            }
+        }
+
+        for (String scalar : scalars) {
+            String reason = carried(scalar, body);
+            if (reason != null) {
+                return reason;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds whether a scalar assigned in a loop carries a value from one iteration to the next other than as a sum or
+     * product, which @simd may reorder
+     * @param scalar Name of scalar
+     * @param body Assignments of loop
+     * @return Reason, null if it does not
+     */
+    private String carried(String scalar, List<Statement> body) {
+        if (scope.is(scalar, SymbolTable.Kind.COMMON)) {
+            return "global " + scalar + " is assigned in it";
+        }
+
+        List<Statement> uses = new ArrayList<>();
+        for (Statement statement : body) {
+            if (target(statement).equals(scalar) || reads(statement).contains(scalar)) {
+                uses.add(statement);
+            }
+        }
+
+        Statement first = uses.get(0);
+        if (target(first).equals(scalar) && !reads(first).contains(scalar)) {
+            return null;
+        }
+
+        String value = "";
+        for (Ast.Node<String> child : ast.getChildren(first.node)) {
+            if (child.getKind() == NodeKind.Expr) {
+                value = symbols.text(child);
+            }
+        }
+
+        if (uses.size() > 1 || !target(first).equals(scalar) || !isReduction(scalar, value)) {
+            return scalar + " is carried from one iteration to the next";
+        }
+        if ("INTEGER".equals(scope.typeOf(scalar))) {
+            return "INTEGER " + scalar + " is truncated at each step of its sum";
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks a value is a scalar plus or minus other terms, a term plus the scalar, or the scalar times other factors
+     * @param scalar Name of scalar
+     * @param value Source text of value
+     * @return Whether it is
+     */
+    private static boolean isReduction(String scalar, String value) {
+        int at = -1;
+        for (int i = value.indexOf(scalar); i >= 0; i = value.indexOf(scalar, i + 1)) {
+            boolean before = i == 0 || !isNamePart(value.charAt(i - 1));
+            boolean after = i + scalar.length() == value.length() || !isNamePart(value.charAt(i + scalar.length()));
+            if (before && after) {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            }
+        }
+
+        if (at == 0 && value.length() > scalar.length()) {
+            char operator = value.charAt(scalar.length());
+            if (operator == '+' || operator == '-') {
+                return true;
+            }
+            if (operator != '*' || value.startsWith("*", scalar.length() + 1)) {
+                return false;
+            }
+
+            // Other factors are only multiplied, divided or raised
+            int depth = 0;
+            for (int i = scalar.length(); i < value.length(); i++) {
+                switch (value.charAt(i)) {
+                    case '(' -> depth++;
+                    case ')' -> depth--;
+                    case '+', '-' -> {
+                        if (depth == 0) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        return at > 0 && at + scalar.length() == value.length() && value.charAt(at - 1) == '+';
+    }
+
+    /**
+     * Name an assignment is to
+     * @param statement AssignmentStmt statement
+     * @return Name
+     */
+    private String target(Statement statement) {
+        for (Ast.Node<String> child : ast.getChildren(statement.node)) {
+            if (child.getKind() == NodeKind.Name) {
+                return symbols.identifier(child);
+            }
+        }
+
+        return "";
+    }
+
+    /**
+     * Names an assignment reads, in its value and in the subscripts of its target
+     * @param statement AssignmentStmt statement
+     * @return Names
+     */
+    private Set<String> reads(Statement statement) {
+        Set<String> names = new HashSet<>();
+
+        for (Ast.Node<String> child : ast.getChildren(statement.node)) {
+            switch (child.getKind()) {
+                case SFExprList, Expr -> {
+                    for (Ast.Node<String> id : symbols.descendants(child, NodeKind.ID)) {
+                        names.add(symbols.text(id));
+                    }
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Checks a statement assigns to a scalar, reads into it, loops over it or may assign to it through a call
+     * @param statement Statement
+     * @param name Name of scalar
+     * @return Whether it does
+     */
+    private boolean assignsScalar(Statement statement, String name) {
+        if (statement.node.getKind() == NodeKind.AssignmentStmt && target(statement).equals(name)) {
+            return true;
+        }
+        if (statement.calls && assigned.contains(name)) {
+            return true;
+        }
+
+        return symbols.descendants(statement.node, NodeKind.VariableName, NodeKind.ImpliedDoVariable).stream()
+                .anyMatch(variable -> symbols.identifier(variable).equals(name));
+    }
+
+    /**
+     * Label as written, without leading zeros
+     * @param text Label
+     * @return Label
+     */
+    private static String label(String text) {
+        int i = 0;
+        while (i < text.length() - 1 && text.charAt(i) == '0') {
+            i++;
+        }
+
+        return text.substring(i);
+    }
+
+    private static boolean isName(String text) {
+        if (text.isEmpty() || !Character.isLetter(text.charAt(0))) {
+            return false;
+        }
+
+        for (int i = 1; i < text.length(); i++) {
+            if (!isNamePart(text.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isNamePart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Reads the source text of an expression as an affine function of loop variables and unchanging names
+     */
+    private final class Affine {
+
+        /**
+         * Innermost loop whose variables may be named, null if none
+         */
+        private final Loop loop;
+
+        /**
+         * Why the last expression read is not affine
+         */
+        private String reason = null;
+
+        private String text = "";
+
+        private int position = 0;
+
+        private int depth = 0;
+
+        private Affine(Loop loop) {
+            this.loop = loop;
+        }
+
+        /**
+         * Reads an expression
+         * @param expression Source text, its lexemes joined without spaces
+         * @return Function, null if it is not affine
+         */
+        Linear read(String expression) {
+            String outer = text;
+            int at = position;
+
+            text = expression;
+            position = 0;
+            Linear result = sum();
+            if (result != null && position < text.length()) {
+                result = notAffine();
+            }
+
+            text = outer;
+            position = at;
+
+            return result;
+        }
+
+        private Linear sum() {
+            Linear result = Linear.ZERO;
+            long sign = 1;
+
+            if (peek('+') || peek('-')) {
+                sign = text.charAt(position++) == '-' ? -1 : 1;
+            }
+
+            while (true) {
+                Linear term = product();
+                if (term == null) {
+                    return null;
+                }
+                result = result.plus(term.times(sign));
+
+                if (!peek('+') && !peek('-')) {
+                    return result;
+                }
+                sign = text.charAt(position++) == '-' ? -1 : 1;
+            }
+        }
+
+        private Linear product() {
+            Linear result = factor();
+
+            while (result != null && peek('*')) {
+                position++;
+                if (peek('*')) {
+                    return notAffine();
+                }
+
+                Linear factor = factor();
+                if (factor == null) {
+                    return null;
+                }
+                if (factor.isConstant()) {
+                    result = result.times(factor.constant);
+                } else if (result.isConstant()) {
+                    result = factor.times(result.constant);
+                } else {
+                    return notAffine();
+                }
+            }
+
+            return result;
+        }
+
+        private Linear factor() {
+            if (peek('(')) {
+                position++;
+                Linear result = sum();
+                if (result == null || !peek(')')) {
+                    return result == null ? null : notAffine();
+                }
+                position++;
+                return result;
+            }
+
+            int start = position;
+
+            if (position < text.length() && Character.isDigit(text.charAt(position))) {
+                while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                    position++;
+                }
+                if (position < text.length() && (text.charAt(position) == '.' || isNamePart(text.charAt(position)))) {
+                    return notAffine();
+                }
+                try {
+                    return Linear.of(Long.parseLong(text.substring(start, position)));
+                } catch (NumberFormatException e) {
+                    return notAffine();
+                }
+            }
+
+            if (position < text.length() && Character.isLetter(text.charAt(position))) {
+                while (position < text.length() && isNamePart(text.charAt(position))) {
+                    position++;
+                }
+                if (peek('(')) {
+                    return notAffine();
+                }
+                return name(text.substring(start, position));
+            }
+
+            return notAffine();
+        }
+
+        /**
+         * Reads a name: a loop variable, a PARAMETER, which is replaced by its value, or an INTEGER argument the unit
+         * never assigns
+         * @param name Name
+         * @return Function, null if the name may change
+         */
+        private Linear name(String name) {
+            for (Loop around = loop; around != null; around = around.parent) {
+                if (around.variable.equals(name)) {
+                    return Linear.of(name);
+                }
+            }
+
+            SymbolTable.Symbol symbol = scope.lookup(name);
+
+            if (symbol != null && symbol.is(SymbolTable.Kind.PARAMETER) && symbol.value() != null
+                    && depth < PARAMETER_DEPTH) {
+                depth++;
+                Linear value = read(symbol.value());
+                depth--;
+                return value;
+            }
+
+            if (symbol != null && symbol.is(SymbolTable.Kind.ARGUMENT) && !symbol.is(SymbolTable.Kind.ARRAY)
+                    && !assigned.contains(name) && "INTEGER".equals(scope.typeOf(name))) {
+                return Linear.of(name);
+            }
+
+            reason = "uses " + name + ", which is neither a PARAMETER nor an INTEGER argument left unchanged";
+            return null;
+        }
+
+        private boolean peek(char c) {
+            return position < text.length() && text.charAt(position) == c;
+        }
+
+        private Linear notAffine() {
+            if (reason == null) {
+                reason = "is not affine";
+            }
+            return null;
+        }
+    }
+}
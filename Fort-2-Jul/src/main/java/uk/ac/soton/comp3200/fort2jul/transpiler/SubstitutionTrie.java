@@ -0,0 +1,119 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Replaces many keys in a text in one scan. Keys are stored in a trie and at each position of the text the longest key
+ * starting there is replaced, after which scanning resumes past the match. Replaced text is never scanned again.
+ */
+class SubstitutionTrie {
+
+    /**
+     * Node of trie, holds the replacement if a key ends here
+     */
+    private static final class Node {
+
+        /**
+         * Children by ASCII character, so looking one up neither boxes nor hashes the character
+         */
+        private final Node[] ascii = new Node[128];
+
+        private final HashMap<Character, Node> others = new HashMap<>();
+
+        private String replacement = null;
+
+        Node child(char c) {
+            return c < ascii.length ? ascii[c] : others.get(c);
+        }
+
+        Node addChild(char c) {
+            if (c >= ascii.length) {
+                return others.computeIfAbsent(c, k -> new Node());
+            }
+            if (ascii[c] == null) {
+                ascii[c] = new Node();
+            }
+
+            return ascii[c];
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Characters that start a key, lets the scan skip positions without a trie lookup
+     */
+    private final boolean[] firstChars = new boolean[128];
+
+    private boolean hasNonAsciiFirstChar = false;
+
+    /**
+     * Adds a key, replacing an earlier replacement of the same key
+     * @param key Text to find
+     * @param replacement Text to substitute
+     */
+    void put(String key, String replacement) {
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.addChild(key.charAt(i));
+        }
+        node.replacement = replacement;
+
+        char first = key.charAt(0);
+        if (first < firstChars.length) {
+            firstChars[first] = true;
+        } else {
+            hasNonAsciiFirstChar = true;
+        }
+    }
+
+    /**
+     * Replaces every key in text, preferring the longest key at each position, appending the rewritten text to out
+     * @param text Text to rewrite
+     * @param out Destination of rewritten text
+     * @throws IOException
+     */
+    void replaceAll(CharSequence text, Appendable out) throws IOException {
+        int copied = 0;
+        int i = 0;
+
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c < firstChars.length ? !firstChars[c] : !hasNonAsciiFirstChar) {
+                i++;
+                continue;
+            }
+
+            Node node = root;
+            String replacement = null;
+            int end = -1;
+
+            for (int j = i; j < text.length(); j++) {
+                node = node.child(text.charAt(j));
+                if (node == null) {
+                    break;
+                }
+                if (node.replacement != null) {
+                    replacement = node.replacement;
+                    end = j + 1;
+                }
+            }
+
+            if (replacement == null) {
+                i++;
+                continue;
+            }
+
+            out.append(text, copied, i).append(replacement);
+            copied = end;
+            i = end;
+        }
+
+        out.append(text, copied, text.length());
+    }
+}
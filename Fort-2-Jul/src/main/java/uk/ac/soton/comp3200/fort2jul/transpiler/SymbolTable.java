@@ -0,0 +1,630 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.NodeKind;
+
+import java.util.*;
+
+/**
+ * Names declared by each program unit, found in one pass over the AST before any code is generated. Each unit has a
+ * scope of its own holding the kinds, type and dimensions of its names, and the names of functions and subroutines are
+ * also kept in a global scope. Names are spelt as in the source, as the generated code spells them. Every lookup is a
+ * hash lookup.
+ *
+ * Variables a unit assigns or reads into without declaring them are in its scope too, without a kind. The type of any
+ * name follows from its declaration or, failing that, from the implicit typing of its unit: INTEGER for names starting
+ * with I to N and REAL for the rest, unless an IMPLICIT statement gives a range of letters another type.
+ */
+class SymbolTable {
+
+    /**
+     * What a name is declared as, a name may be several
+     */
+    enum Kind {
+        ARRAY,
+        FUNCTION,
+        SUBROUTINE,
+        PARAMETER,
+        COMMON,
+        ARGUMENT,
+        EXTERNAL
+    }
+
+    /**
+     * Bounds of one dimension of an array, as written in the source
+     * @param lower Lower bound, "1" if none was written
+     * @param upper Upper bound, "*" for an assumed size
+     */
+    record Bound(String lower, String upper) {
+    }
+
+    /**
+     * A name declared in a scope
+     */
+    static final class Symbol {
+
+        private final String name;
+
+        private final EnumSet<Kind> kinds = EnumSet.noneOf(Kind.class);
+
+        /**
+         * Type as the generator spells it, such as INTEGER or DOUBLEPRECISION, null if not declared
+         */
+        private String type = null;
+
+        /**
+         * Bounds of each dimension, empty if not an array
+         */
+        private List<Bound> dimensions = List.of();
+
+        /**
+         * Name of the COMMON block, "" for blank COMMON, null if not in COMMON
+         */
+        private String commonBlock = null;
+
+        /**
+         * Value of a PARAMETER as written in the source, null if not a PARAMETER
+         */
+        private String value = null;
+
+        private Symbol(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        boolean is(Kind kind) {
+            return kinds.contains(kind);
+        }
+
+        Set<Kind> kinds() {
+            return Collections.unmodifiableSet(kinds);
+        }
+
+        String type() {
+            return type;
+        }
+
+        List<Bound> dimensions() {
+            return dimensions;
+        }
+
+        String commonBlock() {
+            return commonBlock;
+        }
+
+        String value() {
+            return value;
+        }
+    }
+
+    /**
+     * Names of one program unit, or the global names
+     */
+    static final class Scope {
+
+        /**
+         * Name of unit, "" for a main program without a PROGRAM statement and for the global scope
+         */
+        private String name = "";
+
+        /**
+         * Symbols in the order they were first declared
+         */
+        private final LinkedHashMap<String, Symbol> symbols = new LinkedHashMap<>();
+
+        /**
+         * Type of names not declared with one, by their first letter
+         */
+        private final String[] implicit = new String[26];
+
+        private Scope() {
+            Arrays.fill(implicit, "REAL");
+            Arrays.fill(implicit, 'I' - 'A', 'N' - 'A' + 1, "INTEGER");
+        }
+
+        String name() {
+            return name;
+        }
+
+        /**
+         * Type of a name, as declared or as implied by its first letter
+         * @param name Name
+         * @return Type as the generator spells it, such as INTEGER or DOUBLE, null if there is none
+         */
+        String typeOf(String name) {
+            Symbol symbol = symbols.get(name);
+            if (symbol != null && symbol.type != null) {
+                return symbol.type;
+            }
+
+            if (name.isEmpty()) {
+                return null;
+            }
+
+            char first = Character.toUpperCase(name.charAt(0));
+
+            return first >= 'A' && first <= 'Z' ? implicit[first - 'A'] : null;
+        }
+
+        /**
+         * Looks up a name
+         * @param name Name
+         * @return Symbol, null if the name is not declared in the scope
+         */
+        Symbol lookup(String name) {
+            return symbols.get(name);
+        }
+
+        /**
+         * Checks a name is declared as a kind in the scope
+         * @param name Name
+         * @param kind Kind
+         * @return Whether it is
+         */
+        boolean is(String name, Kind kind) {
+            Symbol symbol = symbols.get(name);
+
+            return symbol != null && symbol.is(kind);
+        }
+
+        Collection<Symbol> symbols() {
+            return Collections.unmodifiableCollection(symbols.values());
+        }
+
+        private Symbol declare(String name, Kind kind) {
+            Symbol symbol = symbols.computeIfAbsent(name, Symbol::new);
+            if (kind != null) {
+                symbol.kinds.add(kind);
+            }
+
+            return symbol;
+        }
+    }
+
+    /**
+     * Scope of each ProgramUnit node
+     */
+    private final IdentityHashMap<Ast.Node<String>, Scope> scopes = new IdentityHashMap<>();
+
+    private final Scope global = new Scope();
+
+    /**
+     * Empty scope, for a unit not declared in the table
+     */
+    private static final Scope NONE = new Scope();
+
+    private final Ast<String> ast;
+
+    private SymbolTable(Ast<String> ast) {
+        this.ast = ast;
+    }
+
+    /**
+     * Declares the names of every program unit of a program
+     * @param ast AST of program
+     * @return Symbol table
+     */
+    static SymbolTable build(Ast<String> ast) {
+        SymbolTable table = new SymbolTable(ast);
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        stack.push(ast.getRootNode());
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> node = stack.pop();
+
+            if (node.getKind() == NodeKind.ProgramUnit) {
+                table.declareUnit(node);
+                continue;
+            }
+
+            if (node.getKind() == NodeKind.program || node.getKind() == NodeKind.ExecutableProgram) {
+                table.pushChildren(node, stack);
+            }
+        }
+
+        table.declareGlobalReferences();
+
+        return table;
+    }
+
+    /**
+     * Declares the names of a program unit on its own, for a unit generated apart from its program
+     * @param ast AST the unit belongs to
+     * @param unit ProgramUnit node
+     * @return Symbol table
+     */
+    static SymbolTable build(Ast<String> ast, Ast.Node<String> unit) {
+        SymbolTable table = new SymbolTable(ast);
+        table.declareUnit(unit);
+
+        return table;
+    }
+
+    /**
+     * Scope of a program unit
+     * @param unit ProgramUnit node
+     * @return Scope, empty if the unit is not in the table
+     */
+    Scope scope(Ast.Node<String> unit) {
+        return scopes.getOrDefault(unit, NONE);
+    }
+
+    /**
+     * Scope of the functions and subroutines of the program
+     * @return Scope
+     */
+    Scope global() {
+        return global;
+    }
+
+    private void declareUnit(Ast.Node<String> unit) {
+        Scope scope = new Scope();
+        scopes.put(unit, scope);
+
+        // Type of function, its prefix comes before its name
+        String type = null;
+        // Names followed by parentheses in expressions, functions unless arrays or substrings
+        List<String> references = new ArrayList<>();
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        stack.push(unit);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> node = stack.pop();
+
+            switch (node.getKind()) {
+                case ProgramName -> scope.name = identifier(node);
+                case FunctionPrefix -> type = typeOf(node);
+                case FunctionName -> {
+                    scope.name = identifier(node);
+                    global.declare(scope.name, Kind.FUNCTION).type = type;
+                    // The name of a function is also the variable holding its result
+                    scope.declare(scope.name, Kind.FUNCTION).type = type;
+                }
+                case SubroutineName -> {
+                    scope.name = identifier(node);
+                    global.declare(scope.name, Kind.SUBROUTINE);
+                }
+                case DummyArgName -> scope.declare(identifier(node), Kind.ARGUMENT);
+                case TypeDeclarationStmt -> declareTypes(node, scope);
+                case ArrayDeclarator -> declareArray(node, scope);
+                case CommonStmt -> declareCommon(node, scope);
+                case NamedConstantDef -> declareParameter(node, scope);
+                case ExternalName -> scope.declare(identifier(node), Kind.EXTERNAL);
+                case ImplicitStmt -> declareImplicit(node, scope);
+                case VariableName -> scope.declare(identifier(node), null);
+                case AssignmentStmt -> {
+                    declareAssignment(node, scope);
+                    references.addAll(references(node));
+                }
+                // No declarations within expressions, only references to functions
+                case Expr -> references.addAll(references(node));
+                default -> pushChildren(node, stack);
+            }
+        }
+
+        for (String name : references) {
+            if (!scope.is(name, Kind.ARRAY)) {
+                scope.declare(name, Kind.FUNCTION);
+            }
+        }
+    }
+
+    /**
+     * Names below a node that are followed by a parenthesised list without a colon, so are either array elements or
+     * references to functions
+     * @param node Node
+     * @return Names
+     */
+    private List<String> references(Ast.Node<String> node) {
+        List<String> names = new ArrayList<>();
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> next = stack.pop();
+
+            if (next.getKind() == NodeKind.FunctionReference) {
+                names.add(identifier(next));
+            } else if (next.getKind() == NodeKind.NameDataRef) {
+                List<Ast.Node<String>> children = ast.getChildren(next);
+                if (children.size() > 1 && children.get(1).getKind() == NodeKind.ComplexDataRefTail
+                        && !descendants(children.get(1), NodeKind.SectionSubscriptRef).isEmpty()
+                        && descendants(children.get(1), NodeKind.COLON).isEmpty()) {
+                    names.add(identifier(children.get(0)));
+                }
+            }
+
+            pushChildren(next, stack);
+        }
+
+        return names;
+    }
+
+    /**
+     * Marks a name of a unit that is the name of a function or subroutine of the program as a function, unless the
+     * unit declares it an array. The names of every unit are known only once all units are declared
+     */
+    private void declareGlobalReferences() {
+        for (Scope scope : scopes.values()) {
+            for (Symbol symbol : scope.symbols.values()) {
+                if (!symbol.is(Kind.ARRAY) && (global.is(symbol.name, Kind.FUNCTION)
+                        || global.is(symbol.name, Kind.SUBROUTINE))) {
+                    symbol.kinds.add(Kind.FUNCTION);
+                }
+            }
+        }
+    }
+
+    private void declareTypes(Ast.Node<String> node, Scope scope) {
+        String type = null;
+
+        for (Ast.Node<String> child : ast.getChildren(node)) {
+            switch (child.getKind()) {
+                case TypeSpec -> type = typeOf(child);
+                case EntityDeclList -> {
+                    for (Ast.Node<String> entity : descendants(child, NodeKind.EntityDecl)) {
+                        String name = "";
+                        List<Bound> dimensions = null;
+
+                        for (Ast.Node<String> part : ast.getChildren(entity)) {
+                            switch (part.getKind()) {
+                                case ObjectName -> name = identifier(part);
+                                case ArraySpec -> dimensions = bounds(part);
+                            }
+                        }
+
+                        Symbol symbol = scope.declare(name, dimensions == null ? null : Kind.ARRAY);
+                        symbol.type = type;
+                        if (dimensions != null) {
+                            symbol.dimensions = dimensions;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void declareArray(Ast.Node<String> node, Scope scope) {
+        String name = "";
+        List<Bound> dimensions = List.of();
+
+        for (Ast.Node<String> child : ast.getChildren(node)) {
+            switch (child.getKind()) {
+                case VariableName -> name = identifier(child);
+                case ArraySpec -> dimensions = bounds(child);
+            }
+        }
+
+        scope.declare(name, Kind.ARRAY).dimensions = dimensions;
+    }
+
+    private void declareCommon(Ast.Node<String> node, Scope scope) {
+        String block = "";
+
+        // Objects follow the name of their block, in source order
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        pushChildren(node, stack);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> child = stack.pop();
+
+            switch (child.getKind()) {
+                case Comblock -> {
+                    List<Ast.Node<String>> names = descendants(child, NodeKind.CommonBlockName);
+                    block = names.isEmpty() ? "" : identifier(names.get(0));
+                }
+                case CommonBlockObject -> {
+                    for (Ast.Node<String> object : ast.getChildren(child)) {
+                        switch (object.getKind()) {
+                            case VariableName -> scope.declare(identifier(object), Kind.COMMON).commonBlock = block;
+                            case ArrayDeclarator -> {
+                                declareArray(object, scope);
+                                Symbol symbol = scope.declare(identifier(ast.getChildren(object).get(0)), Kind.COMMON);
+                                symbol.commonBlock = block;
+                            }
+                        }
+                    }
+                }
+                default -> pushChildren(child, stack);
+            }
+        }
+    }
+
+    private void declareParameter(Ast.Node<String> node, Scope scope) {
+        String name = "";
+        String value = "";
+
+        for (Ast.Node<String> child : ast.getChildren(node)) {
+            switch (child.getKind()) {
+                case NamedConstant -> name = identifier(child);
+                case Expr -> value = text(child);
+            }
+        }
+
+        scope.declare(name, Kind.PARAMETER).value = value;
+    }
+
+    /**
+     * Declares the variable an assignment is to or, for an assignment to a name followed by parentheses that is neither
+     * an array element nor a substring, the statement function it defines
+     * @param node AssignmentStmt node
+     * @param scope Scope
+     */
+    private void declareAssignment(Ast.Node<String> node, Scope scope) {
+        String name = null;
+
+        for (Ast.Node<String> child : ast.getChildren(node)) {
+            switch (child.getKind()) {
+                case Name -> name = identifier(child);
+                case SFExprList -> {
+                    if (scope.is(name, Kind.ARRAY) || !descendants(child, NodeKind.COLON).isEmpty()) {
+                        return;
+                    }
+                    scope.declare(name, Kind.FUNCTION);
+                }
+                case SubstringRange -> {
+                    return;
+                }
+                case EQUAL -> {
+                    scope.declare(name, null);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives the ranges of letters in an IMPLICIT statement their types
+     * @param node ImplicitStmt node
+     * @param scope Scope
+     */
+    private void declareImplicit(Ast.Node<String> node, Scope scope) {
+        for (Ast.Node<String> spec : descendants(node, NodeKind.ImplicitSpec)) {
+            String type = typeOf(spec);
+
+            for (Ast.Node<String> range : descendants(spec, NodeKind.ImplicitRange)) {
+                List<Ast.Node<String>> letters = descendants(range, NodeKind.ID);
+                if (type == null || letters.isEmpty()) {
+                    continue;
+                }
+
+                char from = Character.toUpperCase(text(letters.get(0)).charAt(0));
+                char to = Character.toUpperCase(text(letters.get(letters.size() - 1)).charAt(0));
+                for (char letter = from; letter <= to && letter >= 'A' && letter <= 'Z'; letter++) {
+                    scope.implicit[letter - 'A'] = type;
+                }
+            }
+        }
+    }
+
+    private List<Bound> bounds(Ast.Node<String> arraySpec) {
+        List<Bound> bounds = new ArrayList<>();
+
+        for (Ast.Node<String> spec : descendants(arraySpec, NodeKind.ExplicitShapeSpec, NodeKind.AssumedSizeSpec)) {
+            if (spec.getKind() == NodeKind.AssumedSizeSpec) {
+                String lower = "1";
+                for (Ast.Node<String> child : ast.getChildren(spec)) {
+                    if (child.getKind() == NodeKind.LowerBound) {
+                        lower = text(child);
+                    }
+                }
+                bounds.add(new Bound(lower, "*"));
+                continue;
+            }
+
+            String lower = "1";
+            String upper = "";
+            for (Ast.Node<String> child : ast.getChildren(spec)) {
+                switch (child.getKind()) {
+                    case LowerBound -> lower = text(child);
+                    case UpperBound -> upper = text(child);
+                }
+            }
+            bounds.add(new Bound(lower, upper));
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Type named by a TypeSpec, or by the TypeSpec below a node, as transpileTypeSpec spells it
+     * @param node Node
+     * @return Type, null if none
+     */
+    private String typeOf(Ast.Node<String> node) {
+        List<Ast.Node<String>> specs = node.getKind() == NodeKind.TypeSpec ? List.of(node)
+                : descendants(node, NodeKind.TypeSpec);
+
+        for (Ast.Node<String> spec : specs) {
+            for (Ast.Node<String> child : ast.getChildren(spec)) {
+                switch (child.getKind()) {
+                    case CHARACTER, DOUBLE, DOUBLEPRECISION, INTEGER, REAL, LOGICAL, COMPLEX -> {
+                        return child.getKind().name();
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * First identifier below a node
+     * @param node Node
+     * @return Identifier as written, "" if there is none
+     */
+    String identifier(Ast.Node<String> node) {
+        List<Ast.Node<String>> ids = descendants(node, NodeKind.ID);
+
+        return ids.isEmpty() ? "" : text(ids.get(0));
+    }
+
+    /**
+     * Source text below a node, its lexemes joined without spaces
+     * @param node Node
+     * @return Text
+     */
+    String text(Ast.Node<String> node) {
+        StringBuilder text = new StringBuilder();
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> next = stack.pop();
+
+            if (next.getKind() == NodeKind.LEXEME) {
+                text.append(next.getData());
+            } else {
+                pushChildren(next, stack);
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Nodes of some kinds below a node in source order, not looking below those found
+     * @param node Node
+     * @param kinds Kinds
+     * @return Nodes
+     */
+    List<Ast.Node<String>> descendants(Ast.Node<String> node, NodeKind... kinds) {
+        Set<NodeKind> wanted = kinds.length == 1 ? EnumSet.of(kinds[0]) : EnumSet.of(kinds[0], kinds);
+        List<Ast.Node<String>> found = new ArrayList<>();
+
+        Deque<Ast.Node<String>> stack = new ArrayDeque<>();
+        pushChildren(node, stack);
+
+        while (!stack.isEmpty()) {
+            Ast.Node<String> next = stack.pop();
+
+            if (wanted.contains(next.getKind())) {
+                found.add(next);
+            } else {
+                pushChildren(next, stack);
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Pushes the children of a node so they are popped in source order
+     * @param node Node
+     * @param stack Stack
+     */
+    void pushChildren(Ast.Node<String> node, Deque<Ast.Node<String>> stack) {
+        List<Ast.Node<String>> children = ast.getChildren(node);
+
+        for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push(children.get(i));
+        }
+    }
+}
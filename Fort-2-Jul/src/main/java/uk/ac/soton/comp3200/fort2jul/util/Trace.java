@@ -0,0 +1,101 @@
+package uk.ac.soton.comp3200.fort2jul.util;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Tracing of lexer and parser internals, off by default. Each subsystem can be switched on or off at runtime with
+ * enable and disable, from the command line with --trace, or at startup with the fort2jul.trace system property
+ * (e.g. -Dfort2jul.trace=lexer,parser). A property naming anything but a subsystem is ignored with a warning. Callers
+ * check isEnabled before building a message, so disabled tracing costs a single field read.
+ */
+public enum Trace {
+
+    /**
+     * Characters and tokens consumed by the scanner
+     */
+    LEXER,
+
+    /**
+     * Tokens consumed and memoized rules reused by the parser
+     */
+    PARSER;
+
+    /**
+     * Logger of subsystem, e.g. uk.ac.soton.comp3200.fort2jul.trace.lexer
+     */
+    private final Logger logger = Logger.getLogger("uk.ac.soton.comp3200.fort2jul.trace." + name().toLowerCase());
+
+    /**
+     * Whether trace messages are logged
+     */
+    private volatile boolean enabled = false;
+
+    static {
+        String subsystems = System.getProperty("fort2jul.trace", "");
+
+        try {
+            configure(subsystems);
+        } catch (IllegalArgumentException e) {
+            // Failing here would fail every class that traces, so a bad property leaves tracing off instead
+            for (Trace trace : values()) {
+                trace.disable();
+            }
+
+            Logger.getLogger(Trace.class).warn("Ignoring -Dfort2jul.trace=" + subsystems
+                    + ", expected a comma separated list of lexer, parser or all. Tracing is off [Trace]");
+        }
+    }
+
+    /**
+     * Checks whether subsystem is traced, guard each call to log with this
+     * @return Boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts tracing subsystem
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops tracing subsystem
+     */
+    public void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Logs a trace message of subsystem
+     * @param message Message to log
+     */
+    public void log(String message) {
+        logger.info(message);
+    }
+
+    /**
+     * Enables the subsystems in a comma separated list of names, "all" enables every subsystem
+     * @param subsystems Names of subsystems, case insensitive
+     * @throws IllegalArgumentException If a name does not match a subsystem
+     */
+    public static void configure(String subsystems) {
+        for (String name : subsystems.split(",")) {
+            name = name.trim();
+
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            if (name.equalsIgnoreCase("all")) {
+                for (Trace trace : values()) {
+                    trace.enable();
+                }
+            } else {
+                valueOf(name.toUpperCase()).enable();
+            }
+        }
+    }
+}
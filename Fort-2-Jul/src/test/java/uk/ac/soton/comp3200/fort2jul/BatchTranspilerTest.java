@@ -0,0 +1,82 @@
+package uk.ac.soton.comp3200.fort2jul;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A batch gives an outcome for every source, in order, whether or not the thread waiting on it is interrupted. Julia
+ * files are written next to their sources, so the programs in tests/input are copied first
+ */
+class BatchTranspilerTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    @Test
+    void transpilesEverySource(@TempDir Path dir) throws IOException {
+        List<Path> sources = copyInputs(dir);
+
+        List<BatchTranspiler.Result> results = new BatchTranspiler(4).transpile(sources);
+
+        assertEquals(sources, results.stream().map(BatchTranspiler.Result::path).toList());
+        for (BatchTranspiler.Result result : results) {
+            assertTrue(result.success(), result.path() + " failed: " + result.message());
+        }
+    }
+
+    @Test
+    void unfinishedSourcesFailWhenInterrupted(@TempDir Path dir) throws IOException {
+        List<Path> sources = copyInputs(dir);
+
+        List<BatchTranspiler.Result> results;
+        Thread.currentThread().interrupt();
+        try {
+            // One worker cannot have finished every source before the first is waited on
+            results = new BatchTranspiler(1).transpile(sources);
+        } finally {
+            assertTrue(Thread.interrupted(), "interrupt was not kept");
+        }
+
+        assertEquals(sources, results.stream().map(BatchTranspiler.Result::path).toList());
+        assertFalse(results.stream().allMatch(BatchTranspiler.Result::success));
+        assertEquals("Interrupted before finishing", results.get(results.size() - 1).message());
+    }
+
+    @Test
+    void sourcesWritingTheSameFileFailAfterTheFirst(@TempDir Path dir) throws IOException {
+        Path input = copyInputs(dir).get(0);
+        Path f = Files.copy(input, dir.resolve("a.f"));
+        Path forExtension = Files.copy(input, dir.resolve("a.for"));
+        Path other = Files.copy(input, dir.resolve("b.f"));
+
+        List<BatchTranspiler.Result> results = new BatchTranspiler(4).transpile(List.of(f, forExtension, other));
+
+        assertTrue(results.get(0).success(), results.get(0).message());
+        assertFalse(results.get(1).success());
+        assertEquals("Same Julia file as " + f, results.get(1).message());
+        assertTrue(results.get(2).success(), results.get(2).message());
+        assertTrue(Files.exists(dir.resolve("a.jl")));
+    }
+
+    private static List<Path> copyInputs(Path dir) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            for (Path file : files.filter(file -> file.toString().endsWith(".for")).sorted().toList()) {
+                sources.add(Files.copy(file, dir.resolve(file.getFileName())));
+            }
+        }
+
+        return sources;
+    }
+}
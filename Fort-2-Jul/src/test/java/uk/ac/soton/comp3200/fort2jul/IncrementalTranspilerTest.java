@@ -0,0 +1,120 @@
+package uk.ac.soton.comp3200.fort2jul;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+import uk.ac.soton.comp3200.fort2jul.transpiler.JuliaCodeGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Transpiling a source again after an edit gives the code of transpiling the edited source in full, whether the edit is
+ * within a unit, adds or removes a unit, or changes the label of a FORMAT statement
+ */
+class IncrementalTranspilerTest {
+
+    private static final String MAIN = String.join("\n",
+            "      PROGRAM MAIN",
+            "      INTEGER I",
+            "      REAL X",
+            "      X = 1.0",
+            "      DO 10 I = 1, 3",
+            "         X = TWICE(X)",
+            "   10 CONTINUE",
+            "      PRINT 100, X",
+            "  100 FORMAT (F8.2)",
+            "      CALL SHOW(X)",
+            "      END",
+            "");
+
+    private static final String TWICE = String.join("\n",
+            "      REAL FUNCTION TWICE(Y)",
+            "      REAL Y",
+            "      TWICE = 2.0 * Y",
+            "      END",
+            "");
+
+    private static final String SHOW = String.join("\n",
+            "      SUBROUTINE SHOW(Z)",
+            "      REAL Z",
+            "      PRINT 200, Z",
+            "  200 FORMAT (' Z = ', F8.2)",
+            "      END",
+            "");
+
+    private static final String HALF = String.join("\n",
+            "      REAL FUNCTION HALF(W)",
+            "      REAL W",
+            "      HALF = W / 2.0",
+            "      END",
+            "");
+
+    private static final String SOURCE = MAIN + TWICE + SHOW;
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    void transpilesInFullAtFirst() throws IOException {
+        assertIncremental(SOURCE);
+    }
+
+    @Test
+    void editWithinUnit() throws IOException {
+        assertIncremental(SOURCE, SOURCE.replace("TWICE = 2.0 * Y", "TWICE = 3.0 * Y + 1.0"));
+    }
+
+    @Test
+    void editAddingStatementToUnit() throws IOException {
+        assertIncremental(SOURCE, SOURCE.replace("      X = 1.0\n", "      X = 1.0\n      X = X + 0.5\n"));
+    }
+
+    @Test
+    void addUnit() throws IOException {
+        assertIncremental(SOURCE, MAIN + TWICE + HALF + SHOW, MAIN + TWICE + HALF + SHOW + HALF.replace("HALF", "QUART"));
+    }
+
+    @Test
+    void removeUnit() throws IOException {
+        assertIncremental(SOURCE, MAIN + SHOW, MAIN + TWICE + SHOW);
+    }
+
+    @Test
+    void editFormatLabel() throws IOException {
+        String relabelled = SOURCE.replace("PRINT 200, Z", "PRINT 300, Z").replace("  200 FORMAT", "  300 FORMAT");
+
+        assertIncremental(SOURCE, relabelled, relabelled.replace("(' Z = ', F8.2)", "(' Z IS ', F10.3)"));
+    }
+
+    /**
+     * Transpiles each source in turn with one incremental transpiler, checking each against transpiling it in full
+     * @param sources Source, then the source after each edit
+     */
+    private void assertIncremental(String... sources) throws IOException {
+        IncrementalTranspiler transpiler = new IncrementalTranspiler(outputDir.toString(), "edited");
+
+        for (String source : sources) {
+            String expected = transpileInFull(source);
+
+            assertEquals(expected, transpiler.transpile(source), "Incremental code differs after edit to\n" + source);
+        }
+    }
+
+    private String transpileInFull(String source) throws IOException {
+        Ast<String> ast = new Parser(new Scanner(source).scanTokenBuffer()).parseTokens();
+        assertNotNull(ast, "Source did not parse\n" + source);
+
+        String code = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), "edited")
+                .generateJuliaCode();
+        assertTrue(code.contains("end\n"), code);
+
+        return code;
+    }
+}
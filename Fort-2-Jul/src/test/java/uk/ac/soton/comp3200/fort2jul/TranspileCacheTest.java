@@ -0,0 +1,128 @@
+package uk.ac.soton.comp3200.fort2jul;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A cache gives back the code stored for a source under the same options, in this run or a later one, keeps to its size
+ * by evicting the entries used longest ago, and treats a damaged entry as a miss that can be stored again
+ */
+class TranspileCacheTest {
+
+    private static final String OPTIONS = TranspileCache.options(StandardCharsets.UTF_8, false);
+
+    private static final String CODE = "x = 1\nprintln(x)\n";
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void missesThenHits() throws IOException {
+        TranspileCache cache = new TranspileCache(cacheDir, 1024 * 1024);
+        String key = cache.key(source("      X = 1\n"), OPTIONS);
+
+        assertNull(cache.get(key));
+        cache.put(key, CODE);
+        assertEquals(CODE, cache.get(key));
+        assertNull(cache.get(cache.key(source("      X = 2\n"), OPTIONS)));
+
+        assertTrue(cache.stats().startsWith("Cache: 1 hits of 3 lookups"), cache.stats());
+    }
+
+    @Test
+    void keysDependOnOptions() throws IOException {
+        TranspileCache cache = new TranspileCache(cacheDir, 1024 * 1024);
+        ByteBuffer source = source("      X = 1\n");
+
+        String plain = cache.key(source, OPTIONS);
+        String scoped = cache.key(source, TranspileCache.options(StandardCharsets.UTF_8, true));
+        String latin = cache.key(source, TranspileCache.options(StandardCharsets.ISO_8859_1, false));
+
+        assertNotEquals(plain, scoped);
+        assertNotEquals(plain, latin);
+        assertNotEquals(scoped, latin);
+        assertEquals(plain, cache.key(source, OPTIONS));
+
+        cache.put(plain, CODE);
+        assertNull(cache.get(scoped));
+        assertNull(cache.get(latin));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws IOException {
+        String code = "x".repeat(100);
+        // Room for two entries of code and their checksums, not three
+        TranspileCache cache = new TranspileCache(cacheDir, 250);
+
+        String first = cache.key(source("1"), OPTIONS);
+        String second = cache.key(source("2"), OPTIONS);
+        String third = cache.key(source("3"), OPTIONS);
+
+        cache.put(first, code);
+        cache.put(second, code);
+        assertEquals(code, cache.get(first));
+        cache.put(third, code);
+
+        assertEquals(code, cache.get(first));
+        assertNull(cache.get(second));
+        assertEquals(code, cache.get(third));
+        assertFalse(Files.exists(cacheDir.resolve(second + ".jl")));
+        assertTrue(cache.stats().endsWith("1 evicted"), cache.stats());
+    }
+
+    @Test
+    void keepsEntriesForLaterRuns() throws IOException {
+        TranspileCache cache = new TranspileCache(cacheDir, 1024 * 1024);
+        String key = cache.key(source("      X = 1\n"), OPTIONS);
+        cache.put(key, CODE);
+
+        TranspileCache reopened = new TranspileCache(cacheDir, 1024 * 1024);
+
+        assertEquals(key, reopened.key(source("      X = 1\n"), OPTIONS));
+        assertEquals(CODE, reopened.get(key));
+    }
+
+    @Test
+    void recoversFromDamagedEntries() throws IOException {
+        TranspileCache cache = new TranspileCache(cacheDir, 1024 * 1024);
+        String edited = cache.key(source("1"), OPTIONS);
+        String truncated = cache.key(source("2"), OPTIONS);
+        String garbled = cache.key(source("3"), OPTIONS);
+
+        for (String key : new String[]{edited, truncated, garbled}) {
+            cache.put(key, CODE);
+        }
+
+        Path entry = cacheDir.resolve(edited + ".jl");
+        Files.writeString(entry, Files.readString(entry).replace("x = 1", "x = 2"));
+        entry = cacheDir.resolve(truncated + ".jl");
+        Files.writeString(entry, Files.readString(entry).substring(0, 12));
+        Files.write(cacheDir.resolve(garbled + ".jl"), new byte[]{(byte) 0xff, (byte) 0xfe, 0, 1});
+
+        TranspileCache reopened = new TranspileCache(cacheDir, 1024 * 1024);
+
+        for (String key : new String[]{edited, truncated, garbled}) {
+            assertNull(reopened.get(key), key);
+            assertFalse(Files.exists(cacheDir.resolve(key + ".jl")), key);
+
+            reopened.put(key, CODE);
+            assertEquals(CODE, reopened.get(key));
+        }
+    }
+
+    private static ByteBuffer source(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
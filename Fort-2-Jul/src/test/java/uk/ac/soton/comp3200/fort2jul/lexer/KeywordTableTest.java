@@ -0,0 +1,119 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static uk.ac.soton.comp3200.fort2jul.lexer.TokenType.*;
+
+/**
+ * KeywordTable classifies words as the Scanner did before it, which looked up the upper case of a word in a map of
+ * every TokenType name, compared it with each I/O specifier in turn, and compared the lower case of a dotted operator
+ * with each operator. Every word is tried in upper, lower and mixed case
+ */
+class KeywordTableTest {
+
+    /**
+     * Words the Scanner read together with a following '=', and the token of both
+     */
+    private static final Map<String, TokenType> SPECIFIERS = Map.ofEntries(
+            Map.entry("UNIT", UNIT_EQUAL), Map.entry("FILE", FILE_EQUAL), Map.entry("ERR", ERR_EQUAL),
+            Map.entry("IOSTAT", IOSTAT_EQUAL), Map.entry("EXIST", EXIST_EQUAL), Map.entry("OPENED", OPENED_EQUAL),
+            Map.entry("NUMBER", NUMBER_EQUAL), Map.entry("NAMED", NAMED_EQUAL), Map.entry("NAME", NAME_EQUAL),
+            Map.entry("ACCESS", ACCESS_EQUAL), Map.entry("SEQUENTIAL", SEQUENTIAL_EQUAL),
+            Map.entry("DIRECT", DIRECT_EQUAL), Map.entry("FORM", FORM_EQUAL), Map.entry("FORMATTED", FORMATTED_EQUAL),
+            Map.entry("UNFORMATTED", UNFORMATTED_EQUAL), Map.entry("RECL", RECL_EQUAL),
+            Map.entry("NEXTREC", NEXTREC_EQUAL), Map.entry("BLANK", BLANK_EQUAL), Map.entry("FMT", FMT_EQUAL),
+            Map.entry("REC", REC_EQUAL), Map.entry("END", END_EQUAL), Map.entry("STATUS", STATUS_EQUAL));
+
+    /**
+     * Dotted operators checkOps recognised
+     */
+    private static final Map<String, TokenType> OPERATORS = Map.of(
+            ".NOT.", NOT, ".AND.", AND, ".OR.", OR, ".EQV.", EQUAL_EQUAL, ".NEQV.", BANG_EQUAL, ".FALSE.", FALSE,
+            ".TRUE.", TRUE);
+
+    @Test
+    void reservedKeywordsAreKeywords() {
+        for (ReservedKeywords reserved : ReservedKeywords.values()) {
+            for (String word : spellings(reserved.name())) {
+                assertEquals(TokenType.valueOf(reserved.name()), keyword(word), word);
+            }
+        }
+    }
+
+    @Test
+    void tokenTypeNamesAreKeywords() {
+        for (TokenType type : TokenType.values()) {
+            for (String word : spellings(type.name())) {
+                assertEquals(type, keyword(word), word);
+            }
+        }
+    }
+
+    @Test
+    void specifiersAreOnlyThoseReadWithEqual() {
+        Set<String> words = new HashSet<>(SPECIFIERS.keySet());
+        for (TokenType type : TokenType.values()) {
+            words.add(type.name());
+        }
+
+        for (String word : words) {
+            for (String spelling : spellings(word)) {
+                assertEquals(SPECIFIERS.get(word), KeywordTable.specifier(spelling, 0, spelling.length()), spelling);
+            }
+        }
+    }
+
+    @Test
+    void dottedOperatorsAreKeywords() {
+        OPERATORS.forEach((operator, type) -> {
+            for (String word : spellings(operator)) {
+                assertEquals(type, keyword(word), word);
+            }
+        });
+    }
+
+    @Test
+    void otherWordsAreNotKeywords() {
+        for (String word : List.of("X", "I1", "FACT", "PROGRAMS", "PRIN", "UNITS", "ENDX", "END1", ".NOTE.", "..")) {
+            for (String spelling : spellings(word)) {
+                assertNull(keyword(spelling), spelling);
+                assertNull(KeywordTable.specifier(spelling, 0, spelling.length()), spelling);
+            }
+        }
+    }
+
+    @Test
+    void wordIsReadInPlace() {
+        String source = "      PRINT *, x.and.y";
+
+        assertEquals(PRINT, KeywordTable.keyword(source, 6, 11));
+        assertEquals(AND, KeywordTable.keyword(source, 16, 21));
+        assertNull(KeywordTable.keyword(source, 6, 10));
+    }
+
+    private static TokenType keyword(String word) {
+        return KeywordTable.keyword(word, 0, word.length());
+    }
+
+    /**
+     * Upper, lower and alternating case of a word
+     * @param word Word in upper case
+     * @return Spellings
+     */
+    private static List<String> spellings(String word) {
+        StringBuilder mixed = new StringBuilder();
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            mixed.append(i % 2 == 0 ? c : Character.toLowerCase(c));
+        }
+
+        return List.of(word, word.toLowerCase(), mixed.toString());
+    }
+}
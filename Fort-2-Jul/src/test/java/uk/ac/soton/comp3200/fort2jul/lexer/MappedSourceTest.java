@@ -0,0 +1,107 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Scanning a source through MappedSource gives the tokens of scanning the String the command line used to decode from
+ * the bytes of the file, in Latin-1 and in UTF-8, with and without characters outside ASCII
+ */
+class MappedSourceTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    /**
+     * Lines outside ASCII, put at the start of a program, a comment and a PRINT of a string
+     */
+    private static final String ACCENTED = "C     Résumé of µ and ½\n"
+            + "      PRINT *, 'Café à £5'\n";
+
+    @Test
+    void asciiSourcesScanAlike(@TempDir Path dir) throws IOException {
+        for (Path input : inputs()) {
+            String source = Files.readString(input, StandardCharsets.US_ASCII);
+
+            for (Charset charset : List.of(StandardCharsets.ISO_8859_1, StandardCharsets.UTF_8)) {
+                Path file = write(dir, source, charset);
+
+                assertScansAlike(file, charset);
+                assertInstanceOf(MappedSource.class, MappedSource.read(file, charset), input + " was decoded");
+            }
+
+            // The command line reads in the platform charset unless told otherwise
+            assertScansAlike(write(dir, source, Charset.defaultCharset()), Charset.defaultCharset());
+        }
+    }
+
+    @Test
+    void latin1SourcesScanAlike(@TempDir Path dir) throws IOException {
+        for (Path input : inputs()) {
+            Path file = write(dir, accented(input), StandardCharsets.ISO_8859_1);
+
+            assertScansAlike(file, StandardCharsets.ISO_8859_1);
+            assertInstanceOf(MappedSource.class, MappedSource.read(file, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    void utf8SourcesScanAlike(@TempDir Path dir) throws IOException {
+        for (Path input : inputs()) {
+            Path file = write(dir, accented(input), StandardCharsets.UTF_8);
+
+            assertScansAlike(file, StandardCharsets.UTF_8);
+            // Bytes of Latin-1 read as UTF-8 are malformed, and replaced as String does
+            assertScansAlike(write(dir, accented(input), StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void assertScansAlike(Path file, Charset charset) throws IOException {
+        String expected = new String(Files.readAllBytes(file), charset);
+        CharSequence mapped = MappedSource.read(file, charset);
+
+        assertEquals(expected, mapped.toString(), file + " read as " + charset);
+
+        TokenBuffer before = new Scanner(expected).scanTokenBuffer();
+        TokenBuffer after = new Scanner(mapped).scanTokenBuffer();
+
+        assertEquals(before.size(), after.size(), file + " read as " + charset);
+        for (int i = 0; i < before.size(); i++) {
+            String where = file + " read as " + charset + ", token " + i;
+
+            assertEquals(before.type(i), after.type(i), where);
+            assertEquals(before.lexeme(i), after.lexeme(i), where);
+            assertEquals(before.literal(i), after.literal(i), where);
+            assertEquals(before.row(i), after.row(i), where);
+            assertEquals(before.column(i), after.column(i), where);
+        }
+    }
+
+    private static String accented(Path input) throws IOException {
+        return ACCENTED + Files.readString(input, StandardCharsets.US_ASCII);
+    }
+
+    private static Path write(Path dir, String source, Charset charset) throws IOException {
+        Path file = Files.createTempFile(dir, "source", ".for");
+        Files.writeString(file, source, charset);
+
+        return file;
+    }
+
+    private static List<Path> inputs() throws IOException {
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".for")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Scanning in chunks gives the tokens of scanning in one go. Chunks are made as small as a line, far smaller than
+ * ParallelScanner makes them, so the programs in tests/input are split at almost every line, including those within
+ * continued statements and those before and after PROGRAM statements
+ */
+class ParallelScannerTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    /**
+     * Least lengths of chunks, from one line per chunk up
+     */
+    private static final int[] CHUNK_SIZES = {1, 16, 80, 256, 4096};
+
+    @Test
+    void scansEveryInputAlikeInChunks() throws IOException {
+        for (Path input : inputs()) {
+            String source = Files.readString(input);
+
+            for (int size : CHUNK_SIZES) {
+                assertScansAlike(input + " in chunks of " + size, source, size);
+            }
+        }
+    }
+
+    @Test
+    void scansJoinedInputsAlikeInChunks() throws IOException {
+        StringBuilder joined = new StringBuilder();
+        for (Path input : inputs()) {
+            joined.append(Files.readString(input));
+            if (joined.charAt(joined.length() - 1) != '\n') {
+                joined.append('\n');
+            }
+        }
+
+        for (int size : CHUNK_SIZES) {
+            assertScansAlike("tests/input joined in chunks of " + size, joined.toString(), size);
+        }
+    }
+
+    private static void assertScansAlike(String name, String source, int size) {
+        TokenBuffer expected = new Scanner(source).scanTokenBuffer();
+        TokenBuffer chunked = ParallelScanner.scan(source, Integer.MAX_VALUE, size);
+
+        assertEquals(expected.size(), chunked.size(), name);
+        for (int i = 0; i < expected.size(); i++) {
+            String where = name + ", token " + i;
+
+            assertEquals(expected.type(i), chunked.type(i), where);
+            assertEquals(expected.lexeme(i), chunked.lexeme(i), where);
+            assertEquals(expected.literal(i), chunked.literal(i), where);
+            assertEquals(expected.start(i), chunked.start(i), where);
+            assertEquals(expected.row(i), chunked.row(i), where);
+            assertEquals(expected.column(i), chunked.column(i), where);
+        }
+    }
+
+    private static List<Path> inputs() throws IOException {
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".for")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package uk.ac.soton.comp3200.fort2jul.lexer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A stream that scans as it goes reads the tokens of scanning the whole source text, even when reset to tokens it has
+ * discarded, as the parser may do when it backtracks past a statement of a body
+ */
+class TokenStreamTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    /**
+     * Tokens read between discards, and how far back to reset after each discard
+     */
+    private static final int STEP = 7;
+
+    private static final int BACK = 3;
+
+    @Test
+    void streamsEveryInputAlike() throws IOException {
+        for (Path input : inputs()) {
+            String source = Files.readString(input);
+            TokenBuffer expected = new Scanner(source).scanTokenBuffer();
+            TokenStream stream = TokenStream.scan(source);
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertTokenAlike(input + ", token " + i, expected, i, stream);
+                stream.advance();
+            }
+            assertEquals(0, stream.rescans(), input + " was scanned again without a reset");
+        }
+    }
+
+    @Test
+    void rescansDiscardedTokensAlike() throws IOException {
+        for (Path input : inputs()) {
+            String source = Files.readString(input);
+            TokenBuffer expected = new Scanner(source).scanTokenBuffer();
+            TokenStream stream = TokenStream.scan(source);
+
+            int resets = 0;
+            for (int i = 0; i < expected.size(); i++) {
+                assertTokenAlike(input + ", token " + i, expected, i, stream);
+
+                if (i % STEP == STEP - 1 && i >= BACK) {
+                    stream.discard();
+
+                    // Read again the tokens just discarded, which scans the source text again
+                    stream.reset(i - BACK);
+                    for (int j = i - BACK; j <= i; j++) {
+                        assertTokenAlike(input + ", token " + j + " read again", expected, j, stream);
+                        stream.advance();
+                    }
+                    stream.reset(i);
+                    resets++;
+                }
+
+                stream.advance();
+            }
+            assertEquals(resets, stream.rescans(), input + " was not scanned again on each reset");
+        }
+    }
+
+    @Test
+    void keepsTokensUntilDiscarded() throws IOException {
+        for (Path input : inputs()) {
+            String source = Files.readString(input);
+            TokenBuffer expected = new Scanner(source).scanTokenBuffer();
+            TokenStream stream = TokenStream.scan(source);
+
+            for (int i = 0; i < expected.size(); i++) {
+                stream.peek();
+                stream.advance();
+            }
+
+            // Nothing was discarded, so going back to the start reads the buffered tokens
+            stream.reset(0);
+            for (int i = 0; i < expected.size(); i++) {
+                assertTokenAlike(input + ", token " + i, expected, i, stream);
+                stream.advance();
+            }
+            assertEquals(0, stream.rescans(), input + " was scanned again without a discard");
+        }
+    }
+
+    @Test
+    void rescansEachInput() throws IOException {
+        int rescans = 0;
+        for (Path input : inputs()) {
+            TokenStream stream = TokenStream.scan(Files.readString(input));
+
+            stream.advance();
+            stream.advance();
+            stream.discard();
+            stream.reset(0);
+            stream.peek();
+
+            rescans += stream.rescans();
+        }
+
+        assertTrue(rescans > 0);
+    }
+
+    private static void assertTokenAlike(String where, TokenBuffer expected, int index, TokenStream stream) {
+        assertEquals(expected.type(index), stream.peek(), where);
+        assertEquals(expected.lexeme(index), stream.lexeme(), where);
+        assertEquals(expected.literal(index), stream.literal(), where);
+    }
+
+    private static List<Path> inputs() throws IOException {
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".for")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package uk.ac.soton.comp3200.fort2jul.parser;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Each Parser keeps its own tokens and position, so many parsers may run at once, as in batch mode. Every program in
+ * tests/input parsed on several threads at once, with and without memoization, gives the AST it gives on one thread
+ */
+class ParserConcurrencyTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    private static final int THREADS = 8;
+
+    private static final int ROUNDS = 3;
+
+    @Test
+    void parsesEveryInputAlikeOnManyThreads() throws Exception {
+        Map<Path, String> sources = new TreeMap<>();
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            for (Path file : files.filter(file -> file.toString().endsWith(".for")).toList()) {
+                sources.put(file, Files.readString(file));
+            }
+        }
+
+        Map<Path, String> expected = new HashMap<>();
+        sources.forEach((file, source) -> expected.put(file, dump(parse(source, false))));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                // Each thread parses the files in its own order so different files are parsed at the same time
+                List<Path> order = new ArrayList<>(sources.keySet());
+                Collections.shuffle(order, new Random(thread));
+                boolean memoize = thread % 2 == 1;
+
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int parsed = 0;
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (Path file : order) {
+                            assertEquals(expected.get(file), dump(parse(sources.get(file), memoize)),
+                                    file + " parsed differently on " + Thread.currentThread().getName());
+                            parsed++;
+                        }
+                    }
+                    return parsed;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                try {
+                    assertEquals(sources.size() * ROUNDS, result.get(2, TimeUnit.MINUTES));
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error error) {
+                        throw error;
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Ast<String> parse(String source, boolean memoize) {
+        Ast<String> ast = new Parser(new Scanner(source).scanTokenBuffer(), memoize).parseTokens();
+        assertNotNull(ast);
+
+        return ast;
+    }
+
+    /**
+     * Writes out every node of an AST, its kind and for a lexeme its text, one to a line and indented by depth
+     * @param ast AST
+     * @return Text of AST
+     */
+    private static String dump(Ast<String> ast) {
+        StringBuilder text = new StringBuilder();
+
+        Deque<Ast.Node<String>> nodes = new ArrayDeque<>();
+        Deque<Integer> depths = new ArrayDeque<>();
+        nodes.push(ast.getRootNode());
+        depths.push(0);
+
+        while (!nodes.isEmpty()) {
+            Ast.Node<String> node = nodes.pop();
+            int depth = depths.pop();
+
+            text.append(" ".repeat(depth)).append(node.getKind());
+            if (node.getKind() == NodeKind.LEXEME) {
+                text.append(' ').append(node.getData());
+            }
+            text.append('\n');
+
+            List<Ast.Node<String>> children = ast.getChildren(node);
+            for (int i = children.size() - 1; i >= 0; i--) {
+                nodes.push(children.get(i));
+                depths.push(depth + 1);
+            }
+        }
+
+        return text.toString();
+    }
+}
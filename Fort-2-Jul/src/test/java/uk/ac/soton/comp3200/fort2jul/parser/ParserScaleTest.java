@@ -0,0 +1,75 @@
+package uk.ac.soton.comp3200.fort2jul.parser;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * List rules such as Body are parsed with loops, so a program with a very long body parses on a thread with the
+ * default stack size rather than overflowing it
+ */
+class ParserScaleTest {
+
+    private static final int STATEMENTS = 100000;
+
+    private static final String[] BODY = {
+            "      I = I + 1\n",
+            "      X = X * 2.0 + I\n",
+            "      IF (I .GT. 10) I = 0\n",
+            "      PRINT *, I, X\n"
+    };
+
+    @Test
+    void parsesHundredThousandStatementsOnDefaultStack() throws Throwable {
+        StringBuilder source = new StringBuilder("      PROGRAM SCALE\n      INTEGER I\n      REAL X\n");
+        for (int i = 0; i < STATEMENTS; i++) {
+            source.append(BODY[i % BODY.length]);
+        }
+        source.append("      END\n");
+
+        AtomicReference<Ast<String>> ast = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // A new thread gets the default stack size whatever the stack of the thread running the test
+        Thread parser = new Thread(() -> {
+            try {
+                ast.set(new Parser(new Scanner(source.toString()).scanTokenBuffer()).parseTokens());
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        parser.start();
+        parser.join();
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        assertNotNull(ast.get(), "Synthetic program of " + STATEMENTS + " statements did not parse");
+        assertEquals(STATEMENTS / BODY.length, count(ast.get(), NodeKind.PrintStmt));
+    }
+
+    private static int count(Ast<String> ast, NodeKind kind) {
+        int count = 0;
+        Deque<Ast.Node<String>> nodes = new ArrayDeque<>();
+        nodes.push(ast.getRootNode());
+
+        while (!nodes.isEmpty()) {
+            Ast.Node<String> node = nodes.pop();
+
+            if (node.getKind() == kind) {
+                count++;
+            }
+
+            ast.getChildren(node).forEach(nodes::push);
+        }
+
+        return count;
+    }
+}
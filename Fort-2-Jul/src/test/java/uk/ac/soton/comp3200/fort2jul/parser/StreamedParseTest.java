@@ -0,0 +1,90 @@
+package uk.ac.soton.comp3200.fort2jul.parser;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenStream;
+import uk.ac.soton.comp3200.fort2jul.lexer.TokenType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A program parsed from a stream that scans as it goes holds the tokens of about one statement at once, however long
+ * it is, and is never scanned again, as no rule backtracks past a statement of a body once it has parsed it
+ */
+class StreamedParseTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    private static final String[] BODY = {
+            "      I = I + 1\n",
+            "      IF (I .GT. 5) THEN\n        I = I - 1\n      ELSE IF (I .LT. 0) THEN\n        I = 0\n"
+                    + "      ELSE\n        X = X - 1.0\n      END IF\n",
+            "      PRINT *, I, X\n"
+    };
+
+    /**
+     * Most tokens a statement of BODY and the token after it make up
+     */
+    private static final int STATEMENT_TOKENS = 16;
+
+    @Test
+    void holdsTheSameTokensWhateverTheLength() {
+        int shortPeak = streamedPeak(1000);
+        int longPeak = streamedPeak(100000);
+
+        assertEquals(shortPeak, longPeak, "Tokens held grow with the number of statements");
+        assertTrue(longPeak <= STATEMENT_TOKENS, "Held " + longPeak + " tokens at once");
+    }
+
+    @Test
+    void neverScansParsedInputsAgain() throws IOException {
+        int parsed = 0;
+
+        for (Path input : inputs()) {
+            for (boolean memoize : new boolean[]{false, true}) {
+                TokenStream stream = TokenStream.scan(Files.readString(input));
+
+                // A program that fails part way backtracks out of what it has parsed, which is scanned again
+                if (new Parser(stream, memoize).parseTokens() == null || stream.peek() != TokenType.EOF) {
+                    continue;
+                }
+
+                assertEquals(0, stream.rescans(), input + " was scanned again, memoize " + memoize);
+                parsed++;
+            }
+        }
+
+        assertTrue(parsed > 0);
+    }
+
+    private static int streamedPeak(int statements) {
+        StringBuilder source = new StringBuilder("      PROGRAM SCALE\n      INTEGER I\n      REAL X\n");
+        for (int i = 0; i < statements; i++) {
+            source.append(BODY[i % BODY.length]);
+        }
+        source.append("      END\n");
+
+        TokenStream stream = TokenStream.scan(source);
+        Ast<String> ast = new Parser(stream, true).parseTokens();
+
+        assertNotNull(ast, "Synthetic program of " + statements + " statements did not parse");
+        assertEquals(TokenType.EOF, stream.peek());
+        assertEquals(0, stream.rescans());
+
+        return stream.peakResident();
+    }
+
+    private static List<Path> inputs() throws IOException {
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".for")).sorted().toList();
+        }
+    }
+}
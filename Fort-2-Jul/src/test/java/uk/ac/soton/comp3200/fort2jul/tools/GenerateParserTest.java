@@ -0,0 +1,33 @@
+package uk.ac.soton.comp3200.fort2jul.tools;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Parser, Lookahead and NodeKind are only ever changed through GenerateParser, so writing them again from the grammar
+ * and the hand written rule methods must give the files as they are
+ */
+class GenerateParserTest {
+
+    private static final Path PARSER_DIR = Paths.get("src/main/java/uk/ac/soton/comp3200/fort2jul/parser");
+
+    @Test
+    void regeneratesParserExactly(@TempDir Path outputDir) throws IOException {
+        GenerateParser.main(new String[]{outputDir.toString()});
+
+        for (String file : List.of("Parser.java", "Lookahead.java", "NodeKind.java")) {
+            assertEquals(Files.readString(PARSER_DIR.resolve(file), StandardCharsets.UTF_8),
+                    Files.readString(outputDir.resolve(file), StandardCharsets.UTF_8),
+                    file + " differs from what GenerateParser writes");
+        }
+    }
+}
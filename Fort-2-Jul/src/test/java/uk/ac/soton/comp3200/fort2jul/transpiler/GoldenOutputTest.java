@@ -0,0 +1,71 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The Julia files in tests/output are what the generator writes for the programs in tests/input, so a change to the
+ * generated code shows up as a change to them. Line 3 names the directory the file was transpiled in, so is not compared
+ */
+class GoldenOutputTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    private static final Path OUTPUT_DIR = Paths.get("../tests/output");
+
+    @TempDir
+    Path outputDir;
+
+    @TestFactory
+    Stream<DynamicTest> generatesReferenceOutput() throws IOException {
+        List<Path> inputs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            files.filter(file -> file.toString().endsWith(".for")).sorted().forEach(inputs::add);
+        }
+
+        return inputs.stream().map(input -> DynamicTest.dynamicTest(input.getFileName().toString(), () -> {
+            String name = input.getFileName().toString().replace(".for", "");
+
+            Ast<String> ast = new Parser(new Scanner(Files.readString(input)).scanTokenBuffer()).parseTokens();
+            assertNotNull(ast, name + " did not parse");
+
+            String code = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), name)
+                    .generateJuliaCode();
+
+            assertEquals(withoutPath(Files.readString(OUTPUT_DIR.resolve(name + ".jl"))), withoutPath(code),
+                    name + ".jl differs from tests/output");
+        }));
+    }
+
+    @Test
+    void writesReferenceMacros() throws IOException {
+        new JuliaMacroGenerator(outputDir.toString()).generateMacroCode();
+
+        assertEquals(Files.readString(OUTPUT_DIR.resolve("macros.jl")), Files.readString(outputDir.resolve("macros.jl")));
+    }
+
+    private static String withoutPath(String code) {
+        List<String> lines = new ArrayList<>(code.lines().toList());
+        if (lines.size() > 2) {
+            lines.remove(2);
+        }
+
+        return String.join("\n", lines);
+    }
+}
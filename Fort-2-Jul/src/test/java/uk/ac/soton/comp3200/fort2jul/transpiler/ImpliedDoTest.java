@@ -0,0 +1,137 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Implied-DO lists fill and print array elements in place. DATA values become a tuple stored one after another into the
+ * elements. PRINT items become a generator joined with blanks, as list-directed output separates them, or splatted into
+ * the call when a format is given
+ */
+class ImpliedDoTest {
+
+    private static final String SOURCE = String.join("\n",
+            "      PROGRAM D",
+            "      REAL A(5), B(6), C(2,3)",
+            "      INTEGER I, N, M",
+            "      PARAMETER (M = 2)",
+            "      REAL E(2)",
+            "      DATA (A(I), I=1,5) /1.0, 2.0, 3.0, 4.0, 5.0/",
+            "      DATA (B(I), I=1,6,2), N /3*7.0, 4/",
+            "      DATA ((C(I,J), I=1,2), J=1,3) /6*0.0/",
+            "      DATA (E(I), I=1,2) /M*1.5/",
+            "      PRINT *, 'A', (A(I), I=1,N)",
+            "      PRINT *, ((C(I,J), I=1,2), J=1,3)",
+            "      PRINT 10, (A(I), I=1,5)",
+            "   10 FORMAT (5F6.1)",
+            "      END",
+            "");
+
+    @Test
+    void dataFillsElementsFromTuple(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains(String.join("\n",
+                "let data = (1.0 , 2.0 , 3.0 , 4.0 , 5.0 ,), k = 0",
+                "\tfor I in 1:5",
+                "\t\tA[I] = data[k += 1]",
+                "\tend",
+                "end",
+                "")), code);
+        assertFalse(code.contains("reduce(vcat"), code);
+    }
+
+    @Test
+    void dataExpandsRepeatCountsAndStrides(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains(String.join("\n",
+                "let data = (7.0 , 7.0 , 7.0 , 4,), k = 0",
+                "\tfor I in 1:2:6",
+                "\t\tB[I] = data[k += 1]",
+                "\tend",
+                "\tglobal N = data[k += 1]",
+                "end",
+                "")), code);
+    }
+
+    @Test
+    void dataNestsLoopsInnermostFirst(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains(String.join("\n",
+                "let data = (0.0 , 0.0 , 0.0 , 0.0 , 0.0 , 0.0 ,), k = 0",
+                "\tfor J in 1:3",
+                "\t\tfor I in 1:2",
+                "\t\t\tC[I, J] = data[k += 1]",
+                "\t\tend",
+                "\tend",
+                "end",
+                "")), code);
+    }
+
+    @Test
+    void dataExpandsNamedRepeatCounts(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains("let data = (1.5 , 1.5 ,), k = 0\n"), code);
+    }
+
+    @Test
+    void dataRejectsUnknownRepeatCounts(@TempDir Path outputDir) {
+        String source = String.join("\n",
+                "      PROGRAM D",
+                "      REAL E(2)",
+                "      INTEGER K",
+                "      DATA (E(I), I=1,2) /K*1.5/",
+                "      END",
+                "");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> generate(source, outputDir));
+        assertTrue(e.getMessage().contains("Repeat count K"), e.getMessage());
+    }
+
+    @Test
+    void printJoinsGenerator(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains("println('A', join((A[I]  for I in 1:N), \" \"))\n"), code);
+    }
+
+    @Test
+    void printFlattensNestedLists(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains("println(join(Iterators.flatten(((C[I, J]  for I in 1:2)...,) for J in 1:3), \" \"))\n"),
+                code);
+    }
+
+    @Test
+    void formattedPrintSplatsGenerator(@TempDir Path outputDir) throws IOException {
+        String code = generate(outputDir);
+
+        assertTrue(code.contains("Printf.format(stdout, FMT_D_10, (A[I]  for I in 1:5)...)\n"), code);
+    }
+
+    private static String generate(Path outputDir) throws IOException {
+        return generate(SOURCE, outputDir);
+    }
+
+    private static String generate(String source, Path outputDir) throws IOException {
+        Ast<String> ast = new Parser(new Scanner(source).scanTokenBuffer()).parseTokens();
+        assertNotNull(ast, "Program did not parse");
+
+        return new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), "d").generateJuliaCode();
+    }
+}
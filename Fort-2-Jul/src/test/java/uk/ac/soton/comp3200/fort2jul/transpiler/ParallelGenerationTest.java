@@ -0,0 +1,66 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Program units generated in runs in parallel give the code of generating them one after another, byte for byte. The
+ * programs in tests/input have too few units to be generated in parallel by default, so the number of runs is set, up
+ * to one run for each unit
+ */
+class ParallelGenerationTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    private static final int[] CHUNKS = {2, 3, Integer.MAX_VALUE};
+
+    @TempDir
+    Path outputDir;
+
+    @TestFactory
+    Stream<DynamicTest> generatesSerialOutput() throws IOException {
+        List<Path> inputs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(INPUT_DIR)) {
+            files.filter(file -> file.toString().endsWith(".for")).sorted().forEach(inputs::add);
+        }
+
+        return inputs.stream().map(input -> DynamicTest.dynamicTest(input.getFileName().toString(), () -> {
+            String name = input.getFileName().toString().replace(".for", "");
+
+            Ast<String> ast = new Parser(new Scanner(Files.readString(input)).scanTokenBuffer()).parseTokens();
+            assertNotNull(ast, name + " did not parse");
+
+            for (boolean scoped : new boolean[]{false, true}) {
+                String serial = generate(ast, name, scoped, 1);
+
+                for (int chunks : CHUNKS) {
+                    assertEquals(serial, generate(ast, name, scoped, chunks),
+                            name + " differs in " + chunks + " runs, scoped " + scoped);
+                }
+            }
+        }));
+    }
+
+    private String generate(Ast<String> ast, String name, boolean scoped, int chunks) throws IOException {
+        JuliaCodeGenerator generator = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), name);
+        generator.setScoped(scoped);
+        generator.setChunks(chunks);
+
+        return generator.generateJuliaCode();
+    }
+}
@@ -0,0 +1,92 @@
+package uk.ac.soton.comp3200.fort2jul.transpiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.soton.comp3200.fort2jul.lexer.Scanner;
+import uk.ac.soton.comp3200.fort2jul.parser.Ast;
+import uk.ac.soton.comp3200.fort2jul.parser.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Function-scoped code declares the variables of each unit local, which must not include the functions of the program
+ * that a unit declares the type of or calls, as the local would hide the function
+ */
+class ScopedGenerationTest {
+
+    private static final Path INPUT_DIR = Paths.get("../tests/input");
+
+    @Test
+    void externalFunctionIsNotLocal(@TempDir Path outputDir) throws IOException {
+        String code = generate("ch1305", outputDir);
+
+        assertTrue(code.contains("function FACT("), code);
+        assertTrue(code.contains("local I::Int, J::Int\n"), code);
+        assertFalse(code.lines().anyMatch(line -> line.contains("local") && line.contains("FACT")), code);
+    }
+
+    @Test
+    void characterFunctionIsNotLocal(@TempDir Path outputDir) throws IOException {
+        String code = generate("ch1703", outputDir);
+
+        assertTrue(code.contains("println(OMEGA(STR1, STR2) )"), code);
+        assertFalse(code.lines().anyMatch(line -> line.contains("local") && line.contains("OMEGA")), code);
+        assertFalse(code.lines().anyMatch(line -> line.strip().startsWith("OMEGA = ")), code);
+    }
+
+    @Test
+    void functionArgumentIsNotAnnotated(@TempDir Path outputDir) throws IOException {
+        String code = generate("twice", String.join("\n",
+                "      REAL FUNCTION TWICE(F, X)",
+                "      REAL F, X",
+                "      EXTERNAL F",
+                "      TWICE = 2.0 * F(X)",
+                "      END",
+                "      REAL FUNCTION SQ(Y)",
+                "      REAL Y",
+                "      SQ = Y * Y",
+                "      END",
+                "      PROGRAM DP",
+                "      REAL SQ, TWICE",
+                "      EXTERNAL SQ",
+                "      PRINT *, TWICE(SQ, 3.0)",
+                "      END",
+                ""), outputDir);
+
+        assertTrue(code.contains("function TWICE(F, X::Float64) ::Float64"), code);
+        assertTrue(code.contains("function SQ(Y::Float64) ::Float64"), code);
+    }
+
+    @Test
+    void loopsAreOnlyMarkedWhenScoped(@TempDir Path outputDir) throws IOException {
+        String source = Files.readString(INPUT_DIR.resolve("ch0701.for"));
+
+        assertTrue(generate("ch0701", source, true, outputDir).contains("@inbounds "));
+        assertFalse(generate("ch0701", source, false, outputDir).contains("@inbounds "));
+    }
+
+    private static String generate(String name, Path outputDir) throws IOException {
+        return generate(name, Files.readString(INPUT_DIR.resolve(name + ".for")), outputDir);
+    }
+
+    private static String generate(String name, String source, Path outputDir) throws IOException {
+        return generate(name, source, true, outputDir);
+    }
+
+    private static String generate(String name, String source, boolean scoped, Path outputDir) throws IOException {
+        Ast<String> ast = new Parser(new Scanner(source).scanTokenBuffer()).parseTokens();
+        assertNotNull(ast, name + " did not parse");
+
+        JuliaCodeGenerator generator = new JuliaCodeGenerator(ast, outputDir.toString(), new StringBuilder(), name);
+        generator.setScoped(scoped);
+
+        return generator.generateJuliaCode();
+    }
+}
@@ -3,6 +3,8 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0605
 
 using Printf
+const FMT_CH0605_100 = Printf.Format(" AS= %22.15e\n")
+const FMT_CH0605_200 = Printf.Format(" AL= %22.15e\n")
 
 
 global AS = 0.0
@@ -17,5 +19,5 @@ global BL = 2.0*10^0
 global RL = 0.123456789012345*10^0 
 global AS = BS*RS
 global AL = BL*RL
-println(@sprintf(" AS= %22.15e\n",AS))
-println(@sprintf(" AL= %22.15e\n",AL))
+println(Printf.format(FMT_CH0605_100,AS))
+println(Printf.format(FMT_CH0605_200,AL))
@@ -38,9 +38,6 @@ end
 println("CORRECTED VALUES ARE:")
 for LATUDE = 1:N
 
-	println(for LONGIT in 1:N
-		println(HEIGHT[LATUDE, LONGIT]  )
-	end
-)
+	println(join((HEIGHT[LATUDE, LONGIT]  for LONGIT in 1:N), " "))
 @label _10
 end
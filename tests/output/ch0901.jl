@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0901
 
 using Printf
+const FMT_CH0901_100 = Printf.Format(" %3d * 12 = %3d\n")
 
 
 global T = 0
@@ -11,6 +12,6 @@ println(" TWELVE TIMES TABLE")
 println(" ")
 for T = 1:12
 
-	@printf(" %3d * 12 = %3d\n", T, T*12)
+	Printf.format(stdout, FMT_CH0901_100, T, T*12)
 	@label _10
 end
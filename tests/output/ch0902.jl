@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0902
 
 using Printf
+const FMT_CH0902_100 = Printf.Format(" %3d  %12d\n")
 
 
 global BIG = 0
@@ -10,7 +11,7 @@ global I = 0
 global BIG = 10
 for I = 1:40
 
-	@printf(" %3d  %12d\n", I, BIG)
+	Printf.format(stdout, FMT_CH0902_100, I, BIG)
 		global BIG = BIG*10
 @label _10
 end
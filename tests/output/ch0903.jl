@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0903
 
 using Printf
+const FMT_CH0903_100 = Printf.Format(" %7.3f %3d %7.3f\n")
 
 
 global FLUID = 0
@@ -12,6 +13,6 @@ for FLUID = 1:10
 
 	global LITRES = FLUID/1.75 
 	global PINTS = FLUID*1.75 
-	@printf(" %7.3f %3d %7.3f\n", PINTS, FLUID, LITRES)
+	Printf.format(stdout, FMT_CH0903_100, PINTS, FLUID, LITRES)
 	@label _10
 end
@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0905
 
 using Printf
+const FMT_CH0905_100 = Printf.Format(" %3d %10.4e %10.4e\n")
 
 
 global I = 0
@@ -12,7 +13,7 @@ global BIG = 1.0
 global SMALL = 1.0 
 for I = 1:50
 
-	@printf(" %3d %10.4e %10.4e\n", I, SMALL, BIG)
+	Printf.format(stdout, FMT_CH0905_100, I, SMALL, BIG)
 		global SMALL = SMALL/10.0 
 	global BIG = BIG*10.0 
 @label _10
@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0906
 
 using Printf
+const FMT_CH0906_100 = Printf.Format(" %s\n")
 
 #  THIS PROGRAM READS IN AND PRINTS OUT
 #  YOUR FIRST NAME
@@ -12,4 +13,4 @@ println(" TYPE IN YOUR FIRST NAME.")
 println(" UP TO 20 CHARACTERS")
 FNAME = readline()
 global FNAME = parse_input(FNAME)
-@printf(" %s\n", FNAME)
+Printf.format(stdout, FMT_CH0906_100, FNAME)
@@ -3,6 +3,8 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0908
 
 using Printf
+const FMT_CH0908_100 = Printf.Format("    FIRST NAME    AGE WEIGHT  SEX\n")
+const FMT_CH0908_200 = Printf.Format(" %s  %3d  %5.2f  %s\n")
 
 
 global FNAME = Vector{String}(undef,15)
@@ -23,5 +25,5 @@ SEX = readline()
 global SEX = parse_input(SEX)
 println(" YOUR PERSONAL DETAILS ARE")
 println()
-@printf("    FIRST NAME    AGE WEIGHT  SEX\n", )
-@printf(" %s  %3d  %5.2f  %s\n", FNAME, AGE, WEIGHT, SEX)
+Printf.format(stdout, FMT_CH0908_100, )
+Printf.format(stdout, FMT_CH0908_200, FNAME, AGE, WEIGHT, SEX)
@@ -3,6 +3,8 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch0909
 
 using Printf
+const FMT_CH0909_200 = Printf.Format("%3d VALUES ARE:\n")
+const FMT_CH0909_400 = Printf.Format(" %10.3e\n")
 
 global X = 0.0
 global X = create_array("REAL",100,)
@@ -21,10 +23,10 @@ for I = 1:N
 	global SUM = SUM+X[I] 
 @label _100
 end
-@printf("%3d VALUES ARE:\n", N)
+Printf.format(stdout, FMT_CH0909_200, N)
 for I = 1:N
 
-	@printf(" %10.3e\n", X[I] )
+	Printf.format(stdout, FMT_CH0909_400, X[I] )
 	@label _300
 end
 println("SUM OF ", N, " VALUES IS ", SUM)
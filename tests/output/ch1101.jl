@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch1101
 
 using Printf
+const FMT_CH1101_200 = Printf.Format(" %3d  %3d\n")
 
 
 global N = 0
@@ -22,6 +23,6 @@ for I = 1:N
 	global X[I]  = parse_input(XI)
 	YI = readline()
 	global Y[I]  = parse_input(YI)
-		@printf(" %3d  %3d\n", X[I] , Y[I] )
+		Printf.format(stdout, FMT_CH1101_200, X[I] , Y[I] )
 	@label _10
 end
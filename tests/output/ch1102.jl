@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch1102
 
 using Printf
+const FMT_CH1102_200 = Printf.Format("  %5.0f\n")
 
 
 global N = 0
@@ -30,7 +31,7 @@ end
 
 for I = 1:N
 
-	@printf("  %5.0f\n", BMI[I] )
+	Printf.format(stdout, FMT_CH1102_200, BMI[I] )
 	@label _20
 end
 
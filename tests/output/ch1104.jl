@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch1104
 
 using Printf
+const FMT_CH1104_200 = Printf.Format(" %3d  %3d\n")
 
 
 global N = 0
@@ -25,6 +26,6 @@ for I = 1:N
 	global TEMP = parse_input(TEMP)
 	YI = readline()
 	global Y[I]  = parse_input(YI)
-		@printf(" %3d  %3d\n", X[I] , Y[I] )
+		Printf.format(stdout, FMT_CH1104_200, X[I] , Y[I] )
 	@label _10
 end
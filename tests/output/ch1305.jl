@@ -24,12 +24,13 @@ function FACT(N)
 	end
 return _FACT
 end
+const FMT_FRONT_100 = Printf.Format(" %4d FACTORIAL IS %10d\n")
 
 global I = 0
 global J = 0
 for I = -2:10
 
 	global J = FACT(I) 
-	@printf(" %4d FACTORIAL IS %10d\n", I, J)
+	Printf.format(stdout, FMT_FRONT_100, I, J)
 @label _1
 end
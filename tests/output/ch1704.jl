@@ -3,6 +3,11 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch1704
 
 using Printf
+const FMT_C1704A_100 = Printf.Format(" POINT OUT OF RANGE 2%10.4f\n")
+const FMT_C1704A_101 = Printf.Format(" GIVE %5d PAIRS OF POINTS,X-VALUE,Y-VALUE\n")
+const FMT_C1704A_102 = Printf.Format(" GIVE MAXIMUM AND MINIMUM FOR X-VALUES\n")
+const FMT_C1704A_103 = Printf.Format(" GIVE MAXIMUM AND MINIMUM FOR Y-VALUES\n")
+const FMT_C1704A_104 = Printf.Format(" GIVE NUMBER OF PAIRS FOR PLOTTING\n")
 
 global X = 0.0
 global Y = 0.0
@@ -26,22 +31,22 @@ global ILEN = 20
 global JLEN = 40
 
 global _7 = open("C1704A.TXT", "r+");
-println(@sprintf(" GIVE NUMBER OF PAIRS FOR PLOTTING\n"))
+println(Printf.format(FMT_C1704A_104))
 N = readline()
 global N = parse_input(N)
-println(@sprintf(" GIVE %5d PAIRS OF POINTS,X-VALUE,Y-VALUE\n",N))
+println(Printf.format(FMT_C1704A_101,N))
 for I in 1:N
 	XI = readline()
 	global X[I]  = parse_input(XI)
 	YI = readline()
 	global Y[I]  = parse_input(YI)
 end
-println(@sprintf(" GIVE MAXIMUM AND MINIMUM FOR X-VALUES\n"))
+println(Printf.format(FMT_C1704A_102))
 XMIN = readline()
 global XMIN = parse_input(XMIN)
 XMAX = readline()
 global XMAX = parse_input(XMAX)
-println(@sprintf(" GIVE MAXIMUM AND MINIMUM FOR Y-VALUES\n"))
+println(Printf.format(FMT_C1704A_103))
 YMIN = readline()
 global YMIN = parse_input(YMIN)
 YMAX = readline()
@@ -60,9 +65,9 @@ for I = 1:N
 	global IPOS = (Y[I] -YMIN) /YW+1
 #  ELIMINATING POINTS OUTSIDE THE DIAGRAM
 	if IPOS<1||IPOS>ILEN
-		write(_7,@sprintf(" POINT OUT OF RANGE 2%10.4f\n",X[I] , Y[I] ))
+		write(_7,Printf.format(FMT_C1704A_100,X[I] , Y[I] ))
 	elseif JPOS<1||JPOS>JLEN
-		write(_7,@sprintf(" POINT OUT OF RANGE 2%10.4f\n",X[I] , Y[I] ))
+		write(_7,Printf.format(FMT_C1704A_100,X[I] , Y[I] ))
 		else 
 #  THESE ARE INSIDE
 		DIAG[21-IPOS] = '*'
@@ -9,10 +9,7 @@ function SUB1(X, WROW, WCOL)
 				
 			for R = 1:WROW
 
-		println(for C in 1:WCOL
-			println(X[R, C]  )
-		end
-)
+		println(join((X[R, C]  for C in 1:WCOL), " "))
 	@label _10
 	end
 		return X, WROW, WCOL
@@ -44,10 +41,7 @@ X[2, 3] = 6
 
 for R = 1:WROW
 
-	println(for C in 1:WCOL
-		println(X[R, C]  )
-	end
-)
+	println(join((X[R, C]  for C in 1:WCOL), " "))
 @label _10
 end
 
@@ -58,10 +52,7 @@ println(" WHOLE ARRAY IS")
 
 for R = 1:MAXROW
 
-	println(for C in 1:MAXCOL
-		println(X[R, C]  )
-	end
-)
+	println(join((X[R, C]  for C in 1:MAXCOL), " "))
 @label _20
 end
 
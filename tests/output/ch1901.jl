@@ -3,6 +3,7 @@ include("macros.jl")
 # Original file located at: /Users/wal/Documents/GitHub/PartIII-Project/Fort-2-Jul/./ch1901
 
 using Printf
+const FMT_C1901A_200 = Printf.Format(" FROM FILE %s VALUE OF X = %7.2f\n")
 
 global X = 0.0
 global WHICH = Vector{String}(undef,20)
@@ -17,6 +18,6 @@ end
 global _1 = open(WHICH, "r+");
 X = readline(_1 )
 global X = parse_input(X)
-println(@sprintf(" FROM FILE %s VALUE OF X = %7.2f\n",WHICH, X))
+println(Printf.format(FMT_C1901A_200,WHICH, X))
 close(_1) 
 @goto _1
@@ -28,9 +28,11 @@ end
 
 macro loop_and_concat_array(arr, x, y, var)
 	quote
-		result = []
-		for elem in $(esc(arr))[$(esc(x)):$(esc(y))]
-			result = vcat(result, elem)
+		src = $(esc(arr))
+		r = $(esc(x)):$(esc(y))
+		result = similar(src, length(r))
+		for (i, elem) in enumerate(r)
+			result[i] = src[elem]
 		end
 		result
 	end